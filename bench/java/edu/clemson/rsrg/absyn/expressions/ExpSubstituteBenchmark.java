@@ -0,0 +1,132 @@
+/*
+ * ExpSubstituteBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.absyn.expressions;
+
+import edu.clemson.rsrg.absyn.expressions.mathexpr.MathExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for {@link Exp#substitute(Map)} on boolean expressions of varying size.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpSubstituteBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of distinct variables in the expression.
+     * </p>
+     */
+    @Param({ "8", "64", "512" })
+    public int myNumVariables;
+
+    /**
+     * <p>
+     * The expression {@code (p1 implies q1) and ... and (pN implies qN)}.
+     * </p>
+     */
+    private Exp myExp;
+
+    /**
+     * <p>
+     * A map that replaces every {@code pI} with {@code qI}.
+     * </p>
+     */
+    private Map<Exp, Exp> mySubstitutions;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates the expression and the substitution map before any of the benchmarks are run.
+     * </p>
+     *
+     * @throws IOException
+     *             We couldn't create the fake location or the compilation environment.
+     */
+    @Setup
+    public final void setUp() throws IOException {
+        Location fakeLocation = new Location(
+                new ResolveFile(new ResolveFileBasicInfo("ExpSubstituteBenchmark", ""), ModuleType.THEORY,
+                        new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                0, 0);
+
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        TypeGraph typeGraph = new TypeGraph(new CompileEnvironment(new String[] { "-noFileOutput" },
+                "BenchmarkCompiler", new SystemStdHandler()));
+
+        myExp = null;
+        mySubstitutions = new HashMap<>();
+        for (int i = 1; i <= myNumVariables; i++) {
+            VarExp p = Utilities.createVarExp(fakeLocation, null, new PosSymbol(fakeLocation, "p" + i),
+                    typeGraph.BOOLEAN, null);
+            VarExp q = Utilities.createVarExp(fakeLocation, null, new PosSymbol(fakeLocation, "q" + i),
+                    typeGraph.BOOLEAN, null);
+            Exp pImpliesq = MathExp.formImplies(fakeLocation, p.clone(), q.clone());
+
+            myExp = (myExp == null) ? pImpliesq : MathExp.formConjunct(fakeLocation, myExp, pImpliesq);
+            mySubstitutions.put(p, q);
+        }
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks substituting every variable in the expression.
+     * </p>
+     *
+     * @return The resulting expression.
+     */
+    @Benchmark
+    public final Exp substitute() {
+        return myExp.substitute(mySubstitutions);
+    }
+
+}
@@ -0,0 +1,218 @@
+/*
+ * CongruenceClassRegistryBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for registering terms in and merging classes of a {@link CongruenceClassRegistry}.
+ * </p>
+ * <p>
+ * The workload registers the variables {@code x1, ..., xN} and the terms {@code f(x1, x2), ..., f(xN-1, xN)}, and then
+ * makes every variable congruent to {@code x1}, which forces the registry to merge all the {@code f} terms as well.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CongruenceClassRegistryBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of variables we register.
+     * </p>
+     */
+    @Param({ "16", "128", "512" })
+    public int myNumVariables;
+
+    /**
+     * <p>
+     * The capacity used for each of the registry's arrays.
+     * </p>
+     */
+    private int myCapacity;
+
+    /**
+     * <p>
+     * The tree node label for {@code f}. The variables use the labels right before it.
+     * </p>
+     */
+    private int myFunctionLabel;
+
+    /**
+     * <p>
+     * A registry containing all the terms, used to benchmark lookups.
+     * </p>
+     */
+    private CongruenceClassRegistry myRegistry;
+
+    /**
+     * <p>
+     * The accessors for the variables in {@link #myRegistry}.
+     * </p>
+     */
+    private int[] myVariables;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method computes the labels and capacities and registers the terms used by {@link #lookUp()} before any of
+     * the benchmarks are run.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        // Labels 1 and 2 are reserved for "<=" and "="
+        myFunctionLabel = myNumVariables + 3;
+        myCapacity = 4 * myNumVariables + 16;
+
+        myRegistry = registerTerms();
+        myVariables = new int[myNumVariables];
+        for (int i = 0; i < myNumVariables; i++) {
+            myVariables[i] = myRegistry.getAccessorFor(i + 3);
+        }
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks finding every {@code f} term in a registry that already contains them. This is what the walkers
+     * do every time they encounter a term that has been registered.
+     * </p>
+     *
+     * @return The sum of the accessors, so the lookups can't be eliminated.
+     */
+    @Benchmark
+    public final int lookUp() {
+        int sum = 0;
+        for (int i = 0; i + 1 < myNumVariables; i++) {
+            myRegistry.appendToClusterArgList(myVariables[i]);
+            myRegistry.appendToClusterArgList(myVariables[i + 1]);
+            if (myRegistry.checkIfRegistered(myFunctionLabel)) {
+                sum += myRegistry.getAccessorFor(myFunctionLabel);
+            } else {
+                throw new IllegalStateException("Could not find f(x" + (i + 1) + ", x" + (i + 2) + ")");
+            }
+        }
+
+        return sum;
+    }
+
+    /**
+     * <p>
+     * This benchmarks only registering all the terms.
+     * </p>
+     *
+     * @return The registry.
+     */
+    @Benchmark
+    public final CongruenceClassRegistry register() {
+        return registerTerms();
+    }
+
+    /**
+     * <p>
+     * This benchmarks registering all the terms and then merging all the variables.
+     * </p>
+     *
+     * @return The registry.
+     */
+    @Benchmark
+    public final CongruenceClassRegistry registerAndMerge() {
+        CongruenceClassRegistry registry = registerTerms();
+
+        int first = registry.getAccessorFor(3);
+        for (int i = 1; i < myNumVariables; i++) {
+            int next = registry.getAccessorFor(i + 3);
+            if (!registry.areCongruent(first, next)) {
+                registry.makeCongruent(first, next);
+            }
+        }
+
+        return registry;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that registers a term without any arguments.
+     * </p>
+     *
+     * @param registry
+     *            The registry.
+     * @param label
+     *            The tree node label for the term.
+     *
+     * @return The accessor for the term's class.
+     */
+    private static int registerLeaf(CongruenceClassRegistry registry, int label) {
+        int accessor;
+        if (registry.checkIfRegistered(label)) {
+            accessor = registry.getAccessorFor(label);
+        } else {
+            accessor = registry.registerCluster(label);
+        }
+
+        return accessor;
+    }
+
+    /**
+     * <p>
+     * An helper method that creates a new registry and registers the variables and the {@code f} terms.
+     * </p>
+     *
+     * @return The registry.
+     */
+    private CongruenceClassRegistry registerTerms() {
+        CongruenceClassRegistry registry = new CongruenceClassRegistry(myCapacity, myCapacity, myCapacity,
+                myCapacity);
+
+        int[] variables = new int[myNumVariables];
+        for (int i = 0; i < myNumVariables; i++) {
+            variables[i] = registerLeaf(registry, i + 3);
+        }
+
+        for (int i = 0; i + 1 < myNumVariables; i++) {
+            registry.appendToClusterArgList(variables[i]);
+            registry.appendToClusterArgList(variables[i + 1]);
+            if (registry.checkIfRegistered(myFunctionLabel)) {
+                registry.getAccessorFor(myFunctionLabel);
+            } else {
+                registry.registerCluster(myFunctionLabel);
+            }
+        }
+
+        return registry;
+    }
+
+}
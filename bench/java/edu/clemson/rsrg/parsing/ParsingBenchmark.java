@@ -0,0 +1,211 @@
+/*
+ * ParsingBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.parsing;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.parsing.data.ResolveTokenFactory;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for the RESOLVE compiler's lexer, parser and AST builder on the RESOLVE files in {@code test/resources}.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the file in {@code test/resources} we are parsing.
+     * </p>
+     */
+    @Param({ "Array_Realiz.rb", "Integer_Theory.mt", "Obvious_Reading_Realiz.rb", "Reading_Capability.en",
+            "RevStack.fa", "Stack_Template.co" })
+    public String myFileName;
+
+    /**
+     * <p>
+     * The contents of the file we are parsing.
+     * </p>
+     */
+    private String myFileContents;
+
+    /**
+     * <p>
+     * The type graph used to build the AST.
+     * </p>
+     */
+    private TypeGraph myTypeGraph;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method reads the file and creates a type graph before any of the benchmarks are run.
+     * </p>
+     *
+     * @throws IOException
+     *             We couldn't read the file or create the compilation environment.
+     */
+    @Setup
+    public final void setUp() throws IOException {
+        try (InputStream in = getClass().getResourceAsStream("/" + myFileName)) {
+            myFileContents = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        myTypeGraph = new TypeGraph(new CompileEnvironment(new String[] { "-noFileOutput" }, "BenchmarkCompiler",
+                new SystemStdHandler()));
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks lexing, parsing and walking the parse tree to build the {@link ModuleDec}.
+     * </p>
+     *
+     * @return The module declaration.
+     */
+    @Benchmark
+    public final ModuleDec buildModuleAST() {
+        ResolveFile file = createResolveFile();
+        TreeBuildingListener listener = new TreeBuildingListener(file, myTypeGraph);
+        ParseTreeWalker.DEFAULT.walk(listener, parse(file));
+
+        return listener.getModule();
+    }
+
+    /**
+     * <p>
+     * This benchmarks lexing the entire file.
+     * </p>
+     *
+     * @return The number of tokens.
+     */
+    @Benchmark
+    public final int lex() {
+        ResolveFile file = createResolveFile();
+        ResolveLexer lexer = new ResolveLexer(file.getInputStream());
+        lexer.removeErrorListeners();
+        lexer.setTokenFactory(new ResolveTokenFactory(file));
+
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        tokens.fill();
+
+        return tokens.size();
+    }
+
+    /**
+     * <p>
+     * This benchmarks lexing and parsing the file.
+     * </p>
+     *
+     * @return The root of the parse tree.
+     */
+    @Benchmark
+    public final ParserRuleContext lexAndParse() {
+        return parse(createResolveFile());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates a new {@link ResolveFile} from the file contents.
+     * </p>
+     *
+     * @return A {@link ResolveFile} object.
+     */
+    private ResolveFile createResolveFile() {
+        String name = myFileName.substring(0, myFileName.lastIndexOf('.'));
+
+        return new ResolveFile(new ResolveFileBasicInfo(name, ""), Utilities.getModuleType(myFileName),
+                CharStreams.fromString(myFileContents, myFileName), null, new ArrayList<String>(), "");
+    }
+
+    /**
+     * <p>
+     * An helper method that parses {@code file} the same way the compiler does: using {@code SLL} prediction mode
+     * first and switching to {@code LL} if it fails.
+     * </p>
+     *
+     * @param file
+     *            The file to parse.
+     *
+     * @return The root of the parse tree.
+     */
+    private ParserRuleContext parse(ResolveFile file) {
+        ResolveTokenFactory factory = new ResolveTokenFactory(file);
+        ResolveLexer lexer = new ResolveLexer(file.getInputStream());
+        lexer.removeErrorListeners();
+        lexer.setTokenFactory(factory);
+
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ResolveParser parser = new ResolveParser(tokens);
+        parser.removeErrorListeners();
+        parser.setTokenFactory(factory);
+        parser.setTrimParseTree(true);
+
+        ParserRuleContext rootModuleCtx;
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            rootModuleCtx = parser.module();
+        } catch (ParseCancellationException ex) {
+            tokens.seek(0);
+            parser.reset();
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            rootModuleCtx = parser.module();
+        }
+
+        return rootModuleCtx;
+    }
+
+}
@@ -0,0 +1,424 @@
+/*
+ * ScalingHarness.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.scaling;
+
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
+import edu.clemson.rsrg.init.output.RecordingOutputListener;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>
+ * A harness that compiles modules generated by {@link SyntheticModuleGenerator} of increasing size and records how
+ * long the compilation took and how much heap it needed, so that super-linear behavior shows up before it does on a
+ * real workspace.
+ * </p>
+ * <p>
+ * Usage:
+ * </p>
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=edu.clemson.rsrg.scaling.ScalingHarness
+ *     -Dexec.args="[options] &lt;workspaceDir&gt; &lt;output.csv&gt; [compiler flags]"
+ * </pre>
+ * <p>
+ * where {@code workspaceDir} is the {@code RESOLVE} directory of a {@code RESOLVE-Workspace} and the options are:
+ * </p>
+ * <ul>
+ * <li>{@code -vary <operations|depth|facilities|theorems|expression>}: the dimension to scale (default:
+ * {@code operations}).</li>
+ * <li>{@code -sizes <n1,n2,...>}: the values to use for that dimension (default: {@code 1,2,4,8,16,32,64}).</li>
+ * <li>{@code -operations}, {@code -depth}, {@code -facilities}, {@code -theorems}, {@code -expression}: the value to
+ * use for the dimensions we aren't scaling.</li>
+ * </ul>
+ * <p>
+ * Any remaining arguments are passed on to the compiler, for example {@code -VCs} to include {@code VC} generation.
+ * </p>
+ * <p>
+ * The compiler always runs with {@code -metrics}, so besides the total time and peak heap usage, the {@code CSV} file
+ * has the time and allocations of each {@link CompilerMetrics.Phase}, summed over all the modules that were compiled.
+ * Nested phases (such as {@code sugarConversion}) are also included in the phase that encloses them. Next to the
+ * {@code CSV} file we write a {@code gnuplot} script that plots the compile time and peak heap usage against size, and
+ * a second plot with the time spent in each phase.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ScalingHarness {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The extra flags passed on to the compiler.
+     * </p>
+     */
+    private final List<String> myCompilerFlags;
+
+    /**
+     * <p>
+     * The values for each dimension: operations, depth, facilities, theorems and expression size.
+     * </p>
+     */
+    private final int[] myDimensions;
+
+    /**
+     * <p>
+     * The sizes to use for the dimension we are scaling.
+     * </p>
+     */
+    private int[] mySizes;
+
+    /**
+     * <p>
+     * The index of the dimension we are scaling.
+     * </p>
+     */
+    private int myVariedDimension;
+
+    /**
+     * <p>
+     * The {@code RESOLVE} directory of the workspace.
+     * </p>
+     */
+    private final Path myWorkspaceDir;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The names of the dimensions we can scale. These are also the column names in the {@code CSV} file.
+     * </p>
+     */
+    private static final List<String> DIMENSION_NAMES = Arrays.asList("operations", "depth", "facilities", "theorems",
+            "expression");
+
+    /**
+     * <p>
+     * The name of the generated facility module.
+     * </p>
+     */
+    private static final String MODULE_NAME = "Synthetic_Scaling_Fac";
+
+    /**
+     * <p>
+     * The directory (relative to the workspace) we place the generated modules in.
+     * </p>
+     */
+    private static final String OUTPUT_DIR = "Main/Synthetic_Scaling";
+
+    /**
+     * <p>
+     * The pattern that matches the statistics for one phase of one module in the compiler metrics.
+     * </p>
+     */
+    private static final Pattern PHASE_PATTERN = Pattern.compile(
+            "\"(\\w+)\": \\{ \"count\": \\d+, \"elapsedNanos\": (\\d+), \"allocatedBytes\": (\\d+) \\}");
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a harness for the specified workspace with the default sizes.
+     * </p>
+     *
+     * @param workspaceDir
+     *            The {@code RESOLVE} directory of the workspace.
+     */
+    private ScalingHarness(Path workspaceDir) {
+        myWorkspaceDir = workspaceDir;
+        myCompilerFlags = new ArrayList<>();
+        myDimensions = new int[] { 8, 2, 1, 8, 4 };
+        mySizes = new int[] { 1, 2, 4, 8, 16, 32, 64 };
+        myVariedDimension = 0;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method runs the harness.
+     * </p>
+     *
+     * @param args
+     *            The harness arguments.
+     *
+     * @throws IOException
+     *             We couldn't write the generated modules or the results.
+     */
+    public static void main(String[] args) throws IOException {
+        int i = 0;
+        List<String[]> options = new ArrayList<>();
+        while (i + 1 < args.length && args[i].startsWith("-")) {
+            options.add(new String[] { args[i].substring(1), args[i + 1] });
+            i += 2;
+        }
+
+        if (args.length - i < 2) {
+            System.err.println("Usage: ScalingHarness [options] <workspaceDir> <output.csv> [compiler flags]");
+            return;
+        }
+
+        ScalingHarness harness = new ScalingHarness(Paths.get(args[i]).toAbsolutePath());
+        Path outputFile = Paths.get(args[i + 1]);
+        harness.myCompilerFlags.addAll(Arrays.asList(args).subList(i + 2, args.length));
+
+        for (String[] option : options) {
+            if (option[0].equals("vary")) {
+                harness.myVariedDimension = getDimensionIndex(option[1]);
+            } else if (option[0].equals("sizes")) {
+                harness.mySizes = Arrays.stream(option[1].split(",")).mapToInt(Integer::parseInt).toArray();
+            } else {
+                harness.myDimensions[getDimensionIndex(option[0])] = Integer.parseInt(option[1]);
+            }
+        }
+
+        harness.run(outputFile);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds up the time and allocations of each phase over all the modules in the compiler
+     * metrics.
+     * </p>
+     *
+     * @param metricsJSON
+     *            The compiler metrics in {@code JSON} format.
+     * @param result
+     *            The array to store the totals in. The totals for the {@code i}-th phase are stored at
+     *            {@code 2 + 2 * i} (milliseconds) and {@code 3 + 2 * i} (megabytes).
+     */
+    private static void addPhaseTotals(String metricsJSON, double[] result) {
+        Matcher matcher = PHASE_PATTERN.matcher(metricsJSON);
+        while (matcher.find()) {
+            for (CompilerMetrics.Phase phase : CompilerMetrics.Phase.values()) {
+                if (phase.toString().equals(matcher.group(1))) {
+                    result[2 + 2 * phase.ordinal()] += Long.parseLong(matcher.group(2)) / 1e6;
+                    result[3 + 2 * phase.ordinal()] += Long.parseLong(matcher.group(3)) / (1024.0 * 1024.0);
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that compiles the generated modules once and returns the elapsed time in milliseconds and the
+     * peak heap usage in megabytes, followed by the time in milliseconds and the allocations in megabytes of each
+     * compiler phase.
+     * </p>
+     *
+     * @param facilityFile
+     *            The path to the facility module, relative to the workspace.
+     *
+     * @return An array containing the elapsed time, the peak heap usage and the statistics for each phase.
+     */
+    private double[] compile(String facilityFile) {
+        List<String> compilerArgs = new ArrayList<>();
+        compilerArgs.add("-noFileOutput");
+        compilerArgs.add("-metrics");
+        compilerArgs.add("-workspaceDir");
+        compilerArgs.add(myWorkspaceDir.toString());
+        compilerArgs.addAll(myCompilerFlags);
+        compilerArgs.add(facilityFile);
+
+        // Start each run from a clean heap
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+
+        StringWriter outWriter = new StringWriter();
+        StringWriter errorWriter = new StringWriter();
+        RecordingOutputListener listener = new RecordingOutputListener();
+        long startTime = System.nanoTime();
+        new ResolveCompiler(compilerArgs.toArray(new String[0])).invokeCompiler(new HashMap<>(), new HashMap<>(),
+                new WriterStatusHandler(outWriter, errorWriter), listener);
+        double elapsedMillis = (System.nanoTime() - startTime) / 1e6;
+
+        long peakHeap = 0;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+
+        System.out.print(outWriter);
+        System.err.print(errorWriter);
+
+        double[] result = new double[2 + 2 * CompilerMetrics.Phase.values().length];
+        result[0] = elapsedMillis;
+        result[1] = peakHeap / (1024.0 * 1024.0);
+
+        List<String> metricsResults = listener.getMetricsResults();
+        if (!metricsResults.isEmpty()) {
+            addPhaseTotals(metricsResults.get(metricsResults.size() - 1), result);
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the index of the dimension named {@code name}.
+     * </p>
+     *
+     * @param name
+     *            Name of a dimension.
+     *
+     * @return The index of the dimension.
+     */
+    private static int getDimensionIndex(String name) {
+        int index = DIMENSION_NAMES.indexOf(name);
+        if (index < 0) {
+            throw new IllegalArgumentException("Unknown dimension: " + name + ". Expected one of " + DIMENSION_NAMES);
+        }
+
+        return index;
+    }
+
+    /**
+     * <p>
+     * An helper method that compiles the modules for every size and writes the results.
+     * </p>
+     *
+     * @param outputFile
+     *            The {@code CSV} file to write the results to.
+     *
+     * @throws IOException
+     *             We couldn't write the generated modules or the results.
+     */
+    private void run(Path outputFile) throws IOException {
+        Path outputDir = myWorkspaceDir.resolve(OUTPUT_DIR);
+        Files.createDirectories(outputDir);
+        Path facilityPath = outputDir.resolve(MODULE_NAME + ".fa");
+        Path theoryPath = outputDir.resolve(SyntheticModuleGenerator.getTheoryName(MODULE_NAME) + ".mt");
+
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(outputFile, StandardCharsets.UTF_8))) {
+            StringBuilder header = new StringBuilder(String.join(",", DIMENSION_NAMES) + ",timeMs,peakHeapMB");
+            for (CompilerMetrics.Phase phase : CompilerMetrics.Phase.values()) {
+                header.append(",").append(phase).append("Ms,").append(phase).append("AllocMB");
+            }
+            out.println(header);
+
+            for (int size : mySizes) {
+                myDimensions[myVariedDimension] = size;
+                SyntheticModuleGenerator generator = new SyntheticModuleGenerator(myDimensions[0], myDimensions[1],
+                        myDimensions[2], myDimensions[3], myDimensions[4]);
+                Files.write(facilityPath, generator.generateFacility(MODULE_NAME).getBytes(StandardCharsets.UTF_8));
+                Files.write(theoryPath, generator.generateTheory(MODULE_NAME).getBytes(StandardCharsets.UTF_8));
+
+                double[] result = compile(OUTPUT_DIR + "/" + MODULE_NAME + ".fa");
+                System.out.printf("%s: %.1f ms, %.1f MB%n", generator, result[0], result[1]);
+
+                StringBuilder row = new StringBuilder();
+                for (int dimension : myDimensions) {
+                    row.append(dimension).append(",");
+                }
+                row.append(String.format("%.3f", result[0]));
+                for (int j = 1; j < result.length; j++) {
+                    row.append(String.format(",%.3f", result[j]));
+                }
+                out.println(row);
+            }
+        } finally {
+            Files.deleteIfExists(facilityPath);
+            Files.deleteIfExists(theoryPath);
+            Files.deleteIfExists(outputDir);
+        }
+
+        writePlotScript(outputFile);
+    }
+
+    /**
+     * <p>
+     * An helper method that writes a {@code gnuplot} script next to {@code csvFile} that plots the compile time and
+     * peak heap usage against the dimension we are scaling, as well as the time spent in each phase.
+     * </p>
+     *
+     * @param csvFile
+     *            The {@code CSV} file containing the results.
+     *
+     * @throws IOException
+     *             We couldn't write the script.
+     */
+    private void writePlotScript(Path csvFile) throws IOException {
+        String csvName = csvFile.getFileName().toString();
+        String baseName = csvName.endsWith(".csv") ? csvName.substring(0, csvName.length() - 4) : csvName;
+        int xColumn = myVariedDimension + 1;
+        int timeColumn = DIMENSION_NAMES.size() + 1;
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("set datafile separator ','\n");
+        sb.append("set terminal png size 800,600\n");
+        sb.append("set output '").append(baseName).append(".png'\n");
+        sb.append("set key autotitle columnhead\n");
+        sb.append("set xlabel '").append(DIMENSION_NAMES.get(myVariedDimension)).append("'\n");
+        sb.append("set ylabel 'time (ms)'\n");
+        sb.append("set y2label 'peak heap (MB)'\n");
+        sb.append("set ytics nomirror\n");
+        sb.append("set y2tics\n");
+        sb.append("plot '").append(csvName).append("' using ").append(xColumn).append(":").append(timeColumn)
+                .append(" with linespoints axes x1y1, \\\n");
+        sb.append("     '").append(csvName).append("' using ").append(xColumn).append(":").append(timeColumn + 1)
+                .append(" with linespoints axes x1y2\n");
+
+        // Time spent in each phase
+        sb.append("set output '").append(baseName).append("_phases.png'\n");
+        sb.append("unset y2label\n");
+        sb.append("unset y2tics\n");
+        sb.append("plot");
+        for (CompilerMetrics.Phase phase : CompilerMetrics.Phase.values()) {
+            if (phase.ordinal() > 0) {
+                sb.append(", \\\n    ");
+            }
+            sb.append(" '").append(csvName).append("' using ").append(xColumn).append(":")
+                    .append(timeColumn + 2 + 2 * phase.ordinal()).append(" with linespoints");
+        }
+        sb.append("\n");
+
+        Path scriptFile = csvFile.resolveSibling(baseName + ".gp");
+        Files.write(scriptFile, sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,287 @@
+/*
+ * SyntheticModuleGenerator.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.scaling;
+
+/**
+ * <p>
+ * This class generates {@code RESOLVE} modules of a parameterized size that can be used to find out how the different
+ * compiler phases scale with the size of their input.
+ * </p>
+ * <p>
+ * For a given name {@code X}, we generate a precis module {@code X_Theory} containing the requested number of
+ * theorems, and a facility module {@code X} that uses it. The facility module declares the requested number of
+ * {@code Stack_Template} facilities and operations. Each operation calls the previous one and then runs a body of
+ * alternating {@code If} and {@code While} statements nested up to the requested depth. The size of the generated
+ * program and mathematical expressions is also configurable.
+ * </p>
+ * <p>
+ * The generated modules only use {@code Integer} and the concepts found in the {@code RESOLVE-Workspace}, so they can
+ * be placed anywhere inside it.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class SyntheticModuleGenerator {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of operators in each generated expression.
+     * </p>
+     */
+    private final int myExpressionSize;
+
+    /**
+     * <p>
+     * The nesting depth of the {@code If}/{@code While} statements in each procedure.
+     * </p>
+     */
+    private final int myNestingDepth;
+
+    /**
+     * <p>
+     * The number of facility declarations.
+     * </p>
+     */
+    private final int myNumFacilities;
+
+    /**
+     * <p>
+     * The number of operations.
+     * </p>
+     */
+    private final int myNumOperations;
+
+    /**
+     * <p>
+     * The number of theorems.
+     * </p>
+     */
+    private final int myNumTheorems;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a generator for modules of the specified size.
+     * </p>
+     *
+     * @param numOperations
+     *            The number of operations.
+     * @param nestingDepth
+     *            The nesting depth of the {@code If}/{@code While} statements in each procedure.
+     * @param numFacilities
+     *            The number of facility declarations.
+     * @param numTheorems
+     *            The number of theorems.
+     * @param expressionSize
+     *            The number of operators in each generated expression.
+     */
+    public SyntheticModuleGenerator(int numOperations, int nestingDepth, int numFacilities, int numTheorems,
+            int expressionSize) {
+        myNumOperations = numOperations;
+        myNestingDepth = nestingDepth;
+        myNumFacilities = numFacilities;
+        myNumTheorems = numTheorems;
+        myExpressionSize = expressionSize;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method generates the facility module named {@code name}. It uses the theory generated by
+     * {@link #generateTheory(String)}.
+     * </p>
+     *
+     * @param name
+     *            Name of the facility module.
+     *
+     * @return The contents of the {@code .fa} file.
+     */
+    public final String generateFacility(String name) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Facility ").append(name).append(";\n");
+        sb.append("\tuses ").append(getTheoryName(name)).append(";\n\n");
+
+        for (int i = 1; i <= myNumFacilities; i++) {
+            sb.append("\tFacility Stack_Fac_").append(i).append(" is Stack_Template(Integer, ").append(i + 1)
+                    .append(")\n");
+            sb.append("\t\trealized by Array_Realiz;\n\n");
+        }
+
+        for (int i = 1; i <= myNumOperations; i++) {
+            String opName = "Op_" + i;
+            sb.append("\tOperation ").append(opName).append("(updates I: Integer; restores J: Integer);\n");
+            sb.append("\t\trequires ").append(mathExp("J", "I")).append(" <= J + 1;\n");
+            sb.append("\t\tensures I = J;\n");
+            sb.append("\tProcedure\n");
+            if (i > 1) {
+                sb.append("\t\tOp_").append(i - 1).append("(I, J);\n");
+            }
+            appendNestedStmts(sb, 1, 2);
+            sb.append("\t\tI := J;\n");
+            sb.append("\tend ").append(opName).append(";\n\n");
+        }
+
+        sb.append("end ").append(name).append(";\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * This method generates the precis module used by the facility module named {@code facilityName}.
+     * </p>
+     *
+     * @param facilityName
+     *            Name of the facility module.
+     *
+     * @return The contents of the {@code .mt} file.
+     */
+    public final String generateTheory(String facilityName) {
+        String name = getTheoryName(facilityName);
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("Precis ").append(name).append(";\n");
+        sb.append("\tuses Integer_Theory;\n\n");
+
+        for (int i = 1; i <= myNumTheorems; i++) {
+            sb.append("\tTheorem ").append(name).append("_").append(i).append(":\n");
+            sb.append("\t\tFor all i, j : Z,\n");
+            sb.append("\t\t\t").append(mathExp("i", "j")).append(" = ").append(mathExp("i", "j")).append(";\n\n");
+        }
+
+        sb.append("end ").append(name).append(";\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * This method returns the name of the precis module used by the facility module named {@code facilityName}.
+     * </p>
+     *
+     * @param facilityName
+     *            Name of the facility module.
+     *
+     * @return The name of the precis module.
+     */
+    public static String getTheoryName(String facilityName) {
+        return facilityName + "_Theory";
+    }
+
+    /**
+     * <p>
+     * This method returns the object in string format.
+     * </p>
+     *
+     * @return Object as a string.
+     */
+    @Override
+    public final String toString() {
+        return myNumOperations + " operations, nesting depth " + myNestingDepth + ", " + myNumFacilities
+                + " facilities, " + myNumTheorems + " theorems, expression size " + myExpressionSize;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that appends the {@code If}/{@code While} statements starting at the specified depth.
+     * </p>
+     *
+     * @param sb
+     *            The string builder for the procedure body.
+     * @param depth
+     *            The current nesting depth.
+     * @param indent
+     *            The number of tabs to indent the statements with.
+     */
+    private void appendNestedStmts(StringBuilder sb, int depth, int indent) {
+        if (depth > myNestingDepth) {
+            return;
+        }
+
+        String tabs = "\t".repeat(indent);
+        if (depth % 2 == 1) {
+            sb.append(tabs).append("If (I <= J) then\n");
+            sb.append(tabs).append("\tI := ").append(programExp("I")).append(";\n");
+            appendNestedStmts(sb, depth + 1, indent + 1);
+            sb.append(tabs).append("else\n");
+            sb.append(tabs).append("\tI := J;\n");
+            sb.append(tabs).append("end;\n");
+        } else {
+            sb.append(tabs).append("While (I < J)\n");
+            sb.append(tabs).append("\tchanging I;\n");
+            sb.append(tabs).append("\tmaintaining I <= J;\n");
+            sb.append(tabs).append("\tdecreasing J - I;\n");
+            sb.append(tabs).append("do\n");
+            sb.append(tabs).append("\tI := ").append(programExp("I")).append(" + 1;\n");
+            appendNestedStmts(sb, depth + 1, indent + 1);
+            sb.append(tabs).append("end;\n");
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that generates a mathematical expression with {@link #myExpressionSize} operators that starts
+     * with {@code first} and alternates between adding and subtracting {@code second}.
+     * </p>
+     *
+     * @param first
+     *            The first variable.
+     * @param second
+     *            The second variable.
+     *
+     * @return A mathematical expression.
+     */
+    private String mathExp(String first, String second) {
+        StringBuilder sb = new StringBuilder(first);
+        for (int i = 0; i < myExpressionSize; i++) {
+            sb.append(i % 2 == 0 ? " + " : " - ").append(second);
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * An helper method that generates a program expression with {@link #myExpressionSize} operators that starts with
+     * {@code var} and alternates between adding and subtracting {@code 1}.
+     * </p>
+     *
+     * @param var
+     *            A program variable.
+     *
+     * @return A program expression.
+     */
+    private String programExp(String var) {
+        StringBuilder sb = new StringBuilder(var);
+        for (int i = 0; i < myExpressionSize; i++) {
+            sb.append(i % 2 == 0 ? " + 1" : " - 1");
+        }
+
+        return sb.toString();
+    }
+
+}
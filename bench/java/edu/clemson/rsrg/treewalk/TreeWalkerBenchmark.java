@@ -0,0 +1,158 @@
+/*
+ * TreeWalkerBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.treewalk;
+
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.misc.Utilities;
+import edu.clemson.rsrg.parsing.ResolveLexer;
+import edu.clemson.rsrg.parsing.ResolveParser;
+import edu.clemson.rsrg.parsing.TreeBuildingListener;
+import edu.clemson.rsrg.parsing.data.ResolveTokenFactory;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for the reflection-based {@link TreeWalker} dispatch on ASTs built from the RESOLVE files in
+ * {@code test/resources}.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TreeWalkerBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the file in {@code test/resources} whose AST we are walking.
+     * </p>
+     */
+    @Param({ "Array_Realiz.rb", "Integer_Theory.mt", "RevStack.fa", "Stack_Template.co" })
+    public String myFileName;
+
+    /**
+     * <p>
+     * The AST we are walking.
+     * </p>
+     */
+    private ModuleDec myModuleDec;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method builds the AST before any of the benchmarks are run.
+     * </p>
+     *
+     * @throws IOException
+     *             We couldn't read the file or create the compilation environment.
+     */
+    @Setup
+    public final void setUp() throws IOException {
+        ResolveFile file;
+        try (InputStream in = getClass().getResourceAsStream("/" + myFileName)) {
+            String name = myFileName.substring(0, myFileName.lastIndexOf('.'));
+            file = new ResolveFile(new ResolveFileBasicInfo(name, ""), Utilities.getModuleType(myFileName),
+                    CharStreams.fromStream(in), null, new ArrayList<String>(), "");
+        }
+
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        TypeGraph typeGraph = new TypeGraph(new CompileEnvironment(new String[] { "-noFileOutput" },
+                "BenchmarkCompiler", new SystemStdHandler()));
+
+        ResolveTokenFactory factory = new ResolveTokenFactory(file);
+        ResolveLexer lexer = new ResolveLexer(file.getInputStream());
+        lexer.setTokenFactory(factory);
+        ResolveParser parser = new ResolveParser(new CommonTokenStream(lexer));
+        parser.setTokenFactory(factory);
+
+        TreeBuildingListener listener = new TreeBuildingListener(file, typeGraph);
+        ParseTreeWalker.DEFAULT.walk(listener, parser.module());
+        myModuleDec = listener.getModule();
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks walking the AST with a visitor that only overrides {@link TreeWalkerVisitor#preAny}, so every
+     * other {@code pre}/{@code mid}/{@code post}/{@code walk} method goes through the default dispatch.
+     * </p>
+     *
+     * @return The number of visited nodes.
+     */
+    @Benchmark
+    public final int visitModule() {
+        NodeCounter counter = new NodeCounter();
+        TreeWalker.visit(counter, myModuleDec);
+
+        return counter.myNumNodes;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A visitor that counts the number of nodes it visits.
+     * </p>
+     */
+    private static class NodeCounter extends TreeWalkerVisitor {
+
+        /**
+         * <p>
+         * The number of nodes visited so far.
+         * </p>
+         */
+        private int myNumNodes = 0;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final void preAny(ResolveConceptualElement e) {
+            myNumNodes++;
+        }
+
+    }
+
+}
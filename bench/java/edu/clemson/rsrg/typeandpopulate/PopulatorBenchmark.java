@@ -0,0 +1,93 @@
+/*
+ * PopulatorBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate;
+
+import edu.clemson.rsrg.init.ResolveCompiler;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for analyzing a theory file (which runs the {@link Populator} on it and on every module it imports) using
+ * the RESOLVE compiler.
+ * </p>
+ * <p>
+ * Theory files import other theories, so this benchmark needs a copy of the {@code RESOLVE-Workspace}. Pass the path
+ * to its {@code RESOLVE} directory using {@code -p myWorkspaceDir=<path>}.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class PopulatorBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The theory file to analyze, relative to the workspace directory.
+     * </p>
+     */
+    @Param({ "Main/Math_Units/Integer_Theory.mt" })
+    public String myFileName;
+
+    /**
+     * <p>
+     * The path to the {@code RESOLVE} directory of a {@code RESOLVE-Workspace}.
+     * </p>
+     */
+    @Param({ "" })
+    public String myWorkspaceDir;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method checks that we have been given a workspace before any of the benchmarks are run.
+     * </p>
+     */
+    @Setup
+    public final void setUp() {
+        if (!new File(myWorkspaceDir, myFileName).isFile()) {
+            throw new IllegalStateException("Cannot find " + myFileName + " in the workspace directory '"
+                    + myWorkspaceDir + "'. Please specify one using -p myWorkspaceDir=<path>.");
+        }
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks parsing, populating and sanity checking the theory file and all of its imports.
+     * </p>
+     */
+    @Benchmark
+    public final void analyzeTheory() {
+        ResolveCompiler compiler = new ResolveCompiler(
+                new String[] { "-noFileOutput", "-workspaceDir", myWorkspaceDir, myFileName });
+        compiler.invokeCompiler();
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * TypeGraphBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.typereasoning;
+
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTFunction;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTPowerclassApplication;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for {@link TypeGraph#isSubtype(MTType, MTType)} on the built-in mathematical types.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeGraphBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The function type {@code B -> B}.
+     * </p>
+     */
+    private MTType myBooleanFunction;
+
+    /**
+     * <p>
+     * The type {@code Powerclass(B)}.
+     * </p>
+     */
+    private MTType myBooleanPowerclass;
+
+    /**
+     * <p>
+     * The type graph we are querying.
+     * </p>
+     */
+    private TypeGraph myTypeGraph;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates the type graph before any of the benchmarks are run.
+     * </p>
+     *
+     * @throws IOException
+     *             We couldn't create the compilation environment.
+     */
+    @Setup
+    public final void setUp() throws IOException {
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        myTypeGraph = new TypeGraph(new CompileEnvironment(new String[] { "-noFileOutput" }, "BenchmarkCompiler",
+                new SystemStdHandler()));
+
+        myBooleanFunction = new MTFunction(myTypeGraph, myTypeGraph.BOOLEAN, myTypeGraph.BOOLEAN);
+        myBooleanPowerclass = new MTPowerclassApplication(myTypeGraph, myTypeGraph.BOOLEAN);
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks a query that is answered by the established subtype cache after the first call.
+     * </p>
+     *
+     * @return The result of the query.
+     */
+    @Benchmark
+    public final boolean isSubtypeEstablished() {
+        return myTypeGraph.isSubtype(myTypeGraph.BOOLEAN, myTypeGraph.SSET);
+    }
+
+    /**
+     * <p>
+     * This benchmarks a query on a function type that needs the syntactic subtype checker.
+     * </p>
+     *
+     * @return The result of the query.
+     */
+    @Benchmark
+    public final boolean isSubtypeFunction() {
+        return myTypeGraph.isSubtype(myBooleanFunction, myBooleanPowerclass);
+    }
+
+    /**
+     * <p>
+     * This benchmarks a query that fails, which is never cached and always falls through to checking the valid type
+     * conditions.
+     * </p>
+     *
+     * @return The result of the query.
+     */
+    @Benchmark
+    public final boolean isSubtypeRejected() {
+        return myTypeGraph.isSubtype(myTypeGraph.BOOLEAN, myTypeGraph.R);
+    }
+
+}
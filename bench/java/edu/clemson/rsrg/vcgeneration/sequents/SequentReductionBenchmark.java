@@ -0,0 +1,135 @@
+/*
+ * SequentReductionBenchmark.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.vcgeneration.sequents;
+
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.MathExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.SystemStdHandler;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import edu.clemson.rsrg.vcgeneration.utilities.Utilities;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * <p>
+ * Benchmarks for {@link SequentReduction#applyReduction()} on sequents that need many reductions.
+ * </p>
+ *
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SequentReductionBenchmark {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of {@code ((pI implies r) or (qI implies r)) implies ((pI and qI) implies r)} conjuncts in the
+     * succedent.
+     * </p>
+     */
+    @Param({ "1", "8", "32" })
+    public int myNumConjuncts;
+
+    /**
+     * <p>
+     * The sequent we are reducing.
+     * </p>
+     */
+    private Sequent mySequent;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates the sequent before any of the benchmarks are run.
+     * </p>
+     *
+     * @throws IOException
+     *             We couldn't create the fake location or the compilation environment.
+     */
+    @Setup
+    public final void setUp() throws IOException {
+        Location fakeLocation = new Location(
+                new ResolveFile(new ResolveFileBasicInfo("SequentReductionBenchmark", ""), ModuleType.THEORY,
+                        new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                0, 0);
+
+        // YS: We need to create a ResolveCompiler instance to instantiate
+        // the flag manager...
+        new ResolveCompiler(new String[0]);
+        TypeGraph typeGraph = new TypeGraph(new CompileEnvironment(new String[] { "-noFileOutput" },
+                "BenchmarkCompiler", new SystemStdHandler()));
+
+        VarExp r = Utilities.createVarExp(fakeLocation, null, new PosSymbol(fakeLocation, "r"), typeGraph.BOOLEAN,
+                null);
+        Exp succedent = null;
+        for (int i = 1; i <= myNumConjuncts; i++) {
+            VarExp p = Utilities.createVarExp(fakeLocation, null, new PosSymbol(fakeLocation, "p" + i),
+                    typeGraph.BOOLEAN, null);
+            VarExp q = Utilities.createVarExp(fakeLocation, null, new PosSymbol(fakeLocation, "q" + i),
+                    typeGraph.BOOLEAN, null);
+            Exp pImpliesr = MathExp.formImplies(fakeLocation, p.clone(), r.clone());
+            Exp qImpliesr = MathExp.formImplies(fakeLocation, q.clone(), r.clone());
+            Exp orExp = MathExp.formDisjunct(fakeLocation, pImpliesr, qImpliesr);
+            Exp pAndq = MathExp.formConjunct(fakeLocation, p.clone(), q.clone());
+            Exp pAndqImpliesr = MathExp.formImplies(fakeLocation, pAndq, r.clone());
+            Exp complexExp = MathExp.formImplies(fakeLocation, orExp, pAndqImpliesr);
+
+            succedent = (succedent == null) ? complexExp : MathExp.formConjunct(fakeLocation, succedent, complexExp);
+        }
+
+        List<Exp> consequents = new ArrayList<>();
+        consequents.add(succedent);
+        mySequent = new Sequent(fakeLocation, new ArrayList<Exp>(), consequents);
+    }
+
+    // ===========================================================
+    // Benchmark Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This benchmarks reducing the sequent to sequents that only contain atomic formulas.
+     * </p>
+     *
+     * @return The resulting sequents.
+     */
+    @Benchmark
+    public final List<Sequent> applyReduction() {
+        return new SequentReduction(mySequent).applyReduction();
+    }
+
+}
@@ -74,6 +74,8 @@ public abstract class AbstractVarDec extends Dec {
             return true;
         if (o == null || getClass() != o.getClass())
             return false;
+        if (!super.equals(o))
+            return false;
 
         AbstractVarDec that = (AbstractVarDec) o;
 
@@ -85,7 +87,9 @@ public abstract class AbstractVarDec extends Dec {
      */
     @Override
     public int hashCode() {
-        return myTy.hashCode();
+        int result = super.hashCode();
+        result = 31 * result + myTy.hashCode();
+        return result;
     }
 
     /**
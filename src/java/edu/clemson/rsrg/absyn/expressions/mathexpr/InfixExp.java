@@ -282,7 +282,7 @@ public class InfixExp extends AbstractFunctionExp {
             newOpQualifier = myQualifier.clone();
         }
 
-        return new InfixExp(cloneLocation(), myLeftHandSide, newOpQualifier, myOperationName.clone(),
+        return new InfixExp(cloneLocation(), myLeftHandSide.clone(), newOpQualifier, myOperationName.clone(),
                 myRightHandSide.clone());
     }
 
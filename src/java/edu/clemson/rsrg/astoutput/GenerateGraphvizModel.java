@@ -29,12 +29,14 @@ import edu.clemson.rsrg.absyn.rawtypes.Ty;
 import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
 import edu.clemson.rsrg.absyn.statements.MemoryStmt;
 import edu.clemson.rsrg.absyn.statements.Statement;
+import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -56,10 +58,10 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
 
     /**
      * <p>
-     * Map from each element in the tree to its associated node number.
+     * The maximum depth (relative to the subtree root) of the nodes we export or {@code -1} if there is no limit.
      * </p>
      */
-    private final Map<ResolveConceptualElement, Integer> myElementToNodeNumMap;
+    private final int myMaxDepth;
 
     /**
      * <p>
@@ -70,10 +72,32 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
 
     /**
      * <p>
-     * String template for the base Graphviz model.
+     * The node numbers of the element we are visiting and all of its ancestors. A node number of {@code 0} means that
+     * the element isn't exported.
      * </p>
      */
-    private final ST myModel;
+    private int[] myNodeNumStack;
+
+    /**
+     * <p>
+     * The number of node numbers in {@link #myNodeNumStack}.
+     * </p>
+     */
+    private int myNodeNumStackSize;
+
+    /**
+     * <p>
+     * The name for the output file.
+     * </p>
+     */
+    private final String myOutputFileName;
+
+    /**
+     * <p>
+     * The listener objects that receive the nodes and edges as soon as they are generated.
+     * </p>
+     */
+    private final List<OutputListener> myOutputListeners;
 
     /**
      * <p>
@@ -82,25 +106,54 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
      */
     private final STGroup mySTGroup;
 
+    /**
+     * <p>
+     * The depth of the subtree root we are currently exporting or {@code -1} if we are not inside one.
+     * </p>
+     */
+    private int mySubtreeDepth;
+
+    /**
+     * <p>
+     * The name of the declarations whose subtrees we export or {@code null} if we export the entire tree.
+     * </p>
+     */
+    private final String mySubtreeRootName;
+
     // ===========================================================
     // Constructors
     // ===========================================================
 
     /**
      * <p>
-     * This creates an object that overrides methods to generate a Graphviz model file.
+     * This creates an object that overrides methods to generate a Graphviz model file. The nodes and edges are sent to
+     * the listener objects as the tree is walked, so the model is never kept in memory.
      * </p>
      *
      * @param stGroup
      *            The string template file.
-     * @param model
-     *            The model we are going be generating.
-     */
-    public GenerateGraphvizModel(STGroup stGroup, ST model) {
-        myElementToNodeNumMap = new HashMap<>();
-        myModel = model;
+     * @param outputFileName
+     *            A name for the output file.
+     * @param listeners
+     *            The listener objects that receive the nodes and edges.
+     * @param subtreeRootName
+     *            The name of the declarations whose subtrees we export or {@code null} if we want to export the entire
+     *            tree.
+     * @param maxDepth
+     *            The maximum depth (relative to the subtree root) of the nodes we export or {@code -1} if there is no
+     *            limit.
+     */
+    public GenerateGraphvizModel(STGroup stGroup, String outputFileName, List<OutputListener> listeners,
+            String subtreeRootName, int maxDepth) {
+        myMaxDepth = maxDepth;
         myNodeNum = 0;
+        myNodeNumStack = new int[64];
+        myNodeNumStackSize = 0;
+        myOutputFileName = outputFileName;
+        myOutputListeners = listeners;
         mySTGroup = stGroup;
+        mySubtreeRootName = subtreeRootName;
+        mySubtreeDepth = subtreeRootName == null ? 0 : -1;
     }
 
     // ===========================================================
@@ -113,7 +166,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
 
     /**
      * <p>
-     * For all nodes that have a parent, add an edge from its parent node to itself.
+     * For all nodes that we export, get a new node number and add an edge from its parent node to itself.
      * </p>
      *
      * @param data
@@ -121,22 +174,34 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
      */
     @Override
     public void preAnyStack(ResolveConceptualElement data) {
-        // Get a new node number
-        myNodeNum++;
-
-        // If we have a parent, we need to add an edge
-        ResolveConceptualElement parent = getParent();
-        if (parent != null) {
-            int parentNum = myElementToNodeNumMap.get(parent);
-
-            // Add a new edge using our string template
-            ST edge = mySTGroup.getInstanceOf("outputGraphvizEdges").add("parentNodeNum", parentNum).add("nodeNum",
-                    myNodeNum);
-            myModel.add("edges", edge);
+        // Check to see if this is the root of a subtree we want to export
+        int depth = getAncestorSize();
+        if (mySubtreeDepth < 0 && data instanceof Dec && ((Dec) data).getName() != null
+                && ((Dec) data).getName().getName().equals(mySubtreeRootName)) {
+            mySubtreeDepth = depth;
+        }
+
+        // Get a new node number if we are exporting this node
+        int nodeNum = 0;
+        if (mySubtreeDepth >= 0 && (myMaxDepth < 0 || depth - mySubtreeDepth <= myMaxDepth)) {
+            myNodeNum++;
+            nodeNum = myNodeNum;
+
+            // If we have an exported parent, we need to add an edge
+            int parentNum = myNodeNumStackSize == 0 ? 0 : myNodeNumStack[myNodeNumStackSize - 1];
+            if (parentNum != 0) {
+                // Add a new edge using our string template
+                ST edge = mySTGroup.getInstanceOf("outputGraphvizEdges").add("parentNodeNum", parentNum)
+                        .add("nodeNum", nodeNum);
+                outputEntry(edge);
+            }
         }
 
-        // Put the current node number into the map
-        myElementToNodeNumMap.put(data, myNodeNum);
+        // Push the current node number
+        if (myNodeNumStackSize == myNodeNumStack.length) {
+            myNodeNumStack = Arrays.copyOf(myNodeNumStack, 2 * myNodeNumStack.length);
+        }
+        myNodeNumStack[myNodeNumStackSize++] = nodeNum;
     }
 
     /**
@@ -151,10 +216,16 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     public void postAnyStack(ResolveConceptualElement data) {
         // Add a new node using our string template
         if (data instanceof VirtualListNode) {
-            ST node = createNode(myElementToNodeNumMap.get(data), data.getClass().getSimpleName(), true);
+            ST node = createNode(data.getClass().getSimpleName(), true);
 
             node.add("nodeData", ((VirtualListNode) data).getListType().getSimpleName());
-            myModel.add("nodes", node);
+            outputNode(node);
+        }
+
+        // Pop the current node number and check to see if we are leaving the subtree we are exporting
+        myNodeNumStackSize--;
+        if (mySubtreeRootName != null && mySubtreeDepth == getAncestorSize()) {
+            mySubtreeDepth = -1;
         }
     }
 
@@ -173,7 +244,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postDec(Dec e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
         String data;
 
         if (e instanceof MathAssertionDec) {
@@ -204,7 +275,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         }
 
         node.add("nodeData", data);
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -222,10 +293,10 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postDefinitionBodyItem(DefinitionBodyItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         node.add("nodeData", "=");
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -243,12 +314,12 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postUsesItem(UsesItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         // Add the imported module name
         node.add("nodeData", e.getName().getName());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -266,12 +337,12 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postPerformanceSpecInitFinalItem(PerformanceSpecInitFinalItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         // Add the item type
         node.add("nodeData", e.getClauseType().name());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -285,12 +356,12 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postSpecInitFinalItem(SpecInitFinalItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         // Add the item type
         node.add("nodeData", e.getClauseType().name());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -308,12 +379,12 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postFacilityInitFinalItem(FacilityInitFinalItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         // Add the item type
         node.add("nodeData", e.getItemType().name());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -327,12 +398,12 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postRealizInitFinalItem(RealizInitFinalItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         // Add the item type
         node.add("nodeData", e.getItemType().name());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -350,7 +421,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
      */
     @Override
     public void postLoopVerificationItem(LoopVerificationItem e) {
-        myModel.add("nodes", createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), false));
+        outputNode(createNode(e.getClass().getSimpleName(), false));
     }
 
     // -----------------------------------------------------------
@@ -367,7 +438,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
      */
     @Override
     public void postModuleArgumentItem(ModuleArgumentItem e) {
-        myModel.add("nodes", createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), false));
+        outputNode(createNode(e.getClass().getSimpleName(), false));
     }
 
     /**
@@ -382,14 +453,14 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postEnhancementSpecItem(EnhancementSpecItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         StringBuffer sb = new StringBuffer();
         sb.append("Concept Enhancement: ");
         sb.append(e.getName().getName());
         node.add("nodeData", sb.toString());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -404,7 +475,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postEnhancementSpecRealizItem(EnhancementSpecRealizItem e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         StringBuffer sb = new StringBuffer();
         sb.append("Enhancement: ");
@@ -413,7 +484,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         sb.append(e.getEnhancementRealizName().getName());
         node.add("nodeData", sb.toString());
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -442,13 +513,13 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
                 data = ty.getQualifier() + "::" + data;
             }
 
-            node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+            node = createNode(e.getClass().getSimpleName(), true);
             node.add("nodeData", data);
         } else {
-            node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), false);
+            node = createNode(e.getClass().getSimpleName(), false);
         }
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -467,7 +538,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postAssertionClause(AssertionClause e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         StringBuffer sb = new StringBuffer();
         sb.append(e.getClauseType().name());
@@ -476,7 +547,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         }
 
         node.add("nodeData", sb.toString());
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -499,18 +570,18 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         ST node;
 
         if (e instanceof ConfirmStmt) {
-            node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+            node = createNode(e.getClass().getSimpleName(), true);
 
             node.add("nodeData", "SIMPLIFY: " + ((ConfirmStmt) e).getSimplify());
         } else if (e instanceof MemoryStmt) {
-            node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+            node = createNode(e.getClass().getSimpleName(), true);
 
             node.add("nodeData", ((MemoryStmt) e).getStatementType().name());
         } else {
-            node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), false);
+            node = createNode(e.getClass().getSimpleName(), false);
         }
 
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     // -----------------------------------------------------------
@@ -528,7 +599,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postCrossTypeExp(CrossTypeExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         StringBuffer sb = new StringBuffer();
 
@@ -548,7 +619,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         }
 
         node.add("nodeData", sb.toString());
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -563,7 +634,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postFunctionExp(FunctionExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         String data = e.getOperatorAsString();
         if (e.getQualifier() != null) {
@@ -575,7 +646,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         }
 
         node.add("nodeData", data);
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -590,7 +661,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postInfixExp(InfixExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         String data = escapeSpecialChars(e.getOperatorAsString().toCharArray());
         if (e.getQualifier() != null) {
@@ -598,7 +669,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         }
 
         node.add("nodeData", data);
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -612,7 +683,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postOutfixExp(OutfixExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         StringBuffer sb = new StringBuffer();
         sb.append("&nbsp;");
@@ -620,7 +691,7 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         sb.append("&nbsp;");
 
         node.add("nodeData", sb.toString());
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -634,10 +705,10 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postQuantExp(QuantExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         node.add("nodeData", e.getQuantification().name());
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -651,10 +722,10 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postTypeAssertionExp(TypeAssertionExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         node.add("nodeData", ":");
-        myModel.add("nodes", node);
+        outputNode(node);
     }
 
     /**
@@ -671,10 +742,10 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         if (!(e instanceof InfixExp) && !(e instanceof TypeAssertionExp) && !(e instanceof QuantExp)
                 && !(e instanceof FunctionExp) && !(e instanceof OutfixExp) && !(e instanceof CrossTypeExp)) {
             // Create the new node
-            ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+            ST node = createNode(e.getClass().getSimpleName(), true);
 
             node.add("nodeData", escapeSpecialChars(e.asString(0, 0).toCharArray()));
-            myModel.add("nodes", node);
+            outputNode(node);
         }
     }
 
@@ -694,25 +765,10 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
     @Override
     public void postProgramExp(ProgramExp e) {
         // Create the new node
-        ST node = createNode(myElementToNodeNumMap.get(e), e.getClass().getSimpleName(), true);
+        ST node = createNode(e.getClass().getSimpleName(), true);
 
         node.add("nodeData", escapeSpecialChars(e.asString(0, 0).toCharArray()));
-        myModel.add("nodes", node);
-    }
-
-    // ===========================================================
-    // Public Methods
-    // ===========================================================
-
-    /**
-     * <p>
-     * This method returns the completed model with all the nodes and edges.
-     * </p>
-     *
-     * @return String template rendering of the model.
-     */
-    public final String getCompleteModel() {
-        return myModel.render();
+        outputNode(node);
     }
 
     // ===========================================================
@@ -724,8 +780,6 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
      * An helper method to create a new node using string template.
      * </p>
      *
-     * @param nodeNum
-     *            The associated node number.
      * @param nodeName
      *            The node's simple class name.
      * @param hasData
@@ -733,9 +787,9 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
      *
      * @return The newly created ST for "node".
      */
-    private ST createNode(int nodeNum, String nodeName, boolean hasData) {
-        return mySTGroup.getInstanceOf("outputGraphvizNodes").add("nodeNum", nodeNum).add("nodeName", nodeName)
-                .add("hasNodeData", hasData);
+    private ST createNode(String nodeName, boolean hasData) {
+        return mySTGroup.getInstanceOf("outputGraphvizNodes").add("nodeNum", myNodeNumStack[myNodeNumStackSize - 1])
+                .add("nodeName", nodeName).add("hasNodeData", hasData);
     }
 
     /**
@@ -786,4 +840,33 @@ public class GenerateGraphvizModel extends TreeWalkerStackVisitor {
         return sb.toString();
     }
 
+    /**
+     * <p>
+     * An helper method that renders a node or an edge and sends it to the listener objects.
+     * </p>
+     *
+     * @param entry
+     *            The ST for a node or an edge.
+     */
+    private void outputEntry(ST entry) {
+        String renderedEntry = entry.render();
+        for (OutputListener listener : myOutputListeners) {
+            listener.astGraphvizModelEntry(myOutputFileName, renderedEntry);
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that outputs the node for the element we are visiting if we are exporting it.
+     * </p>
+     *
+     * @param node
+     *            The ST for the node.
+     */
+    private void outputNode(ST node) {
+        if (myNodeNumStack[myNodeNumStackSize - 1] != 0) {
+            outputEntry(node);
+        }
+    }
+
 }
@@ -14,10 +14,11 @@ package edu.clemson.rsrg.init;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.init.output.FileOutputListener;
 import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.statushandling.AsynchronousStatusHandler;
 import edu.clemson.rsrg.statushandling.StatusHandler;
-import edu.clemson.rsrg.statushandling.WriterStatusHandler;
 import edu.clemson.rsrg.statushandling.exception.FlagDependencyException;
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.init.file.ResolveFile;
@@ -90,6 +91,13 @@ public class CompileEnvironment {
      */
     private final List<ModuleIdentifier> myIncompleteModules;
 
+    /**
+     * <p>
+     * This collects the time spent and memory allocated by each of the compiler phases.
+     * </p>
+     */
+    private final CompilerMetrics myMetrics;
+
     /**
      * <p>
      * This list stores listener objects that provides instant feedback to the interested party when we are done with a
@@ -138,6 +146,11 @@ public class CompileEnvironment {
      * <p>
      * Instantiates a compilation environment to store all necessary modules, files and flags.
      * </p>
+     * <p>
+     * When we are asked to write the debug output to files, {@code statusHandler} is replaced by a handler that writes
+     * to the log files. Whoever created {@code statusHandler} is still responsible for stopping it, and the handler
+     * returned by {@link #getStatusHandler()} needs to be stopped at the end of the job.
+     * </p>
      *
      * @param args
      *            The specified compiler arguments array.
@@ -176,11 +189,15 @@ public class CompileEnvironment {
                     "Debug-Log-" + dateFormat.format(date) + ".log");
             Charset charset = Charset.forName("UTF-8");
 
-            statusHandler = new WriterStatusHandler(Files.newBufferedWriter(infoFilePath, charset, CREATE, APPEND),
+            statusHandler = new AsynchronousStatusHandler(
+                    Files.newBufferedWriter(infoFilePath, charset, CREATE, APPEND),
                     Files.newBufferedWriter(errorFilePath, charset, CREATE, APPEND));
         }
         myStatusHandler = statusHandler;
 
+        // Only collect metrics when we have been asked to
+        myMetrics = new CompilerMetrics(flags.isFlagSet(ResolveCompiler.FLAG_METRICS));
+
         // Add a default file listener if we didn't specify no file output
         if (!flags.isFlagSet(ResolveCompiler.FLAG_NO_FILE_OUTPUT)) {
             myOutputListeners.add(new FileOutputListener(myStatusHandler));
@@ -188,11 +205,9 @@ public class CompileEnvironment {
 
         // Debugging information
         if (flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-            synchronized (System.out) {
-                // Print Compiler Messages
-                myStatusHandler.info(null, "RESOLVE Compiler/Verifier - " + compilerVersion + " Version.");
-                myStatusHandler.info(null, "\tUse -help flag for options.\n");
-            }
+            // Print Compiler Messages
+            myStatusHandler.info(null, "RESOLVE Compiler/Verifier - " + compilerVersion + " Version.");
+            myStatusHandler.info(null, "\tUse -help flag for options.\n");
         }
     }
 
@@ -314,6 +329,17 @@ public class CompileEnvironment {
         return flags.getRemainingArgs();
     }
 
+    /**
+     * <p>
+     * Returns the object that collects the time spent and memory allocated by each of the compiler phases.
+     * </p>
+     *
+     * @return A {@link CompilerMetrics} object.
+     */
+    public final CompilerMetrics getMetrics() {
+        return myMetrics;
+    }
+
     /**
      * <p>
      * Returns all the output listeners that are interested in the compilation results.
@@ -17,6 +17,8 @@ import edu.clemson.rsrg.init.file.FileLocator;
 import edu.clemson.rsrg.init.file.ModuleType;
 import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
+import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.init.pipeline.*;
 import edu.clemson.rsrg.misc.Utilities;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
@@ -33,14 +35,15 @@ import edu.clemson.rsrg.translation.AbstractTranslator;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
-import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.antlr.v4.runtime.*;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.jgrapht.Graphs;
 import org.jgrapht.graph.DefaultDirectedGraph;
@@ -105,6 +108,13 @@ class Controller {
     // Objects
     // ===========================================================
 
+    /**
+     * <p>
+     * The name we use for the metrics of a batch of target files, since they cover every target file in the batch.
+     * </p>
+     */
+    private static final String BATCH_METRICS_NAME = "Batch";
+
     /**
      * <p>
      * This is a list of all externally realized file extensions accepted by the RESOLVE compiler. When adding a new
@@ -113,6 +123,21 @@ class Controller {
      */
     private static final List<String> NON_NATIVE_EXT = Collections.unmodifiableList(Arrays.asList("java", "c", "h"));
 
+    /**
+     * <p>
+     * The number of files that could not be parsed using {@code SLL} prediction mode and had to be parsed again using
+     * the full {@code LL} prediction mode.
+     * </p>
+     */
+    private static final AtomicInteger LL_FALLBACK_COUNT = new AtomicInteger();
+
+    /**
+     * <p>
+     * The number of files parsed by this JVM.
+     * </p>
+     */
+    private static final AtomicInteger PARSED_FILE_COUNT = new AtomicInteger();
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -148,35 +173,62 @@ class Controller {
      *            The compiling RESOLVE file.
      */
     final void compileTargetFile(ResolveFile file) {
-        try {
-            // Use ANTLR4 to build the AST
-            ModuleDec targetModule = createModuleAST(file);
+        compileTargetFiles(Collections.singletonList(file));
+    }
 
-            // Add this file to our compile environment
-            myCompileEnvironment.constructRecord(file, targetModule);
-            if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                myStatusHandler.info(null, "Begin Compiling: " + targetModule.getName().getName());
+    /**
+     * <p>
+     * Compiles a batch of target files. All the imports needed by these files are only imported and analyzed once and
+     * when we are translating in batch mode, the target files are translated in parallel after all the analysis is
+     * done.
+     * </p>
+     * <p>
+     * The metrics for a batch of more than one file are reported under the name {@value #BATCH_METRICS_NAME}. A target
+     * file that fails to translate in batch mode is reported without stopping the translation of the other files.
+     * </p>
+     *
+     * @param files
+     *            The compiling RESOLVE files.
+     */
+    final void compileTargetFiles(List<ResolveFile> files) {
+        try {
+            // Use ANTLR4 to build the AST for each target file and add them to our compile environment
+            List<ModuleDec> targetModules = new ArrayList<>(files.size());
+            Set<ModuleIdentifier> targetIds = new HashSet<>();
+            for (ResolveFile file : files) {
+                ModuleDec targetModule = createModuleAST(file);
+
+                myCompileEnvironment.constructRecord(file, targetModule);
+                targetModules.add(targetModule);
+                targetIds.add(new ModuleIdentifier(targetModule));
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+                    myStatusHandler.info(null, "Begin Compiling: " + targetModule.getName().getName());
+                }
             }
 
             // Create a dependencies graph and search for import
             // dependencies.
             DefaultDirectedGraph<ModuleIdentifier, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
-            g.addVertex(new ModuleIdentifier(targetModule));
-            findDependencies(g, targetModule, file.getParentPath());
+            for (int i = 0; i < targetModules.size(); i++) {
+                g.addVertex(new ModuleIdentifier(targetModules.get(i)));
+                findDependencies(g, targetModules.get(i), files.get(i).getParentPath());
+            }
+
+            // In batch mode, the target files are translated once everything has been analyzed
+            List<ModuleIdentifier> batchTranslationTargets = new ArrayList<>();
+            boolean isBatchTranslateOn = myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_BATCH_TRANSLATE);
 
             // Perform different compilation tasks to each file
             for (ModuleIdentifier m : getCompileOrder(g)) {
                 // Print the entire ModuleDec
-                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_PRINT_MODULE)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_PRINT_MODULE) && targetIds.contains(m)) {
                     RawASTOutputPipeline rawASTOutputPipe = new RawASTOutputPipeline(myCompileEnvironment,
                             mySymbolTable);
                     rawASTOutputPipe.process(m);
                 }
 
                 // Output AST to Graphviz dot file. (Only for argument files)
-                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_EXPORT_AST)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
+                if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_EXPORT_AST) && targetIds.contains(m)) {
                     GraphicalASTOutputPipeline astOutputPipe = new GraphicalASTOutputPipeline(myCompileEnvironment,
                             mySymbolTable);
                     astOutputPipe.process(m);
@@ -187,31 +239,41 @@ class Controller {
                 analysisPipe.process(m);
 
                 // Translate source file to target file
-                if (myCompileEnvironment.flags.isFlagSet(AbstractTranslator.FLAG_TRANSLATE)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
-                    TranslatorPipeline translatorPipeline = new TranslatorPipeline(myCompileEnvironment, mySymbolTable);
-                    translatorPipeline.process(m);
+                if (myCompileEnvironment.flags.isFlagSet(AbstractTranslator.FLAG_TRANSLATE) && targetIds.contains(m)) {
+                    if (isBatchTranslateOn) {
+                        batchTranslationTargets.add(m);
+                    } else {
+                        TranslatorPipeline translatorPipeline = new TranslatorPipeline(myCompileEnvironment,
+                                mySymbolTable);
+                        translatorPipeline.process(m);
+                    }
                 }
 
                 // Generate VCs
-                if (myCompileEnvironment.flags.isFlagSet(VCGenerator.FLAG_VERIFY_VC)
-                        && m.equals(new ModuleIdentifier(targetModule))) {
-                    VCGenPipeline vcGenPipeline = new VCGenPipeline(myCompileEnvironment, mySymbolTable);
-                    vcGenPipeline.process(m);
-                    List<VerificationCondition> vcs = vcGenPipeline.getVerificationConditions();
-
-                    // Invoke Automated Prover (if requested)
-                    if (myCompileEnvironment.flags.isFlagSet(CongruenceClassProver.FLAG_PROVE)
-                            && m.equals(new ModuleIdentifier(targetModule))) {
-                        ProverPipeline proverPipeline = new ProverPipeline(myCompileEnvironment, mySymbolTable);
-                        proverPipeline.process(m);
+                if (myCompileEnvironment.flags.isFlagSet(VCGenerator.FLAG_VERIFY_VC) && targetIds.contains(m)) {
+                    // Automated provers (if requested) receive the VCs as soon as they are generated
+                    List<AbstractProverPipeline<?>> proverPipelines = new ArrayList<>();
+                    if (myCompileEnvironment.flags.isFlagSet(CongruenceClassProver.FLAG_PROVE)) {
+                        proverPipelines.add(new ProverPipeline(myCompileEnvironment, mySymbolTable));
                     }
+                    if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_PROVE)) {
+                        proverPipelines.add(new NProverPipeline(myCompileEnvironment, mySymbolTable));
+                    }
+
+                    VCGenPipeline vcGenPipeline = new VCGenPipeline(myCompileEnvironment, mySymbolTable,
+                            proverPipelines);
+                    try {
+                        vcGenPipeline.process(m);
 
-                    // Invoke nProver (if requested)
-                    if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_PROVE)
-                            && m.equals(new ModuleIdentifier(targetModule))) {
-                        NProverPipeline nproverPipeline = new NProverPipeline(myCompileEnvironment, mySymbolTable, vcs);
-                        nproverPipeline.process(m);
+                        // Output the prover results
+                        for (AbstractProverPipeline<?> proverPipeline : proverPipelines) {
+                            proverPipeline.process(m);
+                        }
+                    } finally {
+                        // Don't leave any worker threads behind if something went wrong
+                        for (AbstractProverPipeline<?> proverPipeline : proverPipelines) {
+                            proverPipeline.stopProving();
+                        }
                     }
                 }
 
@@ -221,6 +283,22 @@ class Controller {
                     myStatusHandler.info(null, "Done Compiling: " + m.toString());
                 }
             }
+
+            // Translate all the target files in the batch
+            if (!batchTranslationTargets.isEmpty()) {
+                TranslatorPipeline translatorPipeline = new TranslatorPipeline(myCompileEnvironment, mySymbolTable);
+                translatorPipeline.processAll(batchTranslationTargets);
+            }
+
+            // Output the metrics for all the modules we have compiled so far
+            CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+            if (metrics.isEnabled()) {
+                String metricsName = targetModules.size() == 1 ? targetModules.get(0).getName().getName()
+                        : BATCH_METRICS_NAME;
+                for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+                    listener.compilerMetricsResult(metricsName, metrics.toJSON());
+                }
+            }
         } catch (Throwable e) {
             Throwable cause = e;
             while (cause != null && !(cause instanceof CompilerException)) {
@@ -304,51 +382,13 @@ class Controller {
      *             There are errors in the source file.
      */
     private ModuleDec createModuleAST(ResolveFile file) {
-        CharStream input = file.getInputStream();
-        if (input == null) {
-            throw new MiscErrorException("CharStream null", new IllegalArgumentException());
-        }
-
-        // Create a RESOLVE language lexer
-        ResolveLexer lexer = new ResolveLexer(input);
-        ResolveTokenFactory factory = new ResolveTokenFactory(file);
-        lexer.removeErrorListeners();
-        lexer.addErrorListener(myAntlrLexerErrorListener);
-        lexer.setTokenFactory(factory);
-
-        // Create a RESOLVE language parser
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        ResolveParser parser = new ResolveParser(tokens);
-        parser.removeErrorListeners();
-        parser.addErrorListener(myAntlrParserErrorListener);
-        parser.setTokenFactory(factory);
-
-        // Two-Stage Parsing
-        // Reason: We might not need the full power of LL.
-        // The solution proposed by the ANTLR folks (found here:
-        // https://github.com/antlr/antlr4/blob/master/doc/faq/general.md)
-        // is to use SLL prediction mode first and switch to LL if it fails.
-        ParserRuleContext rootModuleCtx;
-        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
-        try {
-            rootModuleCtx = parser.module();
-        } catch (Exception ex) {
-            tokens.seek(0);
-            parser.reset();
-            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
-            rootModuleCtx = parser.module();
-        }
-
-        // Check for any parsing errors
-        int numParserErrors = parser.getNumberOfSyntaxErrors();
-        if (numParserErrors != 0) {
-            throw new MiscErrorException("Found " + numParserErrors + " errors while parsing " + file.toString(),
-                    new IllegalStateException());
-        }
-
-        // Build the intermediate representation
-        TreeBuildingListener v = new TreeBuildingListener(file, myCompileEnvironment.getTypeGraph());
-        ParseTreeWalker.DEFAULT.walk(v, rootModuleCtx);
+        // Build the intermediate representation. Only the parse tree outlives
+        // the parser, so the token stream (along with all the whitespace and
+        // comment tokens) can be garbage collected before we start the walk.
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        TreeBuildingListener v = new TreeBuildingListener(file, myCompileEnvironment.getTypeGraph(), metrics);
+        metrics.time(file.getName(), CompilerMetrics.Phase.PARSE,
+                () -> ParseTreeWalker.DEFAULT.walk(v, parseModule(file)));
 
         return v.getModule();
     }
@@ -522,6 +562,93 @@ class Controller {
         return result;
     }
 
+    /**
+     * <p>
+     * This method uses the {@link ResolveFile} provided to construct a parser and create an ANTLR4 parse tree.
+     * </p>
+     *
+     * @param file
+     *            The RESOLVE file that we are going to compile.
+     *
+     * @return The root of the parse tree.
+     *
+     * @throws MiscErrorException
+     *             Some how we couldn't instantiate an {@link CharStream}.
+     * @throws SourceErrorException
+     *             There are errors in the source file.
+     */
+    private ParserRuleContext parseModule(ResolveFile file) {
+        CharStream input = file.getInputStream();
+        if (input == null) {
+            throw new MiscErrorException("CharStream null", new IllegalArgumentException());
+        }
+
+        // Create a RESOLVE language lexer
+        ResolveLexer lexer = new ResolveLexer(input);
+        ResolveTokenFactory factory = new ResolveTokenFactory(file);
+        lexer.removeErrorListeners();
+        lexer.addErrorListener(myAntlrLexerErrorListener);
+        lexer.setTokenFactory(factory);
+
+        // Create a RESOLVE language parser
+        CommonTokenStream tokens = new CommonTokenStream(lexer);
+        ResolveParser parser = new ResolveParser(tokens);
+        parser.setTokenFactory(factory);
+
+        // Trim the children lists of each parse tree node as soon as the rule
+        // is done, so we don't hold on to any unused capacity.
+        parser.setTrimParseTree(true);
+
+        // Two-Stage Parsing
+        // Reason: We might not need the full power of LL.
+        // The solution proposed by the ANTLR folks (found here:
+        // https://github.com/antlr/antlr4/blob/master/doc/faq/general.md)
+        // is to use SLL prediction mode first and switch to LL if it fails.
+        // The SLL stage must bail out on the first error instead of recovering,
+        // otherwise an SLL failure would be reported as a syntax error.
+        // Note: The parser's DFA is static, so anything either stage learns is
+        // shared with every other file parsed by this JVM.
+        ParserRuleContext rootModuleCtx;
+        long startTime = System.currentTimeMillis();
+        boolean usedLL = false;
+        parser.removeErrorListeners();
+        parser.setErrorHandler(new BailErrorStrategy());
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            rootModuleCtx = parser.module();
+        } catch (ParseCancellationException ex) {
+            tokens.seek(0);
+            parser.reset();
+            parser.addErrorListener(myAntlrParserErrorListener);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            rootModuleCtx = parser.module();
+            usedLL = true;
+        }
+
+        // Keep track of how often we need the slower LL prediction mode
+        int numParsedFiles = PARSED_FILE_COUNT.incrementAndGet();
+        int numLLFallbacks = usedLL ? LL_FALLBACK_COUNT.incrementAndGet() : LL_FALLBACK_COUNT.get();
+        if (usedLL) {
+            myCompileEnvironment.getMetrics().incrementCounter(file.getName(), "llFallbacks", 1);
+        }
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            myStatusHandler.info(null,
+                    "Parsed " + file.toString() + " using " + (usedLL ? "LL" : "SLL") + " prediction mode in "
+                            + (System.currentTimeMillis() - startTime) + "ms (" + numLLFallbacks + " of "
+                            + numParsedFiles + " parsed files needed LL)");
+        }
+
+        // Check for any parsing errors
+        int numParserErrors = parser.getNumberOfSyntaxErrors();
+        if (numParserErrors != 0) {
+            throw new MiscErrorException("Found " + numParserErrors + " errors while parsing " + file.toString(),
+                    new IllegalStateException());
+        }
+
+        return rootModuleCtx;
+    }
+
     /**
      * <p>
      * This method is used to check for circular dependencies when importing modules using our file dependencies graph.
@@ -26,6 +26,7 @@ import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.statushandling.exception.CompilerException;
 import edu.clemson.rsrg.statushandling.exception.FlagDependencyException;
 import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.translation.AbstractTranslator;
 import edu.clemson.rsrg.translation.targets.CTranslator;
 import edu.clemson.rsrg.translation.targets.JavaTranslator;
 import edu.clemson.rsrg.typeandpopulate.Populator;
@@ -103,14 +104,22 @@ public class ResolveCompiler {
     // Flag Strings
     // ===========================================================
 
+    private static final String FLAG_DESC_BATCH_TRANSLATE = "Compiles all the argument files together and translates them in parallel.";
     private static final String FLAG_DESC_DEBUG = "Print debugging statements from the compiler output.";
     private static final String FLAG_DESC_NO_FILE_OUTPUT = "Specifies that we do not want the default output to file behavior.";
     private static final String FLAG_DESC_PRINT_MODULE = "Print the modules we are compiling.";
+    private static final String FLAG_DESC_METRICS = "Records the time spent and memory allocated by each compiler phase and exports them as JSON and JFR events.";
+    private static final String FLAG_DESC_EXPORT_AST_DEPTH = "Only exports the AST nodes up to the specified depth.";
+    private static final String FLAG_DESC_EXPORT_AST_ROOT = "Only exports the AST subtrees of the declarations with the specified name.";
     private static final String FLAG_DESC_EXPORT_AST = "Exports the AST for the target file as a .dot file that can be viewed in Graphviz";
+    private static final String FLAG_DESC_TRANSLATE_WORKERS = "Number of threads used to translate the argument files in batch mode.";
     private static final String FLAG_DESC_WORKSPACE_DIR = "Changes the workspace directory path.";
     private static final String FLAG_SECTION_GENERAL = "General";
     private static final String FLAG_SECTION_DEBUG = "Debugging";
 
+    private static final String[] EXPORT_AST_DEPTH_ARG_NAME = { "depth" };
+    private static final String[] EXPORT_AST_ROOT_ARG_NAME = { "name" };
+    private static final String[] TRANSLATE_WORKERS_ARG_NAME = { "numworkers" };
     private static final String[] WORKSPACE_DIR_ARG_NAME = { "Path" };
 
     // ===========================================================
@@ -151,7 +160,7 @@ public class ResolveCompiler {
      * Tells the compiler to print compiler exception's stack traces.
      * </p>
      */
-    static final Flag FLAG_DEBUG_STACK_TRACE = new Flag(FLAG_SECTION_DEBUG, "stacktrace", FLAG_DESC_DEBUG,
+    public static final Flag FLAG_DEBUG_STACK_TRACE = new Flag(FLAG_SECTION_DEBUG, "stacktrace", FLAG_DESC_DEBUG,
             Flag.Type.HIDDEN);
     /**
      * <p>
@@ -168,6 +177,13 @@ public class ResolveCompiler {
     static final Flag FLAG_PRINT_MODULE = new Flag(FLAG_SECTION_DEBUG, "printModule", FLAG_DESC_PRINT_MODULE,
             Flag.Type.HIDDEN);
 
+    /**
+     * <p>
+     * Tells the compiler to record and output metrics for each of the compiler phases.
+     * </p>
+     */
+    static final Flag FLAG_METRICS = new Flag(FLAG_SECTION_DEBUG, "metrics", FLAG_DESC_METRICS);
+
     /**
      * <p>
      * Tell the compiler to output a Graphviz model for our AST.
@@ -176,6 +192,38 @@ public class ResolveCompiler {
     static final Flag FLAG_EXPORT_AST = new Flag(FLAG_SECTION_GENERAL, "exportAST", FLAG_DESC_EXPORT_AST,
             Flag.Type.HIDDEN);
 
+    /**
+     * <p>
+     * Tell the compiler to only export the {@code AST} nodes up to the specified depth.
+     * </p>
+     */
+    public static final Flag FLAG_EXPORT_AST_DEPTH = new Flag(FLAG_SECTION_GENERAL, "exportASTDepth",
+            FLAG_DESC_EXPORT_AST_DEPTH, EXPORT_AST_DEPTH_ARG_NAME, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Tell the compiler to only export the {@code AST} subtrees of the declarations with the specified name.
+     * </p>
+     */
+    public static final Flag FLAG_EXPORT_AST_ROOT = new Flag(FLAG_SECTION_GENERAL, "exportASTRoot",
+            FLAG_DESC_EXPORT_AST_ROOT, EXPORT_AST_ROOT_ARG_NAME, Flag.Type.HIDDEN);
+
+    /**
+     * <p>
+     * Tells the compiler to import and analyze all the argument files together and then translate them in parallel.
+     * </p>
+     */
+    static final Flag FLAG_BATCH_TRANSLATE = new Flag(FLAG_SECTION_GENERAL, "batchTranslate",
+            FLAG_DESC_BATCH_TRANSLATE);
+
+    /**
+     * <p>
+     * Specify number of threads used to translate the argument files in batch mode.
+     * </p>
+     */
+    public static final Flag FLAG_TRANSLATE_WORKERS = new Flag(FLAG_SECTION_GENERAL, "translateWorkers",
+            FLAG_DESC_TRANSLATE_WORKERS, TRANSLATE_WORKERS_ARG_NAME, Flag.Type.HIDDEN);
+
     /**
      * <p>
      * Tells the compiler the RESOLVE workspace directory path.
@@ -221,6 +269,12 @@ public class ResolveCompiler {
         // Handle all arguments to the compiler
         CompileEnvironment compileEnvironment = handleCompileArgs(statusHandler);
 
+        // The file handler created by the debug file output flag replaces ours,
+        // so we stop our writer thread now instead of leaving it behind.
+        if (compileEnvironment != null && compileEnvironment.getStatusHandler() != statusHandler) {
+            statusHandler.stopLogging();
+        }
+
         // Compile files/directories listed in the argument list
         try {
             compileRealFiles(myArgumentFileList, compileEnvironment);
@@ -233,6 +287,15 @@ public class ResolveCompiler {
             }
             statusHandler.stopLogging();
         }
+
+        // The status handler writes its messages on a separate thread, so
+        // make sure everything gets written before we exit.
+        if (compileEnvironment != null) {
+            statusHandler = compileEnvironment.getStatusHandler();
+        }
+        if (!statusHandler.hasStopped()) {
+            statusHandler.stopLogging();
+        }
     }
 
     /**
@@ -272,6 +335,13 @@ public class ResolveCompiler {
             }
             statusHandler.stopLogging();
         }
+
+        // The caller's status handler belongs to the caller, but the file handler
+        // created by the debug file output flag only lives as long as this job.
+        StatusHandler jobStatusHandler = compileEnvironment.getStatusHandler();
+        if (jobStatusHandler != statusHandler && !jobStatusHandler.hasStopped()) {
+            jobStatusHandler.stopLogging();
+        }
     }
 
     // ===========================================================
@@ -343,6 +413,10 @@ public class ResolveCompiler {
      */
     private void compileRealFiles(List<String> fileArgList, CompileEnvironment compileEnvironment)
             throws CompilerException {
+        // In batch mode, we compile all the files together once we have found all of them
+        boolean isBatchMode = compileEnvironment.flags.isFlagSet(FLAG_BATCH_TRANSLATE);
+        List<ResolveFile> batchFiles = new ArrayList<>();
+
         // Loop through the argument list to determine if it is a file or a directory
         for (String fileString : fileArgList) {
             // Convert to a file object
@@ -380,13 +454,23 @@ public class ResolveCompiler {
                         ResolveFile f = Utilities.convertToResolveFile(file, moduleType, workspacePath);
 
                         // Invoke the compiler
-                        compileMainFile(f, compileEnvironment);
+                        if (isBatchMode) {
+                            batchFiles.add(f);
+                        } else {
+                            compileMainFile(f, compileEnvironment);
+                        }
                     } catch (IOException ioe) {
                         throw new MiscErrorException(ioe.getMessage(), ioe.getCause());
                     }
                 }
             }
         }
+
+        // Invoke the compiler on all the files in the batch
+        if (!batchFiles.isEmpty()) {
+            Controller controller = new Controller(compileEnvironment);
+            controller.compileTargetFiles(batchFiles);
+        }
     }
 
     /**
@@ -468,8 +552,12 @@ public class ResolveCompiler {
      * This method sets up dependencies between compiler flags. If you are integrating your module into the compiler
      * flag management system, this is where to do it.
      * </p>
+     * <p>
+     * <em>Note:</em> The dependencies are shared by every compiler object in this process, so we lock on the class
+     * rather than this object. Only the first compiler object to get here sets them up.
+     * </p>
      */
-    private synchronized void setUpFlagDependencies() {
+    private static synchronized void setUpFlagDependencies() {
         if (!FlagDependencies.isSealed()) {
             setUpFlags();
             /*
@@ -491,7 +579,7 @@ public class ResolveCompiler {
      * Add all the required and implied flags. Including those needed by the WebIDE.
      * </p>
      */
-    private void setUpFlags() {
+    private static void setUpFlags() {
         // Extended help implies that the general help is also on.
         FlagDependencies.addImplies(FLAG_EXTENDED_HELP, FLAG_HELP);
 
@@ -503,5 +591,13 @@ public class ResolveCompiler {
 
         // Print modules implies debug flag is on
         FlagDependencies.addImplies(FLAG_PRINT_MODULE, FLAG_DEBUG);
+
+        // Limiting the exported AST requires the export AST flag
+        FlagDependencies.addRequires(FLAG_EXPORT_AST_DEPTH, FLAG_EXPORT_AST);
+        FlagDependencies.addRequires(FLAG_EXPORT_AST_ROOT, FLAG_EXPORT_AST);
+
+        // Batch translation requires one of the translate flags
+        FlagDependencies.addRequires(FLAG_BATCH_TRANSLATE, AbstractTranslator.FLAG_TRANSLATE);
+        FlagDependencies.addRequires(FLAG_TRANSLATE_WORKERS, FLAG_BATCH_TRANSLATE);
     }
 }
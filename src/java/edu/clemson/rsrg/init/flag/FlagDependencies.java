@@ -22,6 +22,11 @@ import java.util.*;
  * <code>FlagDependencies</code> represents a static container for information about the dependencies between
  * <code>Flag</code>s. It can be <em>sealed</em> to prevent further changes from being made.
  * </p>
+ * <p>
+ * The dependencies are the same for every compilation, so they are only set up once per process. Once sealed, nothing
+ * in this class changes anymore, which means that any number of {@link FlagManager FlagManager}s can read from it at
+ * the same time without locking.
+ * </p>
  *
  * @author Hampton Smith
  * @author Yu-Shan Sun
@@ -42,8 +47,12 @@ public class FlagDependencies {
      * <p>
      * Set to true once this class has been sealed. Once sealed, no new flags or dependencies may be created.
      * </p>
+     * <p>
+     * <em>Note:</em> This is {@code volatile} so that anyone that sees the sealed flag also sees all the flags and
+     * dependencies that were created before it was sealed.
+     * </p>
      */
-    private static boolean mySealedFlag = false;
+    private static volatile boolean mySealedFlag = false;
 
     /**
      * <p>
@@ -60,7 +69,7 @@ public class FlagDependencies {
      * <code>IllegalStateException</code>.
      * </p>
      */
-    public static void seal() {
+    public static synchronized void seal() {
         mySealedFlag = true;
     }
 
@@ -75,7 +84,7 @@ public class FlagDependencies {
         return mySealedFlag;
     }
 
-    static void introduceFlag(Flag f) {
+    static synchronized void introduceFlag(Flag f) {
 
         if (mySealedFlag) {
             throw new IllegalStateException("Cannot create a new flag after "
@@ -216,7 +225,7 @@ public class FlagDependencies {
      * @param require
      *            The flag that must be on if <code>ifOn</code> is on.
      */
-    public static void addRequires(Flag ifOn, Flag require) {
+    public static synchronized void addRequires(Flag ifOn, Flag require) {
         checkSealedState();
 
         Set<Flag> s = new HashSet<>();
@@ -235,7 +244,7 @@ public class FlagDependencies {
      * @param requireOne
      *            The flags at least one of which must be on it <code>ifOn</code> is on.
      */
-    public static void addRequires(Flag ifOn, Flag[] requireOne) {
+    public static synchronized void addRequires(Flag ifOn, Flag[] requireOne) {
         checkSealedState();
 
         Set<Flag> s = new HashSet<>();
@@ -257,7 +266,7 @@ public class FlagDependencies {
      * @param requireOne
      *            The flags at least one of which must be on it <code>ifOn</code> is on.
      */
-    public static void addRequires(Flag ifOn, Set<Flag> requireOne) {
+    public static synchronized void addRequires(Flag ifOn, Set<Flag> requireOne) {
         checkSealedState();
 
         // Make sure all of the required Flags have been introduced
@@ -283,7 +292,7 @@ public class FlagDependencies {
      * @throws IllegalArgumentException
      *             If <code>impliesOn</code> takes parameters. Flags with parameters may not be implied.
      */
-    public static void addImplies(Flag ifOn, Flag impliesOn) {
+    public static synchronized void addImplies(Flag ifOn, Flag impliesOn) {
         checkSealedState();
 
         // We can't imply something that takes parameters!
@@ -310,7 +319,7 @@ public class FlagDependencies {
      * @param exclude
      *            The flag that must not be on if <code>ifOn</code> is on.
      */
-    public static void addExcludes(Flag ifOn, Flag exclude) {
+    public static synchronized void addExcludes(Flag ifOn, Flag exclude) {
         checkSealedState();
 
         FlagInfo info = getFlagInfo(ifOn);
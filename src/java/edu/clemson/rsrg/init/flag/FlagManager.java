@@ -20,6 +20,11 @@ import java.util.*;
  * A <code>FlagManager</code> represents an actual configuration of flags, as provided by the user. It may be queried to
  * find out what flags are set, or what the values of parameters are.
  * </p>
+ * <p>
+ * Each compilation creates its own <code>FlagManager</code> and passes it along as part of its compilation
+ * environment. Nothing here is shared between compilations, so compilations with different flags can run at the same
+ * time. A <code>FlagManager</code> never changes once it has been created.
+ * </p>
  *
  * @author Hampton Smith
  * @author Yu-Shan Sun
@@ -28,9 +33,8 @@ import java.util.*;
  */
 public class FlagManager {
 
-    private Map<Flag, FlagInfo> myFlags = new HashMap<>();
+    private final Map<Flag, FlagInfo> myFlags = new HashMap<>();
     private final String[] myRemainingArgs;
-    private static FlagManager global_instance;
 
     /**
      * <p>
@@ -55,17 +59,6 @@ public class FlagManager {
         }
 
         myRemainingArgs = processArguments(args);
-        assignToGlobalInstance();
-    }
-
-    private void assignToGlobalInstance() {
-        if (global_instance == null) {
-            global_instance = this;
-        }
-    }
-
-    public static FlagManager getInstance() {
-        return global_instance;
     }
 
     /**
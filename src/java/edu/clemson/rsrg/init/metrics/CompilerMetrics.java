@@ -0,0 +1,587 @@
+/*
+ * CompilerMetrics.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * This class collects how much time was spent and how many bytes were allocated in each of the compiler's phases, as
+ * well as any other counters we might be interested in, for each module we compile. It is safe to record metrics from
+ * multiple threads.
+ * </p>
+ * <p>
+ * Each completed phase is also emitted as a {@link CompilerPhaseEvent}, so they show up in any {@code Java Flight
+ * Recorder} recording running at the same time. When this object is disabled, timing a phase simply runs the
+ * code for that phase.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class CompilerMetrics {
+
+    // ===========================================================
+    // Phases
+    // ===========================================================
+
+    /**
+     * <p>
+     * This defines the different compiler phases we keep track of. Some phases happen in the middle of another one and
+     * their time and allocations are also included in the enclosing phase:
+     * </p>
+     * <ul>
+     * <li>{@link #SUGAR_CONVERSION} is part of {@link #PARSE}.</li>
+     * <li>{@link #SANITY_CHECK} is part of {@link #POPULATE}.</li>
+     * <li>{@link #SEQUENT_REDUCTION} is part of {@link #VC_GENERATION}.</li>
+     * </ul>
+     *
+     * @version 1.0
+     */
+    public enum Phase {
+
+        PARSE("parse"),
+        SUGAR_CONVERSION("sugarConversion"),
+        POPULATE("populate"),
+        SANITY_CHECK("sanityCheck"),
+        VC_GENERATION("vcGeneration"),
+        SEQUENT_REDUCTION("sequentReduction"),
+        PROVE("prove"),
+        TRANSLATE("translate"),
+        OUTPUT("output");
+
+        /**
+         * <p>
+         * The name we use for this phase in the exported results.
+         * </p>
+         */
+        private final String myName;
+
+        /**
+         * <p>
+         * This creates a phase with the specified name.
+         * </p>
+         *
+         * @param name
+         *            The name we use for this phase in the exported results.
+         */
+        Phase(String name) {
+            myName = name;
+        }
+
+        /**
+         * <p>
+         * This method returns the name we use for this phase in the exported results.
+         * </p>
+         *
+         * @return The phase name.
+         */
+        @Override
+        public String toString() {
+            return myName;
+        }
+
+    }
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A map from module names to the counters recorded for that module.
+     * </p>
+     */
+    private final Map<String, Map<String, Long>> myCounters;
+
+    /**
+     * <p>
+     * A flag that indicates if we are collecting metrics.
+     * </p>
+     */
+    private final boolean myIsEnabledFlag;
+
+    /**
+     * <p>
+     * A map from module names to the statistics for each phase of that module.
+     * </p>
+     */
+    private final Map<String, Map<Phase, PhaseStatistics>> myPhaseStatistics;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * A metrics object that doesn't collect anything. This can be used by anyone that needs a {@link CompilerMetrics}
+     * without having a compilation environment.
+     * </p>
+     */
+    public static final CompilerMetrics DISABLED = new CompilerMetrics(false);
+
+    /**
+     * <p>
+     * The timer returned when we aren't collecting metrics.
+     * </p>
+     */
+    private static final PhaseTimer NO_OP_TIMER = new PhaseTimer(null, null, null);
+
+    /**
+     * <p>
+     * The bean we use to find out how many bytes a thread has allocated. This is {@code null} if the {@code JVM}
+     * doesn't support it.
+     * </p>
+     */
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = getThreadMXBean();
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an object for collecting compiler metrics.
+     * </p>
+     *
+     * @param isEnabled
+     *            A flag that indicates if we are collecting metrics.
+     */
+    public CompilerMetrics(boolean isEnabled) {
+        myCounters = new LinkedHashMap<>();
+        myIsEnabledFlag = isEnabled;
+        myPhaseStatistics = new LinkedHashMap<>();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method adds {@code delta} to the counter named {@code counterName} for the specified module.
+     * </p>
+     *
+     * @param moduleName
+     *            Name of the module.
+     * @param counterName
+     *            Name of the counter.
+     * @param delta
+     *            The amount to add.
+     */
+    public final void incrementCounter(String moduleName, String counterName, long delta) {
+        if (myIsEnabledFlag) {
+            synchronized (this) {
+                myCounters.computeIfAbsent(moduleName, k -> new LinkedHashMap<>()).merge(counterName, delta,
+                        Long::sum);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates whether or not we are collecting metrics.
+     * </p>
+     *
+     * @return {@code true} if we are collecting metrics, {@code false} otherwise.
+     */
+    public final boolean isEnabled() {
+        return myIsEnabledFlag;
+    }
+
+    /**
+     * <p>
+     * This method runs {@code task} on the current thread and records the time it took and the bytes it allocated as a
+     * run of the specified phase for the specified module.
+     * </p>
+     *
+     * @param moduleName
+     *            Name of the module.
+     * @param phase
+     *            The compiler phase.
+     * @param task
+     *            The code for the phase.
+     */
+    public final void time(String moduleName, Phase phase, Runnable task) {
+        PhaseTimer timer = startPhase(moduleName, phase);
+        try {
+            task.run();
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * <p>
+     * This method runs {@code task} on the current thread and records the time it took and the bytes it allocated as a
+     * run of the specified phase for the specified module.
+     * </p>
+     *
+     * @param moduleName
+     *            Name of the module.
+     * @param phase
+     *            The compiler phase.
+     * @param task
+     *            The code for the phase.
+     * @param <T>
+     *            The type of result returned by {@code task}.
+     *
+     * @return The result returned by {@code task}.
+     */
+    public final <T> T time(String moduleName, Phase phase, Supplier<T> task) {
+        PhaseTimer timer = startPhase(moduleName, phase);
+        try {
+            return task.get();
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * <p>
+     * This method is the same as {@link #time(String, Phase, Supplier)}, except {@code task} is allowed to throw
+     * checked exceptions.
+     * </p>
+     *
+     * @param moduleName
+     *            Name of the module.
+     * @param phase
+     *            The compiler phase.
+     * @param task
+     *            The code for the phase.
+     * @param <T>
+     *            The type of result returned by {@code task}.
+     *
+     * @return The result returned by {@code task}.
+     *
+     * @throws Exception
+     *             Any exception thrown by {@code task}.
+     */
+    public final <T> T timeCall(String moduleName, Phase phase, Callable<T> task) throws Exception {
+        PhaseTimer timer = startPhase(moduleName, phase);
+        try {
+            return task.call();
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * <p>
+     * This method returns all the metrics we have collected so far in {@code JSON} format.
+     * </p>
+     *
+     * @return A {@code JSON} string.
+     */
+    public final synchronized String toJSON() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"modules\": [");
+
+        // Some modules might only have counters
+        Set<String> moduleNames = new LinkedHashSet<>(myPhaseStatistics.keySet());
+        moduleNames.addAll(myCounters.keySet());
+
+        boolean firstModule = true;
+        for (String moduleName : moduleNames) {
+            if (!firstModule) {
+                sb.append(",");
+            }
+            firstModule = false;
+
+            sb.append("\n    {\n      \"name\": ");
+            appendQuoted(sb, moduleName);
+            sb.append(",\n      \"phases\": {");
+
+            boolean firstPhase = true;
+            for (Map.Entry<Phase, PhaseStatistics> phaseEntry : myPhaseStatistics
+                    .getOrDefault(moduleName, Map.of()).entrySet()) {
+                PhaseStatistics statistics = phaseEntry.getValue();
+                if (!firstPhase) {
+                    sb.append(",");
+                }
+                firstPhase = false;
+
+                sb.append("\n        ");
+                appendQuoted(sb, phaseEntry.getKey().toString());
+                sb.append(": { \"count\": ").append(statistics.myCount);
+                sb.append(", \"elapsedNanos\": ").append(statistics.myElapsedNanos);
+                sb.append(", \"allocatedBytes\": ").append(statistics.myAllocatedBytes).append(" }");
+            }
+            sb.append("\n      },\n      \"counters\": {");
+
+            boolean firstCounter = true;
+            for (Map.Entry<String, Long> counterEntry : myCounters.getOrDefault(moduleName, Map.of()).entrySet()) {
+                if (!firstCounter) {
+                    sb.append(",");
+                }
+                firstCounter = false;
+
+                sb.append("\n        ");
+                appendQuoted(sb, counterEntry.getKey());
+                sb.append(": ").append(counterEntry.getValue());
+            }
+            sb.append("\n      }\n    }");
+        }
+        sb.append("\n  ]\n}\n");
+
+        return sb.toString();
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that appends {@code s} as a {@code JSON} string.
+     * </p>
+     *
+     * @param sb
+     *            The string builder.
+     * @param s
+     *            The string to append.
+     */
+    private static void appendQuoted(StringBuilder sb, String s) {
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                sb.append('\\').append(c);
+            } else if (c < 0x20) {
+                sb.append(String.format("\\u%04x", (int) c));
+            } else {
+                sb.append(c);
+            }
+        }
+        sb.append('"');
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the number of bytes the current thread has allocated so far.
+     * </p>
+     *
+     * @return The number of allocated bytes or {@code 0} if the {@code JVM} can't tell us.
+     */
+    private static long getCurrentThreadAllocatedBytes() {
+        if (THREAD_MX_BEAN == null) {
+            return 0;
+        }
+
+        return THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the bean we use to find out how many bytes a thread has allocated.
+     * </p>
+     *
+     * @return The bean or {@code null} if the {@code JVM} doesn't support allocation tracking.
+     */
+    private static com.sun.management.ThreadMXBean getThreadMXBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+            if (sunBean.isThreadAllocatedMemorySupported() && sunBean.isThreadAllocatedMemoryEnabled()) {
+                return sunBean;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * <p>
+     * An helper method that adds the results of a completed phase to our statistics.
+     * </p>
+     *
+     * @param moduleName
+     *            Name of the module.
+     * @param phase
+     *            The compiler phase.
+     * @param elapsedNanos
+     *            The time spent in the phase.
+     * @param allocatedBytes
+     *            The number of bytes allocated during the phase.
+     */
+    private synchronized void recordPhase(String moduleName, Phase phase, long elapsedNanos, long allocatedBytes) {
+        PhaseStatistics statistics = myPhaseStatistics.computeIfAbsent(moduleName, k -> new EnumMap<>(Phase.class))
+                .computeIfAbsent(phase, k -> new PhaseStatistics());
+        statistics.myCount++;
+        statistics.myElapsedNanos += elapsedNanos;
+        statistics.myAllocatedBytes += allocatedBytes;
+    }
+
+    /**
+     * <p>
+     * An helper method that starts timing the specified phase for the specified module on the current thread.
+     * </p>
+     *
+     * @param moduleName
+     *            Name of the module.
+     * @param phase
+     *            The compiler phase.
+     *
+     * @return A timer for the phase.
+     */
+    private PhaseTimer startPhase(String moduleName, Phase phase) {
+        if (!myIsEnabledFlag) {
+            return NO_OP_TIMER;
+        }
+
+        return new PhaseTimer(this, moduleName, phase);
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A timer for a single run of a compiler phase. Stopping it records the elapsed time and the bytes allocated by the
+     * current thread since it was started.
+     * </p>
+     */
+    private static class PhaseTimer {
+
+        /**
+         * <p>
+         * The {@code JFR} event for this phase.
+         * </p>
+         */
+        private final CompilerPhaseEvent myEvent;
+
+        /**
+         * <p>
+         * The metrics object to record the results in. This is {@code null} if we aren't collecting metrics.
+         * </p>
+         */
+        private final CompilerMetrics myMetrics;
+
+        /**
+         * <p>
+         * Name of the module.
+         * </p>
+         */
+        private final String myModuleName;
+
+        /**
+         * <p>
+         * The compiler phase.
+         * </p>
+         */
+        private final Phase myPhase;
+
+        /**
+         * <p>
+         * The number of bytes the thread had allocated when we started.
+         * </p>
+         */
+        private final long myStartAllocatedBytes;
+
+        /**
+         * <p>
+         * The time when we started.
+         * </p>
+         */
+        private final long myStartTime;
+
+        /**
+         * <p>
+         * This starts timing the specified phase.
+         * </p>
+         *
+         * @param metrics
+         *            The metrics object to record the results in.
+         * @param moduleName
+         *            Name of the module.
+         * @param phase
+         *            The compiler phase.
+         */
+        private PhaseTimer(CompilerMetrics metrics, String moduleName, Phase phase) {
+            myMetrics = metrics;
+            myModuleName = moduleName;
+            myPhase = phase;
+
+            if (myMetrics != null) {
+                myEvent = new CompilerPhaseEvent();
+                myEvent.begin();
+                myStartAllocatedBytes = getCurrentThreadAllocatedBytes();
+                myStartTime = System.nanoTime();
+            } else {
+                myEvent = null;
+                myStartAllocatedBytes = 0;
+                myStartTime = 0;
+            }
+        }
+
+        /**
+         * <p>
+         * This method stops the timer and records the results.
+         * </p>
+         */
+        final void stop() {
+            if (myMetrics != null) {
+                long elapsedNanos = System.nanoTime() - myStartTime;
+                long allocatedBytes = getCurrentThreadAllocatedBytes() - myStartAllocatedBytes;
+                myMetrics.recordPhase(myModuleName, myPhase, elapsedNanos, allocatedBytes);
+
+                myEvent.end();
+                if (myEvent.shouldCommit()) {
+                    myEvent.module = myModuleName;
+                    myEvent.phase = myPhase.toString();
+                    myEvent.allocatedBytes = allocatedBytes;
+                    myEvent.commit();
+                }
+            }
+        }
+
+    }
+
+    /**
+     * <p>
+     * The accumulated statistics for a compiler phase.
+     * </p>
+     */
+    private static class PhaseStatistics {
+
+        /**
+         * <p>
+         * The total number of bytes allocated.
+         * </p>
+         */
+        private long myAllocatedBytes;
+
+        /**
+         * <p>
+         * The number of times we ran the phase.
+         * </p>
+         */
+        private int myCount;
+
+        /**
+         * <p>
+         * The total time spent.
+         * </p>
+         */
+        private long myElapsedNanos;
+
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * CompilerPhaseEvent.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>
+ * A {@code Java Flight Recorder} event that is emitted every time a module completes one of the phases tracked by
+ * {@link CompilerMetrics}.
+ * </p>
+ *
+ * @version 1.0
+ */
+@Name("edu.clemson.rsrg.CompilerPhase")
+@Label("Compiler Phase")
+@Category("RESOLVE Compiler")
+@Description("A compiler phase for a single module")
+public class CompilerPhaseEvent extends Event {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of bytes allocated by the thread during the phase.
+     * </p>
+     */
+    @Label("Allocated Bytes")
+    @DataAmount
+    long allocatedBytes;
+
+    /**
+     * <p>
+     * Name of the module.
+     * </p>
+     */
+    @Label("Module")
+    String module;
+
+    /**
+     * <p>
+     * Name of the compiler phase.
+     * </p>
+     */
+    @Label("Phase")
+    String phase;
+
+}
@@ -14,6 +14,7 @@ package edu.clemson.rsrg.init.output;
 
 import edu.clemson.rsrg.astoutput.GenerateGraphvizModel;
 import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.misc.STGroupCache;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
@@ -32,10 +33,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Date;
-import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
-import org.stringtemplate.v4.STGroupFile;
 import org.stringtemplate.v4.StringRenderer;
 
 /**
@@ -54,6 +55,13 @@ public class FileOutputListener implements OutputListener {
     // Member Fields
     // ===========================================================
 
+    /**
+     * <p>
+     * String template groups for the {@code AST} {@code Graphviz} models.
+     * </p>
+     */
+    private final STGroup myASTOutputSTGroup;
+
     /**
      * <p>
      * This is the status handler for the RESOLVE compiler.
@@ -61,6 +69,27 @@ public class FileOutputListener implements OutputListener {
      */
     private final StatusHandler myStatusHandler;
 
+    /**
+     * <p>
+     * The output files that are currently open and waiting for more results to be streamed into them.
+     * </p>
+     */
+    private final Map<String, StreamingOutputFile> myOpenOutputFiles;
+
+    /**
+     * <p>
+     * String template groups for the automated prover results.
+     * </p>
+     */
+    private final STGroup myProverOutputSTGroup;
+
+    /**
+     * <p>
+     * String template groups for the {@code VC Generator} results.
+     * </p>
+     */
+    private final STGroup myVCGenOutputSTGroup;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -74,7 +103,11 @@ public class FileOutputListener implements OutputListener {
      *            The status handler for the RESOLVE compiler.
      */
     public FileOutputListener(StatusHandler handler) {
+        myASTOutputSTGroup = STGroupCache.getGroup("templates/ASTOutput.stg");
         myStatusHandler = handler;
+        myOpenOutputFiles = new HashMap<>();
+        myProverOutputSTGroup = STGroupCache.getGroup("templates/proverOutput.stg", String.class, new StringRenderer());
+        myVCGenOutputSTGroup = STGroupCache.getGroup("templates/VCGenOutput.stg");
     }
 
     // ===========================================================
@@ -83,17 +116,113 @@ public class FileOutputListener implements OutputListener {
 
     /**
      * <p>
-     * This method outputs the provided {@code Graphviz} model generated from the {@link GenerateGraphvizModel}.
+     * This method indicates that the {@link VCGenerator} has completed all the proof rule applications for an
+     * {@link AssertiveCodeBlock} and all of its {@link VerificationCondition VerificationConditions} have been sent
+     * through {@link #vcGenerated(String, VerificationCondition)}.
      * </p>
      *
      * @param outputFileName
      *            A name for the output file.
-     * @param graphvizModel
-     *            The inner {@code AST} represented in a {@code GraphViz} file format.
+     * @param block
+     *            The completed {@link AssertiveCodeBlock}.
      */
     @Override
-    public final void astGraphvizModelResult(String outputFileName, String graphvizModel) {
-        writeToFile(outputFileName + "_ModuleDec.gv", graphvizModel);
+    public final void assertiveCodeBlockCompleted(String outputFileName, AssertiveCodeBlock block) {
+        // Flush what we have so far, so the VCs for this block make it to disk
+        // even if something goes wrong with a later block.
+        StreamingOutputFile outputFile = myOpenOutputFiles.get(outputFileName + ".asrt");
+        if (outputFile != null) {
+            outputFile.flush();
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates that the {@link VCGenerator} is about to send the final
+     * {@link VerificationCondition VerificationConditions} for an {@link AssertiveCodeBlock}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param block
+     *            The {@link AssertiveCodeBlock} whose {@code VCs} are about to be sent.
+     */
+    @Override
+    public final void assertiveCodeBlockStarted(String outputFileName, AssertiveCodeBlock block) {
+        // Nothing to do here. The VCs are written as they are sent to us.
+    }
+
+    /**
+     * <p>
+     * This method indicates that the {@link GenerateGraphvizModel} has sent all the nodes and edges for a module's
+     * {@code AST}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     */
+    @Override
+    public final void astGraphvizModelCompleted(String outputFileName) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.remove(outputFileName + "_ModuleDec.gv");
+        if (outputFile != null) {
+            outputFile.write(myASTOutputSTGroup.getInstanceOf("outputGraphvizGVFileFooter").render());
+            outputFile.close();
+        }
+    }
+
+    /**
+     * <p>
+     * This method outputs a node or an edge as soon as it is generated by the {@link GenerateGraphvizModel}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param entry
+     *            A node or an edge in {@code GraphViz} file format.
+     */
+    @Override
+    public final void astGraphvizModelEntry(String outputFileName, String entry) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.get(outputFileName + "_ModuleDec.gv");
+        if (outputFile != null) {
+            // Indent the entry so it lines up with the header
+            outputFile.write("    ");
+            outputFile.writeEntry(entry);
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates that the {@link GenerateGraphvizModel} is about to start sending the nodes and edges for a
+     * module's {@code AST}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param moduleName
+     *            Name of the module whose {@code AST} we are exporting.
+     */
+    @Override
+    public final void astGraphvizModelStarted(String outputFileName, String moduleName) {
+        StreamingOutputFile outputFile = openOutputFile(outputFileName + "_ModuleDec.gv");
+        if (outputFile != null) {
+            outputFile.write(myASTOutputSTGroup.getInstanceOf("outputGraphvizGVFileHeader")
+                    .add("moduleName", moduleName).render());
+        }
+    }
+
+    /**
+     * <p>
+     * This method outputs the metrics collected for each of the compiler phases.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param metricsJSON
+     *            The metrics in {@code JSON} format.
+     */
+    @Override
+    public final void compilerMetricsResult(String outputFileName, String metricsJSON) {
+        writeToFile(outputFileName + "_Metrics.json", metricsJSON);
     }
 
     /**
@@ -132,8 +261,47 @@ public class FileOutputListener implements OutputListener {
 
     /**
      * <p>
-     * This method outputs the provided {@link VerificationCondition VerificationConditions} and/or raw output result
-     * from the {@link GeneralPurposeProver}.
+     * This method indicates that the {@link GeneralPurposeProver} is done proving all the {@code VCs} for a file and
+     * all of its verbose output has been sent through {@link #nProverDetails(String, String)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param totalTime
+     *            The wall-clock time spent proving the {@code VCs} in ms.
+     */
+    @Override
+    public final void nProverCompleted(String outputFileName, long totalTime) {
+        completeProofFile(outputFileName + ".gp.proof", totalTime);
+    }
+
+    /**
+     * <p>
+     * This method outputs the next part of the verbose output with how the {@link GeneralPurposeProver} attempted to
+     * prove the {@code VCs} for a file.
+     * </p>
+     *
+     * <p>
+     * <em>Note:</em> The verbose output goes after the footer with the prover results, so we store it in a temporary
+     * file until the {@link GeneralPurposeProver} is done and only keep the current part in memory.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param details
+     *            The next part of the verbose output generated by the {@link GeneralPurposeProver}.
+     */
+    @Override
+    public final void nProverDetails(String outputFileName, String details) {
+        StreamingOutputFile detailsFile = myOpenOutputFiles.get(outputFileName + ".gp.proof.details");
+        if (detailsFile != null) {
+            detailsFile.writeEntry(details);
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates that the {@link GeneralPurposeProver} is about to start proving {@code VCs} for a file.
      * </p>
      *
      * @param inputFileName
@@ -144,157 +312,258 @@ public class FileOutputListener implements OutputListener {
      *            The prover setting for the amount of time that can be spent on each VC.
      * @param numTries
      *            The prover setting for how many unproved VCs we can have before halting.
-     * @param results
-     *            A list containing the prover results for each VC.
+     */
+    @Override
+    public final void nProverStarted(String inputFileName, String outputFileName, long timeOut, int numTries) {
+        StreamingOutputFile outputFile = openOutputFile(outputFileName + ".gp.proof");
+        if (outputFile != null) {
+            // String template to hold the prover settings
+            ST model = myProverOutputSTGroup.getInstanceOf("outputProofFileHeader").add("fileName", inputFileName)
+                    .add("dateGenerated", new Date()).add("proverName", "General Purpose Prover")
+                    .add("timeOut", timeOut).add("numTries", numTries);
+            outputFile.write(model.render());
+
+            // Temporary file for the verbose output
+            openTemporaryFile(outputFileName + ".gp.proof.details");
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates that the {@code CCProver} is done proving all the {@code VCs} for a file and every result
+     * and its details have been sent through {@link #vcResult(String, boolean, PerVCProverModel, Metrics)} and
+     * {@link #proverDetails(String, String)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
      * @param totalTime
-     *            Total time spent on proving this file.
-     * @param verboseOutput
-     *            The verbose output string generated by the {@link GeneralPurposeProver}.
+     *            The wall-clock time spent proving the {@code VCs} in ms.
+     */
+    @Override
+    public final void proverCompleted(String outputFileName, long totalTime) {
+        completeProofFile(outputFileName + ".cc.proof", totalTime);
+    }
+
+    /**
+     * <p>
+     * This method outputs the details on how the {@code CCProver} attempted to prove a {@code VC}.
+     * </p>
+     *
+     * <p>
+     * <em>Note:</em> Like {@link #nProverDetails(String, String)}, the details are stored in a temporary file until
+     * the {@code CCProver} is done.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param details
+     *            The details on how the {@code CCProver} attempted to prove the {@code VC}.
+     */
+    @Override
+    public final void proverDetails(String outputFileName, String details) {
+        StreamingOutputFile detailsFile = myOpenOutputFiles.get(outputFileName + ".cc.proof.details");
+        if (detailsFile != null) {
+            detailsFile.writeEntry(details);
+        }
+    }
+
+    /**
+     * <p>
+     * This method indicates that the {@code CCProver} is about to start proving {@code VCs} for a file.
+     * </p>
+     *
+     * @param inputFileName
+     *            Name of the {@link ResolveFile} we are generating proofs.
+     * @param outputFileName
+     *            A name for the output file.
+     * @param timeOut
+     *            The prover setting for how long we can spend on each {@code VC}.
+     * @param numTries
+     *            The prover setting for how many unproved VCs we can have before halting.
+     */
+    @Override
+    public final void proverStarted(String inputFileName, String outputFileName, long timeOut, int numTries) {
+        StreamingOutputFile outputFile = openOutputFile(outputFileName + ".cc.proof");
+        if (outputFile != null) {
+            // String template to hold the prover settings
+            ST model = myProverOutputSTGroup.getInstanceOf("outputProofFileHeader").add("fileName", inputFileName)
+                    .add("dateGenerated", new Date()).add("proverName", "Congruence Closure Based Prover")
+                    .add("timeOut", timeOut).add("numTries", numTries);
+            outputFile.write(model.render());
+
+            // Temporary file for the verbose output
+            openTemporaryFile(outputFileName + ".cc.proof.details");
+        }
+    }
+
+    /**
+     * <p>
+     * This method outputs a final {@link VerificationCondition} generated by the {@link VCGenerator}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param vc
+     *            A final {@link VerificationCondition}.
      */
     @Override
-    public final void nProverResult(String inputFileName, String outputFileName, long timeOut, int numTries,
-            List<VCProverResult> results, long totalTime, String verboseOutput) {
-        StringBuilder sb = new StringBuilder();
-
-        // String template to hold the VC generation details
-        STGroup group = new STGroupFile("templates/proverOutput.stg");
-        group.registerRenderer(String.class, new StringRenderer());
-        ST model = group.getInstanceOf("outputProofFile").add("fileName", inputFileName)
-                .add("dateGenerated", new Date()).add("proverName", "General Purpose Prover").add("timeOut", timeOut)
-                .add("numTries", numTries).add("totalTime", totalTime);
-
-        // Store the results for each VC
-        int numProved = 0;
-        int numUnproved = 0;
-        for (VCProverResult result : results) {
+    public final void vcGenerated(String outputFileName, VerificationCondition vc) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.get(outputFileName + ".asrt");
+        if (outputFile != null) {
             // Create a model for adding all the details
             // associated with this VC.
-            ST vcProofModel = group.getInstanceOf("outputVCProofResult");
-            vcProofModel.add("vcNum", result.getVerificationCondition().getName());
-            vcProofModel.add("isProved", result.isProved());
-            vcProofModel.add("wasSkipped", result.getWasSkippedFlag());
-            vcProofModel.add("timedOut", result.getTimedOutFlag());
-            vcProofModel.add("time", result.getProofTime());
+            LocationDetailModel detailModel = vc.getLocationDetailModel();
+            ST vcModel = myVCGenOutputSTGroup.getInstanceOf("outputVC");
+            vcModel.add("vcNum", vc.getName());
 
-            // Increment count
-            if (result.isProved()) {
-                numProved++;
+            // Add additional detail if this VC has impacting reduction
+            if (vc.getHasImpactingReductionFlag()) {
+                vcModel.add("hasImpactingReduction", true);
+            }
+
+            // Warn the user if are missing the LocationDetailModel
+            if (detailModel != null) {
+                vcModel.add("location", detailModel.getDestinationLoc());
+                vcModel.add("locationDetail", detailModel.getDetailMessage());
             } else {
-                numUnproved++;
+                myStatusHandler.warning(vc.getLocation(), "[FileOutputListener] VC " + vc.getName()
+                        + " is missing information about how this VC got generated.");
             }
 
-            // Add the VC to the model
-            model.add("vcs", vcProofModel.render());
-        }
+            // Output the associated sequent
+            Sequent sequent = vc.getSequent();
+            ST sequentModel = myVCGenOutputSTGroup.getInstanceOf("outputSequent");
+            sequentModel.add("consequents", sequent.getConcequents());
+            sequentModel.add("antecedents", sequent.getAntecedents());
 
-        // Store the number of proved and unproved VCs
-        model.add("numProved", numProved);
-        model.add("numUnproved", numUnproved);
+            // Add this sequent to our vc model
+            vcModel.add("sequent", sequentModel.render());
 
-        // Append the VC proof details from the model
-        sb.append(model.render());
+            // Write the VC to file
+            outputFile.writeEntry(vcModel.render());
+        }
+    }
 
-        // Append VC details with any verbose output
-        sb.append(verboseOutput);
+    /**
+     * <p>
+     * This method indicates that the {@link VCGenerator} is done generating all the {@code VCs} for a file and all of
+     * its verbose output has been sent through {@link #vcGeneratorDetails(String, String)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     */
+    @Override
+    public final void vcGeneratorCompleted(String outputFileName) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.remove(outputFileName + ".asrt");
+        StreamingOutputFile detailsFile = myOpenOutputFiles.remove(outputFileName + ".asrt.details");
+        if (detailsFile != null) {
+            detailsFile.close();
+
+            // Append VC details with any verbose output
+            if (outputFile != null) {
+                outputFile.writeFileContents(detailsFile);
+            }
+            detailsFile.delete();
+        }
 
-        // Output the results to file
-        writeToFile(outputFileName + ".gp.proof", sb.toString());
+        if (outputFile != null) {
+            outputFile.close();
+        }
     }
 
     /**
      * <p>
-     * This method outputs the provided results from the {@code CCProver}.
+     * This method outputs the next part of the verbose output with how the {@link VCGenerator} generated the
+     * {@code VCs} for a file.
+     * </p>
+     *
+     * <p>
+     * <em>Note:</em> The verbose output goes after all the {@code VCs}, so we store it in a temporary file until the
+     * {@link VCGenerator} is done and only keep the current part in memory.
      * </p>
      *
-     * @param inputFileName
-     *            Name of the {@link ResolveFile} we are generating proofs.
      * @param outputFileName
      *            A name for the output file.
+     * @param details
+     *            The next part of the verbose output generated by the {@link VCGenerator}.
      */
     @Override
-    public final void proverResult(String inputFileName, String outputFileName) {
-        throw new UnsupportedOperationException("Needs to be implemented!");
+    public final void vcGeneratorDetails(String outputFileName, String details) {
+        StreamingOutputFile detailsFile = myOpenOutputFiles.get(outputFileName + ".asrt.details");
+        if (detailsFile != null) {
+            detailsFile.writeEntry(details);
+        }
     }
 
     /**
      * <p>
-     * This method outputs the provided {@link AssertiveCodeBlock AssertiveCodeBlocks} and/or raw output result from the
-     * {@link VCGenerator}.
+     * This method indicates that the {@link VCGenerator} is about to start generating {@code VCs} for a file.
      * </p>
      *
      * @param inputFileName
      *            Name of the {@link ResolveFile} we are generating VCs for.
      * @param outputFileName
      *            A name for the output file.
-     * @param blocks
-     *            A list of final {@link AssertiveCodeBlock AssertiveCodeBlocks}.
-     * @param verboseOutput
-     *            The verbose output string generated by the {@link VCGenerator}.
      */
     @Override
-    public final void vcGeneratorResult(String inputFileName, String outputFileName, List<AssertiveCodeBlock> blocks,
-            String verboseOutput) {
-        StringBuilder sb = new StringBuilder();
-
-        // String template to hold the VC generation details
-        STGroup group = new STGroupFile("templates/VCGenOutput.stg");
-        ST model = group.getInstanceOf("outputVCGenFile").add("fileName", inputFileName).add("dateGenerated",
-                new Date());
-
-        // Add the VC output in human readable format
-        for (AssertiveCodeBlock block : blocks) {
-            // Obtain the final list of vcs
-            List<VerificationCondition> vcs = block.getVCs();
-            for (VerificationCondition vc : vcs) {
-                // Create a model for adding all the details
-                // associated with this VC.
-                LocationDetailModel detailModel = vc.getLocationDetailModel();
-                ST vcModel = group.getInstanceOf("outputVC");
-                vcModel.add("vcNum", vc.getName());
-
-                // Add additional detail if this VC has impacting reduction
-                if (vc.getHasImpactingReductionFlag()) {
-                    vcModel.add("hasImpactingReduction", true);
-                }
-
-                // Warn the user if are missing the LocationDetailModel
-                if (detailModel != null) {
-                    vcModel.add("location", detailModel.getDestinationLoc());
-                    vcModel.add("locationDetail", detailModel.getDetailMessage());
-                } else {
-                    myStatusHandler.warning(vc.getLocation(), "[FileOutputListener] VC " + vc.getName()
-                            + " is missing information about how this VC got generated.");
-                }
-
-                // Output the associated sequent
-                Sequent sequent = vc.getSequent();
-                ST sequentModel = group.getInstanceOf("outputSequent");
-                sequentModel.add("consequents", sequent.getConcequents());
-                sequentModel.add("antecedents", sequent.getAntecedents());
-
-                // Add this sequent to our vc model
-                vcModel.add("sequent", sequentModel.render());
-
-                // Add the VC to the model
-                model.add("vcs", vcModel.render());
-            }
+    public final void vcGeneratorStarted(String inputFileName, String outputFileName) {
+        StreamingOutputFile outputFile = openOutputFile(outputFileName + ".asrt");
+        if (outputFile != null) {
+            // String template to hold the VC generation details
+            ST model = myVCGenOutputSTGroup.getInstanceOf("outputVCGenFileHeader").add("fileName", inputFileName)
+                    .add("dateGenerated", new Date());
+            outputFile.write(model.render());
+
+            // Temporary file for the verbose output
+            openTemporaryFile(outputFileName + ".asrt.details");
         }
+    }
 
-        // Append the generated VC details from the model
-        sb.append(model.render());
+    /**
+     * <p>
+     * This method outputs the result of proving a {@link VerificationCondition} using the
+     * {@link GeneralPurposeProver}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param result
+     *            The prover result for a {@code VC}.
+     */
+    @Override
+    public final void vcProverResult(String outputFileName, VCProverResult result) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.get(outputFileName + ".gp.proof");
+        if (outputFile != null) {
+            // Create a model for adding all the details
+            // associated with this VC.
+            ST vcProofModel = myProverOutputSTGroup.getInstanceOf("outputVCProofResult");
+            vcProofModel.add("vcNum", result.getVerificationCondition().getName());
+            vcProofModel.add("isProved", result.isProved());
+            vcProofModel.add("wasSkipped", result.getWasSkippedFlag());
+            vcProofModel.add("timedOut", result.getTimedOutFlag());
+            vcProofModel.add("time", result.getProofTime());
 
-        // Append VC details with any verbose output
-        sb.append(verboseOutput);
+            // Increment count
+            if (result.isProved()) {
+                outputFile.incrementNumProved();
+            } else {
+                outputFile.incrementNumUnproved();
+            }
 
-        // Output the results to file
-        writeToFile(outputFileName + ".asrt", sb.toString());
+            // Write the result to file
+            outputFile.writeEntry(vcProofModel.render());
+        }
     }
 
     /**
      * <p>
-     * This method outputs the prover results for a given {@code VC}.
+     * This method outputs the {@code CCProver} results for a given {@code VC}.
      * </p>
      *
+     * @param outputFileName
+     *            A name for the output file.
      * @param proved
      *            {@code true} if the {@code VC} was proved, {@code false} otherwise.
      * @param finalModel
@@ -303,14 +572,132 @@ public class FileOutputListener implements OutputListener {
      *            The prover generated metrics.
      */
     @Override
-    public final void vcResult(boolean proved, PerVCProverModel finalModel, Metrics m) {
-        throw new UnsupportedOperationException("Needs to be implemented!");
+    public final void vcResult(String outputFileName, boolean proved, PerVCProverModel finalModel, Metrics m) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.get(outputFileName + ".cc.proof");
+        if (outputFile != null) {
+            // Create a model for adding all the details
+            // associated with this VC.
+            ST vcProofModel = myProverOutputSTGroup.getInstanceOf("outputVCProofResult");
+            vcProofModel.add("vcNum", finalModel.getVCName());
+            vcProofModel.add("isProved", proved);
+            vcProofModel.add("wasSkipped", finalModel.getWasSkippedFlag());
+            vcProofModel.add("timedOut", finalModel.getTimedOutFlag());
+            vcProofModel.add("time", m.getProofDuration());
+
+            // Increment count
+            if (proved) {
+                outputFile.incrementNumProved();
+            } else {
+                outputFile.incrementNumUnproved();
+            }
+
+            // Write the result to file
+            outputFile.writeEntry(vcProofModel.render());
+        }
     }
 
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that writes the footer with the prover results to a proof file, appends the verbose output we
+     * stored in its temporary file and then closes it.
+     * </p>
+     *
+     * @param proofFileName
+     *            Name of the proof file.
+     * @param totalTime
+     *            The wall-clock time spent proving the {@code VCs} in ms.
+     */
+    private void completeProofFile(String proofFileName, long totalTime) {
+        StreamingOutputFile outputFile = myOpenOutputFiles.remove(proofFileName);
+        StreamingOutputFile detailsFile = myOpenOutputFiles.remove(proofFileName + ".details");
+        if (outputFile != null) {
+            // Store the number of proved and unproved VCs
+            ST model = myProverOutputSTGroup.getInstanceOf("outputProofFileFooter").add("totalTime", totalTime)
+                    .add("numProved", outputFile.getNumProved()).add("numUnproved", outputFile.getNumUnproved());
+            outputFile.write(model.render());
+        }
+
+        if (detailsFile != null) {
+            detailsFile.close();
+
+            // Append VC details with any verbose output
+            if (outputFile != null) {
+                outputFile.writeFileContents(detailsFile);
+            }
+            detailsFile.delete();
+        }
+
+        if (outputFile != null) {
+            outputFile.close();
+        }
+    }
+
+    /**
+     * <p>
+     * Opens the specified filename for streaming results into it. Any previously opened file with the same name is
+     * closed first.
+     * </p>
+     *
+     * @param outputFileName
+     *            Output filename.
+     *
+     * @return The opened file or {@code null} if we can't open it.
+     */
+    private StreamingOutputFile openOutputFile(String outputFileName) {
+        StreamingOutputFile outputFile = null;
+        try {
+            Path outputFilePath = Paths.get(outputFileName);
+            Charset charset = Charset.forName("UTF-8");
+
+            outputFile = new StreamingOutputFile(outputFileName, Files.newBufferedWriter(outputFilePath, charset));
+            StreamingOutputFile previousFile = myOpenOutputFiles.put(outputFileName, outputFile);
+            if (previousFile != null) {
+                previousFile.close();
+            }
+        } catch (IOException ioe) {
+            myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + outputFileName);
+        }
+
+        return outputFile;
+    }
+
+    /**
+     * <p>
+     * Opens a new temporary file for streaming results into it. Any previously opened file with the same name is
+     * closed and deleted first.
+     * </p>
+     *
+     * @param name
+     *            The name we use to look up this file in {@link #myOpenOutputFiles}.
+     *
+     * @return The opened file or {@code null} if we can't open it.
+     */
+    private StreamingOutputFile openTemporaryFile(String name) {
+        StreamingOutputFile outputFile = null;
+        try {
+            // Don't leave the file behind if the compilation is aborted before we get to delete it
+            Path tempFilePath = Files.createTempFile("resolve-", ".tmp");
+            tempFilePath.toFile().deleteOnExit();
+            Charset charset = Charset.forName("UTF-8");
+
+            outputFile = new StreamingOutputFile(tempFilePath.toString(),
+                    Files.newBufferedWriter(tempFilePath, charset));
+            StreamingOutputFile previousFile = myOpenOutputFiles.put(name, outputFile);
+            if (previousFile != null) {
+                previousFile.close();
+                previousFile.delete();
+            }
+        } catch (IOException ioe) {
+            myStatusHandler.error(null, "[FileOutputListener] Error while creating a temporary file for: " + name);
+        }
+
+        return outputFile;
+    }
+
     /**
      * <p>
      * Writes the content to the specified filename.
@@ -334,4 +721,188 @@ public class FileOutputListener implements OutputListener {
             myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + outputFileName);
         }
     }
+
+    // ===========================================================
+    // Private Classes
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper class for an output file that results are streamed into as soon as we receive them. Only the rendered
+     * text for the current entry is kept in memory.
+     * </p>
+     *
+     * @version 1.0
+     */
+    private class StreamingOutputFile {
+
+        /**
+         * <p>
+         * Output filename.
+         * </p>
+         */
+        private final String myFileName;
+
+        /**
+         * <p>
+         * The number of proved {@code VCs} written to this file.
+         * </p>
+         */
+        private int myNumProved;
+
+        /**
+         * <p>
+         * The number of unproved {@code VCs} written to this file.
+         * </p>
+         */
+        private int myNumUnproved;
+
+        /**
+         * <p>
+         * The buffered writer for this file.
+         * </p>
+         */
+        private final Writer myWriter;
+
+        /**
+         * <p>
+         * This creates a new streaming output file.
+         * </p>
+         *
+         * @param fileName
+         *            Output filename.
+         * @param writer
+         *            The buffered writer for this file.
+         */
+        StreamingOutputFile(String fileName, Writer writer) {
+            myFileName = fileName;
+            myNumProved = 0;
+            myNumUnproved = 0;
+            myWriter = writer;
+        }
+
+        /**
+         * <p>
+         * Closes the underlying writer.
+         * </p>
+         */
+        final void close() {
+            try {
+                myWriter.close();
+            } catch (IOException ioe) {
+                myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + myFileName);
+            }
+        }
+
+        /**
+         * <p>
+         * Deletes this file. This should only be called after it has been closed.
+         * </p>
+         */
+        final void delete() {
+            try {
+                Files.deleteIfExists(Paths.get(myFileName));
+            } catch (IOException ioe) {
+                myStatusHandler.error(null, "[FileOutputListener] Error while deleting file: " + myFileName);
+            }
+        }
+
+        /**
+         * <p>
+         * Flushes the underlying writer.
+         * </p>
+         */
+        final void flush() {
+            try {
+                myWriter.flush();
+            } catch (IOException ioe) {
+                myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + myFileName);
+            }
+        }
+
+        /**
+         * <p>
+         * Returns the number of proved {@code VCs} written to this file.
+         * </p>
+         *
+         * @return Number of proved {@code VCs}.
+         */
+        final int getNumProved() {
+            return myNumProved;
+        }
+
+        /**
+         * <p>
+         * Returns the number of unproved {@code VCs} written to this file.
+         * </p>
+         *
+         * @return Number of unproved {@code VCs}.
+         */
+        final int getNumUnproved() {
+            return myNumUnproved;
+        }
+
+        /**
+         * <p>
+         * Increments the number of proved {@code VCs}.
+         * </p>
+         */
+        final void incrementNumProved() {
+            myNumProved++;
+        }
+
+        /**
+         * <p>
+         * Increments the number of unproved {@code VCs}.
+         * </p>
+         */
+        final void incrementNumUnproved() {
+            myNumUnproved++;
+        }
+
+        /**
+         * <p>
+         * Writes the content to file.
+         * </p>
+         *
+         * @param outputString
+         *            Contents to be written in file.
+         */
+        final void write(String outputString) {
+            try {
+                myWriter.write(outputString);
+            } catch (IOException ioe) {
+                myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + myFileName);
+            }
+        }
+
+        /**
+         * <p>
+         * Writes the content of a new entry to file. Each entry is terminated by a new line.
+         * </p>
+         *
+         * @param outputString
+         *            Contents to be written in file.
+         */
+        final void writeEntry(String outputString) {
+            write(outputString);
+            write("\n");
+        }
+
+        /**
+         * <p>
+         * Writes the contents of another file to this file. The other file should already be closed.
+         * </p>
+         *
+         * @param otherFile
+         *            The file whose contents should be written to this file.
+         */
+        final void writeFileContents(StreamingOutputFile otherFile) {
+            try (Reader reader = Files.newBufferedReader(Paths.get(otherFile.myFileName), Charset.forName("UTF-8"))) {
+                reader.transferTo(myWriter);
+            } catch (IOException ioe) {
+                myStatusHandler.error(null, "[FileOutputListener] Error while writing to file: " + myFileName);
+            }
+        }
+    }
 }
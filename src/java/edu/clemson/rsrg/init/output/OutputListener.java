@@ -24,9 +24,6 @@ import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
 
-import java.util.List;
-import java.util.Map;
-
 /**
  * <p>
  * A listener that contains methods for retrieving compilation results from the compiler.
@@ -40,15 +37,78 @@ public interface OutputListener {
 
     /**
      * <p>
-     * This method outputs the provided {@code Graphviz} model generated from the {@link GenerateGraphvizModel}.
+     * This method indicates that the {@link VCGenerator} has completed all the proof rule applications for an
+     * {@link AssertiveCodeBlock} and all of its {@link VerificationCondition VerificationConditions} have been sent
+     * through {@link #vcGenerated(String, VerificationCondition)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param block
+     *            The completed {@link AssertiveCodeBlock}.
+     */
+    void assertiveCodeBlockCompleted(String outputFileName, AssertiveCodeBlock block);
+
+    /**
+     * <p>
+     * This method indicates that the {@link VCGenerator} is about to send the final
+     * {@link VerificationCondition VerificationConditions} for an {@link AssertiveCodeBlock}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param block
+     *            The {@link AssertiveCodeBlock} whose {@code VCs} are about to be sent.
+     */
+    void assertiveCodeBlockStarted(String outputFileName, AssertiveCodeBlock block);
+
+    /**
+     * <p>
+     * This method indicates that the {@link GenerateGraphvizModel} has sent all the nodes and edges for a module's
+     * {@code AST}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     */
+    void astGraphvizModelCompleted(String outputFileName);
+
+    /**
+     * <p>
+     * This method outputs a node or an edge as soon as it is generated by the {@link GenerateGraphvizModel}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param entry
+     *            A node or an edge in {@code GraphViz} file format.
+     */
+    void astGraphvizModelEntry(String outputFileName, String entry);
+
+    /**
+     * <p>
+     * This method indicates that the {@link GenerateGraphvizModel} is about to start sending the nodes and edges for a
+     * module's {@code AST}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param moduleName
+     *            Name of the module whose {@code AST} we are exporting.
+     */
+    void astGraphvizModelStarted(String outputFileName, String moduleName);
+
+    /**
+     * <p>
+     * This method outputs the metrics collected for each of the compiler phases.
      * </p>
      *
      * @param outputFileName
      *            A name for the output file.
-     * @param graphvizModel
-     *            The inner {@code AST} represented in a {@code GraphViz} file format.
+     * @param metricsJSON
+     *            The metrics in {@code JSON} format.
      */
-    void astGraphvizModelResult(String outputFileName, String graphvizModel);
+    void compilerMetricsResult(String outputFileName, String metricsJSON);
 
     /**
      * <p>
@@ -80,8 +140,34 @@ public interface OutputListener {
 
     /**
      * <p>
-     * This method outputs the provided {@link VerificationCondition VerificationConditions} and/or raw output result
-     * from the {@link GeneralPurposeProver}.
+     * This method indicates that the {@link GeneralPurposeProver} is done proving all the {@code VCs} for a file and
+     * all of its verbose output has been sent through {@link #nProverDetails(String, String)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param totalTime
+     *            The wall-clock time spent proving the {@code VCs} in ms.
+     */
+    void nProverCompleted(String outputFileName, long totalTime);
+
+    /**
+     * <p>
+     * This method outputs the next part of the verbose output with how the {@link GeneralPurposeProver} attempted to
+     * prove the {@code VCs} for a file. The first part describes the file and each of the following parts describes one
+     * {@code VC}, in the same order as the results were sent through {@link #vcProverResult(String, VCProverResult)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param details
+     *            The next part of the verbose output generated by the {@link GeneralPurposeProver}.
+     */
+    void nProverDetails(String outputFileName, String details);
+
+    /**
+     * <p>
+     * This method indicates that the {@link GeneralPurposeProver} is about to start proving {@code VCs} for a file.
      * </p>
      *
      * @param inputFileName
@@ -92,51 +178,122 @@ public interface OutputListener {
      *            The prover setting for the amount of time that can be spent on each VC.
      * @param numTries
      *            The prover setting for how many unproved VCs we can have before halting.
-     * @param results
-     *            A list containing the prover results for each VC.
+     */
+    void nProverStarted(String inputFileName, String outputFileName, long timeOut, int numTries);
+
+    /**
+     * <p>
+     * This method indicates that the {@code CCProver} is done proving all the {@code VCs} for a file and every result
+     * and its details have been sent through {@link #vcResult(String, boolean, PerVCProverModel, Metrics)} and
+     * {@link #proverDetails(String, String)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
      * @param totalTime
-     *            Total time spent on proving this file.
-     * @param verboseOutput
-     *            The verbose output string generated by the {@link GeneralPurposeProver}.
+     *            The wall-clock time spent proving the {@code VCs} in ms.
+     */
+    void proverCompleted(String outputFileName, long totalTime);
+
+    /**
+     * <p>
+     * This method outputs the details on how the {@code CCProver} attempted to prove a {@code VC}. The details are sent
+     * right after the result for the same {@code VC} was sent through
+     * {@link #vcResult(String, boolean, PerVCProverModel, Metrics)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param details
+     *            The details on how the {@code CCProver} attempted to prove the {@code VC}.
      */
-    void nProverResult(String inputFileName, String outputFileName, long timeOut, int numTries,
-            List<VCProverResult> results, long totalTime, String verboseOutput);
+    void proverDetails(String outputFileName, String details);
 
     /**
      * <p>
-     * This method outputs the provided results from the {@code CCProver}.
+     * This method indicates that the {@code CCProver} is about to start proving {@code VCs} for a file.
      * </p>
      *
      * @param inputFileName
      *            Name of the {@link ResolveFile} we are generating proofs.
      * @param outputFileName
      *            A name for the output file.
+     * @param timeOut
+     *            The prover setting for how long we can spend on each {@code VC}.
+     * @param numTries
+     *            The prover setting for how many unproved VCs we can have before halting.
      */
-    void proverResult(String inputFileName, String outputFileName);
+    void proverStarted(String inputFileName, String outputFileName, long timeOut, int numTries);
 
     /**
      * <p>
-     * This method outputs the provided {@link AssertiveCodeBlock AssertiveCodeBlocks} and/or raw output result from the
-     * {@link VCGenerator}.
+     * This method outputs a final {@link VerificationCondition} generated by the {@link VCGenerator}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param vc
+     *            A final {@link VerificationCondition}.
+     */
+    void vcGenerated(String outputFileName, VerificationCondition vc);
+
+    /**
+     * <p>
+     * This method indicates that the {@link VCGenerator} is done generating all the {@code VCs} for a file and all of
+     * its verbose output has been sent through {@link #vcGeneratorDetails(String, String)}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     */
+    void vcGeneratorCompleted(String outputFileName);
+
+    /**
+     * <p>
+     * This method outputs the next part of the verbose output with how the {@link VCGenerator} generated the
+     * {@code VCs} for a file. The first part describes the file and each of the following parts describes one
+     * {@link AssertiveCodeBlock}, in the same order as the blocks were completed.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param details
+     *            The next part of the verbose output generated by the {@link VCGenerator}.
+     */
+    void vcGeneratorDetails(String outputFileName, String details);
+
+    /**
+     * <p>
+     * This method indicates that the {@link VCGenerator} is about to start generating {@code VCs} for a file.
      * </p>
      *
      * @param inputFileName
      *            Name of the {@link ResolveFile} we are generating VCs for.
      * @param outputFileName
      *            A name for the output file.
-     * @param blocks
-     *            A list of final {@link AssertiveCodeBlock AssertiveCodeBlocks}.
-     * @param verboseOutput
-     *            The verbose output string generated by the {@link VCGenerator}.
      */
-    void vcGeneratorResult(String inputFileName, String outputFileName, List<AssertiveCodeBlock> blocks,
-            String verboseOutput);
+    void vcGeneratorStarted(String inputFileName, String outputFileName);
 
     /**
      * <p>
-     * This method outputs the prover results for a given {@code VC}.
+     * This method outputs the result of proving a {@link VerificationCondition} using the
+     * {@link GeneralPurposeProver}.
      * </p>
      *
+     * @param outputFileName
+     *            A name for the output file.
+     * @param result
+     *            The prover result for a {@code VC}.
+     */
+    void vcProverResult(String outputFileName, VCProverResult result);
+
+    /**
+     * <p>
+     * This method outputs the {@code CCProver} results for a given {@code VC}.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name for the output file.
      * @param proved
      *            {@code true} if the {@code VC} was proved, {@code false} otherwise.
      * @param finalModel
@@ -144,6 +301,6 @@ public interface OutputListener {
      * @param m
      *            The prover generated metrics.
      */
-    void vcResult(boolean proved, PerVCProverModel finalModel, Metrics m);
+    void vcResult(String outputFileName, boolean proved, PerVCProverModel finalModel, Metrics m);
 
 }
@@ -0,0 +1,317 @@
+/*
+ * AbstractProverPipeline.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.pipeline;
+
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * This is the abstract base class for all pipeline objects that attempt to prove the verification conditions (VCs)
+ * generated by the {@link VCGenPipeline}. The {@code VCs} are handed to the prover as soon as each assertive code
+ * block is completed, so a prover never needs all the {@code VCs} in a module at once.
+ * </p>
+ * <p>
+ * The life cycle of a prover pipeline is: {@link #startProving(ModuleIdentifier)}, followed by any number of calls to
+ * {@link #proveVCs(List)} and then a final call to {@link #process(ModuleIdentifier)} that outputs the results.
+ * {@link #stopProving()} must be called when we are done with the module, even if something went wrong before we got
+ * to {@link #process(ModuleIdentifier)}.
+ * </p>
+ * <p>
+ * The {@code VCs} are proved by a pool of worker threads while the {@link VCGenPipeline} is still generating the rest
+ * of the {@code VCs} in the module. At most a bounded number of {@code VCs} can be waiting to be proved at any time;
+ * once that limit is reached, the {@code VC} generation waits for the oldest {@code VC} to be proved. The results are
+ * always output in the order the {@code VCs} were generated.
+ * </p>
+ *
+ * @param <R>
+ *            The type of result the prover returns for each {@code VC}.
+ *
+ * @version 1.0
+ */
+public abstract class AbstractProverPipeline<R> extends AbstractPipeline {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The {@link System#nanoTime()} when the last result for the current module was recorded.
+     * </p>
+     */
+    private long myLastResultTime;
+
+    /**
+     * <p>
+     * The maximum number of {@code VCs} that can be waiting to be proved or to have their results output.
+     * </p>
+     */
+    private int myMaxPendingVCs;
+
+    /**
+     * <p>
+     * The name of the module we are currently proving.
+     * </p>
+     */
+    private String myModuleName;
+
+    /**
+     * <p>
+     * The results for the {@code VCs} that have been handed to the worker threads, in the order the {@code VCs} were
+     * generated.
+     * </p>
+     */
+    private final Deque<Future<R>> myPendingResults;
+
+    /**
+     * <p>
+     * The worker threads that prove the {@code VCs}.
+     * </p>
+     */
+    private ExecutorService myProverWorkers;
+
+    /**
+     * <p>
+     * The {@link System#nanoTime()} when we started proving the current module.
+     * </p>
+     */
+    private long myStartTime;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of {@code VCs} each worker thread can have waiting to be proved before we stop accepting new
+     * {@code VCs}.
+     * </p>
+     */
+    private static final int PENDING_VCS_PER_WORKER = 4;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper constructor that allow us to store the {@link CompileEnvironment} and {@link MathSymbolTableBuilder}
+     * from a class that inherits from {@code AbstractProverPipeline}.
+     * </p>
+     *
+     * @param ce
+     *            The current compilation environment.
+     * @param symbolTable
+     *            The symbol table.
+     */
+    protected AbstractProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+        super(ce, symbolTable);
+        myLastResultTime = 0;
+        myMaxPendingVCs = 0;
+        myModuleName = null;
+        myPendingResults = new ArrayDeque<>();
+        myProverWorkers = null;
+        myStartTime = 0;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method hands the final {@code VCs} from an assertive code block to the worker threads. Any results that are
+     * ready are output before we return.
+     * </p>
+     *
+     * @param vcs
+     *            A list of final {@link VerificationCondition VerificationConditions}.
+     */
+    public final void proveVCs(List<VerificationCondition> vcs) {
+        final CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        final String moduleName = myModuleName;
+        for (VerificationCondition vc : vcs) {
+            // Wait for the oldest VC if we have too many VCs waiting to be proved.
+            if (myPendingResults.size() >= myMaxPendingVCs) {
+                outputNextResult();
+            }
+
+            // Hand the vc to one of the workers
+            final Callable<R> proofTask = createProofTask(vc);
+            myPendingResults.addLast(myProverWorkers
+                    .submit(() -> metrics.timeCall(moduleName, CompilerMetrics.Phase.PROVE, proofTask)));
+        }
+
+        // Output any results that are already done.
+        while (!myPendingResults.isEmpty() && myPendingResults.peekFirst().isDone()) {
+            outputNextResult();
+        }
+    }
+
+    /**
+     * <p>
+     * This method must be implemented by all inherited classes to specify how to get ready for receiving {@code VCs}
+     * from the module pointed by the {@code currentTarget} module identifier. Implementations need to call
+     * {@link #startWorkers(String, String, int)}.
+     * </p>
+     *
+     * @param currentTarget
+     *            The module identifier
+     */
+    public abstract void startProving(ModuleIdentifier currentTarget);
+
+    /**
+     * <p>
+     * This method stops the worker threads and discards any results that haven't been output. It is safe to call this
+     * method more than once.
+     * </p>
+     */
+    public final void stopProving() {
+        if (myProverWorkers != null) {
+            myProverWorkers.shutdownNow();
+            myProverWorkers = null;
+        }
+        myPendingResults.clear();
+    }
+
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method must be implemented by all inherited classes to create the task that proves {@code vc} on one of
+     * the worker threads. The task can't depend on any state that changes after this method returns.
+     * </p>
+     *
+     * @param vc
+     *            A final {@link VerificationCondition}.
+     *
+     * @return A task that returns the result for {@code vc}.
+     */
+    protected abstract Callable<R> createProofTask(VerificationCondition vc);
+
+    /**
+     * <p>
+     * This method returns the wall-clock time from when we started the worker threads for the current module until its
+     * last result was recorded. Unlike the sum of the times spent on each {@code VC}, this doesn't grow with the number
+     * of worker threads.
+     * </p>
+     *
+     * @return The elapsed time in ms.
+     */
+    protected final long getElapsedTime() {
+        return TimeUnit.MILLISECONDS.convert(myLastResultTime - myStartTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * <p>
+     * This method must be implemented by all inherited classes to specify how to record and output the result for a
+     * {@code VC}. The results are passed to this method one at a time, in the order the {@code VCs} were generated.
+     * </p>
+     *
+     * @param result
+     *            The result returned by one of the tasks from {@link #createProofTask(VerificationCondition)}.
+     */
+    protected abstract void outputResult(R result);
+
+    /**
+     * <p>
+     * This method creates the worker threads for the module we are about to prove.
+     * </p>
+     *
+     * @param threadNamePrefix
+     *            The prefix for the worker thread names.
+     * @param moduleName
+     *            Name of the module we are about to prove.
+     * @param numWorkers
+     *            The number of worker threads.
+     */
+    protected final void startWorkers(String threadNamePrefix, String moduleName, int numWorkers) {
+        stopProving();
+
+        final String threadName = threadNamePrefix + "-" + moduleName;
+        myModuleName = moduleName;
+        myMaxPendingVCs = numWorkers * PENDING_VCS_PER_WORKER;
+        myStartTime = System.nanoTime();
+        myLastResultTime = myStartTime;
+        myProverWorkers = Executors.newFixedThreadPool(numWorkers, runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * <p>
+     * This method waits for the rest of the {@code VCs} to be proved, outputs their results and then stops the worker
+     * threads.
+     * </p>
+     */
+    protected final void waitForResults() {
+        try {
+            while (!myPendingResults.isEmpty()) {
+                outputNextResult();
+            }
+        } finally {
+            stopProving();
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that waits for the oldest pending {@code VC} to be proved and outputs its result.
+     * </p>
+     *
+     * @throws MiscErrorException
+     *             We were interrupted while waiting for the result.
+     */
+    private void outputNextResult() {
+        R result;
+        try {
+            result = myPendingResults.removeFirst().get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new MiscErrorException("Interrupted while waiting for the prover results.", ie);
+        } catch (ExecutionException ee) {
+            // Let the caller deal with whatever went wrong in the worker thread.
+            Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new MiscErrorException("Error while proving VCs.", cause);
+        }
+
+        outputResult(result);
+        myLastResultTime = System.nanoTime();
+    }
+
+}
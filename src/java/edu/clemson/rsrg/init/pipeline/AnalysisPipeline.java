@@ -14,6 +14,7 @@ package edu.clemson.rsrg.init.pipeline;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.Populator;
@@ -62,13 +63,25 @@ public class AnalysisPipeline extends AbstractPipeline {
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
         Populator populator = new Populator(mySymbolTable, myCompileEnvironment);
         myCompileEnvironment.setTypeGraph(populator.getTypeGraph());
-        TreeWalker.visit(populator, moduleDec);
+        myCompileEnvironment.getMetrics().time(currentTarget.toString(), CompilerMetrics.Phase.POPULATE,
+                () -> TreeWalker.visit(populator, moduleDec));
 
         if (myCompileEnvironment.flags.isFlagSet(Populator.FLAG_POPULATOR_DEBUG)) {
             StringBuffer sb = new StringBuffer();
             sb.append("\n---------------Current Type Graph---------------\n\n");
             sb.append(mySymbolTable.getTypeGraph().toString());
             sb.append("\n---------------End Current Type Graph---------------\n");
+            sb.append("\n---------------Symbol Query Cache---------------\n\n");
+            long hits = mySymbolTable.getQueryCacheHits();
+            long total = hits + mySymbolTable.getQueryCacheMisses();
+            sb.append("Hits: ");
+            sb.append(hits);
+            sb.append("/");
+            sb.append(total);
+            if (total > 0) {
+                sb.append(String.format(" (%.1f%%)", 100.0 * hits / total));
+            }
+            sb.append("\n");
             statusHandler.info(null, sb.toString());
         }
     }
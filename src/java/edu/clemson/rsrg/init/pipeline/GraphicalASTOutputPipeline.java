@@ -17,12 +17,12 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.astoutput.GenerateGraphvizModel;
 import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.misc.STGroupCache;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
-import org.stringtemplate.v4.STGroup;
-import org.stringtemplate.v4.STGroupFile;
+import java.util.List;
 
 /**
  * <p>
@@ -64,18 +64,35 @@ public class GraphicalASTOutputPipeline extends AbstractPipeline {
     public final void process(ModuleIdentifier currentTarget) {
         ModuleDec dec = myCompileEnvironment.getModuleAST(currentTarget);
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
-        STGroup group = new STGroupFile("templates/ASTOutput.stg");
 
-        // Generate DOT File (GV extension)
-        // Add all the nodes and edges
+        // Export only the subtrees rooted at declarations with this name
+        String subtreeRootName = null;
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_EXPORT_AST_ROOT)) {
+            subtreeRootName = myCompileEnvironment.flags.getFlagArgument(ResolveCompiler.FLAG_EXPORT_AST_ROOT, "name");
+        }
+
+        // Maximum depth of the exported nodes
+        int maxDepth = -1;
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_EXPORT_AST_DEPTH)) {
+            String depth = myCompileEnvironment.flags.getFlagArgument(ResolveCompiler.FLAG_EXPORT_AST_DEPTH, "depth");
+            maxDepth = Math.max(0, Integer.parseInt(depth));
+        }
+
+        // Let the listener objects know we are about to export the AST
         String moduleName = dec.getName().getName();
-        GenerateGraphvizModel twv = new GenerateGraphvizModel(group,
-                group.getInstanceOf("outputGraphvizGVFile").add("moduleName", moduleName));
+        List<OutputListener> listeners = myCompileEnvironment.getOutputListeners();
+        for (OutputListener listener : listeners) {
+            listener.astGraphvizModelStarted(moduleName, moduleName);
+        }
+
+        // Generate DOT File (GV extension)
+        // The nodes and edges are sent to the listener objects as we walk the AST
+        GenerateGraphvizModel twv = new GenerateGraphvizModel(STGroupCache.getGroup("templates/ASTOutput.stg"),
+                moduleName, listeners, subtreeRootName, maxDepth);
         TreeWalker.visit(twv, dec);
 
-        // Output the contents to listener objects
-        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
-            listener.astGraphvizModelResult(dec.getName().getName(), twv.getCompleteModel());
+        for (OutputListener listener : listeners) {
+            listener.astGraphvizModelCompleted(moduleName);
         }
 
         if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
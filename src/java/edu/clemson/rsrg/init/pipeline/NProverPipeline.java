@@ -17,24 +17,30 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
+import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
-import java.util.List;
+import java.util.concurrent.Callable;
 
 /**
  * <p>
  * This is pipeline that invokes an automated nprover to verify sequent verification conditions (VCs) using the symbol
  * table.
  * </p>
+ * <p>
+ * The {@code VCs} are proved by the worker threads from {@link AbstractProverPipeline} while the {@link VCGenPipeline}
+ * is still generating the rest of the {@code VCs} in the module. The results are always sent to the output listeners
+ * in the order the {@code VCs} were generated.
+ * </p>
  *
  * @author Yu-Shan Sun
  * @author Nicodemus Msafiri J. M.
  *
  * @version 1.0
  */
-public class NProverPipeline extends AbstractPipeline {
+public class NProverPipeline extends AbstractProverPipeline<VCProverResult> {
 
     // ===========================================================
     // Member Fields
@@ -42,10 +48,17 @@ public class NProverPipeline extends AbstractPipeline {
 
     /**
      * <p>
-     * The module's final list of verification conditions.
+     * The name of the module we are currently proving.
+     * </p>
+     */
+    private String myOutputFileName;
+
+    /**
+     * <p>
+     * The general purpose prover for the module we are currently proving.
      * </p>
      */
-    private final List<VerificationCondition> myVerificationConditions;
+    private GeneralPurposeProver myProver;
 
     // ===========================================================
     // Constructors
@@ -53,7 +66,7 @@ public class NProverPipeline extends AbstractPipeline {
 
     /**
      * <p>
-     * This generates a pipeline to generate VCs.
+     * This generates a pipeline to prove VCs.
      * </p>
      *
      * @param ce
@@ -61,9 +74,10 @@ public class NProverPipeline extends AbstractPipeline {
      * @param symbolTable
      *            The symbol table.
      */
-    public NProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable, List<VerificationCondition> vcs) {
+    public NProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
         super(ce, symbolTable);
-        myVerificationConditions = vcs;
+        myOutputFileName = null;
+        myProver = null;
     }
 
     // ===========================================================
@@ -75,10 +89,38 @@ public class NProverPipeline extends AbstractPipeline {
      */
     @Override
     public final void process(ModuleIdentifier currentTarget) {
+        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+
+        // Wait for the rest of the VCs to be proved
+        waitForResults();
+        myProver.finishProving();
+
+        // Output the contents to listener objects
+        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+            listener.nProverCompleted(myOutputFileName, getElapsedTime());
+        }
+
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("\n---------------End Proving VCs---------------\n");
+
+            statusHandler.info(null, sb.toString());
+        }
+
+        myOutputFileName = null;
+        myProver = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void startProving(ModuleIdentifier currentTarget) {
         ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
-        GeneralPurposeProver prover = new GeneralPurposeProver(myVerificationConditions,
-                mySymbolTable.getModuleScope(currentTarget), myCompileEnvironment);
+        myProver = new GeneralPurposeProver(mySymbolTable.getModuleScope(currentTarget), myCompileEnvironment);
+        myOutputFileName = moduleDec.getName().getName();
+        startWorkers("nProver", myOutputFileName, myProver.getNumWorkers());
         if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
             StringBuffer sb = new StringBuffer();
             sb.append("\n---------------Proving VCs---------------\n\n");
@@ -88,21 +130,42 @@ public class NProverPipeline extends AbstractPipeline {
             statusHandler.info(null, sb.toString());
         }
 
-        // Invoke the prover on all vcs.
-        prover.proveVCs();
-
-        // Output the contents to listener objects
+        // Let the listener objects know we are about to prove VCs
+        String detailsHeader = myProver.getVerboseModeHeader();
         for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
-            listener.nProverResult(myCompileEnvironment.getFile(currentTarget).toString(),
-                    moduleDec.getName().getName(), prover.getTimeout(), prover.getNumTriesBeforeHalting(),
-                    prover.getVCProverResults(), prover.getTotalElapsedTime(), prover.getVerboseModeOutput());
+            listener.nProverStarted(myCompileEnvironment.getFile(currentTarget).toString(), myOutputFileName,
+                    myProver.getTimeout(), myProver.getNumTriesBeforeHalting());
+            listener.nProverDetails(myOutputFileName, detailsHeader);
         }
+    }
 
-        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-            StringBuffer sb = new StringBuffer();
-            sb.append("\n---------------End Proving VCs---------------\n");
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
 
-            statusHandler.info(null, sb.toString());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Callable<VCProverResult> createProofTask(VerificationCondition vc) {
+        final GeneralPurposeProver prover = myProver;
+
+        return () -> prover.proveVC(vc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final void outputResult(VCProverResult result) {
+        // Like the results, we don't hold on to the proof details
+        String vcProofDetail = myProver.recordVCProverResult(result);
+        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+            listener.vcProverResult(myOutputFileName, result);
+            if (vcProofDetail != null) {
+                listener.nProverDetails(myOutputFileName, vcProofDetail);
+            }
         }
     }
+
 }
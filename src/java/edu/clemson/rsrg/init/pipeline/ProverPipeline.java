@@ -14,23 +14,50 @@ package edu.clemson.rsrg.init.pipeline;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.prover.CongruenceClassProver;
+import edu.clemson.rsrg.prover.output.PerVCProverModel;
 import edu.clemson.rsrg.prover.utilities.ImmutableVC;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
-import java.util.ArrayList;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.util.concurrent.Callable;
 
 /**
  * <p>
  * This is pipeline that invokes an automated prover to verify verification conditions (VCs) using the symbol table.
  * </p>
+ * <p>
+ * Just like the {@link NProverPipeline}, the {@code VCs} are proved by the worker threads from
+ * {@link AbstractProverPipeline} while the {@link VCGenPipeline} is still generating the rest of the {@code VCs} in the
+ * module and the results are sent to the output listeners in the order the {@code VCs} were generated.
+ * </p>
  *
  * @author Yu-Shan Sun
  *
  * @version 1.0
  */
-public class ProverPipeline extends AbstractPipeline {
+public class ProverPipeline extends AbstractProverPipeline<PerVCProverModel> {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The name of the module we are currently proving.
+     * </p>
+     */
+    private String myOutputFileName;
+
+    /**
+     * <p>
+     * The congruence closure prover for the module we are currently proving.
+     * </p>
+     */
+    private CongruenceClassProver myProver;
 
     // ===========================================================
     // Constructors
@@ -48,6 +75,8 @@ public class ProverPipeline extends AbstractPipeline {
      */
     public ProverPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
         super(ce, symbolTable);
+        myOutputFileName = null;
+        myProver = null;
     }
 
     // ===========================================================
@@ -59,10 +88,81 @@ public class ProverPipeline extends AbstractPipeline {
      */
     @Override
     public final void process(ModuleIdentifier currentTarget) {
+        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+
+        // Wait for the rest of the VCs to be proved
+        waitForResults();
+
+        // Output the contents to listener objects
+        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+            listener.proverCompleted(myOutputFileName, getElapsedTime());
+        }
+
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("\n---------------End Proving VCs---------------\n");
+
+            statusHandler.info(null, sb.toString());
+        }
+
+        myOutputFileName = null;
+        myProver = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void startProving(ModuleIdentifier currentTarget) {
         ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
-        CongruenceClassProver prover = new CongruenceClassProver(new ArrayList<ImmutableVC>(),
-                mySymbolTable.getModuleScope(currentTarget), myCompileEnvironment);
+        myProver = new CongruenceClassProver(mySymbolTable.getModuleScope(currentTarget), myCompileEnvironment);
+        myOutputFileName = moduleDec.getName().getName();
+        startWorkers("ccProver", myOutputFileName, myProver.getNumWorkers());
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            StringBuffer sb = new StringBuffer();
+            sb.append("\n---------------Proving VCs---------------\n\n");
+            sb.append("Proving VCs in: ");
+            sb.append(moduleDec.getName());
+
+            statusHandler.info(null, sb.toString());
+        }
+
+        // Let the listener objects know we are about to prove VCs
+        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+            listener.proverStarted(myCompileEnvironment.getFile(currentTarget).toString(), myOutputFileName,
+                    myProver.getTimeout(), myProver.getNumTriesBeforeHalting());
+        }
+    }
+
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final Callable<PerVCProverModel> createProofTask(VerificationCondition vc) {
+        final CongruenceClassProver prover = myProver;
+
+        return () -> prover.proveVC(vc);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected final void outputResult(PerVCProverModel result) {
+        // The prover decides which VCs to skip once it has failed to prove enough of them
+        PerVCProverModel recordedResult = myProver.recordVCResult(result);
+        boolean proved = recordedResult.getStatus() == ImmutableVC.STATUS.PROVED
+                || recordedResult.getStatus() == ImmutableVC.STATUS.FALSE_ASSUMPTION;
+        String vcProofDetail = recordedResult.toString();
+        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
+            listener.vcResult(myOutputFileName, proved, recordedResult, recordedResult.getMetrics());
+            listener.proverDetails(myOutputFileName, vcProofDetail);
+        }
     }
 
 }
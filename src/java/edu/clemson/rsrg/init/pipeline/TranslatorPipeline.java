@@ -15,14 +15,23 @@ package edu.clemson.rsrg.init.pipeline;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
 import edu.clemson.rsrg.translation.AbstractTranslator;
 import edu.clemson.rsrg.translation.targets.CTranslator;
 import edu.clemson.rsrg.translation.targets.JavaTranslator;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -62,33 +71,134 @@ public class TranslatorPipeline extends AbstractPipeline {
      */
     @Override
     public final void process(ModuleIdentifier currentTarget) {
-        ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
-        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
-
         // Check to see if the file is on the no translate list
         if (!AbstractTranslator.onNoTranslateList(currentTarget)) {
-            // Check to see if we are translating to Java
-            boolean isJavaTranslateFlagOn = myCompileEnvironment.flags.isFlagSet(JavaTranslator.JAVA_FLAG_TRANSLATE)
-                    || myCompileEnvironment.flags.isFlagSet(JavaTranslator.JAVA_FLAG_TRANSLATE_CLEAN);
-            if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                String messageString = "\n---------------Begin Translation---------------\n\n"
-                        + targetLanguageMessage(moduleDec.getName().getName(), isJavaTranslateFlagOn);
-
-                statusHandler.info(null, messageString);
-            }
+            outputTranslation(currentTarget, translate(currentTarget));
+        } else {
+            skipTranslation(currentTarget);
+        }
+    }
 
-            // Create the appropriate translator
-            AbstractTranslator translator;
-            if (isJavaTranslateFlagOn) {
-                translator = new JavaTranslator(mySymbolTable, myCompileEnvironment);
+    /**
+     * <p>
+     * This method translates a batch of modules that have already been analyzed. Each module is translated by its own
+     * {@link AbstractTranslator} on one of the worker threads, while the translations that are done are sent to the
+     * output listener objects on the calling thread. This means that the listener objects don't need to be
+     * thread-safe.
+     * </p>
+     * <p>
+     * A module that fails to translate doesn't stop the rest of the batch. The error is reported to the status handler
+     * and we move on to the next module.
+     * </p>
+     *
+     * @param targets
+     *            The modules we are translating.
+     *
+     * @throws MiscErrorException
+     *             We were interrupted while waiting for the translations.
+     */
+    public final void processAll(List<ModuleIdentifier> targets) {
+        // Modules on the no translate list are skipped as usual
+        List<ModuleIdentifier> translatedTargets = new ArrayList<>(targets.size());
+        for (ModuleIdentifier target : targets) {
+            if (!AbstractTranslator.onNoTranslateList(target)) {
+                translatedTargets.add(target);
             } else {
-                translator = new CTranslator(mySymbolTable, myCompileEnvironment);
+                skipTranslation(target);
             }
+        }
 
-            // Walk the AST and translate into the appropriate target source file
-            TreeWalker.visit(translator, moduleDec);
+        // Number of Workers
+        int numWorkers;
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_TRANSLATE_WORKERS)) {
+            numWorkers = Math.max(1, Integer.parseInt(
+                    myCompileEnvironment.flags.getFlagArgument(ResolveCompiler.FLAG_TRANSLATE_WORKERS, "numworkers")));
+        } else {
+            numWorkers = Runtime.getRuntime().availableProcessors();
+        }
+        numWorkers = Math.min(numWorkers, translatedTargets.size());
+
+        // Nothing to gain from a worker thread
+        if (numWorkers <= 1) {
+            for (ModuleIdentifier target : translatedTargets) {
+                AbstractTranslator translator;
+                try {
+                    translator = translate(target);
+                } catch (CompilerException e) {
+                    reportTranslationError(e);
+                    continue;
+                }
+
+                outputTranslation(target, translator);
+            }
+        } else {
+            AtomicInteger threadCount = new AtomicInteger();
+            ExecutorService translatorWorkers = Executors.newFixedThreadPool(numWorkers, runnable -> {
+                Thread thread = new Thread(runnable, "translator-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
 
-            // Output the contents to listener objects
+            try {
+                // Hand each module to one of the workers
+                CompletionService<AbstractTranslator> completionService = new ExecutorCompletionService<>(
+                        translatorWorkers);
+                Map<Future<AbstractTranslator>, ModuleIdentifier> pendingTranslations = new HashMap<>();
+                for (ModuleIdentifier target : translatedTargets) {
+                    pendingTranslations.put(completionService.submit(() -> translate(target)), target);
+                }
+
+                // Output the translations in the order they are done
+                while (!pendingTranslations.isEmpty()) {
+                    Future<AbstractTranslator> translation = completionService.take();
+                    ModuleIdentifier target = pendingTranslations.remove(translation);
+
+                    AbstractTranslator translator;
+                    try {
+                        translator = translation.get();
+                    } catch (ExecutionException ee) {
+                        // Let the caller deal with anything other than a compiler error in the worker thread.
+                        Throwable cause = ee.getCause();
+                        if (cause instanceof CompilerException) {
+                            reportTranslationError((CompilerException) cause);
+                            continue;
+                        } else if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        }
+                        throw new MiscErrorException("Error while translating modules.", cause);
+                    }
+
+                    outputTranslation(target, translator);
+                }
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new MiscErrorException("Interrupted while waiting for the translations.", ie);
+            } finally {
+                translatorWorkers.shutdownNow();
+            }
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that outputs the translated module to the output listener objects.
+     * </p>
+     *
+     * @param currentTarget
+     *            The module we translated.
+     * @param translator
+     *            The translator that walked the module.
+     */
+    private void outputTranslation(ModuleIdentifier currentTarget, AbstractTranslator translator) {
+        ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
+        boolean isJavaTranslateFlagOn = isJavaTranslateFlagOn();
+
+        // Output the contents to listener objects
+        myCompileEnvironment.getMetrics().time(currentTarget.toString(), CompilerMetrics.Phase.OUTPUT, () -> {
             for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
                 if (isJavaTranslateFlagOn) {
                     listener.javaTranslationResult(myCompileEnvironment.getFile(currentTarget).toString(),
@@ -98,27 +208,60 @@ public class TranslatorPipeline extends AbstractPipeline {
                             moduleDec.getName().getName(), translator.getOutputCode());
                 }
             }
+        });
 
-            if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                String messageString = "Done "
-                        + targetLanguageMessage(moduleDec.getName().getName(), isJavaTranslateFlagOn)
-                        + "\n---------------End Translation---------------\n";
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            String messageString = "Done " + targetLanguageMessage(moduleDec.getName().getName(), isJavaTranslateFlagOn)
+                    + "\n---------------End Translation---------------\n";
 
-                statusHandler.info(null, messageString);
-            }
-        } else {
-            // Skip translating this module.
-            if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
-                String messageString = "Skipping Translating Module: " + moduleDec.getName().getName() + "\n";
+            myCompileEnvironment.getStatusHandler().info(null, messageString);
+        }
+    }
 
-                statusHandler.info(null, messageString);
-            }
+    /**
+     * <p>
+     * An helper method that checks to see if we are translating to {@code Java}.
+     * </p>
+     *
+     * @return {@code true} if we are translating to {@code Java}, {@code false} otherwise.
+     */
+    private boolean isJavaTranslateFlagOn() {
+        return myCompileEnvironment.flags.isFlagSet(JavaTranslator.JAVA_FLAG_TRANSLATE)
+                || myCompileEnvironment.flags.isFlagSet(JavaTranslator.JAVA_FLAG_TRANSLATE_CLEAN);
+    }
+
+    /**
+     * <p>
+     * An helper method that reports a module in the batch that we couldn't translate.
+     * </p>
+     *
+     * @param e
+     *            The compiler error we got while translating the module.
+     */
+    private void reportTranslationError(CompilerException e) {
+        StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+        statusHandler.error(e.getErrorLocation(), e.getMessage());
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG_STACK_TRACE)) {
+            statusHandler.printStackTrace(e);
         }
     }
 
-    // ===========================================================
-    // Private Methods
-    // ===========================================================
+    /**
+     * <p>
+     * An helper method that indicates we are skipping a module on the no translate list.
+     * </p>
+     *
+     * @param currentTarget
+     *            The module we are skipping.
+     */
+    private void skipTranslation(ModuleIdentifier currentTarget) {
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
+            String messageString = "Skipping Translating Module: " + moduleDec.getName().getName() + "\n";
+
+            myCompileEnvironment.getStatusHandler().info(null, messageString);
+        }
+    }
 
     /**
      * <p>
@@ -148,6 +291,44 @@ public class TranslatorPipeline extends AbstractPipeline {
         return sb.toString();
     }
 
+    /**
+     * <p>
+     * An helper method that walks the module's {@code AST} using the appropriate translator. This only reads from the
+     * symbol table and the compile environment, so it can be called on multiple modules at the same time.
+     * </p>
+     *
+     * @param currentTarget
+     *            The module we are translating.
+     *
+     * @return The translator that walked the module.
+     */
+    private AbstractTranslator translate(ModuleIdentifier currentTarget) {
+        ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
+
+        // Check to see if we are translating to Java
+        boolean isJavaTranslateFlagOn = isJavaTranslateFlagOn();
+        if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
+            String messageString = "\n---------------Begin Translation---------------\n\n"
+                    + targetLanguageMessage(moduleDec.getName().getName(), isJavaTranslateFlagOn);
+
+            myCompileEnvironment.getStatusHandler().info(null, messageString);
+        }
+
+        // Create the appropriate translator
+        AbstractTranslator translator;
+        if (isJavaTranslateFlagOn) {
+            translator = new JavaTranslator(mySymbolTable, myCompileEnvironment);
+        } else {
+            translator = new CTranslator(mySymbolTable, myCompileEnvironment);
+        }
+
+        // Walk the AST and translate into the appropriate target source file
+        myCompileEnvironment.getMetrics().time(currentTarget.toString(), CompilerMetrics.Phase.TRANSLATE,
+                () -> TreeWalker.visit(translator, moduleDec));
+
+        return translator;
+    }
+
     // TODO : See if there is a simpler, less verbose way of writing
     // the next three methods. And also try to get them into the abstract
     // translator.
@@ -15,6 +15,7 @@ package edu.clemson.rsrg.init.pipeline;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.init.output.OutputListener;
 import edu.clemson.rsrg.statushandling.StatusHandler;
 import edu.clemson.rsrg.treewalk.TreeWalker;
@@ -23,12 +24,12 @@ import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * <p>
- * This is pipeline that generates verification conditions (VCs) using the RESOLVE AST and symbol table.
+ * This is pipeline that generates verification conditions (VCs) using the RESOLVE AST and symbol table. The VCs are
+ * sent to the output listeners and any requested prover pipelines as soon as each assertive code block is completed.
  * </p>
  *
  * @author Yu-Shan Sun
@@ -43,10 +44,10 @@ public class VCGenPipeline extends AbstractPipeline {
 
     /**
      * <p>
-     * The module's final list of verification conditions.
+     * The prover pipelines that are expecting the final verification conditions.
      * </p>
      */
-    private final List<VerificationCondition> myVerificationConditions;
+    private final List<AbstractProverPipeline<?>> myProverPipelines;
 
     // ===========================================================
     // Constructors
@@ -61,27 +62,19 @@ public class VCGenPipeline extends AbstractPipeline {
      *            The current compilation environment.
      * @param symbolTable
      *            The symbol table.
+     * @param proverPipelines
+     *            The prover pipelines that are expecting the final VCs. This can be empty.
      */
-    public VCGenPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable) {
+    public VCGenPipeline(CompileEnvironment ce, MathSymbolTableBuilder symbolTable,
+            List<AbstractProverPipeline<?>> proverPipelines) {
         super(ce, symbolTable);
-        myVerificationConditions = new LinkedList<>();
+        myProverPipelines = proverPipelines;
     }
 
     // ===========================================================
     // Public Methods
     // ===========================================================
 
-    /**
-     * <p>
-     * This method returns the verification conditions generated by this module.
-     * </p>
-     *
-     * @return A list of {@link VerificationCondition}s.
-     */
-    public final List<VerificationCondition> getVerificationConditions() {
-        return myVerificationConditions;
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -89,6 +82,10 @@ public class VCGenPipeline extends AbstractPipeline {
     public final void process(ModuleIdentifier currentTarget) {
         ModuleDec moduleDec = myCompileEnvironment.getModuleAST(currentTarget);
         StatusHandler statusHandler = myCompileEnvironment.getStatusHandler();
+        List<OutputListener> listeners = myCompileEnvironment.getOutputListeners();
+        CompilerMetrics metrics = myCompileEnvironment.getMetrics();
+        String moduleName = currentTarget.toString();
+        String outputFileName = moduleDec.getName().getName();
         VCGenerator vcGenerator = new VCGenerator(mySymbolTable, myCompileEnvironment);
         if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
             StringBuffer sb = new StringBuffer();
@@ -99,20 +96,61 @@ public class VCGenPipeline extends AbstractPipeline {
             statusHandler.info(null, sb.toString());
         }
 
-        // Walk the AST and generate VCs
-        TreeWalker.visit(vcGenerator, moduleDec);
+        // Let the listener objects and provers know we are about to generate VCs
+        for (OutputListener listener : listeners) {
+            listener.vcGeneratorStarted(myCompileEnvironment.getFile(currentTarget).toString(), outputFileName);
+        }
+        for (AbstractProverPipeline<?> proverPipeline : myProverPipelines) {
+            proverPipeline.startProving(currentTarget);
+        }
+
+        // Walk the AST to build the assertive code blocks
+        metrics.time(moduleName, CompilerMetrics.Phase.VC_GENERATION, () -> TreeWalker.visit(vcGenerator, moduleDec));
+
+        // Output the verbose details header to listener objects
+        String detailsHeader = vcGenerator.getVerboseModeHeader();
+        for (OutputListener listener : listeners) {
+            listener.vcGeneratorDetails(outputFileName, detailsHeader);
+        }
 
-        // Output the contents to listener objects
-        for (OutputListener listener : myCompileEnvironment.getOutputListeners()) {
-            listener.vcGeneratorResult(myCompileEnvironment.getFile(currentTarget).toString(),
-                    moduleDec.getName().getName(), vcGenerator.getFinalAssertiveCodeBlocks(),
-                    vcGenerator.getVerboseModeOutput());
+        // Apply the proof rules one assertive code block at a time and output
+        // the final VCs as soon as they are ready. We don't hold on to the completed
+        // blocks, so only the block currently being processed needs to be in memory.
+        while (vcGenerator.hasIncompleteAssertiveCodeBlocks()) {
+            AssertiveCodeBlock block = metrics.time(moduleName, CompilerMetrics.Phase.VC_GENERATION,
+                    vcGenerator::completeNextAssertiveCodeBlock);
+            List<VerificationCondition> vcs = block.getVCs();
+            metrics.incrementCounter(moduleName, "assertiveCodeBlocks", 1);
+            metrics.incrementCounter(moduleName, "vcs", vcs.size());
+
+            // Output the contents to listener objects
+            metrics.time(moduleName, CompilerMetrics.Phase.OUTPUT, () -> {
+                for (OutputListener listener : listeners) {
+                    listener.assertiveCodeBlockStarted(outputFileName, block);
+                    for (VerificationCondition vc : vcs) {
+                        listener.vcGenerated(outputFileName, vc);
+                    }
+                    listener.assertiveCodeBlockCompleted(outputFileName, block);
+                }
+
+                // Output the verbose details for this block. Like the VCs, we don't hold on to them.
+                String blockDetails = vcGenerator.getCompletedBlockDetails();
+                for (OutputListener listener : listeners) {
+                    listener.vcGeneratorDetails(outputFileName, blockDetails);
+                }
+            });
+
+            // Send the VCs to the provers
+            if (!vcs.isEmpty()) {
+                for (AbstractProverPipeline<?> proverPipeline : myProverPipelines) {
+                    proverPipeline.proveVCs(vcs);
+                }
+            }
         }
 
-        // Store all the verification conditions from each assertive code block
-        myVerificationConditions.clear();
-        for (AssertiveCodeBlock block : vcGenerator.getFinalAssertiveCodeBlocks()) {
-            myVerificationConditions.addAll(block.getVCs());
+        // Let the listener objects know we are done
+        for (OutputListener listener : listeners) {
+            listener.vcGeneratorCompleted(outputFileName);
         }
 
         if (myCompileEnvironment.flags.isFlagSet(ResolveCompiler.FLAG_DEBUG)) {
@@ -0,0 +1,132 @@
+/*
+ * STGroupCache.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.misc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.stringtemplate.v4.AttributeRenderer;
+import org.stringtemplate.v4.ST;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.STGroupFile;
+
+/**
+ * <p>
+ * This class loads and compiles each of the compiler's {@code StringTemplate} group files once per process and hands
+ * out the same {@link STGroup} to everyone who asks for it.
+ * </p>
+ * <p>
+ * The groups are fully loaded and have their renderers registered before anyone else can see them, and we never add or
+ * remove templates afterwards. This means that multiple threads can safely call {@link STGroup#getInstanceOf(String)}
+ * on the same group, since every call returns a new {@link ST}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class STGroupCache {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A map from the path of a group file on the classpath to the loaded group. Groups with a renderer are stored
+     * under a key that also contains the attribute type and the class of the renderer.
+     * </p>
+     */
+    private static final Map<Object, STGroup> GROUPS = new ConcurrentHashMap<>();
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This class only contains static methods.
+     * </p>
+     */
+    private STGroupCache() {
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the group for a template group file on the classpath, loading it if this is the first time
+     * anyone has asked for it.
+     * </p>
+     *
+     * @param fileName
+     *            The path of the group file, for example {@code templates/Java.stg}.
+     *
+     * @return The loaded {@link STGroup}.
+     */
+    public static STGroup getGroup(String fileName) {
+        return GROUPS.computeIfAbsent(fileName, key -> loadGroup(fileName));
+    }
+
+    /**
+     * <p>
+     * This method returns the group for a template group file on the classpath with {@code renderer} registered,
+     * loading it if this is the first time anyone has asked for it with this kind of renderer.
+     * </p>
+     * <p>
+     * <em>Note:</em> The group is shared by everyone that asks for it with a renderer of the same class, so renderers
+     * can't hold any state that changes how they render an attribute.
+     * </p>
+     *
+     * @param fileName
+     *            The path of the group file, for example {@code templates/Java.stg}.
+     * @param attributeType
+     *            The class of the attributes {@code renderer} should be used for.
+     * @param renderer
+     *            The renderer for {@code attributeType}.
+     * @param <T>
+     *            The type of the attributes {@code renderer} should be used for.
+     *
+     * @return The loaded {@link STGroup}.
+     */
+    public static <T> STGroup getGroup(String fileName, Class<T> attributeType, AttributeRenderer<? super T> renderer) {
+        return GROUPS.computeIfAbsent(List.of(fileName, attributeType, renderer.getClass()), key -> {
+            STGroup group = loadGroup(fileName);
+            group.registerRenderer(attributeType, renderer);
+
+            return group;
+        });
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that loads and compiles all the templates in a group file.
+     * </p>
+     *
+     * @param fileName
+     *            The path of the group file.
+     *
+     * @return The loaded {@link STGroup}.
+     */
+    private static STGroup loadGroup(String fileName) {
+        STGroup group = new STGroupFile(fileName);
+        group.load();
+
+        return group;
+    }
+
+}
@@ -18,13 +18,16 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
 import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.misc.STGroupCache;
 import edu.clemson.rsrg.nProver.output.VCProverResult;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.SymbolInterner;
 import edu.clemson.rsrg.nProver.utilities.theorems.RelevantTheoremExtractor;
 import edu.clemson.rsrg.nProver.utilities.treewakers.AbstractRegisterSequent;
 import edu.clemson.rsrg.nProver.utilities.treewakers.RegisterAntecedent;
 import edu.clemson.rsrg.nProver.utilities.treewakers.RegisterSuccedent;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
+import edu.clemson.rsrg.prover.CongruenceClassProver;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
@@ -32,14 +35,12 @@ import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.vcgeneration.VCGenerator;
 import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
 import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
-import java.util.LinkedHashMap;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
-import org.stringtemplate.v4.STGroupFile;
 import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_VERIFY_VC;
 
 /**
@@ -95,24 +96,24 @@ public class GeneralPurposeProver {
 
     /**
      * <p>
-     * The total number of milliseconds spent proving VCs in this file.
+     * The number of threads used to prove {@code VCs} in this file.
      * </p>
      */
-    private long myTotalElapsedTime;
+    private final int myNumWorkers;
 
     /**
      * <p>
-     * This is the math type graph that indicates relationship between different math types.
+     * The interner that identifies the operators and leaf expressions in all the {@code VCs} in this file.
      * </p>
      */
-    private final TypeGraph myTypeGraph;
+    private final SymbolInterner mySymbolInterner;
 
     /**
      * <p>
-     * The module's final list of verification conditions.
+     * This is the math type graph that indicates relationship between different math types.
      * </p>
      */
-    private final List<VerificationCondition> myVerificationConditions;
+    private final TypeGraph myTypeGraph;
 
     // -----------------------------------------------------------
     // Output-Related
@@ -127,17 +128,18 @@ public class GeneralPurposeProver {
 
     /**
      * <p>
-     * String template for the prover generation details model.
+     * The rendered proof details for the {@code VCs} that have been proved, but not yet recorded using
+     * {@link #recordVCProverResult(VCProverResult)}.
      * </p>
      */
-    private final ST myProofGenDetailsModel;
+    private final Map<String, String> myUnrecordedVCProofDetails;
 
     /**
      * <p>
-     * A list containing the prover results for each VC.
+     * The rendered header describing the {@link ModuleDec} we are generating automated proofs for.
      * </p>
      */
-    private final List<VCProverResult> myVCProverResults;
+    private final String myVerboseModeHeader;
 
     // ===========================================================
     // Flag Strings
@@ -149,6 +151,8 @@ public class GeneralPurposeProver {
     private static final String[] NUMTRIES_ARGS = { "numtries" };
     private static final String FLAG_DESC_PROVER_TIMEOUT = "Number of Milliseconds to Use as a Timeout Before Skipping Proving a VC.";
     private static final String[] FLAG_TIMEOUT_ARGS = { "milliseconds" };
+    private static final String FLAG_DESC_PROVER_NUMWORKERS = "Number of Threads Used to Prove VCs While They Are Being Generated.";
+    private static final String[] NUMWORKERS_ARGS = { "numworkers" };
 
     // ===========================================================
     // Flags
@@ -164,7 +168,7 @@ public class GeneralPurposeProver {
      * Specifies number of milliseconds before skipping proving a VC.
      * </p>
      */
-    private static final Flag FLAG_TIMEOUT = new Flag(FLAG_SECTION_NAME, "timeout", FLAG_DESC_PROVER_TIMEOUT,
+    public static final Flag FLAG_TIMEOUT = new Flag(FLAG_SECTION_NAME, "timeout", FLAG_DESC_PROVER_TIMEOUT,
             FLAG_TIMEOUT_ARGS, Flag.Type.HIDDEN);
 
     /**
@@ -172,18 +176,33 @@ public class GeneralPurposeProver {
      * Specify number of failed VCs before halting the prover.
      * </p>
      */
-    private static final Flag FLAG_NUMTRIES = new Flag(FLAG_SECTION_NAME, "num_tries", FLAG_DESC_PROVER_NUMTRIES,
+    public static final Flag FLAG_NUMTRIES = new Flag(FLAG_SECTION_NAME, "num_tries", FLAG_DESC_PROVER_NUMTRIES,
             NUMTRIES_ARGS, Flag.Type.HIDDEN);
 
+    /**
+     * <p>
+     * Specify number of threads used to prove VCs.
+     * </p>
+     */
+    public static final Flag FLAG_NUMWORKERS = new Flag(FLAG_SECTION_NAME, "num_workers",
+            FLAG_DESC_PROVER_NUMWORKERS, NUMWORKERS_ARGS, Flag.Type.HIDDEN);
+
     /**
      * <p>
      * Add all the required and implied flags for the {@code GeneralPurposeProver}.
      * </p>
+     * <p>
+     * <em>Note:</em> The timeout, number of tries and number of workers flags are also used by the
+     * {@link CongruenceClassProver}, so they require either one of the provers.
+     * </p>
      */
     public static void setUpFlags() {
+        Flag[] provers = { FLAG_PROVE, CongruenceClassProver.FLAG_PROVE };
+
         FlagDependencies.addImplies(FLAG_PROVE, FLAG_VERIFY_VC); // adding prove flag, also add verify VC flag
-        FlagDependencies.addRequires(FLAG_TIMEOUT, FLAG_PROVE);
-        FlagDependencies.addRequires(FLAG_NUMTRIES, FLAG_PROVE);
+        FlagDependencies.addRequires(FLAG_TIMEOUT, provers);
+        FlagDependencies.addRequires(FLAG_NUMTRIES, provers);
+        FlagDependencies.addRequires(FLAG_NUMWORKERS, provers);
     }
 
     // ===========================================================
@@ -195,24 +214,19 @@ public class GeneralPurposeProver {
      * This creates an instance of the general purpose automated prover.
      * </p>
      *
-     * @param vcs
-     *            The list of VCs to be proven.
      * @param moduleScope
      *            The module scope associated with {@code name}.
      * @param compileEnvironment
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
-    public GeneralPurposeProver(List<VerificationCondition> vcs, ModuleScope moduleScope,
-            CompileEnvironment compileEnvironment) {
+    public GeneralPurposeProver(ModuleScope moduleScope, CompileEnvironment compileEnvironment) {
         myCompileEnvironment = compileEnvironment;
         myCurrentModuleScope = moduleScope;
         myOutputListeners = myCompileEnvironment.getOutputListeners();
-        mySTGroup = new STGroupFile("templates/nProverVerboseOutput.stg");
-        myTotalElapsedTime = 0;
+        mySTGroup = STGroupCache.getGroup("templates/nProverVerboseOutput.stg");
+        mySymbolInterner = new SymbolInterner();
         myTypeGraph = compileEnvironment.getTypeGraph();
-        myVCProverResults = new ArrayList<>(vcs.size());
-        myVerificationConditions = vcs;
-        myProofGenDetailsModel = mySTGroup.getInstanceOf("outputProofGenDetails");
+        myUnrecordedVCProofDetails = new ConcurrentHashMap<>();
 
         // Timeout
         if (myCompileEnvironment.flags.isFlagSet(FLAG_TIMEOUT)) {
@@ -229,6 +243,14 @@ public class GeneralPurposeProver {
             myNumTriesBeforeHalting = -1;
         }
 
+        // Number of Workers
+        if (myCompileEnvironment.flags.isFlagSet(FLAG_NUMWORKERS)) {
+            myNumWorkers = Math.max(1,
+                    Integer.parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_NUMWORKERS, "numworkers")));
+        } else {
+            myNumWorkers = Runtime.getRuntime().availableProcessors();
+        }
+
         // Store verbose output about this module
         ST header;
         ModuleDec moduleDec = myCurrentModuleScope.getDefiningElement();
@@ -250,7 +272,8 @@ public class GeneralPurposeProver {
         } else {
             header = mySTGroup.getInstanceOf("outputFacilityHeader").add("facilityName", moduleDec.getName().getName());
         }
-        myProofGenDetailsModel.add("fileHeader", header.render());
+        myVerboseModeHeader = mySTGroup.getInstanceOf("outputProofGenDetailsHeader")
+                .add("fileHeader", header.render()).render();
     }
 
     // ===========================================================
@@ -270,112 +293,123 @@ public class GeneralPurposeProver {
 
     /**
      * <p>
-     * This method returns the prover setting for the maximum amount of time we can spend proving each {@code VC}.
+     * This method returns the prover setting for how many threads can be used to prove {@code VCs}.
      * </p>
      *
-     * @return The time that can be spent proving each {@code VC} in ms.
+     * @return The number of threads.
      */
-    public final long getTimeout() {
-        return myTimeout;
+    public final int getNumWorkers() {
+        return myNumWorkers;
     }
 
     /**
      * <p>
-     * This method returns the total elapsed time that we spent proving {@code VCs} in this {@link ModuleDec}.
+     * This method returns the prover setting for the maximum amount of time we can spend proving each {@code VC}.
      * </p>
      *
-     * @return The total elapsed time in ms.
+     * @return The time that can be spent proving each {@code VC} in ms.
      */
-    public final long getTotalElapsedTime() {
-        return myTotalElapsedTime;
+    public final long getTimeout() {
+        return myTimeout;
     }
 
     /**
      * <p>
-     * This method returns a list containing the proof details for each {@code VC}.
+     * This method returns the header for the verbose mode output with how we attempted to prove the {@code VCs} in this
+     * {@link ModuleDec}. The proof details for each {@code VC} come after this header.
      * </p>
      *
-     * @return A {@link List} of {@link VCProverResult}.
+     * @return A string containing the module's details.
      */
-    public final List<VCProverResult> getVCProverResults() {
-        return myVCProverResults;
+    public final String getVerboseModeHeader() {
+        return myVerboseModeHeader;
     }
 
     /**
      * <p>
-     * This method returns the verbose mode output with how we attempted to prove each {@code VCs} in this
-     * {@link ModuleDec}.
+     * This method indicates that there are no more {@code VCs} to be proved in this {@link ModuleDec}.
      * </p>
-     *
-     * @return A string containing lots of details.
      */
-    public final String getVerboseModeOutput() {
-        return myProofGenDetailsModel.render();
+    public final void finishProving() {
+        // applying theorems
+
+        RelevantTheoremExtractor theorems = new RelevantTheoremExtractor(myCurrentModuleScope);
+
+        for (TheoremEntry te : theorems.theoremEntryQuery()) {
+            System.out.println(te.getAssertion());
+        }
     }
 
     /**
      * <p>
-     * This method runs the general purpose prover on all the VCs.
+     * This method runs the general purpose prover on a {@code VC}. The {@code VCs} can be handed to us as soon as they
+     * are generated, so we don't need to hold on to all the {@code VCs} in a {@link ModuleDec}.
+     * </p>
+     * <p>
+     * <em>Note:</em> This method can be called from multiple threads at the same time. The results should be passed
+     * back to {@link #recordVCProverResult(VCProverResult)} in the order the {@code VCs} were generated.
      * </p>
+     *
+     * @param vc
+     *            The {@link VerificationCondition} to be proved.
+     *
+     * @return The prover results for {@code vc}.
      */
-    public void proveVCs() {
-        // Keep track to total elapsed time and number of unproved/timed out VCs
-        myTotalElapsedTime = System.currentTimeMillis();
-        int numUnproved = 0;
-
-        // Loop through each of the VCs and attempt to prove them
-        for (VerificationCondition vc : myVerificationConditions) {
-            // Store the start time for generating proofs for this VC
-            long startTime = System.nanoTime();
-            // Obtain the sequent to be proved
-            Sequent sequent = vc.getSequent();
-            // Create a registry and label map
-            CongruenceClassRegistry<Integer, String, String, String> registry = new CongruenceClassRegistry<>(1000,
-                    1000, 1000, 1000);
-            Map<String, Integer> expLabels = new LinkedHashMap<>();
-
-            // NM: 0, 1 are spared for <= (1), = (2), etc., the list can expand with more reflexive operators
-            // preload <=, = into the map
-            expLabels.put("<=", AbstractRegisterSequent.OP_LESS_THAN_OR_EQUALS);
-            expLabels.put("=", AbstractRegisterSequent.OP_EQUALS);
-
-            // Visit antecedents
-            RegisterAntecedent regAntecedent = new RegisterAntecedent(registry, expLabels, 3);
-            for (Exp exp : sequent.getAntecedents()) {
-                TreeWalker.visit(regAntecedent, exp);
-            }
-
-            // Visit consequents
-            RegisterSuccedent regConsequent = new RegisterSuccedent(regAntecedent.getRegistry(),
-                    regAntecedent.getExpLabels(), regAntecedent.getNextLabel());
-            for (Exp exp : sequent.getConcequents()) {
-                TreeWalker.visit(regConsequent, exp);
-            }
-
-            // Store the end time for generating proofs for this VC
-            long endTime = System.nanoTime();
-
-            // Store the prover results for this VC
-            myVCProverResults.add(
-                    new VCProverResult(vc, TimeUnit.MILLISECONDS.convert(endTime - startTime, TimeUnit.NANOSECONDS),
-                            registry.checkIfProved(), false, false));
-
-            // Store the verbose proof detail for this VC
-            String result = registry.checkIfProved() ? "Proved" : "Not Proved";
-            storeVCProofVerboseDetail(vc, result, registry, expLabels);
+    public final VCProverResult proveVC(VerificationCondition vc) {
+        // Store the start time for generating proofs for this VC
+        long startTime = System.nanoTime();
+        // Obtain the sequent to be proved
+        Sequent sequent = vc.getSequent();
+        // Create a registry and label map. The symbols are shared by every VC in this file,
+        // but the labels need to be dense for each registry.
+        CongruenceClassRegistry registry = new CongruenceClassRegistry(1000, 1000, 1000, 1000);
+        int[] labels = new int[mySymbolInterner.size()];
+
+        // NM: 0, 1 are spared for <= (1), = (2), etc., the list can expand with more reflexive operators
+        // preload <=, = into the map
+        labels[SymbolInterner.LESS_THAN_OR_EQUALS] = AbstractRegisterSequent.OP_LESS_THAN_OR_EQUALS;
+        labels[SymbolInterner.EQUALS] = AbstractRegisterSequent.OP_EQUALS;
+
+        // Visit antecedents. The registering walkers tag the literals they encounter, so we walk copies
+        // of the expressions. The originals can be shared with other VCs and other provers' threads.
+        RegisterAntecedent regAntecedent = new RegisterAntecedent(registry, mySymbolInterner, labels, 3);
+        for (Exp exp : sequent.getAntecedents()) {
+            TreeWalker.visit(regAntecedent, exp.clone());
         }
 
-        // Compute the total elapsed time in generating proofs for the VCs in this module
-        myTotalElapsedTime = System.currentTimeMillis() - myTotalElapsedTime;
+        // Visit consequents
+        RegisterSuccedent regConsequent = new RegisterSuccedent(regAntecedent.getRegistry(),
+                mySymbolInterner, regAntecedent.getLabels(), regAntecedent.getNextLabel());
+        for (Exp exp : sequent.getConcequents()) {
+            TreeWalker.visit(regConsequent, exp.clone());
+        }
 
-        // applying theorems
+        // Store the end time for generating proofs for this VC
+        long endTime = System.nanoTime();
 
-        RelevantTheoremExtractor theorems = new RelevantTheoremExtractor(myCurrentModuleScope);
+        // Store the verbose proof detail for this VC until the result is recorded
+        String result = registry.checkIfProved() ? "Proved" : "Not Proved";
+        myUnrecordedVCProofDetails.put(vc.getName(), createVCProofVerboseDetail(vc, result, registry,
+                regConsequent.getExpLabels()));
 
-        for (TheoremEntry te : theorems.theoremEntryQuery()) {
-            System.out.println(te.getAssertion());
-        }
+        return new VCProverResult(vc, TimeUnit.MILLISECONDS.convert(endTime - startTime, TimeUnit.NANOSECONDS),
+                registry.checkIfProved(), false, false);
+    }
 
+    /**
+     * <p>
+     * This method records the result for a {@code VC} that has been proved by
+     * {@link #proveVC(VerificationCondition)} and hands back its verbose proof detail. We don't hold on to the detail
+     * after this, so only the details for the {@code VCs} that haven't been recorded yet are kept in memory.
+     * </p>
+     *
+     * @param result
+     *            The prover results for a {@code VC}.
+     *
+     * @return The rendered proof detail for this {@code VC} or {@code null} if we don't have one.
+     */
+    public final String recordVCProverResult(VCProverResult result) {
+        return myUnrecordedVCProofDetails.remove(result.getVerificationCondition().getName());
     }
 
     // ===========================================================
@@ -384,7 +418,7 @@ public class GeneralPurposeProver {
 
     /**
      * <p>
-     * An helper method that stores verbose detail about proving this {@code VC}.
+     * An helper method that renders verbose detail about proving this {@code VC}.
      * </p>
      *
      * @param vc
@@ -395,9 +429,11 @@ public class GeneralPurposeProver {
      *            The congruence class registry used on this {@code VC}.
      * @param expLabels
      *            The expression labels assigned to the expressions in this {@code VC}.
+     *
+     * @return The rendered proof detail for this {@code VC}.
      */
-    private void storeVCProofVerboseDetail(VerificationCondition vc, String result,
-            CongruenceClassRegistry<Integer, String, String, String> registry, Map<String, Integer> expLabels) {
+    private String createVCProofVerboseDetail(VerificationCondition vc, String result, CongruenceClassRegistry registry,
+            Map<String, Integer> expLabels) {
         // Create a model for adding all the details associated with this VC.
         LocationDetailModel detailModel = vc.getLocationDetailModel();
         ST vcModel = mySTGroup.getInstanceOf("outputVC");
@@ -441,7 +477,6 @@ public class GeneralPurposeProver {
         vcProofDetailModel.add("expLabels", expLabels);
         vcProofDetailModel.add("registryArrays", ccRegistryArraysModel.render());
 
-        // Add VC proof detail model to prover generation details
-        myProofGenDetailsModel.add("vcProofDetails", vcProofDetailModel.render());
+        return vcProofDetailModel.render();
     }
 }
@@ -0,0 +1,446 @@
+/*
+ * ClusterSignatureTable.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * This class is the signature table used by the {@link CongruenceClassRegistry} to find an existing cluster. A
+ * signature is a tree node label together with the dominant {@link CongruenceClass} designator of each of its
+ * arguments, and the table maps each signature to the first cluster registered with it.
+ * </p>
+ * <p>
+ * Every class keeps a use list of the clusters that have it as an argument. When a class is merged into another one,
+ * only the clusters in its use list need to be re-hashed, so the signatures always refer to dominant classes and a
+ * lookup is just a hash probe.
+ * </p>
+ *
+ * @version v1.0
+ */
+public class ClusterSignatureTable {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The argument class designators for all the clusters, stored one after the other.
+     * </p>
+     */
+    private int[] argumentPool;
+
+    /**
+     * <p>
+     * The number of entries used in {@link #argumentPool}.
+     * </p>
+     */
+    private int argumentPoolSize;
+
+    /**
+     * <p>
+     * The number of arguments for each cluster.
+     * </p>
+     */
+    private final int[] clusterArity;
+
+    /**
+     * <p>
+     * The index in {@link #argumentPool} where the arguments for each cluster start.
+     * </p>
+     */
+    private final int[] clusterArgumentStart;
+
+    /**
+     * <p>
+     * The tree node label for each cluster.
+     * </p>
+     */
+    private final int[] clusterLabel;
+
+    /**
+     * <p>
+     * Whether each cluster is the one stored in the table for its signature.
+     * </p>
+     */
+    private final boolean[] isClusterStored;
+
+    /**
+     * <p>
+     * The open addressing hash table containing cluster designators. {@code 0} marks an empty slot.
+     * </p>
+     */
+    private int[] slots;
+
+    /**
+     * <p>
+     * The number of slots that are either storing a cluster or a {@link #REMOVED_SLOT}.
+     * </p>
+     */
+    private int usedSlots;
+
+    /**
+     * <p>
+     * The first use list node for each class. {@code 0} means the class isn't used as an argument.
+     * </p>
+     */
+    private final int[] useListHead;
+
+    /**
+     * <p>
+     * The cluster for each use list node.
+     * </p>
+     */
+    private int[] useListCluster;
+
+    /**
+     * <p>
+     * The next use list node for each use list node.
+     * </p>
+     */
+    private int[] useListNext;
+
+    /**
+     * <p>
+     * The number of use list nodes, including the unused node {@code 0}.
+     * </p>
+     */
+    private int useListSize;
+
+    /**
+     * <p>
+     * A marker for a slot whose cluster was removed, so that probing continues past it.
+     * </p>
+     */
+    private static final int REMOVED_SLOT = -1;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty signature table.
+     * </p>
+     *
+     * @param cClusterDesignatorCapacity
+     *            The maximum capacity provided for congruence cluster designators
+     * @param ccDesignatorCapacity
+     *            The maximum capacity provided for congruence class designators
+     */
+    public ClusterSignatureTable(int cClusterDesignatorCapacity, int ccDesignatorCapacity) {
+        argumentPool = new int[2 * cClusterDesignatorCapacity];
+        argumentPoolSize = 0;
+        clusterArity = new int[cClusterDesignatorCapacity];
+        clusterArgumentStart = new int[cClusterDesignatorCapacity];
+        clusterLabel = new int[cClusterDesignatorCapacity];
+        isClusterStored = new boolean[cClusterDesignatorCapacity];
+        slots = new int[Integer.highestOneBit(Math.max(cClusterDesignatorCapacity, 8)) * 2];
+        usedSlots = 0;
+        useListHead = new int[ccDesignatorCapacity];
+        useListCluster = new int[2 * cClusterDesignatorCapacity];
+        useListNext = new int[2 * cClusterDesignatorCapacity];
+        useListSize = 1;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This operation adds a newly registered cluster to the table. If there is already a cluster with the same
+     * signature, the existing one is kept.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            The designator for the new cluster
+     * @param treeNodeLabel
+     *            The tree node label for the new cluster
+     * @param arguments
+     *            The dominant class designators for the arguments
+     * @param arity
+     *            The number of arguments in {@code arguments}
+     */
+    public final void add(int clusterDesignator, int treeNodeLabel, int[] arguments, int arity) {
+        if (argumentPoolSize + arity > argumentPool.length) {
+            argumentPool = Arrays.copyOf(argumentPool, Math.max(argumentPoolSize + arity, 2 * argumentPool.length));
+        }
+        System.arraycopy(arguments, 0, argumentPool, argumentPoolSize, arity);
+        clusterLabel[clusterDesignator] = treeNodeLabel;
+        clusterArgumentStart[clusterDesignator] = argumentPoolSize;
+        clusterArity[clusterDesignator] = arity;
+        argumentPoolSize += arity;
+
+        for (int i = 0; i < arity; i++) {
+            addToUseList(arguments[i], clusterDesignator);
+        }
+
+        isClusterStored[clusterDesignator] = find(treeNodeLabel, arguments, arity) == 0;
+        if (isClusterStored[clusterDesignator]) {
+            insert(clusterDesignator);
+        }
+    }
+
+    /**
+     * <p>
+     * This operation finds the cluster with the given signature.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The tree node label for the cluster
+     * @param arguments
+     *            The dominant class designators for the arguments
+     * @param arity
+     *            The number of arguments in {@code arguments}
+     *
+     * @return the designator for the cluster, or {@code 0} if there isn't one.
+     */
+    public final int find(int treeNodeLabel, int[] arguments, int arity) {
+        return find(treeNodeLabel, arguments, 0, arity);
+    }
+
+    /**
+     * <p>
+     * This operation updates the signatures that use {@param mergedClass} as an argument after it has been merged
+     * into {@param dominantClass}.
+     * </p>
+     *
+     * @param mergedClass
+     *            The class designator that is no longer dominant
+     * @param dominantClass
+     *            The dominant class designator it was merged into
+     */
+    public final void updateAfterMerging(int mergedClass, int dominantClass) {
+        int node = useListHead[mergedClass];
+        while (node != 0) {
+            int nextNode = useListNext[node];
+            int clusterDesignator = useListCluster[node];
+
+            // A cluster that uses the merged class more than once is
+            // simply re-hashed more than once.
+            if (isClusterStored[clusterDesignator]) {
+                remove(clusterDesignator);
+            }
+
+            int start = clusterArgumentStart[clusterDesignator];
+            for (int i = start; i < start + clusterArity[clusterDesignator]; i++) {
+                if (argumentPool[i] == mergedClass) {
+                    argumentPool[i] = dominantClass;
+                }
+            }
+
+            // If another cluster already has the new signature, the two clusters are congruent
+            // and the registry is merging their classes, so we only need to keep one of them.
+            if (isClusterStored[clusterDesignator]) {
+                isClusterStored[clusterDesignator] = find(clusterLabel[clusterDesignator], argumentPool, start,
+                        clusterArity[clusterDesignator]) == 0;
+                if (isClusterStored[clusterDesignator]) {
+                    insert(clusterDesignator);
+                }
+            }
+
+            // move the node to the use list for the dominant class
+            useListNext[node] = useListHead[dominantClass];
+            useListHead[dominantClass] = node;
+            node = nextNode;
+        }
+        useListHead[mergedClass] = 0;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds a cluster to the use list of a class.
+     * </p>
+     *
+     * @param ccDesignator
+     *            The class designator
+     * @param clusterDesignator
+     *            The cluster designator
+     */
+    private void addToUseList(int ccDesignator, int clusterDesignator) {
+        if (useListSize == useListCluster.length) {
+            useListCluster = Arrays.copyOf(useListCluster, 2 * useListSize);
+            useListNext = Arrays.copyOf(useListNext, 2 * useListSize);
+        }
+        useListCluster[useListSize] = clusterDesignator;
+        useListNext[useListSize] = useListHead[ccDesignator];
+        useListHead[ccDesignator] = useListSize;
+        useListSize++;
+    }
+
+    /**
+     * <p>
+     * An helper method that finds the cluster with the given signature, starting at any position in
+     * {@code arguments}.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The tree node label for the cluster
+     * @param arguments
+     *            An array containing the dominant class designators for the arguments
+     * @param start
+     *            The index in {@code arguments} of the first argument
+     * @param arity
+     *            The number of arguments
+     *
+     * @return the designator for the cluster, or {@code 0} if there isn't one.
+     */
+    private int find(int treeNodeLabel, int[] arguments, int start, int arity) {
+        int mask = slots.length - 1;
+        int index = hash(treeNodeLabel, arguments, start, arity) & mask;
+        int clusterDesignator;
+        while ((clusterDesignator = slots[index]) != 0) {
+            if (clusterDesignator != REMOVED_SLOT
+                    && hasSignature(clusterDesignator, treeNodeLabel, arguments, start, arity)) {
+                return clusterDesignator;
+            }
+            index = (index + 1) & mask;
+        }
+
+        return 0;
+    }
+
+    /**
+     * <p>
+     * An helper method that computes the hash for a signature.
+     * </p>
+     *
+     * @param treeNodeLabel
+     *            The tree node label
+     * @param arguments
+     *            An array containing the dominant class designators for the arguments
+     * @param start
+     *            The index in {@code arguments} of the first argument
+     * @param arity
+     *            The number of arguments
+     *
+     * @return the hash value.
+     */
+    private static int hash(int treeNodeLabel, int[] arguments, int start, int arity) {
+        int hash = treeNodeLabel;
+        for (int i = start; i < start + arity; i++) {
+            hash = 31 * hash + arguments[i];
+        }
+        hash *= 0x9E3779B9;
+
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * <p>
+     * An helper method that checks if a cluster has the given signature.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            The cluster designator
+     * @param treeNodeLabel
+     *            The tree node label
+     * @param arguments
+     *            An array containing the dominant class designators for the arguments
+     * @param start
+     *            The index in {@code arguments} of the first argument
+     * @param arity
+     *            The number of arguments
+     *
+     * @return {@code true} iff the cluster has the signature, otherwise it returns {@code false}.
+     */
+    private boolean hasSignature(int clusterDesignator, int treeNodeLabel, int[] arguments, int start, int arity) {
+        if (clusterLabel[clusterDesignator] != treeNodeLabel || clusterArity[clusterDesignator] != arity) {
+            return false;
+        }
+
+        int clusterStart = clusterArgumentStart[clusterDesignator];
+        for (int i = 0; i < arity; i++) {
+            if (argumentPool[clusterStart + i] != arguments[start + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * An helper method that inserts a cluster into the hash table, growing it if needed.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            The cluster designator
+     */
+    private void insert(int clusterDesignator) {
+        if (4 * (usedSlots + 1) > 3 * slots.length) {
+            rebuild();
+        }
+
+        int mask = slots.length - 1;
+        int index = hash(clusterLabel[clusterDesignator], argumentPool, clusterArgumentStart[clusterDesignator],
+                clusterArity[clusterDesignator]) & mask;
+        while (slots[index] != 0 && slots[index] != REMOVED_SLOT) {
+            index = (index + 1) & mask;
+        }
+
+        if (slots[index] == 0) {
+            usedSlots++;
+        }
+        slots[index] = clusterDesignator;
+    }
+
+    /**
+     * <p>
+     * An helper method that drops all the removed slots and doubles the size of the hash table if it is still more
+     * than half full.
+     * </p>
+     */
+    private void rebuild() {
+        int[] oldSlots = slots;
+        int storedClusters = 0;
+        for (int clusterDesignator : oldSlots) {
+            if (clusterDesignator > 0) {
+                storedClusters++;
+            }
+        }
+
+        slots = new int[2 * storedClusters + 2 > oldSlots.length ? 2 * oldSlots.length : oldSlots.length];
+        usedSlots = 0;
+        for (int clusterDesignator : oldSlots) {
+            if (clusterDesignator > 0) {
+                insert(clusterDesignator);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that removes a cluster from the hash table.
+     * </p>
+     *
+     * @param clusterDesignator
+     *            The cluster designator
+     */
+    private void remove(int clusterDesignator) {
+        int mask = slots.length - 1;
+        int index = hash(clusterLabel[clusterDesignator], argumentPool, clusterArgumentStart[clusterDesignator],
+                clusterArity[clusterDesignator]) & mask;
+        while (slots[index] != clusterDesignator) {
+            index = (index + 1) & mask;
+        }
+        slots[index] = REMOVED_SLOT;
+    }
+
+}
@@ -23,17 +23,9 @@ import java.util.*;
  * @author Nicodemus Msafiri J. M.
  *
  * @version v1.0
- *
- * @param <T1>
- *            type of tree node label selected
- * @param <T2>
- *            tree category tag
- * @param <T3>
- *            default tree category attribute
- * @param <T4>
  */
 
-public class CongruenceClassRegistry<T1, T2, T3, T4> {
+public class CongruenceClassRegistry {
 
     /**
      * <p>
@@ -122,26 +114,42 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
 
     /**
      * <p>
-     * This Queue store the arguments appended by the client before creating a cluster.
+     * This ring buffer stores the arguments appended by the client before creating a cluster.
+     * </p>
+     */
+    private IntRingBuffer clusterArgumentString;
+
+    /**
+     * <p>
+     * This array is used to hold the dominant class designators for the arguments in {@link #clusterArgumentString}
+     * when looking up a cluster.
+     * </p>
+     */
+    private int[] canonicalArguments;
+
+    /**
+     * <p>
+     * This table maps the signature of each registered cluster to the cluster, so that existing clusters can be found
+     * without walking the cluster argument array.
      * </p>
      */
-    private Queue<Integer> clusterArgumentString;
+    private ClusterSignatureTable clusterSignatureTable;
 
     /**
      * <p>
-     * This Queue keeps the list of all classes that are to be merged as a consequence of two current classes
+     * This ring buffer keeps the list of all classes that are to be merged as a consequence of two current classes
      * collapsing.
      * </p>
      */
-    private Queue<Integer> classMergeList;
+    private IntRingBuffer classMergeList;
 
     /**
      * <p>
-     * This Set keeps the reflexive operators that appears on the succedent of the sequent VC to be proved. The client
-     * add respective integers for the operators before the operator is registered.
+     * This bit set keeps the reflexive operators that appears on the succedent of the sequent VC to be proved. The
+     * client add respective integers for the operators before the operator is registered.
      * </p>
      */
-    private Set<Integer> succedentReflexiveOperatorsSet;
+    private BitSet succedentReflexiveOperatorsSet;
 
     /**
      * <p>
@@ -213,9 +221,11 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
         clusterArray = new CongruenceCluster[cClusterDesignatorCapacity];
         congruenceClassArray = new CongruenceClass[ccDesignatorCapacity];
         clusterArgumentArray = new ClusterArgument[100000];
-        clusterArgumentString = new ArrayDeque<>();
-        classMergeList = new ArrayDeque<>();
-        succedentReflexiveOperatorsSet = new HashSet<>();
+        clusterArgumentString = new IntRingBuffer(16);
+        canonicalArguments = new int[8];
+        clusterSignatureTable = new ClusterSignatureTable(cClusterDesignatorCapacity, ccDesignatorCapacity);
+        classMergeList = new IntRingBuffer(16);
+        succedentReflexiveOperatorsSet = new BitSet();
 
         // start the index 0 with {0,0,0,0,0,0} by creating a cluster object,
         // with 0 index to argument list then update later
@@ -258,7 +268,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return integer value representing accessor for the class created.
      */
-    public int registerCluster(Integer treeNodeLabel) {
+    public int registerCluster(int treeNodeLabel) {
         int nextWithSimilarArgString = 0;
         int nextPlantationCluster = 0;
         int prevPlantationCluster = 0;
@@ -268,23 +278,12 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
 
         // special Bingo check for reflexive operators in the succedent before we continue normally if the VC is not
         // proved
-        if (succedentReflexiveOperatorsSet.contains(treeNodeLabel)) {
-            Queue<Integer> tempArgList = new ArrayDeque<>();
-            Integer tempClassDesignator;
-            int iter = clusterArgumentString.size();
-
-            // create a copy as it will be needed if the VC is not proved and normal registration of reflexive operator
-            // is resumed.
-            while (iter > 0) {
-                tempClassDesignator = clusterArgumentString.remove();
-                tempArgList.add(tempClassDesignator);
-                clusterArgumentString.add(tempClassDesignator);
-                iter--;
-            }
-
+        if (succedentReflexiveOperatorsSet.get(treeNodeLabel)) {
+            // peek at the arguments as they will be needed if the VC is not proved and normal registration of reflexive
+            // operator is resumed.
             // use an internal procedure to do what are congruent is doing, and call that inside are congruent operation
             // are congruent is meant for the client outside
-            if (areClassesCongruent(tempArgList.remove(), tempArgList.remove())) {
+            if (areClassesCongruent(clusterArgumentString.get(0), clusterArgumentString.get(1))) {
                 isProved = true;
             } else {
                 // for efficiency, this will tell the registry there is a reflexive operator in the succedent and the
@@ -325,6 +324,10 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
             // put the created cluster into the cluster array
             clusterArray[topCongruenceClusterDesignator] = cCluster;
 
+            // add the signature before the argument string is consumed
+            int arity = loadCanonicalArguments();
+            clusterSignatureTable.add(topCongruenceClusterDesignator, treeNodeLabel, canonicalArguments, arity);
+
             // get the index created after putting the argument string for this cluster
             int indexInArgArray = createClusterArgumentArray(treeNodeLabel, clusterArgumentString);
 
@@ -342,8 +345,8 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
 
     /**
      * <p>
-     * This operatipon checks if the cluster to be registered already exists in the registry. It involves checking into
-     * the cluster argument array if the argument exists
+     * This operatipon checks if the cluster to be registered already exists in the registry. It involves looking up
+     * the tree node label and the dominant classes for the arguments in the signature table
      * </p>
      *
      * @param treeNodeLabel
@@ -351,140 +354,9 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return {@code true} if the cluster exists in the registry, otherwise, it returns false.
      */
-    public boolean checkIfRegistered(Integer treeNodeLabel) { /* Is_Already_Reg_Clstr */
-        int classDesignator = 0;
-        int nextClusterArgIndex = 0;
-        int count = 0;
-        int argStringLengh = argListLength(clusterArgumentString);
-        int currentClusterArgIndex = 1;
-        Queue<Integer> tempQueue = new ArrayDeque<>();
-        // if argStringLength is 0, it is variable or constant
-        if (argStringLengh == 0) {
-            if (clusterArgumentArray[currentClusterArgIndex] == null) {
-                // there is nothing in the argument string yet, just return false
-                return false;
-            } else {
-                // The condition checks if the label and the argument is the same as one to be registered
-                if (clusterArray[clusterArgumentArray[currentClusterArgIndex].getClusterNumber()]
-                        .getTreeNodeLabel() == treeNodeLabel
-                        && clusterArray[clusterArgumentArray[currentClusterArgIndex].getClusterNumber()]
-                                .getIndexToArgList() == currentClusterArgIndex) {
-                    return true;
-                }
-                // The while loop checks clusters in cluster array with one argument by following a pointer next with
-                // same argument filed until we find one or we get to the end.
-                int currentClusterIndex = clusterArray[clusterArgumentArray[currentClusterArgIndex].getClusterNumber()]
-                        .getNextWithSameArg();
-                while (clusterArray[currentClusterIndex].getNextWithSameArg() != 0) {
-                    if (clusterArray[currentClusterIndex].getTreeNodeLabel() == treeNodeLabel
-                            && clusterArray[currentClusterIndex].getIndexToArgList() == currentClusterArgIndex) {
-                        return true;
-                    }
-                    currentClusterIndex = clusterArray[currentClusterIndex].getNextWithSameArg();
-                    if (currentClusterIndex == 0) {
-                        // if it is 0 there is nothing more we can do, it is not there.
-                        return false;
-                    }
-                }
-
-                if (clusterArray[currentClusterIndex].getNextWithSameArg() == 0) {
-                    if (clusterArray[currentClusterIndex].getTreeNodeLabel() == treeNodeLabel
-                            && clusterArray[currentClusterIndex].getIndexToArgList() == currentClusterArgIndex) {
-                        return true;
-                    }
-                }
-
-            }
-            return false;
-        }
-        // The while loop checks for clusters with arguments, and assumed they are already appended in the argument list
-        while (clusterArgumentString.size() > 0) {
-            classDesignator = removeFirstArgDesignator();
-            tempQueue.add(classDesignator);
-            classDesignator = getTheUltimateDominantClass(congruenceClassArray[classDesignator].getDominantCClass());
-
-            nextClusterArgIndex = clusterArgumentArray[currentClusterArgIndex].getNextClusterArg();
-            if (nextClusterArgIndex == 0) {
-                // This if statement is entered if there is no next level after the argument being checked.
-                // Just restore the argument list and return false.
-                while (clusterArgumentString.size() > 0) {
-                    tempQueue.add(clusterArgumentString.remove());
-                }
-                while (tempQueue.size() > 0) {
-                    appendToClusterArgList(tempQueue.remove());
-                }
-                return false;
-            } else {
-                if (getTheUltimateDominantClass(
-                        congruenceClassArray[clusterArgumentArray[nextClusterArgIndex].getCcNumber()]
-                                .getDominantCClass()) == classDesignator) {
-                    count++;
-                    currentClusterArgIndex = nextClusterArgIndex;
-                } else {
-                    // it didn't have even the first class for the first argument, just return false and exit
-                    if (clusterArgumentArray[nextClusterArgIndex].getAlternativeArg() == 0) {
-
-                        while (clusterArgumentString.size() > 0) {
-                            tempQueue.add(clusterArgumentString.remove());
-                        }
-                        // restore the cluster argument list
-                        while (tempQueue.size() > 0) {
-                            appendToClusterArgList(tempQueue.remove());
-                        }
-                        return false;
-                    }
-                    // check the alternative args if we can find it
-                    while (clusterArgumentArray[nextClusterArgIndex].getAlternativeArg() != 0) {
-
-                        if (getTheUltimateDominantClass(
-                                clusterArgumentArray[clusterArgumentArray[nextClusterArgIndex].getAlternativeArg()]
-                                        .getCcNumber()) == classDesignator) {
-                            // argument found, increase the count and exit
-                            count++;
-                            currentClusterArgIndex = clusterArgumentArray[nextClusterArgIndex].getAlternativeArg();
-                            break;
-                        } else {
-                            // argument not found, check the next one
-                            nextClusterArgIndex = clusterArgumentArray[nextClusterArgIndex].getAlternativeArg();
-                        }
-                    }
-                }
-
-            }
-            // check if we found all arguments
-            if (argStringLengh == count) {
-                // now check if the cluster exists by checking the label and the arg string
-                if (clusterArray[clusterArgumentArray[currentClusterArgIndex].getClusterNumber()]
-                        .getTreeNodeLabel() == treeNodeLabel
-                        && clusterArray[clusterArgumentArray[currentClusterArgIndex].getClusterNumber()]
-                                .getIndexToArgList() == currentClusterArgIndex) {
-                    // restore the cluster argument list
-                    while (tempQueue.size() > 0) {
-                        appendToClusterArgList(tempQueue.remove());
-                    }
-                    return true;
-                }
-                int clusterNumber = clusterArray[clusterArgumentArray[currentClusterArgIndex].getClusterNumber()]
-                        .getNextWithSameArg();
-                while (clusterNumber != 0) {
-                    if (clusterArray[clusterNumber].getTreeNodeLabel() == treeNodeLabel
-                            && clusterArray[clusterNumber].getIndexToArgList() == currentClusterArgIndex) {
-                        // restore the cluster argument list
-                        while (tempQueue.size() > 0) {
-                            appendToClusterArgList(tempQueue.remove());
-                        }
-                        return true;
-                    }
-                    clusterNumber = clusterArray[clusterNumber].getNextWithSameArg();
-                }
-            }
-        }
-
-        // restore the cluster argument list
-        while (tempQueue.size() > 0) {
-            appendToClusterArgList(tempQueue.remove());
-        }
-        return false;
+    public boolean checkIfRegistered(int treeNodeLabel) { /* Is_Already_Reg_Clstr */
+        int arity = loadCanonicalArguments();
+        return clusterSignatureTable.find(treeNodeLabel, canonicalArguments, arity) != 0;
     }
 
     /**
@@ -497,62 +369,19 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return an accessor for the class containing the cluster to be created.
      */
-    public int getAccessorFor(Integer treeNodeLabel) {/* Get_Accr_for */
-        int currentIndexInArgumentString = 1;
-        int currentIndexInClusterArray = clusterArgumentArray[currentIndexInArgumentString].getClusterNumber();
-        if (clusterArgumentString.size() == 0) {
-            // Assuming everything in the list of clusters with same arguments will point to
-            // currentIndexInArgumentString, walking the list we should eventually find one with the tree node label
-            // we are looking for
-            while (clusterArray[currentIndexInClusterArray].getTreeNodeLabel() != treeNodeLabel) {
-                currentIndexInClusterArray = clusterArray[currentIndexInClusterArray].getNextWithSameArg();
-            }
-            // return the class designator and it should be the dominant one
-            return congruenceClassArray[clusterArray[currentIndexInClusterArray].getIndexToCongruenceClass()]
-                    .getDominantCClass();
+    public int getAccessorFor(int treeNodeLabel) {/* Get_Accr_for */
+        int arity = loadCanonicalArguments();
+        int clusterDesignator = clusterSignatureTable.find(treeNodeLabel, canonicalArguments, arity);
+        clusterArgumentString.clear();
 
-        } else {
-            // The approach assumes the way the args were put in the structure is maintained all throughout
-            int finalCountNeeded = clusterArgumentString.size();
-            int currentClassDesignator = 0;
-            int nextClusterArgument = 1;
-            int countArgumentsFound = 0;
-
-            // The operation is called when we know the cluster exists. Therefore, we should find everything in the
-            // argument string no need to keep the count.
-            while (clusterArgumentString.size() > 0) {
-                currentClassDesignator = removeFirstArgDesignator();
-                currentClassDesignator = congruenceClassArray[currentClassDesignator].getDominantCClass();
-                nextClusterArgument = clusterArgumentArray[nextClusterArgument].getNextClusterArg();
-
-                if (congruenceClassArray[clusterArgumentArray[nextClusterArgument].getCcNumber()]
-                        .getDominantCClass() == currentClassDesignator) {
-                    countArgumentsFound++;
-                } else {
-                    while (clusterArgumentArray[nextClusterArgument].getAlternativeArg() != 0) {
-                        if (getTheUltimateDominantClass(
-                                clusterArgumentArray[clusterArgumentArray[nextClusterArgument].getAlternativeArg()]
-                                        .getCcNumber()) == currentClassDesignator) {
-                            countArgumentsFound++;
-                            nextClusterArgument = clusterArgumentArray[nextClusterArgument].getAlternativeArg();
-                            break;
-                        } else {
-                            nextClusterArgument = clusterArgumentArray[nextClusterArgument].getAlternativeArg();
-                        }
-                    }
-                }
-            }
-
-            if (finalCountNeeded == countArgumentsFound) {
-                return congruenceClassArray[clusterArray[clusterArgumentArray[nextClusterArgument].getClusterNumber()]
-                        .getIndexToCongruenceClass()].getDominantCClass();
-            } else {
-                // we should not get here if everything is set up correctly
-                // but just for safety return 0
-                return 0;
-            }
+        if (clusterDesignator == 0) {
+            // we should not get here if the cluster was checked using checkIfRegistered
+            // but just for safety return 0
+            return 0;
         }
 
+        // return the class designator and it should be the dominant one
+        return getTheUltimateDominantClass(clusterArray[clusterDesignator].getIndexToCongruenceClass());
     }
 
     /**
@@ -567,7 +396,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return the next congruence class accessor after {@param currentCCAccessor}.
      */
-    public int advanceCClassAccessor(Integer treeNodeLabel, int currentCCAccessor) { // Advance_CC_Accr_for
+    public int advanceCClassAccessor(int treeNodeLabel, int currentCCAccessor) { // Advance_CC_Accr_for
         int currentPlantationForTreeNodeLabel = 0;
         int nextPlantationInNextClassAccessor = 0;
 
@@ -613,7 +442,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return {@code true} if we have exhausted all the classes in the variety designated by {@param treeNodeLabel}.
      */
-    public boolean isVarietyMaximal(Integer treeNodeLabel, int currentCCAccessor) { /* Is_Vrty_Maximal_for */
+    public boolean isVarietyMaximal(int treeNodeLabel, int currentCCAccessor) { /* Is_Vrty_Maximal_for */
         int currentPlantationForTreeNodeLabel = 0;
         int nextPlantationInNextClassAccessor = 0;
 
@@ -659,7 +488,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      * @return {@code true} if the {@param treeNodeLabel} is within the nodes in the registry, returns {@code false}
      *         otherwise.
      */
-    public boolean isRegistryLabel(Integer treeNodeLabel) { /* Is_Rgry_Lab */
+    public boolean isRegistryLabel(int treeNodeLabel) { /* Is_Rgry_Lab */
         if (varietyArray[treeNodeLabel] != null) {
             // each node at some point is considered a root node label
             return true;
@@ -712,7 +541,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return the next cluster accessor after {@param currentClusterAccessor}.
      */
-    public int advanceClusterAccessor(Integer treeNodeLabel, int currentClusterAccessor) {
+    public int advanceClusterAccessor(int treeNodeLabel, int currentClusterAccessor) {
         int dominantCluster = currentClusterAccessor;
         while (clusterArray[dominantCluster].getDominantCluster() != currentClusterAccessor) {
             dominantCluster = clusterArray[dominantCluster].getDominantCluster();
@@ -732,7 +561,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return {@code true} if we have exhausted all the clusters in the plantation, otherwise it returns {@code false}
      */
-    public boolean isPlantationMaximal(Integer treeNodeLabel, int currentClusterAccessor) {
+    public boolean isPlantationMaximal(int treeNodeLabel, int currentClusterAccessor) {
         int dominantCluster = currentClusterAccessor;
         while (clusterArray[dominantCluster].getDominantCluster() != currentClusterAccessor) {
             dominantCluster = clusterArray[dominantCluster].getDominantCluster();
@@ -755,7 +584,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return {@code true} iff the {@param cClassAccessor} is minimal, otherwise, return {@code false}
      */
-    public boolean isMinimalVCCDesignator(Integer treeNodeLabel, int cClassAccessor) {
+    public boolean isMinimalVCCDesignator(int treeNodeLabel, int cClassAccessor) {
         if (congruenceClassArray[cClassAccessor].getDominantCClass() == cClassAccessor
                 && varietyArray[treeNodeLabel] != null) {
             return true;
@@ -777,7 +606,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return {@code true} if the plantation designator is minimal, otherwise, it returns {@code false}
      */
-    public boolean isMinimalPlantationClusterDesignator(Integer treeNodeLabel, int cClassAccessor,
+    public boolean isMinimalPlantationClusterDesignator(int treeNodeLabel, int cClassAccessor,
             int clusterAccessor) {
         if (clusterArray[clusterAccessor].getDominantCluster() == clusterAccessor
                 && isMinimalVCCDesignator(treeNodeLabel, cClassAccessor)) {
@@ -807,7 +636,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return the length of an argument string in the registry
      */
-    public int argListLength(Queue<Integer> clusterArgumentString) {
+    public int argListLength(IntRingBuffer clusterArgumentString) {
         return clusterArgumentString.size();
     }
 
@@ -962,8 +791,8 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      * @param treeNodeLabel
      *            The label for the reflexive operator
      */
-    public void addOperatorToSuccedentReflexiveOperatorSet(Integer treeNodeLabel) {
-        succedentReflexiveOperatorsSet.add(treeNodeLabel);
+    public void addOperatorToSuccedentReflexiveOperatorSet(int treeNodeLabel) {
+        succedentReflexiveOperatorsSet.set(treeNodeLabel);
     }
 
     /*************************************
@@ -987,6 +816,27 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
         return cClassDesingator;
     }
 
+    /**
+     * <p>
+     * The operation copies the ultimate dominant class designators for the arguments in the argument string into
+     * {@link #canonicalArguments} without removing them from the argument string.
+     * </p>
+     *
+     * @return the number of arguments in the argument string.
+     */
+    private int loadCanonicalArguments() {
+        int arity = clusterArgumentString.size();
+        if (arity > canonicalArguments.length) {
+            canonicalArguments = Arrays.copyOf(canonicalArguments, Math.max(arity, 2 * canonicalArguments.length));
+        }
+
+        for (int i = 0; i < arity; i++) {
+            canonicalArguments[i] = getTheUltimateDominantClass(clusterArgumentString.get(i));
+        }
+
+        return arity;
+    }
+
     /**
      * <p>
      * This operation checks to see of two classes are congruent
@@ -1049,7 +899,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
                             .getAttribute();
                     multiplier.set(2);
                     classAttributes.and(multiplier);
-                    if (succedentReflexiveOperatorsSet.contains(clusterArray[currentCluster].getTreeNodeLabel())
+                    if (succedentReflexiveOperatorsSet.get(clusterArray[currentCluster].getTreeNodeLabel())
                             && classAttributes.cardinality() == 1) {
                         // we may need the classes to be dominant
                         return true;
@@ -1154,7 +1004,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      * @param plantationTag
      *            a plantation tag for the {@param newPlantation}
      */
-    private void addInVarietyListArray(Integer treeNodeLabel, int newPlantation, int plantationTag) {
+    private void addInVarietyListArray(int treeNodeLabel, int newPlantation, int plantationTag) {
         int currentPlantationInVarietyList = 0;
         if (varietyArray[treeNodeLabel] == null) {
             VarietyList varietyList = new VarietyList(newPlantation, plantationTag);
@@ -1208,6 +1058,10 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
             // update the plantation either by joining their clusters or moving the plantation to the smaller class
             updatePlantationInSmallerClass(secondCCAccessor, firstCCAccessor);
         }
+        // re-hash the signatures using the class that is no longer dominant
+        int mergedCCAccessor = Math.max(firstCCAccessor, secondCCAccessor);
+        clusterSignatureTable.updateAfterMerging(mergedCCAccessor, getTheUltimateDominantClass(mergedCCAccessor));
+
         int level = 0;
         // take the second accessor and find where we should start looking in the arg string, get the level and index in
         // FASOP
@@ -1285,7 +1139,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      * @param plantationDesignatorToRemove
      *            index to the plantation that is to be removed
      */
-    private void removeClassFromVarietyList(Integer treeNodeLabel, int plantationDesignatorToRemove) {
+    private void removeClassFromVarietyList(int treeNodeLabel, int plantationDesignatorToRemove) {
         int currentPlantationInList = varietyArray[treeNodeLabel].getFirstPlantation();
         int previousPlantationInList = 0;
         int nextPlantationInList = 0;
@@ -1329,7 +1183,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
         int plantationDesignator_1 = congruenceClassArray[currentFirstAccessor].getFirstPlantation();
         int plantationDesignator_2 = congruenceClassArray[currentSecondAccessor].getFirstPlantation();
 
-        Integer treeNodeLabel_2, treeNodeLabel_1;
+        int treeNodeLabel_2, treeNodeLabel_1;
         // tree node label 2 is the one for the plantation being moved
         int nextPlantationDesignator_1, nextPlantationDesignator_2;
         while (plantationDesignator_2 != 0) {
@@ -1343,7 +1197,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
             nextPlantationDesignator_2 = plantationArray[plantationDesignator_2].getNextCCPlantation();
 
             // compare the tree node labels and do what is necessary
-            if (treeNodeLabel_2.equals(treeNodeLabel_1)) {
+            if (treeNodeLabel_2 == treeNodeLabel_1) {
                 // the tree nodes for the plantations are the same, join the clusters
                 joinClustersOnSameRootNodePlantation(plantationDesignator_1, plantationDesignator_2);
                 // update the variety list in the variety array
@@ -1392,8 +1246,8 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *            index to the second plantation in the second class
      */
     private void joinPlantationFrom2ndListToFirstList(int plantationDesignator_1, int plantationDesignator_2) {
-        Integer treeNodeLabel_1 = plantationArray[plantationDesignator_1].getTreeNodeLabel();
-        Integer treeNodeLabel_2 = plantationArray[plantationDesignator_2].getTreeNodeLabel();
+        int treeNodeLabel_1 = plantationArray[plantationDesignator_1].getTreeNodeLabel();
+        int treeNodeLabel_2 = plantationArray[plantationDesignator_2].getTreeNodeLabel();
 
         if (treeNodeLabel_1 < treeNodeLabel_2) {
             plantationJoinCase_01(plantationDesignator_1, plantationDesignator_2);
@@ -1518,7 +1372,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
         int next_1, currentPlantationCluster_2, currentPlantationCluster_1, dominantClassDesignator;
 
         // sort them using tree node labels
-        Integer treeNodeLabel_1, treeNodeLabel_2;
+        int treeNodeLabel_1, treeNodeLabel_2;
         treeNodeLabel_1 = plantationArray[plantationDesignator_1].getTreeNodeLabel();
         treeNodeLabel_2 = plantationArray[plantationDesignator_2].getTreeNodeLabel();
 
@@ -1529,7 +1383,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
             treeNodeLabel_1 = plantationArray[plantationDesignator_1].getTreeNodeLabel();
         }
         // the tree nodes for the plantations are the same, join the clusters
-        if (treeNodeLabel_2.equals(treeNodeLabel_1)) {
+        if (treeNodeLabel_2 == treeNodeLabel_1) {
             joinClustersOnSameRootNodePlantation(plantationDesignator_1, plantationDesignator_2);
         } else {
             // keep records of all pointers
@@ -1838,8 +1692,8 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
 
         int nextIndexInClusterArray_7 = 0;
         int nextIndexInClusterArray_3 = 0;
-        Integer label_7 = clusterArray[indexInClusterArray_7].getTreeNodeLabel();
-        Integer label_3 = clusterArray[indexInClusterArray_3].getTreeNodeLabel();
+        int label_7 = clusterArray[indexInClusterArray_7].getTreeNodeLabel();
+        int label_3 = clusterArray[indexInClusterArray_3].getTreeNodeLabel();
 
         while (indexInClusterArray_7 != 0) {
             // move until the next with same argument string is 0
@@ -1855,8 +1709,8 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
             } else if (label_7 < label_3) {
                 // the label for the 7 list is smaller than the 7 list
 
-                if (clusterArray[clusterArray[indexInClusterArray_3].getNextWithSameArg()].getTreeNodeLabel()
-                        .equals(clusterArray[indexInClusterArray_7].getTreeNodeLabel())) {
+                if (clusterArray[clusterArray[indexInClusterArray_3].getNextWithSameArg()]
+                        .getTreeNodeLabel() == clusterArray[indexInClusterArray_7].getTreeNodeLabel()) {
                     indexInClusterArray_3 = clusterArray[indexInClusterArray_3].getNextWithSameArg();
                     label_3 = clusterArray[indexInClusterArray_3].getTreeNodeLabel();
                 } else {
@@ -1873,7 +1727,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
                     label_7 = clusterArray[indexInClusterArray_7].getTreeNodeLabel();
                     label_3 = clusterArray[indexInClusterArray_3].getTreeNodeLabel();
                 }
-            } else if (label_3.equals(label_7)) {
+            } else if (label_3 == label_7) {
                 int dominantClass_3 = getTheUltimateDominantClass(
                         congruenceClassArray[clusterArray[indexInClusterArray_3].getIndexToCongruenceClass()]
                                 .getDominantCClass());
@@ -2020,7 +1874,7 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      *
      * @return an integer value representing an index to the argument array for the argument created
      */
-    private int createClusterArgumentArray(Integer label, Queue<Integer> clusterArgumentString) {
+    private int createClusterArgumentArray(int label, IntRingBuffer clusterArgumentString) {
         // initial index for the cluster argument array (CAA)
         int index = 1;
         int precedingIndex = 0;
@@ -2216,10 +2070,10 @@ public class CongruenceClassRegistry<T1, T2, T3, T4> {
      * @param topCongruenceClusterDesignator
      *            the top congruence cluster designator
      */
-    private void updateNextWithSameArgument(Integer lab, int index, int topCongruenceClusterDesignator) {
+    private void updateNextWithSameArgument(int lab, int index, int topCongruenceClusterDesignator) {
         // get the tree node label of the first cluster
-        Integer label_1 = clusterArray[clusterArgumentArray[index].getClusterNumber()].getTreeNodeLabel();
-        Integer label_2 = lab;
+        int label_1 = clusterArray[clusterArgumentArray[index].getClusterNumber()].getTreeNodeLabel();
+        int label_2 = lab;
         int prevIndexInClusterArray = 0;
         int nextIndexInClusterArray = clusterArgumentArray[index].getClusterNumber();
         ;
@@ -35,7 +35,7 @@ public class CongruenceCluster {
     // Member Fields
     // ===========================================================
 
-    private Integer treeNodeLabel;
+    private int treeNodeLabel;
     private int indexToArgumentList;
     private int indexToCongruenceClass;
     private int tag;
@@ -48,7 +48,7 @@ public class CongruenceCluster {
     // Constructors
     // ===========================================================
 
-    public CongruenceCluster(Integer treeNodeLabel, int toArgList, int toCC, int toClusterTag,
+    public CongruenceCluster(int treeNodeLabel, int toArgList, int toCC, int toClusterTag,
             int nextPlantationCluster, int previousPlantationCluster, int dominantCluster, int nextWithSameArg) {
         this.treeNodeLabel = treeNodeLabel;
         indexToArgumentList = toArgList;
@@ -66,7 +66,7 @@ public class CongruenceCluster {
     // Public Methods
     // ===========================================================
 
-    public Integer getTreeNodeLabel() {
+    public int getTreeNodeLabel() {
         return treeNodeLabel;
     }
 
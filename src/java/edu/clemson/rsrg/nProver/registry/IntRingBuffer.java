@@ -0,0 +1,153 @@
+/*
+ * IntRingBuffer.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * <p>
+ * This class is a first-in-first-out queue of {@code int} values backed by a growable ring buffer. It is used by the
+ * {@link CongruenceClassRegistry} for the argument string and the class merge list, so that neither of them needs to
+ * box its values.
+ * </p>
+ *
+ * @version v1.0
+ */
+public class IntRingBuffer {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The values in the buffer.
+     * </p>
+     */
+    private int[] elements;
+
+    /**
+     * <p>
+     * The index of the first value in {@link #elements}.
+     * </p>
+     */
+    private int head;
+
+    /**
+     * <p>
+     * The number of values in the buffer.
+     * </p>
+     */
+    private int size;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty buffer.
+     * </p>
+     *
+     * @param initialCapacity
+     *            The number of values the buffer can hold before it needs to grow. This must be a power of two.
+     */
+    public IntRingBuffer(int initialCapacity) {
+        elements = new int[initialCapacity];
+        head = 0;
+        size = 0;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This operation adds a value to the end of the buffer.
+     * </p>
+     *
+     * @param value
+     *            The value to be added
+     */
+    public final void add(int value) {
+        if (size == elements.length) {
+            // unwrap the values so the new space comes after the last one
+            int[] newElements = Arrays.copyOf(elements, 2 * elements.length);
+            System.arraycopy(elements, 0, newElements, elements.length, head);
+            elements = newElements;
+        }
+        elements[(head + size) & (elements.length - 1)] = value;
+        size++;
+    }
+
+    /**
+     * <p>
+     * This operation removes all the values from the buffer.
+     * </p>
+     */
+    public final void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * <p>
+     * This operation returns a value without removing it.
+     * </p>
+     *
+     * @param index
+     *            The position of the value, where {@code 0} is the first value
+     *
+     * @return the value at {@param index}.
+     */
+    public final int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+
+        return elements[(head + index) & (elements.length - 1)];
+    }
+
+    /**
+     * <p>
+     * This operation removes the first value from the buffer.
+     * </p>
+     *
+     * @return the first value.
+     */
+    public final int remove() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        int value = elements[head];
+        head = (head + 1) & (elements.length - 1);
+        size--;
+
+        return value;
+    }
+
+    /**
+     * <p>
+     * This operation returns the number of values in the buffer.
+     * </p>
+     *
+     * @return the number of values.
+     */
+    public final int size() {
+        return size;
+    }
+
+}
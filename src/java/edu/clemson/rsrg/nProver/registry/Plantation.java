@@ -29,7 +29,7 @@ public class Plantation {
     // Member Fields
     // ===========================================================
 
-    private Integer treeNodeLabel;
+    private int treeNodeLabel;
     private int firstPlantationCluster;
     private int plantationTag;
     private int nextCCPlantation;
@@ -41,7 +41,7 @@ public class Plantation {
     // ===========================================================
 
     // what goes to plantation tag should be the index in the plantation array, it can act as plantation designator
-    public Plantation(Integer treeNodeLabel, int firstPlantationCluster, int plantationTag, int nextCCPlantation,
+    public Plantation(int treeNodeLabel, int firstPlantationCluster, int plantationTag, int nextCCPlantation,
             int nextVrtyPlantation, int prvVrtyPlantation) {
         this.treeNodeLabel = treeNodeLabel;
         this.firstPlantationCluster = firstPlantationCluster;
@@ -55,7 +55,7 @@ public class Plantation {
     // Public Methods
     // ===========================================================
 
-    public Integer getTreeNodeLabel() {
+    public int getTreeNodeLabel() {
         return treeNodeLabel;
     }
 
@@ -0,0 +1,403 @@
+/*
+ * SymbolInterner.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.utilities;
+
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
+import edu.clemson.rsrg.nProver.GeneralPurposeProver;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * This class assigns a dense integer symbol to each distinct operator and leaf expression the
+ * {@link GeneralPurposeProver} encounters in a module. Leaf expressions are identified by their structure (kind,
+ * qualifier, name, {@code VC} variable state number and mathematical type) and operators by their name, so we don't
+ * need to pretty-print an expression to find out which symbol it is.
+ * </p>
+ * <p>
+ * A single instance is shared by all the {@code VCs} in a module and it is safe to use it from multiple threads.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class SymbolInterner {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The display name for each symbol. These are only computed the first time we see a symbol.
+     * </p>
+     */
+    private final List<String> mySymbolNames;
+
+    /**
+     * <p>
+     * A map from operator names and leaf expression keys to their symbols.
+     * </p>
+     */
+    private final Map<Object, Integer> mySymbols;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The symbol for the {@code <=} operator.
+     * </p>
+     */
+    public static final int LESS_THAN_OR_EQUALS = 1;
+
+    /**
+     * <p>
+     * The symbol for the {@code =} operator.
+     * </p>
+     */
+    public static final int EQUALS = 2;
+
+    /**
+     * <p>
+     * The symbol for the set collection operator.
+     * </p>
+     */
+    public static final int SET_COLLECTION = 3;
+
+    /**
+     * <p>
+     * The symbol for the tuple operator.
+     * </p>
+     */
+    public static final int TUPLE = 4;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an interner that only knows about the built-in operators.
+     * </p>
+     */
+    public SymbolInterner() {
+        mySymbolNames = new ArrayList<>();
+        mySymbols = new ConcurrentHashMap<>();
+
+        // Symbol 0 is never used
+        mySymbolNames.add(null);
+        intern("<=", null);
+        intern("=", null);
+        intern("{_}", null);
+        intern("(_)", null);
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the symbol for a leaf expression. These are the variable, {@code VC} variable, dotted and
+     * literal expressions.
+     * </p>
+     *
+     * @param exp
+     *            A leaf expression.
+     *
+     * @return The symbol for {@code exp}.
+     */
+    public final int getLeafSymbol(Exp exp) {
+        return intern(createLeafKey(exp), exp);
+    }
+
+    /**
+     * <p>
+     * This method returns the symbol for the operator used by a function, infix, outfix or prefix expression.
+     * </p>
+     *
+     * @param exp
+     *            A function-like expression.
+     *
+     * @return The symbol for the operator in {@code exp}.
+     */
+    public final int getOperatorSymbol(AbstractFunctionExp exp) {
+        Object key;
+        if (exp instanceof OutfixExp) {
+            key = ((OutfixExp) exp).getOperator();
+        } else {
+            key = exp.getOperatorAsString();
+        }
+
+        return intern(key, exp);
+    }
+
+    /**
+     * <p>
+     * This method returns the name to display for a symbol.
+     * </p>
+     *
+     * @param symbol
+     *            A symbol returned by this interner.
+     *
+     * @return The display name.
+     */
+    public final synchronized String getSymbolName(int symbol) {
+        return mySymbolNames.get(symbol);
+    }
+
+    /**
+     * <p>
+     * This method returns the number of symbols (including the unused symbol {@code 0}) assigned so far.
+     * </p>
+     *
+     * @return The number of symbols.
+     */
+    public final synchronized int size() {
+        return mySymbolNames.size();
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates the key that identifies a leaf expression.
+     * </p>
+     *
+     * @param exp
+     *            A leaf expression.
+     *
+     * @return The key for {@code exp}.
+     */
+    private static LeafKey createLeafKey(Exp exp) {
+        LeafKey key;
+        if (exp instanceof VarExp) {
+            VarExp varExp = (VarExp) exp;
+            key = new LeafKey(VarExp.class, varExp.getQualifier(), varExp.getName().getName(), 0,
+                    varExp.getQuantification(), exp.getMathType());
+        } else if (exp instanceof VCVarExp) {
+            VCVarExp vcVarExp = (VCVarExp) exp;
+            key = new LeafKey(VCVarExp.class, null, createLeafKey(vcVarExp.getExp()), vcVarExp.getStateNum(), null,
+                    exp.getMathType());
+        } else if (exp instanceof DotExp) {
+            List<Exp> segments = ((DotExp) exp).getSegments();
+            List<LeafKey> segmentKeys = new ArrayList<>(segments.size());
+            for (Exp segment : segments) {
+                segmentKeys.add(createLeafKey(segment));
+            }
+            key = new LeafKey(DotExp.class, null, segmentKeys, 0, null, exp.getMathType());
+        } else if (exp instanceof IntegerExp) {
+            IntegerExp integerExp = (IntegerExp) exp;
+            key = new LeafKey(IntegerExp.class, integerExp.getQualifier(), integerExp.getValue(), 0, null,
+                    exp.getMathType());
+        } else if (exp instanceof CharExp) {
+            key = new LeafKey(CharExp.class, null, ((CharExp) exp).getValue(), 0, null, exp.getMathType());
+        } else if (exp instanceof DoubleExp) {
+            key = new LeafKey(DoubleExp.class, null, ((DoubleExp) exp).getValue(), 0, null, exp.getMathType());
+        } else if (exp instanceof StringExp) {
+            key = new LeafKey(StringExp.class, null, ((StringExp) exp).getValue(), 0, null, exp.getMathType());
+        } else {
+            // Anything else is identified by what it looks like
+            key = new LeafKey(exp.getClass(), null, exp.toString(), 0, null, exp.getMathType());
+        }
+
+        return key;
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the symbol for {@code key}, assigning a new one if this is the first time we have
+     * seen it.
+     * </p>
+     *
+     * @param key
+     *            An operator name or a leaf expression key.
+     * @param exp
+     *            The expression we got {@code key} from. This is only used to compute the display name and can be
+     *            {@code null} if {@code key} is the display name.
+     *
+     * @return The symbol for {@code key}.
+     */
+    private int intern(Object key, Exp exp) {
+        Integer symbol = mySymbols.get(key);
+        if (symbol == null) {
+            synchronized (this) {
+                symbol = mySymbols.get(key);
+                if (symbol == null) {
+                    String name;
+                    if (exp instanceof AbstractFunctionExp) {
+                        name = ((AbstractFunctionExp) exp).getOperatorAsString();
+                    } else if (exp != null) {
+                        name = exp.toString();
+                    } else {
+                        name = key.toString();
+                    }
+
+                    symbol = mySymbolNames.size();
+                    mySymbolNames.add(name);
+                    mySymbols.put(key, symbol);
+                }
+            }
+        }
+
+        return symbol;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * The structural identity of a leaf expression.
+     * </p>
+     */
+    private static class LeafKey {
+
+        /**
+         * <p>
+         * The class of the leaf expression.
+         * </p>
+         */
+        private final Class<?> myKind;
+
+        /**
+         * <p>
+         * The precomputed hash code.
+         * </p>
+         */
+        private final int myHashCode;
+
+        /**
+         * <p>
+         * The mathematical type of the leaf expression.
+         * </p>
+         */
+        private final MTType myMathType;
+
+        /**
+         * <p>
+         * The name, value or segment keys of the leaf expression.
+         * </p>
+         */
+        private final Object myName;
+
+        /**
+         * <p>
+         * The qualifier of the leaf expression.
+         * </p>
+         */
+        private final String myQualifier;
+
+        /**
+         * <p>
+         * The quantification of the leaf expression.
+         * </p>
+         */
+        private final SymbolTableEntry.Quantification myQuantification;
+
+        /**
+         * <p>
+         * The state number of a {@link VCVarExp}.
+         * </p>
+         */
+        private final int myStateNum;
+
+        /**
+         * <p>
+         * This creates a new key.
+         * </p>
+         *
+         * @param kind
+         *            The class of the leaf expression.
+         * @param qualifier
+         *            The qualifier of the leaf expression.
+         * @param name
+         *            The name, value or segment keys of the leaf expression.
+         * @param stateNum
+         *            The state number of a {@link VCVarExp}.
+         * @param quantification
+         *            The quantification of the leaf expression.
+         * @param mathType
+         *            The mathematical type of the leaf expression.
+         */
+        private LeafKey(Class<?> kind, PosSymbol qualifier, Object name, int stateNum,
+                SymbolTableEntry.Quantification quantification, MTType mathType) {
+            myKind = kind;
+            myQualifier = qualifier == null ? null : qualifier.getName();
+            myName = name;
+            myStateNum = stateNum;
+            myQuantification = quantification;
+            myMathType = mathType;
+
+            // The mathematical type is left out on purpose, since the alpha equivalence
+            // check in MTType's hashCode/equals is far more expensive than everything else.
+            int hash = myKind.hashCode();
+            hash = 31 * hash + Objects.hashCode(myQualifier);
+            hash = 31 * hash + myName.hashCode();
+            hash = 31 * hash + myStateNum;
+            hash = 31 * hash + Objects.hashCode(myQuantification);
+            myHashCode = hash;
+        }
+
+        /**
+         * <p>
+         * This method overrides the default equals method implementation.
+         * </p>
+         *
+         * @param o
+         *            Object to be compared.
+         *
+         * @return {@code true} if all the fields are equal, {@code false} otherwise.
+         */
+        @Override
+        public final boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LeafKey)) {
+                return false;
+            }
+
+            LeafKey leafKey = (LeafKey) o;
+            return myHashCode == leafKey.myHashCode && myStateNum == leafKey.myStateNum && myKind == leafKey.myKind
+                    && Objects.equals(myQualifier, leafKey.myQualifier) && myName.equals(leafKey.myName)
+                    && myQuantification == leafKey.myQuantification
+                    && Objects.equals(myMathType, leafKey.myMathType);
+        }
+
+        /**
+         * <p>
+         * This method overrides the default {@code hashCode} method implementation.
+         * </p>
+         *
+         * @return The hash code associated with the object.
+         */
+        @Override
+        public final int hashCode() {
+            return myHashCode;
+        }
+
+    }
+
+}
@@ -16,10 +16,12 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.nProver.GeneralPurposeProver;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.SymbolInterner;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.statushandling.exception.SourceErrorException;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,10 +54,11 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
 
     /**
      * <p>
-     * This map contains the mapping between expressions and its associated integer number.
+     * This array maps each symbol from {@link #mySymbolInterner} to the label it was assigned in this sequent. A
+     * {@code 0} means we haven't assigned a label to that symbol yet.
      * </p>
      */
-    protected final Map<String, Integer> myExpLabels;
+    private int[] myLabels;
 
     /**
      * <p>
@@ -77,7 +80,14 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      * This registry contains the target sequent VC to be proved.
      * </p>
      */
-    protected final CongruenceClassRegistry<Integer, String, String, String> myRegistry;
+    protected final CongruenceClassRegistry myRegistry;
+
+    /**
+     * <p>
+     * The module-wide interner that identifies the operators and leaf expressions we encounter.
+     * </p>
+     */
+    protected final SymbolInterner mySymbolInterner;
 
     // ===========================================================
     // Global Operator Labels
@@ -108,16 +118,19 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      *
      * @param registry
      *            The registry that will contain the target sequent VC to be proved.
-     * @param expLabels
-     *            A mapping between expressions and its associated integer number.
+     * @param symbolInterner
+     *            The module-wide interner that identifies operators and leaf expressions.
+     * @param labels
+     *            A mapping between symbols and its associated label number.
      * @param nextLabel
      *            The number to be assigned initially as a label.
      */
-    protected AbstractRegisterSequent(CongruenceClassRegistry<Integer, String, String, String> registry,
-            Map<String, Integer> expLabels, int nextLabel) {
+    protected AbstractRegisterSequent(CongruenceClassRegistry registry, SymbolInterner symbolInterner, int[] labels,
+            int nextLabel) {
         myArgumentsCache = new LinkedHashMap<>();
         myRegistry = registry;
-        myExpLabels = expLabels;
+        mySymbolInterner = symbolInterner;
+        myLabels = labels;
         myLiteralCounter = 0;
         myNextLabel = nextLabel;
     }
@@ -130,23 +143,6 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
     // Math Expression-Related
     // -----------------------------------------------------------
 
-    /**
-     * <p>
-     * Code that gets executed after visiting a {@link InfixExp}.
-     * </p>
-     *
-     * @param exp
-     *            An infix expression.
-     */
-    @Override
-    public void postInfixExp(InfixExp exp) {
-        // If this is not an infix operator we have seen, then add it to our map
-        if (!myExpLabels.containsKey(exp.getOperatorAsString())) {
-            myExpLabels.put(exp.getOperatorAsString(), myNextLabel);
-            myNextLabel++;
-        }
-    }
-
     /**
      * <p>
      * This method redefines how a {@link DotExp} should be walked.
@@ -189,23 +185,6 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
         return true;
     }
 
-    /**
-     * <p>
-     * Code that gets executed after visiting a {@link FunctionExp}.
-     * </p>
-     *
-     * @param exp
-     *            A function expression.
-     */
-    @Override
-    public void postFunctionExp(FunctionExp exp) {
-        // If this is not a function name we have seen, then add it to our map
-        if (!myExpLabels.containsKey(exp.getOperatorAsString())) {
-            myExpLabels.put(exp.getOperatorAsString(), myNextLabel);
-            myNextLabel++;
-        }
-    }
-
     /**
      * <p>
      * This method redefines how a {@link FunctionExp} should be walked.
@@ -251,6 +230,10 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      * <p>
      * Code that gets executed after visiting a {@link LiteralExp}.
      * </p>
+     * <p>
+     * <em>Note:</em> This method modifies {@code exp}, so the expressions we walk must not be shared with anything
+     * that could be using them at the same time.
+     * </p>
      *
      * @param exp
      *            A literal expression.
@@ -266,57 +249,6 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
         storeInArgumentCache(exp);
     }
 
-    /**
-     * <p>
-     * Code that gets executed after visiting an {@link OutfixExp}.
-     * </p>
-     *
-     * @param exp
-     *            An outfix expression.
-     */
-    @Override
-    public void postOutfixExp(OutfixExp exp) {
-        // If this is not an outfix operator we have seen, then add it to our map
-        if (!myExpLabels.containsKey(exp.getOperatorAsString())) {
-            myExpLabels.put(exp.getOperatorAsString(), myNextLabel);
-            myNextLabel++;
-        }
-    }
-
-    /**
-     * <p>
-     * Code that gets executed after visiting a {@link PrefixExp}.
-     * </p>
-     *
-     * @param exp
-     *            A prefix expression.
-     */
-    @Override
-    public void postPrefixExp(PrefixExp exp) {
-        // If this is not a prefix operator we have seen, then add it to our map
-        if (!myExpLabels.containsKey(exp.getOperatorAsString())) {
-            myExpLabels.put(exp.getOperatorAsString(), myNextLabel);
-            myNextLabel++;
-        }
-    }
-
-    /**
-     * <p>
-     * Code that gets executed after visiting a {@link SetCollectionExp}.
-     * </p>
-     *
-     * @param exp
-     *            A set collection expression.
-     */
-    @Override
-    public void postSetCollectionExp(SetCollectionExp exp) {
-        // If this is not a prefix operator we have seen, then add it to our map
-        if (!myExpLabels.containsKey("{_}")) {
-            myExpLabels.put("{_}", myNextLabel);
-            myNextLabel++;
-        }
-    }
-
     /**
      * <p>
      * This method redefines how a {@link SetCollectionExp} should be walked.
@@ -348,23 +280,6 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
         return true;
     }
 
-    /**
-     * <p>
-     * Code that gets executed after visiting a {@link TupleExp}.
-     * </p>
-     *
-     * @param exp
-     *            A tuple expression.
-     */
-    @Override
-    public void postTupleExp(TupleExp exp) {
-        // If this is not a prefix operator we have seen, then add it to our map
-        if (!myExpLabels.containsKey("(_)")) {
-            myExpLabels.put("(_)", myNextLabel);
-            myNextLabel++;
-        }
-    }
-
     /**
      * <p>
      * This method redefines how a {@link TupleExp} should be walked.
@@ -447,13 +362,39 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
 
     /**
      * <p>
-     * This method returns the mapping from expression to its associated number.
+     * This method returns the mapping from expression to its associated number. The names are looked up from the
+     * {@link SymbolInterner}, so this should only be used when we need to display the labels.
      * </p>
      *
      * @return A mapping from {@link String} to {@link Integer}.
      */
     public final Map<String, Integer> getExpLabels() {
-        return myExpLabels;
+        String[] names = new String[myNextLabel];
+        for (int symbol = 1; symbol < myLabels.length; symbol++) {
+            if (myLabels[symbol] != 0) {
+                names[myLabels[symbol]] = mySymbolInterner.getSymbolName(symbol);
+            }
+        }
+
+        Map<String, Integer> expLabels = new LinkedHashMap<>();
+        for (int label = 1; label < names.length; label++) {
+            if (names[label] != null) {
+                expLabels.put(names[label], label);
+            }
+        }
+
+        return expLabels;
+    }
+
+    /**
+     * <p>
+     * This method returns the mapping from symbol to its associated label number.
+     * </p>
+     *
+     * @return An array indexed by symbol.
+     */
+    public final int[] getLabels() {
+        return myLabels;
     }
 
     /**
@@ -474,10 +415,68 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      *
      * @return The registry containing the sequent we are trying to prove.
      */
-    public final CongruenceClassRegistry<Integer, String, String, String> getRegistry() {
+    public final CongruenceClassRegistry getRegistry() {
         return myRegistry;
     }
 
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method returns the label for a symbol, assigning the next label if it is the first time we see the symbol in
+     * this sequent.
+     * </p>
+     *
+     * @param symbol
+     *            A symbol returned by {@link #mySymbolInterner}.
+     *
+     * @return The label number.
+     */
+    protected final int getLabel(int symbol) {
+        if (symbol >= myLabels.length) {
+            myLabels = Arrays.copyOf(myLabels, Math.max(symbol + 1, 2 * myLabels.length));
+        }
+
+        if (myLabels[symbol] == 0) {
+            myLabels[symbol] = myNextLabel;
+            myNextLabel++;
+        }
+
+        return myLabels[symbol];
+    }
+
+    /**
+     * <p>
+     * This method returns the label for the operator used by {@code exp}.
+     * </p>
+     *
+     * @param exp
+     *            A function, infix, outfix or prefix expression.
+     *
+     * @return The label number.
+     */
+    protected final int getOperatorLabel(AbstractFunctionExp exp) {
+        return getLabel(mySymbolInterner.getOperatorSymbol(exp));
+    }
+
+    /**
+     * <p>
+     * This method checks to see if {@code exp} is the unqualified boolean constant {@code name}.
+     * </p>
+     *
+     * @param exp
+     *            A variable expression.
+     * @param name
+     *            Either {@code true} or {@code false}.
+     *
+     * @return {@code true} if it is the constant, {@code false} otherwise.
+     */
+    protected static boolean isBooleanConstant(VarExp exp, String name) {
+        return exp.getQualifier() == null && exp.getName().getName().equals(name);
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
@@ -492,14 +491,9 @@ public abstract class AbstractRegisterSequent extends TreeWalkerStackVisitor {
      *            Expression that we are currently evaluating.
      */
     private void storeInArgumentCache(Exp exp) {
-        if (!myExpLabels.containsKey(exp.toString())) {
-            myExpLabels.put(exp.toString(), myNextLabel);
-            myNextLabel++;
-        }
-
         // Logic for handling variable, VC variable and literal expressions as
         // arguments to other functions and operators.
-        int variableNumber = myExpLabels.get(exp.toString());
+        int variableNumber = getLabel(mySymbolInterner.getLeafSymbol(exp));
         if (myRegistry.checkIfRegistered(variableNumber)) {
             myArgumentsCache.put(exp, myRegistry.getAccessorFor(variableNumber));
         } else {
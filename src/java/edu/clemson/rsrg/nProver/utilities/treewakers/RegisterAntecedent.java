@@ -15,9 +15,9 @@ package edu.clemson.rsrg.nProver.utilities.treewakers;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.SymbolInterner;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
 import java.util.BitSet;
-import java.util.Map;
 
 /**
  * <p>
@@ -43,14 +43,16 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      *
      * @param registry
      *            The registry that will contain the target sequent VC to be proved.
-     * @param expLabels
-     *            A mapping between expressions and its associated integer number.
+     * @param symbolInterner
+     *            The module-wide interner that identifies operators and leaf expressions.
+     * @param labels
+     *            A mapping between symbols and its associated label number.
      * @param nextLabel
      *            The number to be assigned initially as a label.
      */
-    public RegisterAntecedent(CongruenceClassRegistry<Integer, String, String, String> registry,
-            Map<String, Integer> expLabels, int nextLabel) {
-        super(registry, expLabels, nextLabel);
+    public RegisterAntecedent(CongruenceClassRegistry registry, SymbolInterner symbolInterner, int[] labels,
+            int nextLabel) {
+        super(registry, symbolInterner, labels, nextLabel);
     }
 
     // ===========================================================
@@ -71,8 +73,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postInfixExp(InfixExp exp) {
-        super.postInfixExp(exp);
-        int operatorNumber = myExpLabels.get(exp.getOperatorAsString());
+        int operatorNumber = getOperatorLabel(exp);
         int lhsArgument = myArgumentsCache.remove(exp.getLeft());
         int rhsArgument = myArgumentsCache.remove(exp.getRight());
 
@@ -100,13 +101,11 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postFunctionExp(FunctionExp exp) {
-        super.postFunctionExp(exp);
-
         // Logic for handling function expressions in the antecedent
         for (Exp argument : exp.getArguments()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, getOperatorLabel(exp));
     }
 
     /**
@@ -119,12 +118,10 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postOutfixExp(OutfixExp exp) {
-        super.postOutfixExp(exp);
-
         // Logic for handling outfix expressions in the antecedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, getOperatorLabel(exp));
     }
 
     /**
@@ -137,12 +134,10 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postPrefixExp(PrefixExp exp) {
-        super.postPrefixExp(exp);
-
         // Logic for handling prefix expressions in the antecedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, getOperatorLabel(exp));
     }
 
     /**
@@ -155,13 +150,11 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postSetCollectionExp(SetCollectionExp exp) {
-        super.postSetCollectionExp(exp);
-
         // Logic for handling set collection expressions in the antecedent
         for (Exp argument : exp.getVars()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get("{_}"));
+        registerFunction(exp, getLabel(SymbolInterner.SET_COLLECTION));
     }
 
     /**
@@ -174,13 +167,11 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postTupleExp(TupleExp exp) {
-        super.postTupleExp(exp);
-
         // Logic for handling tuple expressions in the antecedent
         for (Exp field : exp.getFields()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(field));
         }
-        registerFunction(exp, myExpLabels.get("(_)"));
+        registerFunction(exp, getLabel(SymbolInterner.TUPLE));
     }
 
     /**
@@ -203,7 +194,7 @@ public class RegisterAntecedent extends AbstractRegisterSequent {
         // True is a zero element (i. e., ( F1 or F2 or ... or Fn or True ) = ( True ) ).
         // In the zero element cases, the Boolean constant can be eliminated by expressing
         // A ==> { True } by A ==> { } and { False } ==> S by { } ==> S."
-        if (!(super.getAncestorSize() == 1 && exp.toString().equals("false"))) {
+        if (!(super.getAncestorSize() == 1 && isBooleanConstant(exp, "false"))) {
             super.postVarExp(exp);
         }
     }
@@ -15,9 +15,9 @@ package edu.clemson.rsrg.nProver.utilities.treewakers;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.nProver.registry.CongruenceClassRegistry;
+import edu.clemson.rsrg.nProver.utilities.SymbolInterner;
 import edu.clemson.rsrg.treewalk.TreeWalkerStackVisitor;
 import java.util.BitSet;
-import java.util.Map;
 
 /**
  * <p>
@@ -43,14 +43,16 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      *
      * @param registry
      *            The registry that will contain the target sequent VC to be proved.
-     * @param expLabels
-     *            A mapping between expressions and its associated integer number.
+     * @param symbolInterner
+     *            The module-wide interner that identifies operators and leaf expressions.
+     * @param labels
+     *            A mapping between symbols and its associated label number.
      * @param nextLabel
      *            The number to be assigned initially as a label.
      */
-    public RegisterSuccedent(CongruenceClassRegistry<Integer, String, String, String> registry,
-            Map<String, Integer> expLabels, int nextLabel) {
-        super(registry, expLabels, nextLabel);
+    public RegisterSuccedent(CongruenceClassRegistry registry, SymbolInterner symbolInterner, int[] labels,
+            int nextLabel) {
+        super(registry, symbolInterner, labels, nextLabel);
     }
 
     // ===========================================================
@@ -71,8 +73,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postInfixExp(InfixExp exp) {
-        super.postInfixExp(exp);
-        int operatorNumber = myExpLabels.get(exp.getOperatorAsString());
+        int operatorNumber = getOperatorLabel(exp);
         int accessor = 0;
 
         // Logic for handling infix expressions in the succedent
@@ -132,13 +133,11 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      */
     @Override
     public void postFunctionExp(FunctionExp exp) {
-        super.postFunctionExp(exp);
-
         // Logic for handling function expressions in the succedent
         for (Exp argument : exp.getArguments()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, getOperatorLabel(exp));
     }
 
     /**
@@ -151,12 +150,10 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      */
     @Override
     public void postOutfixExp(OutfixExp exp) {
-        super.postOutfixExp(exp);
-
         // Logic for handling outfix expressions in the succedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, getOperatorLabel(exp));
     }
 
     /**
@@ -169,12 +166,10 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postPrefixExp(PrefixExp exp) {
-        super.postPrefixExp(exp);
-
         // Logic for handling prefix expressions in the succedent
         // has only one argument, should run once
         myRegistry.appendToClusterArgList(myArgumentsCache.remove(exp.getArgument()));
-        registerFunction(exp, myExpLabels.get(exp.getOperatorAsString()));
+        registerFunction(exp, getOperatorLabel(exp));
     }
 
     /**
@@ -187,13 +182,11 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postSetCollectionExp(SetCollectionExp exp) {
-        super.postSetCollectionExp(exp);
-
         // Logic for handling set collection expressions in the succedent
         for (Exp argument : exp.getVars()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(argument));
         }
-        registerFunction(exp, myExpLabels.get("{_}"));
+        registerFunction(exp, getLabel(SymbolInterner.SET_COLLECTION));
     }
 
     /**
@@ -206,13 +199,11 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
      */
     @Override
     public final void postTupleExp(TupleExp exp) {
-        super.postTupleExp(exp);
-
         // Logic for handling set collection expressions in the succedent
         for (Exp field : exp.getFields()) {
             myRegistry.appendToClusterArgList(myArgumentsCache.remove(field));
         }
-        registerFunction(exp, myExpLabels.get("(_)"));
+        registerFunction(exp, getLabel(SymbolInterner.TUPLE));
     }
 
     /**
@@ -235,7 +226,7 @@ public class RegisterSuccedent extends AbstractRegisterSequent {
         // True is a zero element (i. e., ( F1 or F2 or ... or Fn or True ) = ( True ) ).
         // In the zero element cases, the Boolean constant can be eliminated by expressing
         // A ==> { True } by A ==> { } and { False } ==> S by { } ==> S."
-        if (!(super.getAncestorSize() == 1 && exp.toString().equals("true"))) {
+        if (!(super.getAncestorSize() == 1 && isBooleanConstant(exp, "true"))) {
             super.postVarExp(exp);
         }
     }
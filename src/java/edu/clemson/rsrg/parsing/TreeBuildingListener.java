@@ -50,6 +50,7 @@ import edu.clemson.rsrg.absyn.statements.*;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.file.ResolveFile;
 import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.misc.Utilities;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
@@ -166,6 +167,13 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      */
     private ModuleDec myFinalModule;
 
+    /**
+     * <p>
+     * This collects the time spent converting syntactic sugar.
+     * </p>
+     */
+    private final CompilerMetrics myMetrics;
+
     /**
      * <p>
      * The current file we are compiling.
@@ -196,8 +204,27 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      *            Type graph that indicates relationship between different mathematical types.
      */
     public TreeBuildingListener(ResolveFile file, TypeGraph typeGraph) {
+        this(file, typeGraph, CompilerMetrics.DISABLED);
+    }
+
+    /**
+     * <p>
+     * Create a listener to walk the entire compiler generated ANTLR4 parser tree and generate the intermediate
+     * representation objects used by the subsequent modules. The time spent converting syntactic sugar is recorded in
+     * {@code metrics}.
+     * </p>
+     *
+     * @param file
+     *            The current file we are compiling.
+     * @param typeGraph
+     *            Type graph that indicates relationship between different mathematical types.
+     * @param metrics
+     *            The object that collects the compiler metrics.
+     */
+    public TreeBuildingListener(ResolveFile file, TypeGraph typeGraph, CompilerMetrics metrics) {
         myTypeGraph = typeGraph;
         myFile = file;
+        myMetrics = metrics;
         myFinalModule = null;
         myNodes = new ParseTreeProperty<>();
         myDefinitionMemberList = null;
@@ -230,8 +257,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
      */
     @Override
     public void exitModule(ResolveParser.ModuleContext ctx) {
-        myNodes.put(ctx, myNodes.get(ctx.getChild(0)));
-        myFinalModule = (ModuleDec) myNodes.get(ctx.getChild(0));
+        myFinalModule = (ModuleDec) myNodes.removeFrom(ctx.getChild(0));
     }
 
     // -----------------------------------------------------------
@@ -295,6 +321,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitPrecisItem(ResolveParser.PrecisItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -398,6 +425,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitFacilityItem(ResolveParser.FacilityItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -547,6 +575,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitConceptItem(ResolveParser.ConceptItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -678,6 +707,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitConceptImplItem(ResolveParser.ConceptImplItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -763,6 +793,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitEnhancementItem(ResolveParser.EnhancementItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -863,6 +894,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitImplItem(ResolveParser.ImplItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -950,6 +982,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitConceptPerformanceItem(ResolveParser.ConceptPerformanceItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -1042,6 +1075,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
     @Override
     public void exitEnhancementPerformanceItem(ResolveParser.EnhancementPerformanceItemContext ctx) {
         myNodes.put(ctx, myNodes.removeFrom(ctx.getChild(0)));
+        releaseParseTree(ctx);
     }
 
     // -----------------------------------------------------------
@@ -2102,7 +2136,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         // Attempt to resolve all the syntactic sugar conversions
         SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
                 myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionProcDec);
+        applySugarConverter(converter, beforeConversionProcDec);
 
         // Obtain the new ProcedureDec generated by the converter
         ProcedureDec afterConversionProcDec = (ProcedureDec) converter.getProcessedElement();
@@ -2164,7 +2198,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         // Attempt to resolve all the syntactic sugar conversions
         SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
                 myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionProcDec);
+        applySugarConverter(converter, beforeConversionProcDec);
 
         // Obtain the new ProcedureDec generated by the converter
         ProcedureDec afterConversionProcDec = (ProcedureDec) converter.getProcessedElement();
@@ -2211,7 +2245,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         // Attempt to resolve all the syntactic sugar conversions
         SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
                 myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionOpProcDec);
+        applySugarConverter(converter, beforeConversionOpProcDec);
 
         // Obtain the new OperationProcedureDec generated by the converter
         OperationProcedureDec afterConversionOpProcDec = (OperationProcedureDec) converter.getProcessedElement();
@@ -2261,7 +2295,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         // Attempt to resolve all the syntactic sugar conversions
         SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
                 myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionOpProcDec);
+        applySugarConverter(converter, beforeConversionOpProcDec);
 
         // Obtain the new OperationProcedureDec generated by the converter
         OperationProcedureDec afterConversionOpProcDec = (OperationProcedureDec) converter.getProcessedElement();
@@ -4780,6 +4814,22 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         return usesList;
     }
 
+    /**
+     * <p>
+     * An helper method that applies the syntactic sugar conversions to {@code element} and records the time spent doing
+     * so.
+     * </p>
+     *
+     * @param converter
+     *            The syntactic sugar converter.
+     * @param element
+     *            The element we are converting.
+     */
+    private void applySugarConverter(SyntacticSugarConverter converter, ResolveConceptualElement element) {
+        myMetrics.time(myFile.getName(), CompilerMetrics.Phase.SUGAR_CONVERSION,
+                () -> TreeWalker.visit(converter, element));
+    }
+
     /**
      * <p>
      * Create a {@link FacilityDec} for the current parser rule we are visiting.
@@ -4906,7 +4956,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         // Attempt to resolve all the syntactic sugar conversions
         SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
                 myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionFinalItem);
+        applySugarConverter(converter, beforeConversionFinalItem);
 
         // Obtain the new TypeInitFinalItem generated by the converter
         FacilityInitFinalItem afterConversionFinalItem = (FacilityInitFinalItem) converter.getProcessedElement();
@@ -5046,7 +5096,7 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         // Attempt to resolve all the syntactic sugar conversions
         SyntacticSugarConverter converter = new SyntacticSugarConverter(myArrayNameTyToInnerTyMap, myCopyTRList,
                 myCopySSRList, myNewElementCounter);
-        TreeWalker.visit(converter, beforeConversionFinalItem);
+        applySugarConverter(converter, beforeConversionFinalItem);
 
         // Obtain the new TypeInitFinalItem generated by the converter
         RealizInitFinalItem afterConversionFinalItem = (RealizInitFinalItem) converter.getProcessedElement();
@@ -5264,6 +5314,24 @@ public class TreeBuildingListener extends ResolveParserBaseListener {
         return retval;
     }
 
+    /**
+     * <p>
+     * An helper method that releases the parse tree below a module item once its declaration has been built. The module
+     * node only looks at the item's immediate children when it builds the module declaration, so everything below them
+     * can be garbage collected while we walk the rest of the module.
+     * </p>
+     *
+     * @param ctx
+     *            A module item node in ANTLR4 AST.
+     */
+    private void releaseParseTree(ParserRuleContext ctx) {
+        for (ParseTree child : ctx.children) {
+            if (child instanceof ParserRuleContext) {
+                ((ParserRuleContext) child).children = null;
+            }
+        }
+    }
+
     // ===========================================================
     // Helper Constructs
     // ===========================================================
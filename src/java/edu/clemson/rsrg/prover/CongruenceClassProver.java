@@ -15,18 +15,47 @@ package edu.clemson.rsrg.prover;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
-import edu.clemson.rsrg.init.output.OutputListener;
+import edu.clemson.rsrg.nProver.GeneralPurposeProver;
+import edu.clemson.rsrg.prover.absyn.PExp;
+import edu.clemson.rsrg.prover.absyn.expressions.PSymbol;
+import edu.clemson.rsrg.prover.exception.NotPSymbolException;
+import edu.clemson.rsrg.prover.output.Metrics;
 import edu.clemson.rsrg.prover.output.PerVCProverModel;
 import edu.clemson.rsrg.prover.utilities.ImmutableVC;
+import edu.clemson.rsrg.prover.utilities.PExpWithScore;
+import edu.clemson.rsrg.prover.utilities.Utilities;
+import edu.clemson.rsrg.prover.utilities.theorems.Theorem;
+import edu.clemson.rsrg.prover.utilities.theorems.TheoremPrioritizer;
+import edu.clemson.rsrg.typeandpopulate.entry.TheoremEntry;
+import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.exception.SymbolNotOfKindTypeException;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import edu.clemson.rsrg.typeandpopulate.query.EntryTypeQuery;
+import edu.clemson.rsrg.typeandpopulate.query.UnqualifiedNameQuery;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
 import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
-import java.util.List;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.util.*;
 import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_VERIFY_VC;
 
 /**
  * <p>
  * This class is an {@code Congruence Closure} automated prover that verifies {@code VCs}.
  * </p>
+ * <p>
+ * Each {@code VC} is converted into an {@link ImmutableVC} and the theorems available to the module are applied
+ * (in the order suggested by the {@link TheoremPrioritizer}) until the {@code VC} is proved or we run out of time.
+ * {@link #proveVC(VerificationCondition)} can be called from several threads at once, so the {@code VCs} in a module
+ * can be proved in parallel.
+ * </p>
+ * <p>
+ * The decision to halt after too many unproved {@code VCs} is made by {@link #recordVCResult(PerVCProverModel)}, which
+ * sees the results in the order the {@code VCs} were generated. This means the same {@code VCs} are always skipped, no
+ * matter which worker thread finishes first.
+ * </p>
  *
  * @author Mike Kabbani
  *
@@ -52,6 +81,13 @@ public class CongruenceClassProver {
      */
     private final ModuleScope myCurrentModuleScope;
 
+    /**
+     * <p>
+     * Boolean flag that indicates we have failed to prove enough {@code VCs} to halt the automated prover.
+     * </p>
+     */
+    private volatile boolean myHaltedFlag;
+
     /**
      * <p>
      * The number of tries before halting the automated prover
@@ -61,10 +97,34 @@ public class CongruenceClassProver {
 
     /**
      * <p>
-     * The various different output listeners that are expecting an update.
+     * The number of {@code VCs} that we have failed to prove so far. This is only updated by
+     * {@link #recordVCResult(PerVCProverModel)}.
+     * </p>
+     */
+    private int myNumUnprovedVCs;
+
+    /**
+     * <p>
+     * The number of threads that can be used to prove {@code VCs}.
+     * </p>
+     */
+    private final int myNumWorkers;
+
+    /**
+     * <p>
+     * The theorems available to the module we are proving. These are only read after construction, so they can be
+     * shared by all the threads.
      * </p>
      */
-    private List<OutputListener> myOutputListeners;
+    private final Map<String, PExp> myTheoremAssertions;
+
+    /**
+     * <p>
+     * {@link Theorem} objects keep track of the bindings they have tried for the {@code VC} they are currently applied
+     * to, so each thread that is proving {@code VCs} gets its own copy.
+     * </p>
+     */
+    private final ThreadLocal<TheoremLibrary> myTheoremLibraries;
 
     /**
      * <p>
@@ -80,16 +140,23 @@ public class CongruenceClassProver {
      */
     private final TypeGraph myTypeGraph;
 
+    // -----------------------------------------------------------
+    // N and Z
+    // -----------------------------------------------------------
+
     /**
      * <p>
-     * The array of VC models.
+     * A mathematical type representing {@code N}.
      * </p>
      */
-    private final PerVCProverModel[] myVCModels;
+    private final MTType N;
 
-    // -----------------------------------------------------------
-    // Output-Related
-    // -----------------------------------------------------------
+    /**
+     * <p>
+     * A mathematical type representing {@code Z}.
+     * </p>
+     */
+    private final MTType Z;
 
     // ===========================================================
     // Flag Strings
@@ -97,10 +164,6 @@ public class CongruenceClassProver {
 
     private static final String FLAG_SECTION_NAME = "Prover";
     private static final String FLAG_DESC_CC_PROVER = "Congruence Closure Based Prover";
-    private static final String FLAG_DESC_PROVER_NUMTRIES = "Number of Failed VCs Before Halting the Prover.";
-    private static final String[] NUMTRIES_ARGS = { "numtries" };
-    private static final String FLAG_DESC_PROVER_TIMEOUT = "Number of Milliseconds to Use as a Timeout Before Skipping Proving a VC.";
-    private static final String[] FLAG_TIMEOUT_ARGS = { "milliseconds" };
 
     // ===========================================================
     // Flags
@@ -115,29 +178,15 @@ public class CongruenceClassProver {
 
     /**
      * <p>
-     * Specifies number of milliseconds before skipping proving a VC.
+     * Add all the required and implied flags for the {@code CongruenceClassProver}.
      * </p>
-     */
-    private static final Flag FLAG_TIMEOUT = new Flag(FLAG_SECTION_NAME, "timeout", FLAG_DESC_PROVER_TIMEOUT,
-            FLAG_TIMEOUT_ARGS, Flag.Type.HIDDEN);
-
-    /**
      * <p>
-     * Specify number of failed VCs before halting the prover.
-     * </p>
-     */
-    private static final Flag FLAG_NUMTRIES = new Flag("Proving", "num_tries", FLAG_DESC_PROVER_NUMTRIES, NUMTRIES_ARGS,
-            Flag.Type.HIDDEN);
-
-    /**
-     * <p>
-     * Add all the required and implied flags for the {@code CongruenceClassProver}.
+     * <em>Note:</em> The timeout, number of tries and number of workers flags are shared with the
+     * {@link GeneralPurposeProver}, which sets up their dependencies.
      * </p>
      */
     public static void setUpFlags() {
         FlagDependencies.addImplies(FLAG_PROVE, FLAG_VERIFY_VC);
-        FlagDependencies.addRequires(FLAG_TIMEOUT, FLAG_PROVE);
-        FlagDependencies.addRequires(FLAG_NUMTRIES, FLAG_PROVE);
     }
 
     // ===========================================================
@@ -149,43 +198,395 @@ public class CongruenceClassProver {
      * This creates an instance of the {@code Congruence Closure} automated prover.
      * </p>
      *
-     * @param vcs
-     *            The list of VCs to be proven.
      * @param moduleScope
      *            The module scope associated with {@code name}.
      * @param compileEnvironment
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
-    public CongruenceClassProver(List<ImmutableVC> vcs, ModuleScope moduleScope,
-            CompileEnvironment compileEnvironment) {
+    public CongruenceClassProver(ModuleScope moduleScope, CompileEnvironment compileEnvironment) {
         myCompileEnvironment = compileEnvironment;
         myCurrentModuleScope = moduleScope;
-        myOutputListeners = myCompileEnvironment.getOutputListeners();
+        myNumUnprovedVCs = 0;
         myTypeGraph = compileEnvironment.getTypeGraph();
-        myVCModels = new PerVCProverModel[vcs.size()];
 
         // Timeout
-        if (myCompileEnvironment.flags.isFlagSet(FLAG_TIMEOUT)) {
-            myTimeout = Long.parseLong(myCompileEnvironment.flags.getFlagArgument(FLAG_TIMEOUT, "milliseconds"));
+        if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_TIMEOUT)) {
+            myTimeout = Long.parseLong(
+                    myCompileEnvironment.flags.getFlagArgument(GeneralPurposeProver.FLAG_TIMEOUT, "milliseconds"));
         } else {
             myTimeout = 5000;
         }
 
         // Number of Tries
-        if (myCompileEnvironment.flags.isFlagSet(FLAG_NUMTRIES)) {
-            myNumTriesBeforeHalting = Integer
-                    .parseInt(myCompileEnvironment.flags.getFlagArgument(FLAG_NUMTRIES, "numtries"));
+        if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_NUMTRIES)) {
+            myNumTriesBeforeHalting = Integer.parseInt(
+                    myCompileEnvironment.flags.getFlagArgument(GeneralPurposeProver.FLAG_NUMTRIES, "numtries"));
         } else {
             myNumTriesBeforeHalting = -1;
         }
+        myHaltedFlag = myNumTriesBeforeHalting == 0;
+
+        // Number of Workers
+        if (myCompileEnvironment.flags.isFlagSet(GeneralPurposeProver.FLAG_NUMWORKERS)) {
+            myNumWorkers = Math.max(1, Integer.parseInt(
+                    myCompileEnvironment.flags.getFlagArgument(GeneralPurposeProver.FLAG_NUMWORKERS, "numworkers")));
+        } else {
+            myNumWorkers = Runtime.getRuntime().availableProcessors();
+        }
+
+        // N and Z (if they are available to this module)
+        N = searchMathType("N");
+        Z = searchMathType("Z");
+
+        // Convert all the theorems available to this module
+        myTheoremAssertions = new LinkedHashMap<>();
+        List<TheoremEntry> theoremEntries = myCurrentModuleScope.query(new EntryTypeQuery<>(TheoremEntry.class,
+                ImportStrategy.IMPORT_NAMED, FacilityStrategy.FACILITY_IGNORE));
+        for (TheoremEntry entry : theoremEntries) {
+            PExp assertion = Utilities.replacePExp(PExp.buildPExp(myTypeGraph, entry.getAssertion()), myTypeGraph, Z,
+                    N);
+            myTheoremAssertions.put(entry.getName(), assertion);
+        }
+        myTheoremLibraries = ThreadLocal.withInitial(TheoremLibrary::new);
     }
 
     // ===========================================================
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method returns the prover setting for how many unproved {@code VCs} we allow before halting.
+     * </p>
+     *
+     * @return The number of tries with -1 indicating that we attempt to prove all VCs.
+     */
+    public final int getNumTriesBeforeHalting() {
+        return myNumTriesBeforeHalting;
+    }
+
+    /**
+     * <p>
+     * This method returns the prover setting for how many threads can be used to prove {@code VCs}.
+     * </p>
+     *
+     * @return The number of threads.
+     */
+    public final int getNumWorkers() {
+        return myNumWorkers;
+    }
+
+    /**
+     * <p>
+     * This method returns the prover setting for the maximum amount of time we can spend proving each {@code VC}.
+     * </p>
+     *
+     * @return The time that can be spent proving each {@code VC} in ms.
+     */
+    public final long getTimeout() {
+        return myTimeout;
+    }
+
+    /**
+     * <p>
+     * This method attempts to prove a {@code VC} by applying the theorems available to this module until the
+     * {@code VC} is proved or the timeout expires.
+     * </p>
+     * <p>
+     * <em>Note:</em> This method can be called from multiple threads at the same time. The results should be passed
+     * back to {@link #recordVCResult(PerVCProverModel)} in the order the {@code VCs} were generated. Once the prover
+     * has halted, we don't attempt to prove any more {@code VCs}.
+     * </p>
+     *
+     * @param vc
+     *            The {@link VerificationCondition} to be proved.
+     *
+     * @return The prover model for {@code vc}.
+     */
+    public final PerVCProverModel proveVC(VerificationCondition vc) {
+        // Don't bother if we have already failed to prove enough VCs
+        if (myHaltedFlag) {
+            return createSkippedModel(vc.getName());
+        }
+
+        PerVCProverModel model = new PerVCProverModel(vc.getName());
+
+        long startTime = System.currentTimeMillis();
+        long endTime = startTime + myTimeout;
+        TheoremLibrary library = myTheoremLibraries.get();
+        ImmutableVC immutableVC = new ImmutableVC(vc, myTypeGraph, N, Z);
+        model.addProofStep("Before application of theorems: " + immutableVC);
+
+        // Keep applying the best theorem we can find until something changes the status,
+        // we run out of time or none of the theorems can be applied anymore.
+        Map<String, Integer> theoremAppliedCount = new HashMap<>();
+        ImmutableVC.STATUS status = immutableVC.isProved();
+        boolean canApplyTheorems = true;
+        while (status == ImmutableVC.STATUS.STILL_EVALUATING && canApplyTheorems
+                && System.currentTimeMillis() <= endTime && !Thread.currentThread().isInterrupted()) {
+            TheoremPrioritizer rankedTheorems = new TheoremPrioritizer(library.myTheorems, theoremAppliedCount,
+                    immutableVC, library.myNonQuantifiedSymbols, library.mySmallEndEquations);
+
+            canApplyTheorems = false;
+            while (!canApplyTheorems && !rankedTheorems.isEmpty() && System.currentTimeMillis() <= endTime) {
+                Theorem cur = rankedTheorems.poll();
+
+                // Mark as used, even if it makes no difference
+                theoremAppliedCount.merge(cur.getName(), 1, Integer::sum);
+
+                cur.applyTo(immutableVC, endTime);
+                PExpWithScore match = cur.getNext();
+                if (match != null) {
+                    immutableVC.getConjunct().addExpressionAndTrackChanges(match.getTheorem(), endTime);
+                    model.addProofStep("Applied " + cur.getName() + ": " + match.getTheorem());
+                    canApplyTheorems = true;
+                }
+            }
+
+            status = immutableVC.isProved();
+        }
+
+        // Store the final status
+        if (status == ImmutableVC.STATUS.STILL_EVALUATING) {
+            if (canApplyTheorems) {
+                model.setTimedOut();
+            }
+            status = ImmutableVC.STATUS.UNPROVABLE;
+        }
+        model.setStatus(status);
+
+        long duration = System.currentTimeMillis() - startTime;
+        model.setMetrics(new Metrics(duration, myTimeout));
+
+        return model;
+    }
+
+    /**
+     * <p>
+     * This method records the result for a {@code VC}. This should be called from a single thread, in the order the
+     * {@code VCs} were generated. We don't hold on to the details of how we attempted to prove the {@code VC}; they are
+     * in the returned prover model.
+     * </p>
+     * <p>
+     * Once we have failed to prove the number of {@code VCs} specified by {@link #getNumTriesBeforeHalting()}, every
+     * {@code VC} that comes after is skipped, even if one of the worker threads has already proved it.
+     * </p>
+     *
+     * @param model
+     *            The prover model returned by {@link #proveVC(VerificationCondition)}.
+     *
+     * @return The prover model we recorded for this {@code VC}.
+     */
+    public final PerVCProverModel recordVCResult(PerVCProverModel model) {
+        PerVCProverModel result = model;
+        if (myHaltedFlag) {
+            if (!model.getWasSkippedFlag()) {
+                result = createSkippedModel(model.getVCName());
+            }
+        } else if (model.getStatus() != ImmutableVC.STATUS.PROVED
+                && model.getStatus() != ImmutableVC.STATUS.FALSE_ASSUMPTION) {
+            myNumUnprovedVCs++;
+            myHaltedFlag = myNumTriesBeforeHalting >= 0 && myNumUnprovedVCs >= myNumTriesBeforeHalting;
+        }
+
+        return result;
+    }
+
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that creates the prover model for a {@code VC} we didn't attempt to prove.
+     * </p>
+     *
+     * @param vcName
+     *            Name of the {@code VC}.
+     *
+     * @return A prover model for a skipped {@code VC}.
+     */
+    private PerVCProverModel createSkippedModel(String vcName) {
+        PerVCProverModel model = new PerVCProverModel(vcName);
+        model.setWasSkipped();
+        model.setStatus(ImmutableVC.STATUS.UNPROVABLE);
+        model.setMetrics(new Metrics(0, myTimeout));
+
+        return model;
+    }
+
+    /**
+     * <p>
+     * An helper method that locates a mathematical type that is visible from the current module.
+     * </p>
+     *
+     * @param name
+     *            Name of the mathematical type.
+     *
+     * @return The mathematical type or {@code null} if it is not visible from this module.
+     */
+    private MTType searchMathType(String name) {
+        MTType type;
+        try {
+            type = myCurrentModuleScope.queryForOne(new UnqualifiedNameQuery(name, ImportStrategy.IMPORT_RECURSIVE,
+                    FacilityStrategy.FACILITY_IGNORE, true, true)).toMathSymbolEntry(null).getTypeValue();
+        } catch (NoSuchSymbolException | DuplicateSymbolException | SymbolNotOfKindTypeException e) {
+            type = null;
+        }
+
+        return type;
+    }
+
+    // ===========================================================
+    // Private Classes
+    // ===========================================================
+
+    /**
+     * <p>
+     * The {@link Theorem Theorems} (and some information about them) that a single thread uses to prove {@code VCs}.
+     * </p>
+     */
+    private class TheoremLibrary {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The non-quantified symbols that appear in any of the theorems.
+         * </p>
+         */
+        private final Set<String> myNonQuantifiedSymbols;
+
+        /**
+         * <p>
+         * Equality theorems that match on their smaller side. These can grow the {@code VC} forever, so they are
+         * tried after the others.
+         * </p>
+         */
+        private final Set<Theorem> mySmallEndEquations;
+
+        /**
+         * <p>
+         * All the theorems that can be applied to a {@code VC}.
+         * </p>
+         */
+        private final List<Theorem> myTheorems;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates a new set of {@link Theorem Theorems} from the theorem assertions available to this module.
+         * </p>
+         */
+        TheoremLibrary() {
+            myNonQuantifiedSymbols = new HashSet<>();
+            mySmallEndEquations = new HashSet<>();
+            myTheorems = new ArrayList<>();
+
+            for (Map.Entry<String, PExp> entry : myTheoremAssertions.entrySet()) {
+                addTheorem(entry.getKey(), entry.getValue());
+            }
+
+            for (Theorem theorem : myTheorems) {
+                myNonQuantifiedSymbols.addAll(theorem.getNonQuantifiedSymbols());
+            }
+        }
+
+        // ===========================================================
+        // Private Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * An helper method that adds an equality theorem that can be applied whenever the side we are matching
+         * appears in the {@code VC}.
+         * </p>
+         *
+         * @param name
+         *            Name of the theorem.
+         * @param assertion
+         *            The theorem's assertion.
+         * @param matchLeft
+         *            {@code true} if we are matching the left hand side, {@code false} otherwise.
+         */
+        private void addEqualityTheorem(String name, PExp assertion, boolean matchLeft) {
+            PExp matched = assertion.getSubExpressions().get(matchLeft ? 0 : 1);
+            PExp other = assertion.getSubExpressions().get(matchLeft ? 1 : 0);
+
+            // We can't insert anything that has quantified variables we can't bind.
+            if (matched.isVariable() || !matched.getQuantifiedVariables().containsAll(other.getQuantifiedVariables())) {
+                return;
+            }
+
+            Theorem theorem = new Theorem(myTypeGraph, assertion, matched, matched, assertion, false, false,
+                    name + (matchLeft ? "_left" : "_right"));
+            myTheorems.add(theorem);
+
+            if (matched.getSubExpressions().size() < other.getSubExpressions().size()) {
+                mySmallEndEquations.add(theorem);
+            }
+        }
+
+        /**
+         * <p>
+         * An helper method that converts a theorem assertion into the {@link Theorem Theorems} that can be applied to
+         * a {@code VC}.
+         * </p>
+         *
+         * @param name
+         *            Name of the theorem.
+         * @param assertion
+         *            The theorem's assertion.
+         */
+        private void addTheorem(String name, PExp assertion) {
+            // Theorems can only be matched against a VC if they are function applications all the way down.
+            if (!(assertion instanceof PSymbol)) {
+                return;
+            }
+
+            try {
+                addTheoremAssertion(name, assertion);
+            } catch (NotPSymbolException e) {
+                // Some sub-expression can't be matched, so ignore whatever we couldn't convert.
+            }
+        }
+
+        /**
+         * <p>
+         * An helper method that creates the {@link Theorem Theorems} for a theorem assertion based on its top level
+         * operation.
+         * </p>
+         *
+         * @param name
+         *            Name of the theorem.
+         * @param assertion
+         *            The theorem's assertion.
+         */
+        private void addTheoremAssertion(String name, PExp assertion) {
+            String operation = assertion.getTopLevelOperation();
+            if (operation.equals("=B") && assertion.getSubExpressions().size() == 2) {
+                addEqualityTheorem(name, assertion, true);
+                addEqualityTheorem(name, assertion, false);
+            } else if (operation.equals("impliesB") && assertion.getSubExpressions().size() == 2) {
+                // If we can find the antecedent, then we can insert the consequent.
+                PExp antecedent = assertion.getSubExpressions().get(0);
+                PExp consequent = assertion.getSubExpressions().get(1);
+                if (antecedent.getQuantifiedVariables().containsAll(consequent.getQuantifiedVariables())) {
+                    myTheorems.add(new Theorem(myTypeGraph, assertion, antecedent, antecedent, consequent, true, false,
+                            name));
+                }
+            } else if (assertion.getQuantifiedVariables().isEmpty()) {
+                // Nothing to match, so it can always be inserted.
+                PExp trueExp = PExp.trueExp(myTypeGraph);
+                myTheorems.add(new Theorem(myTypeGraph, assertion, trueExp, trueExp, assertion, false, false, name));
+            }
+        }
+
+    }
+
 }
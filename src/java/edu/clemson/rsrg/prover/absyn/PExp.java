@@ -324,6 +324,10 @@ public abstract class PExp {
             retval = new PSymbol(eAsVarExp.getMathType(), eAsVarExp.getMathTypeValue(),
                     fullName(eAsVarExp.getQualifier(), eAsVarExp.getName().getName()),
                     convertExpQuantification(eAsVarExp.getQuantification()));
+        } else if (e instanceof VCVarExp) {
+            // A VC variable stands for the value of its expression in a later state,
+            // so it is a new symbol (with primes to tell it apart) as far as we are concerned.
+            retval = new PSymbol(e.getMathType(), e.getMathTypeValue(), e.asString(0, 0));
         } else if (e instanceof LambdaExp) {
             LambdaExp eAsLambdaExp = (LambdaExp) e;
 
@@ -12,6 +12,11 @@
  */
 package edu.clemson.rsrg.prover.output;
 
+import edu.clemson.rsrg.prover.utilities.ImmutableVC;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * <p>
  * This class contains all the different information on each {@code VC} that comes from the automated prover.
@@ -23,4 +28,213 @@ package edu.clemson.rsrg.prover.output;
  */
 public final class PerVCProverModel {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The aggregate data about the proof attempt.
+     * </p>
+     */
+    private Metrics myMetrics;
+
+    /**
+     * <p>
+     * The steps the prover took while attempting to prove this {@code VC}.
+     * </p>
+     */
+    private final List<String> myProofSteps;
+
+    /**
+     * <p>
+     * The final status of this {@code VC}.
+     * </p>
+     */
+    private ImmutableVC.STATUS myStatus;
+
+    /**
+     * <p>
+     * This indicates if the prover ran out of time while proving this {@code VC}.
+     * </p>
+     */
+    private boolean myTimedOutFlag;
+
+    /**
+     * <p>
+     * The name of the {@code VC}.
+     * </p>
+     */
+    private final String myVCName;
+
+    /**
+     * <p>
+     * This indicates if the prover never attempted to prove this {@code VC}.
+     * </p>
+     */
+    private boolean myWasSkippedFlag;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an empty model for the {@code VC} named {@code vcName}.
+     * </p>
+     *
+     * @param vcName
+     *            The name of the {@code VC}.
+     */
+    public PerVCProverModel(String vcName) {
+        myMetrics = null;
+        myProofSteps = new ArrayList<>();
+        myStatus = ImmutableVC.STATUS.STILL_EVALUATING;
+        myTimedOutFlag = false;
+        myVCName = vcName;
+        myWasSkippedFlag = false;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method adds a new step the prover took while attempting to prove this {@code VC}.
+     * </p>
+     *
+     * @param step
+     *            A string describing the step.
+     */
+    public final void addProofStep(String step) {
+        myProofSteps.add(step);
+    }
+
+    /**
+     * <p>
+     * This method returns the aggregate data about the proof attempt.
+     * </p>
+     *
+     * @return A {@link Metrics} object or {@code null} if we haven't attempted to prove this {@code VC} yet.
+     */
+    public final Metrics getMetrics() {
+        return myMetrics;
+    }
+
+    /**
+     * <p>
+     * This method returns the steps the prover took while attempting to prove this {@code VC}.
+     * </p>
+     *
+     * @return An unmodifiable list of steps.
+     */
+    public final List<String> getProofSteps() {
+        return Collections.unmodifiableList(myProofSteps);
+    }
+
+    /**
+     * <p>
+     * This method returns the final status of this {@code VC}.
+     * </p>
+     *
+     * @return A status enumeration.
+     */
+    public final ImmutableVC.STATUS getStatus() {
+        return myStatus;
+    }
+
+    /**
+     * <p>
+     * This method returns whether or not the prover ran out of time while proving this {@code VC}.
+     * </p>
+     *
+     * @return {@code true} if the prover timed out, {@code false} otherwise.
+     */
+    public final boolean getTimedOutFlag() {
+        return myTimedOutFlag;
+    }
+
+    /**
+     * <p>
+     * This method returns the name of the {@code VC}.
+     * </p>
+     *
+     * @return A string.
+     */
+    public final String getVCName() {
+        return myVCName;
+    }
+
+    /**
+     * <p>
+     * This method returns whether or not the prover skipped this {@code VC}.
+     * </p>
+     *
+     * @return {@code true} if the {@code VC} was skipped, {@code false} otherwise.
+     */
+    public final boolean getWasSkippedFlag() {
+        return myWasSkippedFlag;
+    }
+
+    /**
+     * <p>
+     * This method stores the aggregate data about the proof attempt.
+     * </p>
+     *
+     * @param metrics
+     *            A {@link Metrics} object.
+     */
+    public final void setMetrics(Metrics metrics) {
+        myMetrics = metrics;
+    }
+
+    /**
+     * <p>
+     * This method stores the final status of this {@code VC}.
+     * </p>
+     *
+     * @param status
+     *            A status enumeration.
+     */
+    public final void setStatus(ImmutableVC.STATUS status) {
+        myStatus = status;
+    }
+
+    /**
+     * <p>
+     * This method indicates that the prover ran out of time while proving this {@code VC}.
+     * </p>
+     */
+    public final void setTimedOut() {
+        myTimedOutFlag = true;
+    }
+
+    /**
+     * <p>
+     * This method indicates that the prover never attempted to prove this {@code VC}.
+     * </p>
+     */
+    public final void setWasSkipped() {
+        myWasSkippedFlag = true;
+    }
+
+    /**
+     * <p>
+     * This method returns the steps taken for this {@code VC} in string format.
+     * </p>
+     *
+     * @return A string.
+     */
+    @Override
+    public final String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("VC ").append(myVCName).append(": ").append(myStatus).append("\n");
+        for (String step : myProofSteps) {
+            sb.append(step).append("\n");
+        }
+
+        return sb.toString();
+    }
+
 }
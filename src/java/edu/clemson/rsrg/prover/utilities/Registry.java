@@ -49,10 +49,11 @@ public class Registry {
 
     /**
      * <p>
-     * A map that caches the isSubtype results.
+     * A matrix indexed by pairs of type ids that caches the isSubtype results. A {@code 0} entry means the pair hasn't
+     * been computed yet, otherwise it is one of {@link #SUBTYPE_TRUE} or {@link #SUBTYPE_FALSE}.
      * </p>
      */
-    private final Map<String, Boolean> myCachedIsSubtype;
+    private byte[][] myCachedIsSubtype;
 
     /**
      * <p>
@@ -91,10 +92,18 @@ public class Registry {
 
     /**
      * <p>
-     * A map from symbol name to usage type.
+     * The union-find parent array for the symbol indices. Only the first {@code myIndexToSymbol.size()} entries are in
+     * use.
      * </p>
      */
-    private final Map<String, Usage> mySymbolToUsage;
+    private int[] myParents;
+
+    /**
+     * <p>
+     * An array from symbol index to usage type.
+     * </p>
+     */
+    private Usage[] myIndexToUsage;
 
     /**
      * <p>
@@ -103,6 +112,21 @@ public class Registry {
      */
     private final Map<String, MTType> myTypeDictionary;
 
+    /**
+     * <p>
+     * A map from each mathematical type object we have seen to its dense type id. This allows us to only compute the
+     * string representation of a type the first time we encounter that object.
+     * </p>
+     */
+    private final Map<MTType, Integer> myTypeObjectIds;
+
+    /**
+     * <p>
+     * A map from the string representation of a mathematical type to its dense type id.
+     * </p>
+     */
+    private final Map<String, Integer> myTypeStringIds;
+
     /**
      * <p>
      * This is the math type graph that indicates relationship between different math types.
@@ -137,10 +161,10 @@ public class Registry {
 
     /**
      * <p>
-     * A tree map from symbol names to their associated index.
+     * A map from symbol names to their associated index.
      * </p>
      */
-    public final TreeMap<String, Integer> mySymbolToIndex;
+    public final Map<String, Integer> mySymbolToIndex;
 
     /**
      * <p>
@@ -149,37 +173,55 @@ public class Registry {
      */
     public final Map<MTType, TreeSet<String>> myTypeToSetOfOperators;
 
+    // -----------------------------------------------------------
+    // MakeSymbol-related
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * Prefix for regular symbols.
+     * </p>
+     */
+    private static final String CC_PREFIX = "¢c";
+
     /**
      * <p>
-     * A list of indices referring to a parent array.
+     * Prefix for variable symbols.
      * </p>
      */
-    public final ArrayList<Integer> mySymbolIndexParentArray;
+    private static final String CV_PREFIX = "¢v";
+
+    /**
+     * <p>
+     * Counter for keeping track of number of symbols created.
+     * </p>
+     */
+    private int myUniqueCounter = 0;
 
     // -----------------------------------------------------------
-    // MakeSymbol-related
+    // Cache-related
     // -----------------------------------------------------------
 
     /**
      * <p>
-     * Regex for regular symbols.
+     * Initial capacity for the symbol arrays.
      * </p>
      */
-    private final String myCCFormat = "¢c%03d";
+    private static final int INITIAL_CAPACITY = 64;
 
     /**
      * <p>
-     * Regex for variable symbols.
+     * Cached value for a pair of types where the first is a subtype of the second.
      * </p>
      */
-    private final String myCVFormat = "¢v%03d";
+    private static final byte SUBTYPE_TRUE = 1;
 
     /**
      * <p>
-     * Counter for keeping track of number of symbols created.
+     * Cached value for a pair of types where the first is not a subtype of the second.
      * </p>
      */
-    private int myUniqueCounter = 0;
+    private static final byte SUBTYPE_FALSE = 2;
 
     // ===========================================================
     // Constructors
@@ -195,16 +237,19 @@ public class Registry {
      *            The current type graph.
      */
     public Registry(TypeGraph g) {
-        mySymbolToIndex = new TreeMap<>();
+        mySymbolToIndex = new HashMap<>(2 * INITIAL_CAPACITY);
         myTypeToSetOfOperators = new HashMap<>();
-        myIndexToSymbol = new ArrayList<>();
-        myIndexToType = new ArrayList<>();
-        mySymbolIndexParentArray = new ArrayList<>();
+        myIndexToSymbol = new ArrayList<>(INITIAL_CAPACITY);
+        myIndexToType = new ArrayList<>(INITIAL_CAPACITY);
+        myParents = new int[INITIAL_CAPACITY];
+        myIndexToUsage = new Usage[INITIAL_CAPACITY];
         myUnusedIndices = new Stack<>();
-        mySymbolToUsage = new HashMap<>(2048, .5f); // entries won't change
         myForAlls = new HashSet<>();
         myTypeGraph = g;
         myTypeDictionary = new TreeMap<>();
+        myTypeObjectIds = new IdentityHashMap<>();
+        myTypeStringIds = new HashMap<>();
+        myCachedIsSubtype = new byte[0][];
 
         addSymbol("=B", new MTFunction(g, g.BOOLEAN, g.ENTITY, g.ENTITY), Usage.LITERAL); // = as a
                                                                                           // predicate
@@ -227,8 +272,6 @@ public class Registry {
         myCommutativeOperators.add("=B");
         myCommutativeOperators.add("andB");
         myCommutativeOperators.add("orB");
-
-        myCachedIsSubtype = new HashMap<>();
     }
 
     // ===========================================================
@@ -278,22 +321,25 @@ public class Registry {
             }
         }
 
-        mySymbolToUsage.put(symbolName, usage);
-
         if (usage.equals(Usage.FORALL) || usage.equals(Usage.HASARGS_FORALL)) {
             myForAlls.add(symbolName);
         }
 
-        int incomingsize = mySymbolToIndex.size();
-        mySymbolToIndex.put(symbolName, mySymbolToIndex.size());
+        int incomingsize = myIndexToSymbol.size();
+        if (incomingsize == myParents.length) {
+            myParents = Arrays.copyOf(myParents, 2 * incomingsize);
+            myIndexToUsage = Arrays.copyOf(myIndexToUsage, 2 * incomingsize);
+        }
+
+        mySymbolToIndex.put(symbolName, incomingsize);
         myIndexToSymbol.add(symbolName);
         myIndexToType.add(symbolType);
-        mySymbolIndexParentArray.add(incomingsize);
+        myParents[incomingsize] = incomingsize;
+        myIndexToUsage[incomingsize] = usage;
 
         assert mySymbolToIndex.size() == myIndexToSymbol.size();
-        assert incomingsize < mySymbolToIndex.size();
 
-        return mySymbolToIndex.size() - 1;
+        return incomingsize;
     }
 
     /**
@@ -307,26 +353,26 @@ public class Registry {
      * @return The compressed integer index.
      */
     public final int findAndCompress(int index) {
+        assert index < myIndexToSymbol.size() : "findAndCompress error";
+
         // early return for parent
-        if (mySymbolIndexParentArray.get(index) == index)
+        int[] parents = myParents;
+        if (parents[index] == index)
             return index;
 
-        Stack<Integer> needToUpdate = new Stack<>();
-
-        assert index < mySymbolIndexParentArray.size() : "findAndCompress error";
-
-        int parent = mySymbolIndexParentArray.get(index);
-        while (parent != index) {
-            needToUpdate.push(index);
-            index = parent;
-            parent = mySymbolIndexParentArray.get(index);
+        // first pass locates the root, second pass points the whole path at it
+        int root = index;
+        while (parents[root] != root) {
+            root = parents[root];
         }
 
-        while (!needToUpdate.isEmpty()) {
-            mySymbolIndexParentArray.set(needToUpdate.pop(), index);
+        while (parents[index] != root) {
+            int next = parents[index];
+            parents[index] = root;
+            index = next;
         }
 
-        return index;
+        return root;
     }
 
     /**
@@ -344,20 +390,15 @@ public class Registry {
      */
     public final Set<String> getChildren(String parent) {
         int pInt = getIndexForSymbol(parent);
-        HashSet<Integer> ch = new HashSet<>();
-        for (int i = 0; i < mySymbolIndexParentArray.size(); ++i) {
+        HashSet<String> rSet = new HashSet<>();
+        for (int i = 0; i < myIndexToSymbol.size(); ++i) {
             if (i == pInt)
                 continue;
-            if (mySymbolIndexParentArray.get(i) == pInt) {
-                ch.add(i);
+            if (myParents[i] == pInt) {
+                rSet.add(myIndexToSymbol.get(i));
             }
         }
 
-        HashSet<String> rSet = new HashSet<>();
-        for (Integer i : ch) {
-            rSet.add(myIndexToSymbol.get(i));
-        }
-
         return rSet;
     }
 
@@ -383,14 +424,13 @@ public class Registry {
      * @return The associated integer index.
      */
     public final int getIndexForSymbol(String symbol) {
-        assert mySymbolToIndex.get(symbol) != null : symbol + " not found" + mySymbolToIndex.toString();
+        Integer r = mySymbolToIndex.get(symbol);
+        assert r != null : symbol + " not found" + mySymbolToIndex.toString();
 
-        if (!mySymbolToIndex.containsKey(symbol)) {
+        if (r == null) {
             return -1;
         }
 
-        int r = mySymbolToIndex.get(symbol);
-
         return findAndCompress(r);
     }
 
@@ -409,7 +449,7 @@ public class Registry {
         Set<String> fSet = new HashSet<>();
         for (String s : rSet) {
             int id = getIndexForSymbol(s);
-            if (mySymbolIndexParentArray.get(id) == id) {
+            if (myParents[id] == id) {
                 fSet.add(s);
             }
         }
@@ -490,7 +530,25 @@ public class Registry {
      * @return The usage type.
      */
     public final Usage getUsage(String symbol) {
-        return mySymbolToUsage.get(symbol);
+        Integer index = mySymbolToIndex.get(symbol);
+
+        return index == null ? null : myIndexToUsage[index];
+    }
+
+    /**
+     * <p>
+     * This method returns the usage type for the root symbol of the specified index. This is the same as calling
+     * {@link #getUsage(String)} with the result of {@link #getSymbolForIndex(int)}, but without going through the
+     * symbol name.
+     * </p>
+     *
+     * @param index
+     *            An index referring to a symbol in our registry.
+     *
+     * @return The usage type.
+     */
+    public final Usage getUsageForIndex(int index) {
+        return myIndexToUsage[findAndCompress(index)];
     }
 
     /**
@@ -522,18 +580,22 @@ public class Registry {
      * @return {@code true} if it is a subtype, {@code false} otherwise.
      */
     public final boolean isSubtype(MTType a, MTType b) {
-        String catKey = a.toString() + "," + b.toString();
+        int aId = getTypeId(a);
+        int bId = getTypeId(b);
 
         // Check our cached results
-        if (myCachedIsSubtype.containsKey(catKey)) {
-            return myCachedIsSubtype.get(catKey);
-        } else {
-            // Determine if it is subtype and add it to our cache
-            boolean is = a.isSubtypeOf(b);
-            myCachedIsSubtype.put(catKey, is);
+        byte[] row = myCachedIsSubtype[aId];
+        if (row == null || row.length <= bId) {
+            row = Arrays.copyOf(row == null ? new byte[0] : row, myTypeStringIds.size());
+            myCachedIsSubtype[aId] = row;
+        }
 
-            return is;
+        if (row[bId] == 0) {
+            // Determine if it is subtype and add it to our cache
+            row[bId] = a.isSubtypeOf(b) ? SUBTYPE_TRUE : SUBTYPE_FALSE;
         }
+
+        return row[bId] == SUBTYPE_TRUE;
     }
 
     /**
@@ -549,12 +611,7 @@ public class Registry {
      * @return The index associated with this new symbol.
      */
     public final int makeSymbol(MTType symbolType, boolean isVariable) {
-        String symbolName;
-        if (isVariable) {
-            symbolName = String.format(myCVFormat, myUniqueCounter++);
-        } else {
-            symbolName = String.format(myCCFormat, myUniqueCounter++);
-        }
+        String symbolName = createSymbolName(isVariable ? CV_PREFIX : CC_PREFIX, myUniqueCounter++);
 
         return addSymbol(symbolName, symbolType, Usage.CREATED);
     }
@@ -575,32 +632,61 @@ public class Registry {
 
         // set usage to most restricted: i.e literal over created over forall
         // this is because the earliest now becomes the parent
-        String aS = getSymbolForIndex(opIndexA);
-        String bS = getSymbolForIndex(opIndexB);
-        Usage a_us = getUsage(aS);
-        Usage b_us = getUsage(bS);
+        int aRoot = findAndCompress(opIndexA);
+        int bRoot = findAndCompress(opIndexB);
+        Usage a_us = myIndexToUsage[aRoot];
+        Usage b_us = myIndexToUsage[bRoot];
         if (!a_us.equals(Usage.FORALL) && isSubtype(bType, aType)) {
             myIndexToType.set(opIndexA, bType);
         }
 
         if (a_us.equals(Usage.LITERAL) || b_us.equals(Usage.LITERAL)) {
-            mySymbolToUsage.put(aS, Usage.LITERAL);
+            myIndexToUsage[aRoot] = Usage.LITERAL;
         } else if (a_us.equals(Usage.CREATED) || b_us.equals(Usage.CREATED)) {
-            mySymbolToUsage.put(aS, Usage.CREATED);
+            myIndexToUsage[aRoot] = Usage.CREATED;
         }
 
-        if (myPartTypes.contains(bS)) {
-            myPartTypes.add(aS);
+        if (!myPartTypes.isEmpty()) {
+            String bS = myIndexToSymbol.get(bRoot);
+            if (myPartTypes.contains(bS)) {
+                myPartTypes.add(myIndexToSymbol.get(aRoot));
+            }
         }
 
         myUnusedIndices.push(opIndexB);
-        mySymbolIndexParentArray.set(opIndexB, opIndexA);
+        myParents[opIndexB] = opIndexA;
     }
 
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * An helper method that creates a new symbol name using the specified prefix and a counter padded to at least
+     * three digits.
+     * </p>
+     *
+     * @param prefix
+     *            The symbol prefix.
+     * @param counter
+     *            The counter value.
+     *
+     * @return A new symbol name.
+     */
+    private static String createSymbolName(String prefix, int counter) {
+        StringBuilder sb = new StringBuilder(prefix.length() + 3);
+        sb.append(prefix);
+        if (counter >= 0 && counter < 10) {
+            sb.append("00");
+        } else if (counter >= 0 && counter < 100) {
+            sb.append('0');
+        }
+        sb.append(counter);
+
+        return sb.toString();
+    }
+
     /**
      * <p>
      * An helper method for retrieving all symbols that are associated with {@code t} or any of its subtypes.
@@ -634,6 +720,35 @@ public class Registry {
         return rSet;
     }
 
+    /**
+     * <p>
+     * An helper method that returns the dense id for a mathematical type. Types with the same string representation
+     * share the same id.
+     * </p>
+     *
+     * @param t
+     *            A mathematical type.
+     *
+     * @return The type id.
+     */
+    private int getTypeId(MTType t) {
+        Integer id = myTypeObjectIds.get(t);
+        if (id == null) {
+            String key = t.toString();
+            id = myTypeStringIds.get(key);
+            if (id == null) {
+                id = myTypeStringIds.size();
+                myTypeStringIds.put(key, id);
+                if (id == myCachedIsSubtype.length) {
+                    myCachedIsSubtype = Arrays.copyOf(myCachedIsSubtype, Math.max(16, 2 * id));
+                }
+            }
+            myTypeObjectIds.put(t, id);
+        }
+
+        return id;
+    }
+
     /**
      * <p>
      * An helper method that checks if an symbol is a commutative operator.
@@ -44,6 +44,28 @@ public class ConjunctionOfNormalizedAtomicExpressions {
      */
     private final Map<NormalizedAtomicExpression, NormalizedAtomicExpression> myExpressionSet;
 
+    /**
+     * <p>
+     * The expressions in this conjunction indexed by the id we gave them when they were added. Removed expressions leave
+     * a {@code null} behind, so any id still stored in {@link #myUseLists} can be checked for liveness.
+     * </p>
+     */
+    private NormalizedAtomicExpression[] myExpressionsById;
+
+    /**
+     * <p>
+     * The last stamp written to {@link #myVisitedStamps}.
+     * </p>
+     */
+    private int myLastVisitedStamp;
+
+    /**
+     * <p>
+     * The number of expression ids handed out so far.
+     * </p>
+     */
+    private int myNumExpressionIds;
+
     /**
      * <p>
      * A flag that indicates if the current expression evaluates to {@code false}.
@@ -67,10 +89,20 @@ public class ConjunctionOfNormalizedAtomicExpressions {
 
     /**
      * <p>
-     * A mapping of integer values used to represent a set of {@link NormalizedAtomicExpression}.
+     * The posting lists of expression ids for every symbol in the registry. {@code myUseLists[symk][pos + 1]} lists the
+     * expressions that use {@code symk} at position {@code pos} (position {@code -1} being the root). The first element
+     * of each list is the number of ids stored after it. Lists may contain duplicates and ids of removed expressions;
+     * readers skip both.
+     * </p>
+     */
+    private int[][][] myUseLists;
+
+    /**
+     * <p>
+     * A stamp per expression id that lets us de-duplicate and intersect posting lists without allocating any sets.
      * </p>
      */
-    private final Map<Integer, Map<Integer, Set<NormalizedAtomicExpression>>> myUseMap;
+    private int[] myVisitedStamps;
 
     /**
      * <p>
@@ -79,6 +111,24 @@ public class ConjunctionOfNormalizedAtomicExpressions {
      */
     private final ImmutableVC myVC;
 
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The initial number of expressions and symbols we make room for.
+     * </p>
+     */
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * <p>
+     * The initial number of ids each posting list can store.
+     * </p>
+     */
+    private static final int INITIAL_USE_LIST_CAPACITY = 4;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -96,8 +146,12 @@ public class ConjunctionOfNormalizedAtomicExpressions {
     public ConjunctionOfNormalizedAtomicExpressions(ImmutableVC vc, Registry registry) {
         myExpressionSet = new HashMap<>(2048, .5f);
         myEvaluatesToFalseFlag = false;
+        myExpressionsById = new NormalizedAtomicExpression[INITIAL_CAPACITY];
+        myLastVisitedStamp = 0;
+        myNumExpressionIds = 0;
         myRegistry = registry;
-        myUseMap = new HashMap<>(2048, .5f);
+        myUseLists = new int[INITIAL_CAPACITY][][];
+        myVisitedStamps = new int[INITIAL_CAPACITY];
         myVC = vc; // null if this is a theorem.
     }
 
@@ -245,6 +299,9 @@ public class ConjunctionOfNormalizedAtomicExpressions {
      */
     public final void clear() {
         myExpressionSet.clear();
+        Arrays.fill(myExpressionsById, 0, myNumExpressionIds, null);
+        Arrays.fill(myUseLists, null);
+        myNumExpressionIds = 0;
     }
 
     /**
@@ -364,9 +421,20 @@ public class ConjunctionOfNormalizedAtomicExpressions {
      */
     public final Set<NormalizedAtomicExpression> getUses(int symk) {
         HashSet<NormalizedAtomicExpression> rSet = new HashSet<>();
-        Map<Integer, Set<NormalizedAtomicExpression>> usesByPos = myUseMap.get(symk);
-        for (Map.Entry<Integer, Set<NormalizedAtomicExpression>> me : usesByPos.entrySet()) {
-            rSet.addAll(me.getValue());
+        int[][] usesByPos = symk < myUseLists.length ? myUseLists[symk] : null;
+        if (usesByPos == null) {
+            return rSet;
+        }
+
+        for (int[] uses : usesByPos) {
+            if (uses != null) {
+                for (int i = 1; i <= uses[0]; i++) {
+                    NormalizedAtomicExpression nae = myExpressionsById[uses[i]];
+                    if (nae != null) {
+                        rSet.add(nae);
+                    }
+                }
+            }
         }
 
         return rSet;
@@ -465,6 +533,14 @@ public class ConjunctionOfNormalizedAtomicExpressions {
      *            A {@link NormalizedAtomicExpression}.
      */
     private void addExprToSet(NormalizedAtomicExpression nae) {
+        // Give the expression a new id
+        if (myNumExpressionIds == myExpressionsById.length) {
+            myExpressionsById = Arrays.copyOf(myExpressionsById, myNumExpressionIds * 2);
+            myVisitedStamps = Arrays.copyOf(myVisitedStamps, myNumExpressionIds * 2);
+        }
+        nae.writeToId(myNumExpressionIds);
+        myExpressionsById[myNumExpressionIds++] = nae;
+
         for (int i : nae.getOpIds()) {
             addMapUse(i, nae);
         }
@@ -486,19 +562,26 @@ public class ConjunctionOfNormalizedAtomicExpressions {
      *            A {@link NormalizedAtomicExpression}.
      */
     private void addMapUse(int symk, NormalizedAtomicExpression nae) {
-        if (!myUseMap.containsKey(symk)) {
-            myUseMap.put(symk, new HashMap<Integer, Set<NormalizedAtomicExpression>>());
+        if (symk >= myUseLists.length) {
+            myUseLists = Arrays.copyOf(myUseLists, Math.max(symk + 1, myUseLists.length * 2));
         }
 
-        Map<Integer, Set<NormalizedAtomicExpression>> posMapRef = myUseMap.get(symk);
         int[] pos = nae.getPositionsFor(symk);
-
         for (int p : pos) {
-            if (!posMapRef.containsKey(p)) {
-                posMapRef.put(p, new HashSet<NormalizedAtomicExpression>());
+            if (myUseLists[symk] == null || p + 1 >= myUseLists[symk].length) {
+                myUseLists[symk] = myUseLists[symk] == null ? new int[p + 2][]
+                        : Arrays.copyOf(myUseLists[symk], p + 2);
             }
 
-            posMapRef.get(p).add(nae);
+            int[] uses = myUseLists[symk][p + 1];
+            if (uses == null) {
+                uses = new int[INITIAL_USE_LIST_CAPACITY + 1];
+            } else if (uses[0] == uses.length - 1) {
+                // Drop the removed expressions before deciding if we need more room
+                uses = compactUses(uses);
+            }
+            uses[++uses[0]] = nae.readId();
+            myUseLists[symk][p + 1] = uses;
         }
     }
 
@@ -781,6 +864,33 @@ public class ConjunctionOfNormalizedAtomicExpressions {
         return a < b ? a : b;
     }
 
+    /**
+     * <p>
+     * An helper method that removes the ids of removed expressions from a full posting list, growing it only if it is
+     * still full afterwards.
+     * </p>
+     *
+     * @param uses
+     *            A full posting list.
+     *
+     * @return A posting list with room for at least one more id.
+     */
+    private int[] compactUses(int[] uses) {
+        int count = 0;
+        for (int i = 1; i <= uses[0]; i++) {
+            if (myExpressionsById[uses[i]] != null) {
+                uses[++count] = uses[i];
+            }
+        }
+        uses[0] = count;
+
+        if (count == uses.length - 1) {
+            uses = Arrays.copyOf(uses, uses.length * 2);
+        }
+
+        return uses;
+    }
+
     /**
      * <p>
      * An helper method for computing a set of bindings.
@@ -903,29 +1013,45 @@ public class ConjunctionOfNormalizedAtomicExpressions {
             int k = searchKey[p];
             if (k < 0)
                 continue;
-            if (!myUseMap.containsKey(k)) {
+            if (k >= myUseLists.length || myUseLists[k] == null) {
                 return rSet; // k is not used in the conjunction, but is still in Registry. Can happen with
                              // =, not, etc.
             }
 
             int x = (p < searchKey.length - 1) ? p : -1;
-            if (!myUseMap.get(k).containsKey(x)) { // k not used in position p anywhere
+            if (getUseList(k, x) == null) { // k not used in position p anywhere
                 return rSet;
             }
         }
 
+        // Intersect the posting lists by moving each surviving id to the next stamp
+        int[] lastUses = null;
+        int survivingStamp = 0;
         for (int p = 0; p < searchKey.length; ++p) {
             int k = searchKey[p];
             if (k < 0) {
                 continue;
             }
 
-            if (p == 0) {
-                rSet.addAll(myUseMap.get(k).get(p));
-            } else if (p == searchKey.length - 1) { // last element which is root class
-                rSet.retainAll(getUses(k, -1));
-            } else {
-                rSet.retainAll(getUses(k, p));
+            int[] uses = getUseList(k, (p < searchKey.length - 1) ? p : -1);
+            int stamp = nextVisitedStamp();
+            for (int i = 1; i <= uses[0]; i++) {
+                int id = uses[i];
+                if (lastUses == null || myVisitedStamps[id] == survivingStamp) {
+                    myVisitedStamps[id] = stamp;
+                }
+            }
+
+            lastUses = uses;
+            survivingStamp = stamp;
+        }
+
+        if (lastUses != null) {
+            for (int i = 1; i <= lastUses[0]; i++) {
+                NormalizedAtomicExpression nae = myExpressionsById[lastUses[i]];
+                if (nae != null && myVisitedStamps[lastUses[i]] == survivingStamp) {
+                    rSet.add(nae);
+                }
             }
         }
 
@@ -934,17 +1060,23 @@ public class ConjunctionOfNormalizedAtomicExpressions {
 
     /**
      * <p>
-     * An helper method for getting the set of expressions located at the current position./p>
+     * An helper method for getting the posting list of expressions located at the current position.
+     * </p>
      *
      * @param symk
      *            A symbol number.
      * @param pos
      *            A position number.
      *
-     * @return A set of {@link NormalizedAtomicExpression} referenced by {@code symk} and located at {@code pos}.
+     * @return The posting list of ids referenced by {@code symk} and located at {@code pos} or {@code null} if there
+     *         aren't any.
      */
-    private Set<NormalizedAtomicExpression> getUses(int symk, int pos) {
-        return new HashSet<>(myUseMap.get(symk).get(pos));
+    private int[] getUseList(int symk, int pos) {
+        if (symk >= myUseLists.length || myUseLists[symk] == null || pos + 1 >= myUseLists[symk].length) {
+            return null;
+        }
+
+        return myUseLists[symk][pos + 1];
     }
 
     /**
@@ -967,41 +1099,25 @@ public class ConjunctionOfNormalizedAtomicExpressions {
             return null;
         }
 
-        if (myUseMap.get(b) == null) {
+        int[][] bUses = b < myUseLists.length ? myUseLists[b] : null;
+        if (bUses == null) {
             return null;
         }
 
         Stack<Integer> coincidentalMergeHoldingTank = new Stack<>();
-        // todo: make sure myUseMap reflects root usage of b
-        Set<NormalizedAtomicExpression> bUses = getUses(b);
-        myUseMap.remove(b);
-        nextUse: for (NormalizedAtomicExpression nm : bUses) {
-            int oldRoot = nm.readRoot();
-            assert oldRoot > 0;
-            NormalizedAtomicExpression ne = nm.replaceOperator(b, a); // also changes root if b
-            if (nm == ne) {
-                // no change in atom, so only root is b
-                assert oldRoot == b;
-                addMapUse(a, nm);
-                applyBuiltInLogic(nm, coincidentalMergeHoldingTank);
-            } else {
-                assert ne.hashCode() != nm.hashCode();
-                removeExprFromSet(nm);
-
-                // Check for existence of the rewritten atom in conj. Add new cong if roots are different.
-                if (myExpressionSet.containsKey(ne)) {
-                    ne = myExpressionSet.get(ne);
-                    int neroot = ne.readRoot();
-                    if (oldRoot != neroot && !((oldRoot == a || oldRoot == b) && (neroot == a || neroot == b))) {
-                        // dont put a and b on stack, already doing a/b
-                        coincidentalMergeHoldingTank.push(oldRoot);
-                        coincidentalMergeHoldingTank.push(neroot);
-                    }
-                } else {
-                    ne.writeToRoot(oldRoot);
-                    addExprToSet(ne);
-                    applyBuiltInLogic(ne, coincidentalMergeHoldingTank);
+        // todo: make sure myUseLists reflects root usage of b
+        myUseLists[b] = null;
+        int stamp = nextVisitedStamp();
+        for (int[] uses : bUses) {
+            for (int i = 1; uses != null && i <= uses[0]; i++) {
+                // Skip removed expressions and expressions that use b in more than one position
+                NormalizedAtomicExpression nm = myExpressionsById[uses[i]];
+                if (nm == null || myVisitedStamps[uses[i]] == stamp) {
+                    continue;
                 }
+                myVisitedStamps[uses[i]] = stamp;
+
+                mergeUse(nm, a, b, coincidentalMergeHoldingTank);
             }
         }
 
@@ -1084,34 +1200,78 @@ public class ConjunctionOfNormalizedAtomicExpressions {
 
     /**
      * <p>
-     * An helper method that removes an expression from this conjunction.
+     * An helper method that replaces {@code b} with {@code a} in an expression that uses {@code b}.
      * </p>
      *
-     * @param nae
-     *            A {@link NormalizedAtomicExpression}.
+     * @param nm
+     *            A {@link NormalizedAtomicExpression} that uses {@code b}.
+     * @param a
+     *            An integer value representing some symbol.
+     * @param b
+     *            Another integer value representing some symbol.
+     * @param coincidentalMergeHoldingTank
+     *            A stack containing modified predicates.
      */
-    private void removeExprFromSet(NormalizedAtomicExpression nae) {
-        for (int i : nae.getOpIds()) {
-            removeMapUse(i, nae);
+    private void mergeUse(NormalizedAtomicExpression nm, int a, int b, Stack<Integer> coincidentalMergeHoldingTank) {
+        int oldRoot = nm.readRoot();
+        assert oldRoot > 0;
+        NormalizedAtomicExpression ne = nm.replaceOperator(b, a); // also changes root if b
+        if (nm == ne) {
+            // no change in atom, so only root is b
+            assert oldRoot == b;
+            addMapUse(a, nm);
+            applyBuiltInLogic(nm, coincidentalMergeHoldingTank);
+        } else {
+            assert ne.hashCode() != nm.hashCode();
+            removeExprFromSet(nm);
+
+            // Check for existence of the rewritten atom in conj. Add new cong if roots are different.
+            if (myExpressionSet.containsKey(ne)) {
+                ne = myExpressionSet.get(ne);
+                int neroot = ne.readRoot();
+                if (oldRoot != neroot && !((oldRoot == a || oldRoot == b) && (neroot == a || neroot == b))) {
+                    // dont put a and b on stack, already doing a/b
+                    coincidentalMergeHoldingTank.push(oldRoot);
+                    coincidentalMergeHoldingTank.push(neroot);
+                }
+            } else {
+                ne.writeToRoot(oldRoot);
+                addExprToSet(ne);
+                applyBuiltInLogic(ne, coincidentalMergeHoldingTank);
+            }
         }
+    }
 
-        removeMapUse(nae.readRoot(), nae);
-        myExpressionSet.remove(nae);
+    /**
+     * <p>
+     * An helper method that returns a new stamp for marking expression ids as visited.
+     * </p>
+     *
+     * @return A stamp that hasn't been used to mark any expression ids.
+     */
+    private int nextVisitedStamp() {
+        if (myLastVisitedStamp == Integer.MAX_VALUE) {
+            Arrays.fill(myVisitedStamps, 0);
+            myLastVisitedStamp = 0;
+        }
+
+        return ++myLastVisitedStamp;
     }
 
     /**
      * <p>
-     * An helper method for removing an expression from our use map.
+     * An helper method that removes an expression from this conjunction.
      * </p>
      *
-     * @param symK
-     *            A symbol number.
      * @param nae
      *            A {@link NormalizedAtomicExpression}.
      */
-    private void removeMapUse(int symK, NormalizedAtomicExpression nae) {
-        if (myUseMap.containsKey(symK)) {
-            myUseMap.get(symK).remove(nae);
+    private void removeExprFromSet(NormalizedAtomicExpression nae) {
+        // The posting lists drop the id lazily once it no longer points to an expression
+        NormalizedAtomicExpression removed = myExpressionSet.remove(nae);
+        if (removed != null && removed.readId() >= 0) {
+            myExpressionsById[removed.readId()] = null;
+            removed.writeToId(-1);
         }
     }
 
@@ -58,6 +58,13 @@ public class NormalizedAtomicExpression {
      */
     private final int[] myExpression;
 
+    /**
+     * <p>
+     * The id given to this expression by the conjunction that stores it or {@code -1} if it isn't stored in one.
+     * </p>
+     */
+    private int myId;
+
     /**
      * <p>
      * A set of operation ids.
@@ -113,6 +120,7 @@ public class NormalizedAtomicExpression {
         }
 
         myClassConstant = -1;
+        myId = -1;
     }
 
     // ===========================================================
@@ -148,14 +156,14 @@ public class NormalizedAtomicExpression {
      * @param justArguments
      *            A flag that indicates that we are only want arguments expressions.
      *
-     * @return A map containing the results.
+     * @return An unmodifiable map containing the results.
      */
     public final Map<String, Integer> getOperatorsAsStrings(boolean justArguments) {
         if (justArguments && myArgMap != null) {
-            return new HashMap<>(myArgMap);
+            return myArgMap;
         }
         if (!justArguments && myOpMap != null) {
-            return new HashMap<>(myOpMap);
+            return myOpMap;
         }
 
         myArgMap = new HashMap<>();
@@ -168,26 +176,16 @@ public class NormalizedAtomicExpression {
                 myArgMap.put(curOp, 1);
         }
 
-        myOpMap = new HashMap<>(myArgMap);
+        Map<String, Integer> opMap = new HashMap<>(myArgMap);
         String fSym = readSymbol(0);
         String rSym = myRegistry.getSymbolForIndex(readRoot());
-        if (myOpMap.containsKey(fSym)) {
-            myOpMap.put(fSym, myOpMap.get(fSym) + 1);
-        } else {
-            myOpMap.put(fSym, 1);
-        }
+        opMap.merge(fSym, 1, Integer::sum);
+        opMap.merge(rSym, 1, Integer::sum);
 
-        if (myOpMap.containsKey(rSym)) {
-            myOpMap.put(rSym, myOpMap.get(rSym) + 1);
-        } else {
-            myOpMap.put(rSym, 1);
-        }
+        myArgMap = Collections.unmodifiableMap(myArgMap);
+        myOpMap = Collections.unmodifiableMap(opMap);
 
-        if (justArguments) {
-            return new HashMap<>(myArgMap);
-        } else {
-            return new HashMap<>(myOpMap);
-        }
+        return justArguments ? myArgMap : myOpMap;
     }
 
     /**
@@ -338,7 +336,7 @@ public class NormalizedAtomicExpression {
                 break;
             }
 
-            Registry.Usage us = myRegistry.getUsage(s);
+            Registry.Usage us = myRegistry.getUsageForIndex(myExpression[i]);
 
             if (us == Registry.Usage.FORALL || us == Registry.Usage.HASARGS_FORALL) {
                 isVar = true;
@@ -349,6 +347,17 @@ public class NormalizedAtomicExpression {
         return isVar;
     }
 
+    /**
+     * <p>
+     * This method returns the id given to this expression by the conjunction that stores it.
+     * </p>
+     *
+     * @return The expression id or {@code -1} if it isn't stored in a conjunction.
+     */
+    final int readId() {
+        return myId;
+    }
+
     /**
      * <p>
      * This method returns the integer index value for the symbol located at the specified position.
@@ -504,6 +513,18 @@ public class NormalizedAtomicExpression {
         return rArray;
     }
 
+    /**
+     * <p>
+     * This method stores the id given to this expression by the conjunction that stores it.
+     * </p>
+     *
+     * @param id
+     *            The expression id or {@code -1} if it is no longer stored in a conjunction.
+     */
+    final void writeToId(int id) {
+        myId = id;
+    }
+
     /**
      * <p>
      * This method writes a new root for this expression.
@@ -532,9 +553,9 @@ public class NormalizedAtomicExpression {
     private int numberOfQuants() {
         int c = 0;
         for (String k : getOperatorsAsStrings(false).keySet()) {
-            if (myRegistry.getUsage(k).equals(Registry.Usage.FORALL)
-                    || myRegistry.getUsage(k).equals(Registry.Usage.HASARGS_FORALL)
-                    || myRegistry.getUsage(k).equals(Registry.Usage.CREATED)) {
+            Registry.Usage us = myRegistry.getUsage(k);
+            if (us.equals(Registry.Usage.FORALL) || us.equals(Registry.Usage.HASARGS_FORALL)
+                    || us.equals(Registry.Usage.CREATED)) {
                 c++;
             }
         }
@@ -263,7 +263,7 @@ public class Theorem {
                 || ((myAllowedNewSymbols && myTheoremExp.getQuantifiedVariables().size() == 1) && myIsEqualityFlag)) {
             sResults = findValidBindingsByType(vc);
         } else {
-            sResults = findValidBindings(vc);
+            sResults = findValidBindings(vc, endTime);
         }
 
         if (sResults == null || sResults.isEmpty()) {
@@ -475,10 +475,12 @@ public class Theorem {
      *
      * @param vc
      *            A {@code VC}.
+     * @param endTime
+     *            The time (in ms) when we must stop searching.
      *
      * @return A collection of bounded expressions.
      */
-    private Set<Map<String, String>> findValidBindings(ImmutableVC vc) {
+    private Set<Map<String, String>> findValidBindings(ImmutableVC vc, long endTime) {
         Set<Map<String, String>> results = new HashSet<>();
         Map<String, String> initBindings = getInitBindings();
         if (myTheoremRegistry.mySymbolToIndex.containsKey("_g")) {
@@ -493,11 +495,20 @@ public class Theorem {
         }
 
         for (NormalizedAtomicExpression e_t : myMatchRequiredExps) {
+            // Out of time, so none of the partial matches are usable.
+            if (System.currentTimeMillis() > endTime) {
+                return null;
+            }
+
             results = vc.getConjunct().getMatchesForOverrideSet(e_t, results);
         }
 
         Set<Map<String, String>> t_results;
         for (NormalizedAtomicExpression e_t : myNoMatchRequiredExps) {
+            if (System.currentTimeMillis() > endTime) {
+                break;
+            }
+
             t_results = vc.getConjunct().getMatchesForOverrideSet(e_t, results);
             if (!t_results.isEmpty()) {
                 results.addAll(t_results);
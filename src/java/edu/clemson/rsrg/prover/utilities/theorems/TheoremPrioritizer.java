@@ -121,6 +121,17 @@ public class TheoremPrioritizer {
     // Public Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method checks to see if there are any more theorems that can be considered.
+     * </p>
+     *
+     * @return {@code true} if there are no more theorems, {@code false} otherwise.
+     */
+    public final boolean isEmpty() {
+        return myTheoremPriorityQueue.isEmpty();
+    }
+
     /**
      * <p>
      * This method returns a new theorem if there are more that can be considered.
@@ -0,0 +1,448 @@
+/*
+ * AsynchronousStatusHandler.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.statushandling;
+
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.statushandling.exception.CompilerException;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <p>
+ * This class outputs all debugging, errors and/or other information coming from the compiler to the specified writers
+ * without making the compiler wait for the writers.
+ * </p>
+ * <p>
+ * Any number of threads can send messages at the same time. The messages are formatted on the sending thread and
+ * placed on a lock-free queue that is drained by a single writer thread. The writer thread writes as many messages as
+ * it can find before flushing the writers, so heavy debugging output doesn't need a flush for every message.
+ * </p>
+ * <p>
+ * The messages sent by a thread are always written in the order they were sent. Since each module is compiled on a
+ * single thread, this means the messages for a module never get out of order. The queue can only hold a limited number
+ * of messages, so a thread that sends messages faster than we can write them eventually has to wait for the writer
+ * thread.
+ * </p>
+ * <p>
+ * Sending threads share a read lock while they place a message on the queue and stopping takes the write lock. This
+ * means that once we stop logging, every message that was accepted is already on the queue and gets written before
+ * the writer thread exits.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class AsynchronousStatusHandler implements StatusHandler {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * Writer for warning and error output.
+     * </p>
+     */
+    private final Writer myErrorWriter;
+
+    /**
+     * <p>
+     * The number of messages that can still be placed on {@link #myMessages} before we have to wait for the writer
+     * thread.
+     * </p>
+     */
+    private final Semaphore myFreeSlots;
+
+    /**
+     * <p>
+     * The messages waiting to be written.
+     * </p>
+     */
+    private final Queue<StatusMessage> myMessages;
+
+    /**
+     * <p>
+     * Writer for information output.
+     * </p>
+     */
+    private final Writer myOutputWriter;
+
+    /**
+     * <p>
+     * The lock that keeps us from stopping while a thread is placing a message on {@link #myMessages}.
+     * </p>
+     */
+    private final ReadWriteLock myStopLock;
+
+    /**
+     * <p>
+     * Boolean flag to check to see if we are still logging.
+     * </p>
+     */
+    private volatile boolean myStopLoggingFlag;
+
+    /**
+     * <p>
+     * The thread that writes the messages.
+     * </p>
+     */
+    private final Thread myWriterThread;
+
+    /**
+     * <p>
+     * Boolean flag that indicates the writer thread is about to wait for new messages.
+     * </p>
+     */
+    private volatile boolean myWriterWaitingFlag;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of messages that can be waiting to be written.
+     * </p>
+     */
+    private static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * <p>
+     * The maximum number of messages we write before flushing the writers.
+     * </p>
+     */
+    private static final int MAX_BATCH_SIZE = 256;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This constructor takes in two {@link Writer} objects that will be used to display the various information,
+     * warning and error messages provided by the compiler.
+     * </p>
+     *
+     * @param outWriter
+     *            A writer for general information output.
+     * @param errorWriter
+     *            A writer for warning/error output.
+     */
+    public AsynchronousStatusHandler(Writer outWriter, Writer errorWriter) {
+        this(outWriter, errorWriter, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * <p>
+     * This constructor takes in two {@link Writer} objects that will be used to display the various information,
+     * warning and error messages provided by the compiler.
+     * </p>
+     *
+     * @param outWriter
+     *            A writer for general information output.
+     * @param errorWriter
+     *            A writer for warning/error output.
+     * @param capacity
+     *            The number of messages that can be waiting to be written.
+     */
+    public AsynchronousStatusHandler(Writer outWriter, Writer errorWriter, int capacity) {
+        myErrorWriter = errorWriter;
+        myFreeSlots = new Semaphore(capacity);
+        myMessages = new ConcurrentLinkedQueue<>();
+        myOutputWriter = outWriter;
+        myStopLock = new ReentrantReadWriteLock();
+        myStopLoggingFlag = false;
+        myWriterWaitingFlag = false;
+
+        myWriterThread = new Thread(this::writeMessages, "statusHandler");
+        myWriterThread.setDaemon(true);
+        myWriterThread.start();
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Outputs a critical error message.
+     * </p>
+     *
+     * @param l
+     *            The location where we encountered the error.
+     * @param msg
+     *            Message to be displayed.
+     */
+    @Override
+    public final void error(Location l, String msg) {
+        addMessage(myErrorWriter, WriterStatusHandler.createErrorMessage(l, msg));
+    }
+
+    /**
+     * <p>
+     * Checks to see if we are still logging information.
+     * </p>
+     *
+     * @return True if we are done logging, false otherwise.
+     */
+    @Override
+    public final boolean hasStopped() {
+        return myStopLoggingFlag;
+    }
+
+    /**
+     * <p>
+     * Outputs an informational message, not an error or warning.
+     * </p>
+     *
+     * @param l
+     *            The location where we encountered the error.
+     * @param msg
+     *            A compilation message.
+     */
+    @Override
+    public final void info(Location l, String msg) {
+        addMessage(myOutputWriter, WriterStatusHandler.createInfoMessage(l, msg));
+    }
+
+    /**
+     * <p>
+     * This method prints the stack trace to the desired output stream.
+     * </p>
+     *
+     * @param e
+     *            The encountered compiler exception.
+     */
+    @Override
+    public final void printStackTrace(CompilerException e) {
+        addMessage(myErrorWriter, WriterStatusHandler.createStackTraceMessage(e));
+    }
+
+    /**
+     * <p>
+     * Stop logging anymore information. All the messages we have received so far are written before the writers are
+     * closed. (Note: Should only be called when the compile process is over or has been aborted due to an error.)
+     * </p>
+     */
+    @Override
+    public void stopLogging() {
+        stopWriterThread();
+
+        try {
+            myOutputWriter.close();
+            myErrorWriter.close();
+        } catch (IOException e) {
+            System.err.println("Error closing the output stream.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * <p>
+     * Outputs a warning message.
+     * </p>
+     *
+     * @param l
+     *            The location where we encountered the error.
+     * @param msg
+     *            Message to be displayed.
+     */
+    @Override
+    public final void warning(Location l, String msg) {
+        addMessage(myErrorWriter, WriterStatusHandler.createWarningMessage(l, msg));
+    }
+
+    // ===========================================================
+    // Protected Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method stops accepting new messages and waits for the writer thread to write all the messages we have
+     * received so far. Any thread that is still placing a message on the queue gets to finish first.
+     * </p>
+     */
+    protected final void stopWriterThread() {
+        myStopLock.writeLock().lock();
+        try {
+            myStopLoggingFlag = true;
+        } finally {
+            myStopLock.writeLock().unlock();
+        }
+        LockSupport.unpark(myWriterThread);
+
+        // Wait for the rest of the messages to be written
+        if (Thread.currentThread() != myWriterThread) {
+            boolean interrupted = false;
+            while (myWriterThread.isAlive()) {
+                try {
+                    myWriterThread.join();
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that places a new message on the queue and wakes up the writer thread if it is waiting for new
+     * messages.
+     * </p>
+     *
+     * @param writer
+     *            The writer for this message.
+     * @param text
+     *            The formatted message.
+     */
+    private void addMessage(Writer writer, String text) {
+        // We can't stop logging while we hold the read lock, so the writer
+        // thread is still running if we have to wait for a free slot.
+        myStopLock.readLock().lock();
+        try {
+            if (hasStopped()) {
+                throw new RuntimeException("Error handler has been stopped.");
+            }
+
+            // Wait for the writer thread if the queue is full
+            myFreeSlots.acquireUninterruptibly();
+            myMessages.offer(new StatusMessage(writer, text));
+            if (myWriterWaitingFlag) {
+                LockSupport.unpark(myWriterThread);
+            }
+        } finally {
+            myStopLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that flushes both writers.
+     * </p>
+     */
+    private void flushWriters() {
+        try {
+            myOutputWriter.flush();
+            myErrorWriter.flush();
+        } catch (IOException e) {
+            System.err.println("Error writing information to the specified output.");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that runs on the writer thread. It writes the messages in batches and waits for new messages
+     * whenever the queue is empty, until we stop logging and there are no more messages left.
+     * </p>
+     */
+    private void writeMessages() {
+        int batchSize = 0;
+        while (true) {
+            StatusMessage message = myMessages.poll();
+            if (message != null) {
+                try {
+                    message.myWriter.write(message.myText);
+                } catch (IOException e) {
+                    System.err.println("Error writing information to the specified output.");
+                    e.printStackTrace();
+                }
+                myFreeSlots.release();
+
+                // Don't let a steady stream of messages keep everything in the writers' buffers
+                batchSize++;
+                if (batchSize == MAX_BATCH_SIZE) {
+                    flushWriters();
+                    batchSize = 0;
+                }
+            } else {
+                // Done with this batch
+                if (batchSize > 0) {
+                    flushWriters();
+                    batchSize = 0;
+                }
+
+                // Check to see if there is nothing else for us to do. We only stop logging
+                // when no one is sending a message, so every accepted message is already on the queue.
+                boolean stopped = hasStopped();
+                if (stopped && myMessages.isEmpty()) {
+                    break;
+                }
+
+                // Wait for new messages. Any thread that adds a message after we set the
+                // flag will wake us up, so we only sleep when the queue is still empty.
+                myWriterWaitingFlag = true;
+                if (!stopped && myMessages.isEmpty()) {
+                    LockSupport.park(this);
+                }
+                myWriterWaitingFlag = false;
+            }
+        }
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A formatted message and the writer it should be written to.
+     * </p>
+     */
+    private static class StatusMessage {
+
+        /**
+         * <p>
+         * The formatted message.
+         * </p>
+         */
+        private final String myText;
+
+        /**
+         * <p>
+         * The writer for this message.
+         * </p>
+         */
+        private final Writer myWriter;
+
+        /**
+         * <p>
+         * This creates a new message.
+         * </p>
+         *
+         * @param writer
+         *            The writer for this message.
+         * @param text
+         *            The formatted message.
+         */
+        private StatusMessage(Writer writer, String text) {
+            myWriter = writer;
+            myText = text;
+        }
+
+    }
+
+}
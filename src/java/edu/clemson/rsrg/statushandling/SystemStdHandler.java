@@ -19,12 +19,16 @@ import java.io.PrintWriter;
  * This class outputs all information to {@link System#out} and all warning and errors to {@link System#err} file
  * descriptors.
  * </p>
+ * <p>
+ * The messages are written by a separate writer thread, so threads compiling different modules never have to wait on
+ * each other to write to the console.
+ * </p>
  *
  * @author Yu-Shan Sun
  *
  * @version 1.0
  */
-public class SystemStdHandler extends WriterStatusHandler implements StatusHandler {
+public class SystemStdHandler extends AsynchronousStatusHandler implements StatusHandler {
 
     // ===========================================================
     // Constructors
@@ -46,13 +50,14 @@ public class SystemStdHandler extends WriterStatusHandler implements StatusHandl
 
     /**
      * <p>
-     * Stop logging anymore information. (Note: Should only be called when the compile process is over or has been
-     * aborted due to an error.)
+     * Stop logging anymore information. All the messages we have received so far are written, but the standard output
+     * streams are left open. (Note: Should only be called when the compile process is over or has been aborted due to
+     * an error.)
      * </p>
      */
     @Override
-    public synchronized final void stopLogging() {
-        stopLogging = true;
+    public final void stopLogging() {
+        stopWriterThread();
     }
 
 }
@@ -92,16 +92,7 @@ public class WriterStatusHandler implements StatusHandler {
     public synchronized final void error(Location l, String msg) {
         try {
             if (!hasStopped()) {
-                StringBuilder sb = new StringBuilder();
-                sb.append("\nError: ");
-                if (l != null) {
-                    sb.append(l.toString());
-                }
-                sb.append("\n\n");
-                sb.append(msg);
-                sb.append("\n\n");
-
-                myErrorWriter.write(sb.toString());
+                myErrorWriter.write(createErrorMessage(l, msg));
                 myErrorWriter.flush();
             } else {
                 throw new RuntimeException("Error handler has been stopped.");
@@ -138,14 +129,7 @@ public class WriterStatusHandler implements StatusHandler {
     public synchronized final void info(Location l, String msg) {
         try {
             if (!hasStopped()) {
-                StringBuilder sb = new StringBuilder();
-                if (l != null) {
-                    sb.append(l.toString());
-                }
-                sb.append(msg);
-                sb.append("\n");
-
-                myOutputWriter.write(sb.toString());
+                myOutputWriter.write(createInfoMessage(l, msg));
                 myOutputWriter.flush();
             } else {
                 throw new RuntimeException("Error handler has been stopped.");
@@ -168,32 +152,7 @@ public class WriterStatusHandler implements StatusHandler {
     public synchronized final void printStackTrace(CompilerException e) {
         try {
             if (!hasStopped()) {
-                StringBuilder sb = new StringBuilder();
-                StackTraceElement[] elements = e.getStackTrace();
-                for (int i = 0; i < elements.length; i++) {
-                    if (i != 0) {
-                        sb.append("\tat ");
-                    }
-                    sb.append(elements[i]);
-                    sb.append("\n");
-                }
-
-                // Print the stack trace for the cause
-                if (e.getCause() != null) {
-                    Throwable cause = e.getCause();
-                    sb.append("Caused by: ");
-                    sb.append(cause);
-                    sb.append("\n");
-
-                    StackTraceElement[] causeElements = cause.getStackTrace();
-                    for (int i = 0; i < causeElements.length; i++) {
-                        sb.append("\tat ");
-                        sb.append(causeElements[i]);
-                        sb.append("\n");
-                    }
-                }
-
-                myErrorWriter.write(sb.toString());
+                myErrorWriter.write(createStackTraceMessage(e));
                 myErrorWriter.flush();
             } else {
                 throw new RuntimeException("Error handler has been stopped.");
@@ -237,16 +196,7 @@ public class WriterStatusHandler implements StatusHandler {
     public synchronized final void warning(Location l, String msg) {
         try {
             if (!hasStopped()) {
-                StringBuilder sb = new StringBuilder();
-                sb.append("\nWarning: ");
-                if (l != null) {
-                    sb.append(l.toString());
-                }
-                sb.append("\n");
-                sb.append(msg);
-                sb.append("\n");
-
-                myErrorWriter.write(sb.toString());
+                myErrorWriter.write(createWarningMessage(l, msg));
                 myErrorWriter.flush();
             } else {
                 throw new RuntimeException("Error handler has been stopped.");
@@ -257,4 +207,120 @@ public class WriterStatusHandler implements StatusHandler {
         }
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates the text we display for a critical error message.
+     * </p>
+     *
+     * @param l
+     *            The location where we encountered the error.
+     * @param msg
+     *            Message to be displayed.
+     *
+     * @return The formatted error message.
+     */
+    static String createErrorMessage(Location l, String msg) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\nError: ");
+        if (l != null) {
+            sb.append(l.toString());
+        }
+        sb.append("\n\n");
+        sb.append(msg);
+        sb.append("\n\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * This method creates the text we display for an informational message.
+     * </p>
+     *
+     * @param l
+     *            The location where we encountered the error.
+     * @param msg
+     *            A compilation message.
+     *
+     * @return The formatted informational message.
+     */
+    static String createInfoMessage(Location l, String msg) {
+        StringBuilder sb = new StringBuilder();
+        if (l != null) {
+            sb.append(l.toString());
+        }
+        sb.append(msg);
+        sb.append("\n");
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * This method creates the text we display for the stack trace of a compiler exception.
+     * </p>
+     *
+     * @param e
+     *            The encountered compiler exception.
+     *
+     * @return The formatted stack trace.
+     */
+    static String createStackTraceMessage(CompilerException e) {
+        StringBuilder sb = new StringBuilder();
+        StackTraceElement[] elements = e.getStackTrace();
+        for (int i = 0; i < elements.length; i++) {
+            if (i != 0) {
+                sb.append("\tat ");
+            }
+            sb.append(elements[i]);
+            sb.append("\n");
+        }
+
+        // Print the stack trace for the cause
+        if (e.getCause() != null) {
+            Throwable cause = e.getCause();
+            sb.append("Caused by: ");
+            sb.append(cause);
+            sb.append("\n");
+
+            StackTraceElement[] causeElements = cause.getStackTrace();
+            for (int i = 0; i < causeElements.length; i++) {
+                sb.append("\tat ");
+                sb.append(causeElements[i]);
+                sb.append("\n");
+            }
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * <p>
+     * This method creates the text we display for a warning message.
+     * </p>
+     *
+     * @param l
+     *            The location where we encountered the error.
+     * @param msg
+     *            Message to be displayed.
+     *
+     * @return The formatted warning message.
+     */
+    static String createWarningMessage(Location l, String msg) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\nWarning: ");
+        if (l != null) {
+            sb.append(l.toString());
+        }
+        sb.append("\n");
+        sb.append(msg);
+        sb.append("\n");
+
+        return sb.toString();
+    }
+
 }
@@ -1337,7 +1337,8 @@ public abstract class AbstractTranslator extends TreeWalkerStackVisitor {
         boolean containsSharedVar = false;
         if (dec instanceof ConceptModuleDec) {
             containsSharedVar = ((ConceptModuleDec) dec).isSharingConcept();
-        } else {
+        } else if (dec instanceof ConceptRealizModuleDec || dec instanceof EnhancementModuleDec
+                || dec instanceof EnhancementRealizModuleDec) {
             PosSymbol conceptName;
             if (dec instanceof ConceptRealizModuleDec) {
                 conceptName = ((ConceptRealizModuleDec) dec).getConceptName();
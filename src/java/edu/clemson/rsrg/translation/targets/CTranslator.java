@@ -22,6 +22,7 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
+import edu.clemson.rsrg.misc.STGroupCache;
 import edu.clemson.rsrg.translation.AbstractTranslator;
 import edu.clemson.rsrg.typeandpopulate.entry.FacilityEntry;
 import edu.clemson.rsrg.typeandpopulate.entry.ProgramParameterEntry;
@@ -35,7 +36,6 @@ import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
 import java.util.LinkedList;
 import java.util.List;
 import org.stringtemplate.v4.ST;
-import org.stringtemplate.v4.STGroupFile;
 
 /**
  * <p>
@@ -142,7 +142,7 @@ public class CTranslator extends AbstractTranslator {
      *            The current job's compilation environment
      */
     public CTranslator(MathSymbolTableBuilder builder, CompileEnvironment compileEnvironment) {
-        super(builder, compileEnvironment, new STGroupFile("templates/C.stg"));
+        super(builder, compileEnvironment, STGroupCache.getGroup("templates/C.stg"));
         myFacilityInstantiations = new LinkedList<>();
     }
 
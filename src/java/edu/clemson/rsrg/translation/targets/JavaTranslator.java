@@ -14,8 +14,11 @@ package edu.clemson.rsrg.translation.targets;
 
 import edu.clemson.rsrg.absyn.declarations.Dec;
 import edu.clemson.rsrg.absyn.declarations.facilitydecl.FacilityDec;
+import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.*;
 import edu.clemson.rsrg.absyn.declarations.operationdecl.OperationDec;
+import edu.clemson.rsrg.absyn.declarations.operationdecl.OperationProcedureDec;
+import edu.clemson.rsrg.absyn.declarations.operationdecl.ProcedureDec;
 import edu.clemson.rsrg.absyn.declarations.paramdecl.ConceptTypeParamDec;
 import edu.clemson.rsrg.absyn.declarations.paramdecl.ConstantParamDec;
 import edu.clemson.rsrg.absyn.declarations.paramdecl.ModuleParameterDec;
@@ -23,15 +26,18 @@ import edu.clemson.rsrg.absyn.declarations.typedecl.FacilityTypeRepresentationDe
 import edu.clemson.rsrg.absyn.declarations.typedecl.TypeFamilyDec;
 import edu.clemson.rsrg.absyn.declarations.typedecl.TypeRepresentationDec;
 import edu.clemson.rsrg.absyn.declarations.variabledecl.ParameterVarDec;
+import edu.clemson.rsrg.absyn.declarations.variabledecl.VarDec;
+import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.programexpr.*;
 import edu.clemson.rsrg.absyn.items.programitems.EnhancementSpecRealizItem;
 import edu.clemson.rsrg.absyn.items.programitems.ModuleArgumentItem;
-import edu.clemson.rsrg.absyn.statements.CallStmt;
-import edu.clemson.rsrg.absyn.statements.SwapStmt;
+import edu.clemson.rsrg.absyn.items.programitems.IfConditionItem;
+import edu.clemson.rsrg.absyn.statements.*;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
+import edu.clemson.rsrg.misc.STGroupCache;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
 import edu.clemson.rsrg.prover.immutableadts.ImmutableList;
@@ -52,7 +58,6 @@ import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleParameterization;
 import java.util.*;
 import org.stringtemplate.v4.ST;
-import org.stringtemplate.v4.STGroupFile;
 
 /**
  * <p>
@@ -101,6 +106,73 @@ public class JavaTranslator extends AbstractTranslator {
      */
     private final Set<String> myParameterOperationNames;
 
+    /**
+     * <p>
+     * The {@link ProgramExp ProgramExps} in the procedure being translated that are translated as primitive values and
+     * then wrapped in a new {@code RType}.
+     * </p>
+     */
+    private final Set<ProgramExp> myPrimitiveBoxedExps;
+
+    /**
+     * <p>
+     * The {@link VarDec VarDecs}, {@link Statement Statements} and conditions in the procedure being translated that
+     * use primitive {@code Java} values instead of {@code RTypes}.
+     * </p>
+     */
+    private final Set<ResolveConceptualElement> myPrimitiveElements;
+
+    /**
+     * <p>
+     * A mapping between the names of the local variables in the procedure being translated that are represented by
+     * primitive {@code Java} variables and the standard facility that defines their type.
+     * </p>
+     */
+    private final Map<String, String> myPrimitiveVariables;
+
+    /**
+     * <p>
+     * The binary operations provided by the standard facilities that we can translate to a {@code Java} operator.
+     * </p>
+     */
+    private static final Map<String, String> STD_BINARY_OPERATORS = Map.ofEntries(Map.entry("And", "&&"),
+            Map.entry("Are_Equal", "=="), Map.entry("Are_Not_Equal", "!="), Map.entry("Difference", "-"),
+            Map.entry("Greater", ">"), Map.entry("Greater_Or_Equal", ">="), Map.entry("Less", "<"),
+            Map.entry("Less_Or_Equal", "<="), Map.entry("Or", "||"), Map.entry("Product", "*"),
+            Map.entry("Sum", "+"));
+
+    /**
+     * <p>
+     * A mapping between the standard facilities whose values we can store in primitive {@code Java} variables and the
+     * primitive type we use.
+     * </p>
+     */
+    private static final Map<String, String> STD_PRIMITIVE_TYPES = Map.of("Std_Boolean_Fac", "boolean",
+            "Std_Character_Fac", "char", "Std_Integer_Fac", "int");
+
+    /**
+     * <p>
+     * A mapping between the standard facilities in {@link #STD_PRIMITIVE_TYPES} and their realizations.
+     * </p>
+     */
+    private static final Map<String, String> STD_REALIZATIONS = Map.of("Std_Boolean_Fac", "Std_Boolean_Realiz",
+            "Std_Character_Fac", "Std_Character_Realiz", "Std_Integer_Fac", "Std_Integer_Realiz");
+
+    /**
+     * <p>
+     * The unary operations provided by the standard facilities that we can translate to a {@code Java} operator.
+     * </p>
+     */
+    private static final Map<String, String> STD_UNARY_OPERATORS = Map.of("Negate", "-", "Not", "!");
+
+    /**
+     * <p>
+     * The operations provided by the standard facilities that update their only argument and that we can translate to
+     * a {@code Java} operator.
+     * </p>
+     */
+    private static final Map<String, String> STD_UPDATE_OPERATORS = Map.of("Decrement", "--", "Increment", "++");
+
     // ===========================================================
     // Flag Strings
     // ===========================================================
@@ -119,6 +191,14 @@ public class JavaTranslator extends AbstractTranslator {
      */
     private static final String FLAG_DESC_TRANSLATE_CLEAN = "Regenerates Java code for all supporting RESOLVE files.";
 
+    /**
+     * <p>
+     * Description for {@code javaPrimitiveStdFacilities} flag.
+     * </p>
+     */
+    private static final String FLAG_DESC_PRIMITIVE_STD_FACILITIES = "Use primitive Java values for local variables "
+            + "from the standard Boolean, Character and Integer facilities.";
+
     // ===========================================================
     // Flags
     // ===========================================================
@@ -138,6 +218,16 @@ public class JavaTranslator extends AbstractTranslator {
     public static final Flag JAVA_FLAG_TRANSLATE_CLEAN = new Flag(FLAG_SECTION_NAME, "javaTranslateClean",
             FLAG_DESC_TRANSLATE_CLEAN);
 
+    /**
+     * <p>
+     * Tells the compiler to store local variables whose types come from {@code Std_Boolean_Fac},
+     * {@code Std_Character_Fac} or {@code Std_Integer_Fac} in primitive {@code Java} variables and to inline the
+     * operations on them whenever these variables never need to be passed around as {@code RTypes}.
+     * </p>
+     */
+    public static final Flag JAVA_FLAG_PRIMITIVE_STD_FACILITIES = new Flag(FLAG_SECTION_NAME,
+            "javaPrimitiveStdFacilities", FLAG_DESC_PRIMITIVE_STD_FACILITIES);
+
     /**
      * <p>
      * Add all the required and implied flags for the {@code JavaTranslator}.
@@ -148,8 +238,9 @@ public class JavaTranslator extends AbstractTranslator {
         FlagDependencies.addImplies(JAVA_FLAG_TRANSLATE, FLAG_TRANSLATE);
         FlagDependencies.addImplies(JAVA_FLAG_TRANSLATE_CLEAN, FLAG_TRANSLATE);
 
-        // Translate clean requires the regular translate flag
+        // Translate clean and primitive standard facilities require the regular translate flag
         FlagDependencies.addRequires(JAVA_FLAG_TRANSLATE_CLEAN, JAVA_FLAG_TRANSLATE);
+        FlagDependencies.addRequires(JAVA_FLAG_PRIMITIVE_STD_FACILITIES, JAVA_FLAG_TRANSLATE);
 
         // Setup debugging for java translator
         FlagDependencies.addImplies(FLAG_TRANSLATE_DEBUG, ResolveCompiler.FLAG_DEBUG);
@@ -170,12 +261,15 @@ public class JavaTranslator extends AbstractTranslator {
      *            The current job's compilation environment
      */
     public JavaTranslator(MathSymbolTableBuilder builder, CompileEnvironment compileEnvironment) {
-        super(builder, compileEnvironment, new STGroupFile("templates/Java.stg"));
+        super(builder, compileEnvironment, STGroupCache.getGroup("templates/Java.stg"));
         myBaseEnhancement = null;
         myBaseInstantiation = null;
         myCurrentEnhancement = null;
         myFacilityBindings = new LinkedHashMap<>();
         myParameterOperationNames = new HashSet<>();
+        myPrimitiveBoxedExps = Collections.newSetFromMap(new IdentityHashMap<>());
+        myPrimitiveElements = Collections.newSetFromMap(new IdentityHashMap<>());
+        myPrimitiveVariables = new HashMap<>();
     }
 
     // ===========================================================
@@ -313,7 +407,6 @@ public class JavaTranslator extends AbstractTranslator {
     @Override
     public final void preEnhancementRealizModuleDec(EnhancementRealizModuleDec dec) {
         addPackageTemplate(dec);
-        addReflectionImportTemplates(dec);
 
         List<ProgramParameterEntry> formals = getModuleFormalParameters(dec.getConceptName());
 
@@ -322,7 +415,6 @@ public class JavaTranslator extends AbstractTranslator {
 
         enhancementBody.add("implement", dec.getEnhancementName().getName());
         enhancementBody.add("implement", dec.getConceptName().getName());
-        enhancementBody.add("implement", "InvocationHandler");
 
         myActiveTemplates.push(enhancementBody);
 
@@ -346,36 +438,7 @@ public class JavaTranslator extends AbstractTranslator {
          * via a set of functions that share the signatures of the functions defined in the base concept, but whose
          * bodies merely call the <em>real</em> method.
          */
-        try {
-            ModuleScope conceptScope = myBuilder.getModuleScope(new ModuleIdentifier(dec.getConceptName().getName()));
-
-            List<OperationEntry> conceptOperations = conceptScope.query(new EntryTypeQuery<>(OperationEntry.class,
-                    MathSymbolTable.ImportStrategy.IMPORT_NONE, MathSymbolTable.FacilityStrategy.FACILITY_IGNORE));
-
-            List<TypeFamilyEntry> conceptTypes = conceptScope.query(new EntryTypeQuery<>(TypeFamilyEntry.class,
-                    MathSymbolTable.ImportStrategy.IMPORT_NONE, MathSymbolTable.FacilityStrategy.FACILITY_IGNORE));
-
-            for (OperationEntry o : conceptOperations) {
-                PTType returnType = (o.getReturnType() instanceof PTVoid) ? null : o.getReturnType();
-
-                addEnhancementConceptualFunction(o.getDefiningElement().getLocation(), returnType, o.getName(),
-                        o.getParameters());
-            }
-
-            for (ProgramParameterEntry p : getModuleFormalParameters(dec.getConceptName())) {
-
-                addEnhancementConceptualFunction(p.getDefiningElement().getLocation(), p.getDeclaredType(),
-                        (p.getDeclaredType() instanceof PTElement) ? "getType" + p.getName() : "get" + p.getName(),
-                        null);
-            }
-
-            for (TypeFamilyEntry e : conceptTypes) {
-                addEnhancementConceptualFunction(e.getDefiningElement().getLocation(), e.getProgramType(),
-                        "create" + e.getName(), null);
-            }
-        } catch (NoSuchSymbolException nsse) {
-            noSuchModule(dec.getConceptName());
-        }
+        addEnhancementConceptualFunctions(dec.getConceptName(), "con");
     }
 
     // -----------------------------------------------------------
@@ -551,6 +614,38 @@ public class JavaTranslator extends AbstractTranslator {
     // Expression-Related
     // -----------------------------------------------------------
 
+    /**
+     * <p>
+     * This method redefines how a {@link ProgramExp} should be walked.
+     * </p>
+     *
+     * @param exp
+     *            A programming expression.
+     *
+     * @return {@code true} if {@code exp} is translated using primitive values, {@code false} otherwise.
+     */
+    @Override
+    public final boolean walkProgramExp(ProgramExp exp) {
+        boolean isPrimitive = myPrimitiveElements.contains(exp);
+        boolean isBoxed = myPrimitiveBoxedExps.contains(exp);
+
+        // A condition of an if/while statement
+        if (isPrimitive) {
+            myActiveTemplates.peek().add("arguments", getPrimitiveExpTemplate(exp)).add("primitive", true);
+        }
+        // An argument that needs to be passed as a new RType
+        else if (isBoxed) {
+            ST boxedExp = mySTGroup.getInstanceOf("var_init")
+                    .add("type", getVariableTypeTemplate(exp.getProgramType()))
+                    .add("facility", getStdFacilityName(exp.getProgramType()))
+                    .add("arguments", getPrimitiveExpTemplate(exp));
+
+            myActiveTemplates.peek().add("arguments", boxedExp);
+        }
+
+        return isPrimitive || isBoxed;
+    }
+
     /**
      * <p>
      * Code that gets executed before visiting a {@link ProgramVariableNameExp}.
@@ -600,6 +695,7 @@ public class JavaTranslator extends AbstractTranslator {
     public final void preFacilityDec(FacilityDec dec) {
         myBaseInstantiation = mySTGroup.getInstanceOf("facility_init");
         myBaseInstantiation.add("realization", dec.getConceptRealizName().getName());
+        myBaseEnhancement = null;
 
         myActiveTemplates.push(myBaseInstantiation);
         Scope scopeToSearch = myCurrentModuleScope;
@@ -662,14 +758,22 @@ public class JavaTranslator extends AbstractTranslator {
         }
 
         // YS: If we have one enhancement/enhancement realization pair,
-        // we don't need to create a proxy. Simply create a new variable
+        // we don't need an enhanced facility class. Simply create a new variable
         // with the enhancement's name and use it to instantiate that part
         // of the facility.
         if (dec.getEnhancementRealizPairs().size() == 1) {
             facilityType = dec.getEnhancementRealizPairs().get(0).getEnhancementName().getName();
         }
+        // With more enhancements, the facility variable is an instance
+        // of a class that implements the concept and all the enhancements.
+        else if (dec.getEnhancementRealizPairs().size() > 1) {
+            facilityType = dec.getName().getName() + "_Enhanced";
+            myBaseEnhancement.add("name", facilityType);
+
+            addEnhancedFacilityClass(dec, facilityType);
+        }
 
-        // Create a new facility variable. This includes a "createProxy" call if needed.
+        // Create a new facility variable.
         ST facilityVariable = mySTGroup.getInstanceOf("var_decl").add("type", facilityType)
                 .add("name", dec.getName().getName()).add("init", myActiveTemplates.pop());
 
@@ -696,8 +800,6 @@ public class JavaTranslator extends AbstractTranslator {
 
         List<ModuleParameterization> enhancements = myCurrentFacilityEntry.getEnhancements();
 
-        boolean proxied = myCurrentFacilityEntry.getEnhancements().size() > 1;
-
         if (myBaseInstantiation.getAttribute("arguments") instanceof ST) {
             singleArg = ((ST) myBaseInstantiation.getAttribute("arguments"));
         } else if (myBaseInstantiation.getAttribute("arguments") != null) {
@@ -713,8 +815,7 @@ public class JavaTranslator extends AbstractTranslator {
         }
 
         myActiveTemplates.push(mySTGroup.getInstanceOf("facility_init"));
-        myActiveTemplates.peek().add("isProxied", proxied).add("realization",
-                item.getEnhancementRealizName().getName());
+        myActiveTemplates.peek().add("realization", item.getEnhancementRealizName().getName());
 
         if (myBaseInstantiation.getAttribute("arguments") instanceof ST) {
             myActiveTemplates.peek().add("arguments", singleArg);
@@ -733,25 +834,22 @@ public class JavaTranslator extends AbstractTranslator {
      */
     @Override
     public final void postEnhancementSpecRealizItem(EnhancementSpecRealizItem item) {
-        String curName = item.getEnhancementRealizName().getName();
-
-        List<ModuleParameterization> enhancements = myCurrentFacilityEntry.getEnhancements();
-
-        ModuleParameterization first = enhancements.get(0);
-        ModuleParameterization last = enhancements.get(enhancements.size() - 1);
-
-        String firstBodyName = myCurrentFacilityEntry.getEnhancementRealization(first).getModuleIdentifier().toString();
-
-        String lastBodyName = myCurrentFacilityEntry.getEnhancementRealization(last).getModuleIdentifier().toString();
-
-        if (curName.equals(lastBodyName)) {
-            myActiveTemplates.peek().add("arguments", myBaseInstantiation.render());
-        }
-
-        if (curName.equals(firstBodyName)) {
-            myBaseEnhancement = myActiveTemplates.peek();
+        ST enhancementInit = myActiveTemplates.peek();
+
+        // A single enhancement realization wraps the base realization directly.
+        // Otherwise, the enhanced facility class hands each enhancement realization
+        // the base realization as "toWrap".
+        if (myCurrentFacilityEntry.getEnhancements().size() == 1) {
+            enhancementInit.add("arguments", myBaseInstantiation.render());
+            myBaseEnhancement = enhancementInit;
         } else {
-            myBaseEnhancement.add("arguments", myActiveTemplates.peek());
+            enhancementInit.add("arguments", "toWrap");
+
+            if (myBaseEnhancement == null) {
+                myBaseEnhancement = mySTGroup.getInstanceOf("enhanced_facility_init").add("base",
+                        myBaseInstantiation.render());
+            }
+            myBaseEnhancement.add("enhancements", enhancementInit);
         }
     }
 
@@ -814,10 +912,132 @@ public class JavaTranslator extends AbstractTranslator {
         return true;
     }
 
+    // -----------------------------------------------------------
+    // Procedure Declaration-Related
+    // -----------------------------------------------------------
+
+    /**
+     * <p>
+     * This method redefines how an {@link OperationProcedureDec} should be walked.
+     * </p>
+     *
+     * @param dec
+     *            A local operation with procedure declaration.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public final boolean walkOperationProcedureDec(OperationProcedureDec dec) {
+        // Decide which local variables can be primitive before walking the children.
+        findPrimitiveVariables(dec.getVariables(), dec.getStatements());
+
+        return false;
+    }
+
+    /**
+     * <p>
+     * This method redefines how a {@link ProcedureDec} should be walked.
+     * </p>
+     *
+     * @param dec
+     *            A procedure declaration.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public final boolean walkProcedureDec(ProcedureDec dec) {
+        // Decide which local variables can be primitive before walking the children.
+        findPrimitiveVariables(dec.getVariables(), dec.getStatements());
+
+        return false;
+    }
+
     // -----------------------------------------------------------
     // Statement-Related
     // -----------------------------------------------------------
 
+    /**
+     * <p>
+     * This method redefines how a {@link CallStmt} should be walked.
+     * </p>
+     *
+     * @param stmt
+     *            An operation call statement.
+     *
+     * @return {@code true}
+     */
+    @Override
+    public final boolean walkCallStmt(CallStmt stmt) {
+        preAny(stmt);
+        preStatement(stmt);
+
+        ProgramFunctionExp functionExp = stmt.getFunctionExp();
+        if (myPrimitiveElements.contains(stmt)) {
+            ProgramVariableNameExp variableExp = (ProgramVariableNameExp) functionExp.getArguments().get(0);
+            ST updateStmt = mySTGroup.getInstanceOf("primitive_update").add("name", variableExp.getName().getName())
+                    .add("operator", STD_UPDATE_OPERATORS.get(functionExp.getName().getName()));
+
+            myActiveTemplates.peek().add("stmts", updateStmt);
+        } else {
+            // Only walk the arguments. Walking the function expression would
+            // translate the call a second time as its own argument.
+            preCallStmt(stmt);
+            for (ProgramExp argument : functionExp.getArguments()) {
+                TreeWalker.visit(this, argument);
+            }
+            postCallStmt(stmt);
+        }
+
+        postStatement(stmt);
+        postAny(stmt);
+
+        return true;
+    }
+
+    /**
+     * <p>
+     * This method redefines how a {@link FuncAssignStmt} should be walked.
+     * </p>
+     *
+     * @param stmt
+     *            A function assignment statement.
+     *
+     * @return {@code true} if {@code stmt} assigns to a primitive variable, {@code false} otherwise.
+     */
+    @Override
+    public final boolean walkFuncAssignStmt(FuncAssignStmt stmt) {
+        boolean isPrimitive = myPrimitiveElements.contains(stmt);
+        if (isPrimitive) {
+            preAny(stmt);
+
+            String name = ((ProgramVariableNameExp) stmt.getVariableExp()).getName().getName();
+            ProgramExp assignExp = stmt.getAssignExp();
+
+            ST exp;
+            if (isPrimitiveExp(assignExp)) {
+                exp = getPrimitiveExpTemplate(assignExp);
+            }
+            // The value comes from an operation that returns a RType,
+            // so we translate it as usual and then take out the value.
+            else {
+                String facilityName = myPrimitiveVariables.get(name);
+                exp = mySTGroup.getInstanceOf("unboxed_exp").add("realization", STD_REALIZATIONS.get(facilityName))
+                        .add("type", getTypeName(stmt.getVariableExp().getProgramType()));
+
+                myActiveTemplates.push(exp);
+                TreeWalker.visit(this, assignExp);
+                myActiveTemplates.pop();
+            }
+
+            ST assignStmt = mySTGroup.getInstanceOf("primitive_assign").add("name", name).add("exp", exp);
+            myActiveTemplates.peek().add("stmts", assignStmt);
+
+            postAny(stmt);
+        }
+
+        return isPrimitive;
+    }
+
     /**
      * <p>
      * Code that gets executed before visiting a {@link CallStmt}.
@@ -873,6 +1093,36 @@ public class JavaTranslator extends AbstractTranslator {
         myActiveTemplates.push(swapStmt);
     }
 
+    /**
+     * <p>
+     * This method redefines how a {@link SwapStmt} should be walked.
+     * </p>
+     *
+     * @param stmt
+     *            A swap statement.
+     *
+     * @return {@code true} if {@code stmt} swaps two primitive variables, {@code false} otherwise.
+     */
+    @Override
+    public final boolean walkSwapStmt(SwapStmt stmt) {
+        boolean isPrimitive = myPrimitiveElements.contains(stmt);
+        if (isPrimitive) {
+            preAny(stmt);
+
+            String left = ((ProgramVariableNameExp) stmt.getLeft()).getName().getName();
+            String right = ((ProgramVariableNameExp) stmt.getRight()).getName().getName();
+            ST swapStmt = mySTGroup.getInstanceOf("primitive_swap")
+                    .add("type", STD_PRIMITIVE_TYPES.get(myPrimitiveVariables.get(left))).add("left", left)
+                    .add("right", right);
+
+            myActiveTemplates.peek().add("stmts", swapStmt);
+
+            postAny(stmt);
+        }
+
+        return isPrimitive;
+    }
+
     // -----------------------------------------------------------
     // Type Declaration-Related
     // -----------------------------------------------------------
@@ -1019,6 +1269,43 @@ public class JavaTranslator extends AbstractTranslator {
         emitDebug(dec.getLocation(), "Adding parameter variable: " + dec.getName());
     }
 
+    /**
+     * <p>
+     * This method redefines how a {@link VarDec} should be walked.
+     * </p>
+     *
+     * @param dec
+     *            A variable declaration.
+     *
+     * @return {@code true} if {@code dec} is a primitive variable, {@code false} otherwise.
+     */
+    @Override
+    public final boolean walkVarDec(VarDec dec) {
+        boolean isPrimitive = myPrimitiveElements.contains(dec);
+        if (isPrimitive) {
+            preAny(dec);
+
+            // The initial value still comes from the facility, so we
+            // get exactly the same value as the RType version.
+            String name = dec.getName().getName();
+            String facilityName = myPrimitiveVariables.get(name);
+            ST init = mySTGroup.getInstanceOf("primitive_init").add("realization", STD_REALIZATIONS.get(facilityName))
+                    .add("facility", facilityName).add("type", getTypeName(dec.getTy().getProgramType()));
+
+            ST variable = mySTGroup.getInstanceOf("var_decl").add("type", STD_PRIMITIVE_TYPES.get(facilityName))
+                    .add("name", name).add("init", init);
+
+            myActiveTemplates.peek().add("variables", variable);
+
+            emitDebug(dec.getLocation(), "Adding primitive variable: " + name + " with type: "
+                    + STD_PRIMITIVE_TYPES.get(facilityName));
+
+            postAny(dec);
+        }
+
+        return isPrimitive;
+    }
+
     // ===========================================================
     // Public Methods
     // ===========================================================
@@ -1130,15 +1417,54 @@ public class JavaTranslator extends AbstractTranslator {
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Creates the class used by a {@link FacilityDec} with two or more enhancements and adds it to the {@code classes}
+     * attribute of the class being translated. The generated class implements the {@code concept} and all the
+     * {@code enhancements}, and each of its methods calls the base realization or the enhancement realization that
+     * provides it directly.
+     * </p>
+     *
+     * @param dec
+     *            A facility declaration.
+     * @param className
+     *            The name of the generated class.
+     */
+    private void addEnhancedFacilityClass(FacilityDec dec, String className) {
+        String conceptName = dec.getConceptName().getName();
+        ST enhancedFacility = mySTGroup.getInstanceOf("enhanced_facility_class").add("name", className)
+                .add("conceptname", conceptName).add("implement", conceptName);
+
+        myActiveTemplates.push(enhancedFacility);
+        addEnhancementConceptualFunctions(dec.getConceptName(), "con");
+
+        // The fields holding the enhancement realizations are numbered
+        // in the same order as the enhancements in the declaration.
+        int enhancementNum = 1;
+        for (EnhancementSpecRealizItem item : dec.getEnhancementRealizPairs()) {
+            String enhancementName = item.getEnhancementName().getName();
+            enhancedFacility.add("implement", enhancementName).add("enhancements", enhancementName);
+
+            addEnhancementConceptualFunctions(item.getEnhancementName(), "enhancement" + enhancementNum);
+            enhancementNum++;
+        }
+        myActiveTemplates.pop();
+
+        // The first template is the module and the second one is the class we are translating.
+        myActiveTemplates.get(1).add("classes", enhancedFacility);
+
+        emitDebug(dec.getLocation(), "Adding enhanced facility class: " + className);
+    }
+
     /**
      * <p>
      * This method is only intended to be called when translating {@link EnhancementRealizModuleDec
-     * EnhancementRealizModuleDecs}. It is used to construct and add a 'dummy method' that simply uses 'con' to call the
-     * actual method.
+     * EnhancementRealizModuleDecs} or enhanced {@link FacilityDec FacilityDecs}. It is used to construct and add a
+     * 'dummy method' that simply uses {@code target} to call the actual method.
      * </p>
      * <p>
-     * For example, given {@code type} = null, {@code name} = 'Pop', and {@code parameters} = [R, S]; is method returns
-     * :
+     * For example, given {@code type} = null, {@code name} = 'Pop', {@code parameters} = [R, S] and {@code target} =
+     * 'con'; is method returns :
      *
      * <pre>
      *
@@ -1154,10 +1480,13 @@ public class JavaTranslator extends AbstractTranslator {
      *            The name.
      * @param parameters
      *            A list of {@link ProgramParameterEntry} representing the function's formal parameters.
+     * @param target
+     *            The name of the field that holds the object with the actual method.
      */
     private void addEnhancementConceptualFunction(Location loc, PTType type, String name,
-            ImmutableList<ProgramParameterEntry> parameters) {
-        ST singleLine = mySTGroup.getInstanceOf("enhanced_stmt").add("returns", type).add("name", name);
+            ImmutableList<ProgramParameterEntry> parameters, String target) {
+        ST singleLine = mySTGroup.getInstanceOf("enhanced_stmt").add("returns", type).add("target", target)
+                .add("name", name);
 
         ST operation = getOperationLikeTemplate(type, name, true);
         myActiveTemplates.push(operation);
@@ -1175,6 +1504,60 @@ public class JavaTranslator extends AbstractTranslator {
         emitDebug(loc, "Adding enhancement conceptual function for: " + name);
     }
 
+    /**
+     * <p>
+     * This method adds a 'dummy method' (see {@link #addEnhancementConceptualFunction}) for every function in the
+     * interface generated for a {@code concept} or an {@code enhancement}. This includes the operations, the getters
+     * for the module parameters and the {@code create} methods for the type families.
+     * </p>
+     *
+     * @param moduleName
+     *            The name of the {@code concept} or {@code enhancement}.
+     * @param target
+     *            The name of the field that holds the object with the actual methods.
+     */
+    private void addEnhancementConceptualFunctions(PosSymbol moduleName, String target) {
+        try {
+            ModuleScope moduleScope = myBuilder.getModuleScope(new ModuleIdentifier(moduleName.getName()));
+
+            // Operations passed as module parameters aren't part of the generated interface.
+            Set<String> parameterOperationNames = new HashSet<>();
+            for (ModuleParameterDec p : moduleScope.getDefiningElement().getParameterDecs()) {
+                if (p.getWrappedDec() instanceof OperationDec) {
+                    parameterOperationNames.add(p.getName().getName());
+                }
+            }
+
+            List<OperationEntry> operations = moduleScope.query(new EntryTypeQuery<>(OperationEntry.class,
+                    MathSymbolTable.ImportStrategy.IMPORT_NONE, MathSymbolTable.FacilityStrategy.FACILITY_IGNORE));
+
+            List<TypeFamilyEntry> types = moduleScope.query(new EntryTypeQuery<>(TypeFamilyEntry.class,
+                    MathSymbolTable.ImportStrategy.IMPORT_NONE, MathSymbolTable.FacilityStrategy.FACILITY_IGNORE));
+
+            for (OperationEntry o : operations) {
+                if (!parameterOperationNames.contains(o.getName())) {
+                    PTType returnType = (o.getReturnType() instanceof PTVoid) ? null : o.getReturnType();
+
+                    addEnhancementConceptualFunction(o.getDefiningElement().getLocation(), returnType, o.getName(),
+                            o.getParameters(), target);
+                }
+            }
+
+            for (ProgramParameterEntry p : getModuleFormalParameters(moduleName)) {
+                addEnhancementConceptualFunction(p.getDefiningElement().getLocation(), p.getDeclaredType(),
+                        (p.getDeclaredType() instanceof PTElement) ? "getType" + p.getName() : "get" + p.getName(),
+                        null, target);
+            }
+
+            for (TypeFamilyEntry e : types) {
+                addEnhancementConceptualFunction(e.getDefiningElement().getLocation(), e.getProgramType(),
+                        "create" + e.getName(), null, target);
+            }
+        } catch (NoSuchSymbolException nsse) {
+            noSuchModule(moduleName);
+        }
+    }
+
     /**
      * <p>
      * Creates and adds a formed java package template to the {@code directives} attribute of the outermost
@@ -1194,19 +1577,22 @@ public class JavaTranslator extends AbstractTranslator {
 
     /**
      * <p>
-     * Creates and adds a formed java reflection package template to the {@code includes} attribute of the outermost
-     * {@code module} template defined in <tt>Base.stg</tt>.
+     * An helper method that adds the names of all the primitive variables used in an expression to {@code names}.
      * </p>
      *
-     * @param dec
-     *            The {@link EnhancementRealizModuleDec} currently being translated.
+     * @param exp
+     *            An expression.
+     * @param names
+     *            The set of names we are adding to.
      */
-    private void addReflectionImportTemplates(EnhancementRealizModuleDec dec) {
-        ST imp = mySTGroup.getInstanceOf("include").add("directories", "java.lang.reflect");
-
-        myActiveTemplates.firstElement().add("includes", imp);
-
-        emitDebug(dec.getLocation(), "Adding reflection imports for module: " + dec.getName());
+    private void addPrimitiveVariableNames(Exp exp, Set<String> names) {
+        if (isPrimitiveVariable(exp)) {
+            names.add(((ProgramVariableNameExp) exp).getName().getName());
+        } else {
+            for (Exp subExp : exp.getSubExpressions()) {
+                addPrimitiveVariableNames(subExp, names);
+            }
+        }
     }
 
     /**
@@ -1246,6 +1632,206 @@ public class JavaTranslator extends AbstractTranslator {
         }
     }
 
+    /**
+     * <p>
+     * An helper method that finds the expressions that can be translated as primitive values when {@code exp} is
+     * translated as an {@code RType}. An argument that the operation doesn't modify can be passed as a new
+     * {@code RType} built from a primitive value. Any other primitive variables we find can't be primitive.
+     * </p>
+     *
+     * @param exp
+     *            An expression that is translated as an {@code RType}.
+     * @param escaped
+     *            The set of primitive variables that can't be primitive.
+     */
+    private void findPrimitiveArguments(ProgramExp exp, Set<String> escaped) {
+        if (exp instanceof ProgramFunctionExp) {
+            List<ProgramExp> arguments = ((ProgramFunctionExp) exp).getArguments();
+            ImmutableList<ProgramParameterEntry> parameters = getOperationParameters((ProgramFunctionExp) exp);
+
+            for (int i = 0; i < arguments.size(); i++) {
+                ProgramParameterEntry.ParameterMode mode = (parameters == null) ? null
+                        : parameters.get(i).getParameterMode();
+
+                if (mode == ProgramParameterEntry.ParameterMode.EVALUATES
+                        || mode == ProgramParameterEntry.ParameterMode.PRESERVES
+                        || mode == ProgramParameterEntry.ParameterMode.RESTORES) {
+                    findPrimitiveValue(arguments.get(i), escaped);
+                } else {
+                    addPrimitiveVariableNames(arguments.get(i), escaped);
+                }
+            }
+        } else {
+            addPrimitiveVariableNames(exp, escaped);
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that checks to see if the condition of an {@code if} or {@code while} statement can be
+     * translated as a primitive {@code boolean}.
+     * </p>
+     *
+     * @param exp
+     *            A condition.
+     * @param escaped
+     *            The set of primitive variables that can't be primitive.
+     */
+    private void findPrimitiveCondition(ProgramExp exp, Set<String> escaped) {
+        if (isPrimitiveExp(exp)) {
+            myPrimitiveElements.add(exp);
+        } else {
+            findPrimitiveArguments(exp, escaped);
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that checks a list of statements for uses of the primitive variables and records the statements
+     * that can be translated using primitive values.
+     * </p>
+     *
+     * @param statements
+     *            A list of statements.
+     * @param escaped
+     *            The set of primitive variables that can't be primitive.
+     */
+    private void findPrimitiveStatements(List<Statement> statements, Set<String> escaped) {
+        if (statements == null) {
+            return;
+        }
+
+        for (Statement statement : statements) {
+            if (statement instanceof FuncAssignStmt) {
+                FuncAssignStmt assignStmt = (FuncAssignStmt) statement;
+                if (isPrimitiveVariable(assignStmt.getVariableExp())) {
+                    myPrimitiveElements.add(assignStmt);
+
+                    // Operations that return a RType get unboxed
+                    if (!isPrimitiveExp(assignStmt.getAssignExp())) {
+                        findPrimitiveArguments(assignStmt.getAssignExp(), escaped);
+                    }
+                } else {
+                    addPrimitiveVariableNames(assignStmt.getVariableExp(), escaped);
+                    findPrimitiveValue(assignStmt.getAssignExp(), escaped);
+                }
+            } else if (statement instanceof SwapStmt) {
+                SwapStmt swapStmt = (SwapStmt) statement;
+                if (isPrimitiveVariable(swapStmt.getLeft()) && isPrimitiveVariable(swapStmt.getRight())) {
+                    myPrimitiveElements.add(swapStmt);
+                } else {
+                    addPrimitiveVariableNames(swapStmt.getLeft(), escaped);
+                    addPrimitiveVariableNames(swapStmt.getRight(), escaped);
+                }
+            } else if (statement instanceof CallStmt) {
+                CallStmt callStmt = (CallStmt) statement;
+                if (isPrimitiveUpdate(callStmt.getFunctionExp())) {
+                    myPrimitiveElements.add(callStmt);
+                } else {
+                    findPrimitiveArguments(callStmt.getFunctionExp(), escaped);
+                }
+            } else if (statement instanceof IfStmt) {
+                IfStmt ifStmt = (IfStmt) statement;
+                List<IfConditionItem> conditionItems = new ArrayList<>();
+                conditionItems.add(ifStmt.getIfClause());
+                if (ifStmt.getElseifpairs() != null) {
+                    conditionItems.addAll(ifStmt.getElseifpairs());
+                }
+
+                for (IfConditionItem item : conditionItems) {
+                    findPrimitiveCondition(item.getTest(), escaped);
+                    findPrimitiveStatements(item.getStatements(), escaped);
+                }
+                findPrimitiveStatements(ifStmt.getElseclause(), escaped);
+            } else if (statement instanceof WhileStmt) {
+                WhileStmt whileStmt = (WhileStmt) statement;
+                findPrimitiveCondition(whileStmt.getTest(), escaped);
+                findPrimitiveStatements(whileStmt.getStatements(), escaped);
+            }
+        }
+    }
+
+    /**
+     * <p>
+     * An helper method that checks an expression whose value is passed as an {@code RType}. If it can be translated
+     * using primitive {@code int} values, we simply wrap the result in a new {@code RType}. Otherwise, any primitive
+     * variables it uses can't be primitive.
+     * </p>
+     *
+     * @param exp
+     *            An expression that is evaluated as an {@code RType}.
+     * @param escaped
+     *            The set of primitive variables that can't be primitive.
+     */
+    private void findPrimitiveValue(ProgramExp exp, Set<String> escaped) {
+        if (isPrimitiveExp(exp)) {
+            Set<String> names = new HashSet<>();
+            addPrimitiveVariableNames(exp, names);
+
+            // Only Std_Integer_Fac lets us create an RType with a given value.
+            if (!names.isEmpty()) {
+                if ("Std_Integer_Fac".equals(getStdFacilityName(exp.getProgramType()))) {
+                    myPrimitiveBoxedExps.add(exp);
+                } else {
+                    escaped.addAll(names);
+                }
+            }
+        } else {
+            findPrimitiveArguments(exp, escaped);
+        }
+    }
+
+    /**
+     * <p>
+     * This method finds the local variables of a procedure that can be stored in primitive {@code Java} variables. A
+     * variable qualifies if its type comes from one of the {@link #STD_PRIMITIVE_TYPES} facilities and it is never
+     * needed as an {@code RType}, i.e. it is never passed to an operation that might modify it or swapped with a
+     * variable that isn't primitive.
+     * </p>
+     * <p>
+     * This does nothing unless the {@link #JAVA_FLAG_PRIMITIVE_STD_FACILITIES} flag is set.
+     * </p>
+     *
+     * @param variables
+     *            The procedure's local variables.
+     * @param statements
+     *            The procedure's statements.
+     */
+    private void findPrimitiveVariables(List<VarDec> variables, List<Statement> statements) {
+        myPrimitiveBoxedExps.clear();
+        myPrimitiveElements.clear();
+        myPrimitiveVariables.clear();
+
+        if (!myCompileEnvironment.flags.isFlagSet(JAVA_FLAG_PRIMITIVE_STD_FACILITIES)) {
+            return;
+        }
+
+        for (VarDec variable : variables) {
+            String facilityName = getStdFacilityName(variable.getTy().getProgramType());
+            if (facilityName != null) {
+                myPrimitiveVariables.put(variable.getName().getName(), facilityName);
+            }
+        }
+
+        // Every variable we remove can stop other expressions from being
+        // primitive, so keep going until nothing changes.
+        boolean changed = !myPrimitiveVariables.isEmpty();
+        while (changed) {
+            myPrimitiveBoxedExps.clear();
+            myPrimitiveElements.clear();
+
+            Set<String> escaped = new HashSet<>();
+            findPrimitiveStatements(statements, escaped);
+            changed = myPrimitiveVariables.keySet().removeAll(escaped);
+        }
+
+        for (VarDec variable : variables) {
+            if (myPrimitiveVariables.containsKey(variable.getName().getName())) {
+                myPrimitiveElements.add(variable);
+            }
+        }
+    }
+
     /**
      * <p>
      * This method retrieves the proper {@link ST} template for an operation as an argument.
@@ -1315,4 +1901,174 @@ public class JavaTranslator extends AbstractTranslator {
 
         return result;
     }
+
+    /**
+     * <p>
+     * An helper method that returns the formal parameters of the operation called by {@code exp}.
+     * </p>
+     *
+     * @param exp
+     *            A programming function call.
+     *
+     * @return The formal parameters or {@code null} if we can't find a unique operation.
+     */
+    private ImmutableList<ProgramParameterEntry> getOperationParameters(ProgramFunctionExp exp) {
+        ImmutableList<ProgramParameterEntry> result = null;
+        List<PTType> argTypes = new LinkedList<>();
+        for (ProgramExp arg : exp.getArguments()) {
+            argTypes.add(arg.getProgramType());
+        }
+
+        try {
+            result = myCurrentModuleScope.queryForOne(new OperationQuery(null, exp.getName(), argTypes))
+                    .toOperationEntry(exp.getLocation()).getParameters();
+        } catch (NoSuchSymbolException | DuplicateSymbolException e) {
+            // We don't know what the operation does to its arguments.
+            result = null;
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the template for an expression that can be translated using primitive values.
+     * </p>
+     *
+     * @param exp
+     *            An expression where {@link #isPrimitiveExp(ProgramExp)} is {@code true}.
+     *
+     * @return A {@link ST} for the primitive {@code Java} expression.
+     */
+    private ST getPrimitiveExpTemplate(ProgramExp exp) {
+        ST result;
+        if (exp instanceof ProgramVariableNameExp) {
+            result = mySTGroup.getInstanceOf("name_exp").add("name",
+                    ((ProgramVariableNameExp) exp).getName().getName());
+        } else if (exp instanceof ProgramIntegerExp) {
+            result = mySTGroup.getInstanceOf("name_exp").add("name", ((ProgramIntegerExp) exp).getValue());
+        } else if (exp instanceof ProgramCharExp) {
+            result = mySTGroup.getInstanceOf("primitive_char").add("value", (int) ((ProgramCharExp) exp).getValue());
+        } else {
+            ProgramFunctionExp functionExp = (ProgramFunctionExp) exp;
+            String name = functionExp.getName().getName();
+            List<ProgramExp> arguments = functionExp.getArguments();
+
+            // Replicating a primitive value is simply the value itself
+            if (name.equals("Replica")) {
+                result = getPrimitiveExpTemplate(arguments.get(0));
+            } else if (arguments.size() == 2) {
+                result = mySTGroup.getInstanceOf("primitive_binary_exp")
+                        .add("left", getPrimitiveExpTemplate(arguments.get(0)))
+                        .add("operator", STD_BINARY_OPERATORS.get(name))
+                        .add("right", getPrimitiveExpTemplate(arguments.get(1)));
+            } else {
+                result = mySTGroup.getInstanceOf("primitive_unary_exp").add("operator", STD_UNARY_OPERATORS.get(name))
+                        .add("argument", getPrimitiveExpTemplate(arguments.get(0)));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that returns the name of the standard facility that defines {@code type} if we can store values
+     * of this type in primitive {@code Java} variables.
+     * </p>
+     *
+     * @param type
+     *            A {@link PTType}.
+     *
+     * @return One of the facilities in {@link #STD_PRIMITIVE_TYPES} or {@code null}.
+     */
+    private String getStdFacilityName(PTType type) {
+        String result = null;
+        if (type instanceof PTFamily) {
+            FacilityEntry facility = getDefiningFacilityEntry(type);
+            if (facility != null && STD_PRIMITIVE_TYPES.containsKey(facility.getName())) {
+                result = facility.getName();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that checks to see if an expression only uses primitive variables, literals and operations
+     * from the standard facilities that we can translate to {@code Java} operators.
+     * </p>
+     *
+     * @param exp
+     *            An expression.
+     *
+     * @return {@code true} if {@code exp} can be translated using primitive values, {@code false} otherwise.
+     */
+    private boolean isPrimitiveExp(ProgramExp exp) {
+        boolean result = false;
+        if (exp instanceof ProgramVariableNameExp) {
+            result = isPrimitiveVariable(exp);
+        } else if (exp instanceof ProgramIntegerExp || exp instanceof ProgramCharExp) {
+            result = getStdFacilityName(exp.getProgramType()) != null;
+        } else if (exp instanceof ProgramFunctionExp) {
+            ProgramFunctionExp functionExp = (ProgramFunctionExp) exp;
+            String name = functionExp.getName().getName();
+            List<ProgramExp> arguments = functionExp.getArguments();
+
+            if ((arguments.size() == 2 && STD_BINARY_OPERATORS.containsKey(name)) || (arguments.size() == 1
+                    && (STD_UNARY_OPERATORS.containsKey(name) || name.equals("Replica")))) {
+                String qualifier = getCallQualifier(functionExp.getQualifier(), functionExp.getName(), arguments);
+
+                result = qualifier != null && STD_PRIMITIVE_TYPES.containsKey(qualifier);
+                for (int i = 0; result && i < arguments.size(); i++) {
+                    result = isPrimitiveExp(arguments.get(i));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that checks to see if a call statement is a {@link #STD_UPDATE_OPERATORS} operation on a
+     * primitive variable.
+     * </p>
+     *
+     * @param exp
+     *            The function expression in a call statement.
+     *
+     * @return {@code true} if it can be translated to a {@code Java} operator, {@code false} otherwise.
+     */
+    private boolean isPrimitiveUpdate(ProgramFunctionExp exp) {
+        boolean result = false;
+        List<ProgramExp> arguments = exp.getArguments();
+
+        if (arguments.size() == 1 && STD_UPDATE_OPERATORS.containsKey(exp.getName().getName())
+                && isPrimitiveVariable(arguments.get(0))) {
+            String qualifier = getCallQualifier(exp.getQualifier(), exp.getName(), arguments);
+            String variableName = ((ProgramVariableNameExp) arguments.get(0)).getName().getName();
+
+            result = qualifier != null && qualifier.equals(myPrimitiveVariables.get(variableName));
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that checks to see if an expression is an unqualified name of a primitive variable.
+     * </p>
+     *
+     * @param exp
+     *            An expression.
+     *
+     * @return {@code true} if {@code exp} is a primitive variable, {@code false} otherwise.
+     */
+    private boolean isPrimitiveVariable(Exp exp) {
+        return exp instanceof ProgramVariableNameExp && ((ProgramVariableNameExp) exp).getQualifier() == null
+                && myPrimitiveVariables.containsKey(((ProgramVariableNameExp) exp).getName().getName());
+    }
+
 }
@@ -13,6 +13,7 @@
 package edu.clemson.rsrg.treewalk;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
+import edu.clemson.rsrg.misc.STGroupCache;
 import java.io.*;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -28,7 +29,6 @@ import org.reflections.ReflectionUtils;
 import org.reflections.Reflections;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
-import org.stringtemplate.v4.STGroupFile;
 
 /**
  * <p>
@@ -53,7 +53,7 @@ public class WalkerCodeGenerator {
      * String template for generating the tree.
      * </p>
      */
-    private static final STGroup GROUP = new STGroupFile("templates/Treewalker.stg");
+    private static final STGroup GROUP = STGroupCache.getGroup("templates/Treewalker.stg");
 
     // ===========================================================
     // Public Methods
@@ -38,6 +38,7 @@ import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.ResolveCompiler;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.misc.Utilities.Indirect;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
@@ -495,7 +496,7 @@ public class Populator extends TreeWalkerVisitor {
             ConceptModuleDec concept = (ConceptModuleDec) myBuilder.getModuleScope(id).getDefiningElement();
             ImplementAllOperChecker allOperChecker = new ImplementAllOperChecker(conceptRealization.getLocation(),
                     concept.getDecList(), conceptRealization.getDecList());
-            allOperChecker.implementAllOper();
+            timeSanityCheck(() -> allOperChecker.implementAllOper());
         } catch (NoSuchSymbolException e) {
             noSuchModule(conceptRealization.getConceptName());
         }
@@ -635,7 +636,7 @@ public class Populator extends TreeWalkerVisitor {
                     .getDefiningElement();
             ImplementAllOperChecker allOperChecker = new ImplementAllOperChecker(enhancementRealization.getLocation(),
                     enhancement.getDecList(), enhancementRealization.getDecList());
-            allOperChecker.implementAllOper();
+            timeSanityCheck(() -> allOperChecker.implementAllOper());
         } catch (NoSuchSymbolException e) {
             noSuchModule(enhancementRealization.getEnhancementName());
         }
@@ -759,7 +760,11 @@ public class Populator extends TreeWalkerVisitor {
             ModuleDec moduleDec = myBuilder.getModuleScope(id).getDefiningElement();
             NoSharingConceptImportChecker checker = new NoSharingConceptImportChecker(uses.getLocation(), moduleDec,
                     myBuilder.getInnermostActiveScope());
-            if (checker.importingSharingConcept()) {
+            boolean importingSharingConcept = myCompileEnvironment.getMetrics().time(
+                    myCurModuleScope.getModuleIdentifier().toString(), CompilerMetrics.Phase.SANITY_CHECK,
+                    checker::importingSharingConcept);
+
+            if (importingSharingConcept) {
                 throw new SourceErrorException("Cannot import a Sharing Concept or a module that "
                         + "contains an instantiation of a Sharing Concept.", uses.getLocation());
             }
@@ -1269,7 +1274,7 @@ public class Populator extends TreeWalkerVisitor {
     public final void postFacilityDec(FacilityDec facility) {
         // Sanity check the facility declaration
         ValidFacilityDeclChecker facilityDeclChecker = new ValidFacilityDeclChecker(facility, myBuilder);
-        facilityDeclChecker.hasValidModuleArgumentItems();
+        timeSanityCheck(() -> facilityDeclChecker.hasValidModuleArgumentItems());
 
         // Concept Module Identifier
         ModuleIdentifier id = new ModuleIdentifier(facility.getConceptName().getName());
@@ -1400,7 +1405,8 @@ public class Populator extends TreeWalkerVisitor {
         // Sanity checks to make sure it is a valid recursive procedure
         ValidOperationDeclChecker validOperationDeclChecker = new ValidOperationDeclChecker(dec.getLocation(),
                 myCorrespondingOperation, myCurrentParameters);
-        validOperationDeclChecker.isValidRecursiveProcedure(dec.getRecursive(), myRecursiveCallLocation);
+        timeSanityCheck(
+                () -> validOperationDeclChecker.isValidRecursiveProcedure(dec.getRecursive(), myRecursiveCallLocation));
 
         myCurrentParameters = null;
         myPreOperationProcedureDecScope = null;
@@ -1615,10 +1621,12 @@ public class Populator extends TreeWalkerVisitor {
         // Various different sanity checks
         ValidOperationDeclChecker validOperationDeclChecker = new ValidOperationDeclChecker(dec.getLocation(),
                 myCorrespondingOperation, myCurrentParameters);
-        validOperationDeclChecker.isSameReturnType(returnType);
-        validOperationDeclChecker.isSameNumberOfParameters();
-        validOperationDeclChecker.hasValidParameterModesImpl();
-        validOperationDeclChecker.isValidRecursiveProcedure(dec.getRecursive(), myRecursiveCallLocation);
+        timeSanityCheck(() -> {
+            validOperationDeclChecker.isSameReturnType(returnType);
+            validOperationDeclChecker.isSameNumberOfParameters();
+            validOperationDeclChecker.hasValidParameterModesImpl();
+            validOperationDeclChecker.isValidRecursiveProcedure(dec.getRecursive(), myRecursiveCallLocation);
+        });
 
         try {
             myBuilder.getInnermostActiveScope().addProcedure(dec.getName().getName(), dec, myCorrespondingOperation);
@@ -1701,7 +1709,7 @@ public class Populator extends TreeWalkerVisitor {
     public final void postFuncAssignStmt(FuncAssignStmt stmt) {
         // Sanity check to make sure left and right program types are the same.
         SameProgTypeChecker checker = new SameProgTypeChecker(stmt.getVariableExp(), stmt.getAssignExp());
-        checker.hasSameProgrammingType();
+        timeSanityCheck(() -> checker.hasSameProgrammingType());
     }
 
     /**
@@ -1716,7 +1724,7 @@ public class Populator extends TreeWalkerVisitor {
     public final void postSwapStmt(SwapStmt stmt) {
         // Sanity check to make sure left and right program types are the same.
         SameProgTypeChecker checker = new SameProgTypeChecker(stmt.getLeft(), stmt.getRight());
-        checker.hasSameProgrammingType();
+        timeSanityCheck(() -> checker.hasSameProgrammingType());
     }
 
     // -----------------------------------------------------------
@@ -3095,7 +3103,7 @@ public class Populator extends TreeWalkerVisitor {
 
             // YS: Sanity check preserves/evaluates mode.
             ValidFunctionCallChecker checker = new ValidFunctionCallChecker(exp, op, myCurrentParameters);
-            checker.areValidExpArgs();
+            timeSanityCheck(() -> checker.areValidExpArgs());
 
             // YS: Set the types only if it passes the sanity checker.
             exp.setProgramType(op.getReturnType());
@@ -3640,7 +3648,7 @@ public class Populator extends TreeWalkerVisitor {
 
                 // Sanity check to make sure the argument is valid
                 ValidVal_inChecker checker = new ValidVal_inChecker(myTypeGraph, myBuilder);
-                checker.validArgument(lastSegment, argExp);
+                timeSanityCheck(() -> checker.validArgument(lastSegment, argExp));
             }
 
             result = functionType.getRange();
@@ -4048,6 +4056,20 @@ public class Populator extends TreeWalkerVisitor {
         myTypeValueDepth--;
     }
 
+    /**
+     * <p>
+     * An helper method that runs a sanity check and records the time spent as part of the current module's sanity
+     * checks.
+     * </p>
+     *
+     * @param check
+     *            The sanity check.
+     */
+    private void timeSanityCheck(Runnable check) {
+        myCompileEnvironment.getMetrics().time(myCurModuleScope.getModuleIdentifier().toString(),
+                CompilerMetrics.Phase.SANITY_CHECK, check);
+    }
+
     // -----------------------------------------------------------
     // Program Type-Related
     // -----------------------------------------------------------
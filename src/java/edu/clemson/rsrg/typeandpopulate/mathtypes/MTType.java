@@ -19,6 +19,8 @@ import edu.clemson.rsrg.typeandpopulate.symboltables.FinalizedScope;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * <p>
@@ -45,21 +47,23 @@ public abstract class MTType {
      * Known alpha equivalent types.
      * </p>
      */
-    private final Set<Object> myKnownAlphaEquivalencies = new HashSet<>();
+    private final Set<Object> myKnownAlphaEquivalencies = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
      * Known syntactic subtypes.
      * </p>
      */
-    private final Map<MTType, Map<String, MTType>> myKnownSyntacticSubtypeBindings = new HashMap<>();
+    private final Map<MTType, Map<String, MTType>> myKnownSyntacticSubtypeBindings = new ConcurrentHashMap<>();
 
     /**
      * <p>
-     * Allows us to detect if we're getting into an equals-loop.
+     * Allows us to detect if we're getting into an equals-loop. This is shared by all the threads that are comparing
+     * this type, so a thread can only be sure it is at the first level of comparison if nobody else is comparing this
+     * type at the same time.
      * </p>
      */
-    private int myEqualsDepth = 0;
+    private final AtomicInteger myEqualsDepth = new AtomicInteger(0);
 
     // ===========================================================
     // Constructors
@@ -209,7 +213,7 @@ public abstract class MTType {
      */
     @Override
     public final boolean equals(Object o) {
-        myEqualsDepth++;
+        int equalsDepth = myEqualsDepth.incrementAndGet();
 
         boolean result;
 
@@ -218,13 +222,13 @@ public abstract class MTType {
         } else {
             // We only check our cache if we're at the first level of equals
             // comparison to avoid an infinite recursive loop
-            result = (myEqualsDepth == 1) && myKnownAlphaEquivalencies.contains(o);
+            result = (equalsDepth == 1) && myKnownAlphaEquivalencies.contains(o);
 
             if (!result) {
                 try {
                     // All 'equals' logic should be put into AlphaEquivalencyChecker!
                     // Don't override equals!
-                    AlphaEquivalencyChecker alphaEq = myTypeGraph.threadResources.alphaChecker;
+                    AlphaEquivalencyChecker alphaEq = myTypeGraph.threadResources.get().alphaChecker;
                     alphaEq.reset();
 
                     alphaEq.visit(this, (MTType) o);
@@ -236,13 +240,13 @@ public abstract class MTType {
 
                 // We only cache our answer at the first level to avoid an
                 // infinite equals loop
-                if ((myEqualsDepth == 1) && result) {
+                if ((equalsDepth == 1) && result) {
                     myKnownAlphaEquivalencies.add(o);
                 }
             }
         }
 
-        myEqualsDepth--;
+        myEqualsDepth.decrementAndGet();
 
         return result;
     }
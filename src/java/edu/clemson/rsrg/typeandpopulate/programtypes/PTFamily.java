@@ -126,6 +126,22 @@ public class PTFamily extends PTType {
         return myName;
     }
 
+    /**
+     * <p>
+     * This method overrides the default {@code hashCode} method implementation.
+     * </p>
+     *
+     * @return The hash code associated with the object.
+     */
+    @Override
+    public final int hashCode() {
+        int result = myModel.hashCode();
+        result = 31 * result + myName.hashCode();
+        result = 31 * result + myExemplarName.hashCode();
+
+        return result;
+    }
+
     /**
      * <p>
      * This method converts a generic {@link PTType} to a program type that has all the generic types and variables
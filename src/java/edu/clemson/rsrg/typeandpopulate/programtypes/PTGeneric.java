@@ -95,6 +95,18 @@ public class PTGeneric extends PTType {
         return myName;
     }
 
+    /**
+     * <p>
+     * This method overrides the default {@code hashCode} method implementation.
+     * </p>
+     *
+     * @return The hash code associated with the object.
+     */
+    @Override
+    public final int hashCode() {
+        return myName.hashCode();
+    }
+
     /**
      * <p>
      * This method converts a generic {@link PTType} to a program type that has all the generic types and variables
@@ -121,6 +121,21 @@ public class PTNamed extends PTInstantiated {
         return myInstantiatedPTFamily;
     }
 
+    /**
+     * <p>
+     * This method overrides the default {@code hashCode} method implementation.
+     * </p>
+     *
+     * @return The hash code associated with the object.
+     */
+    @Override
+    public final int hashCode() {
+        int result = mySourceFacility.hashCode();
+        result = 31 * result + myInstantiatedPTFamily.hashCode();
+
+        return result;
+    }
+
     /**
      * <p>
      * This method converts a generic {@link PTType} to a program type that has all the generic types and variables
@@ -96,6 +96,19 @@ public class PTVoid extends PTType {
         return result;
     }
 
+    /**
+     * <p>
+     * This method overrides the default {@code hashCode} method implementation.
+     * </p>
+     *
+     * @return The hash code associated with the object.
+     */
+    @Override
+    public final int hashCode() {
+        // We override this simply to keep it consistent with equals
+        return super.hashCode();
+    }
+
     /**
      * <p>
      * This method converts a generic {@link PTType} to a program type that has all the generic types and variables
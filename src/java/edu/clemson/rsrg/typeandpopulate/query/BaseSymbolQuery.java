@@ -37,6 +37,13 @@ abstract class BaseSymbolQuery<E extends SymbolTableEntry> implements SymbolQuer
     // Member Fields
     // ===========================================================
 
+    /**
+     * <p>
+     * The key used to memoize this query's results or <code>null</code> if they can't be memoized.
+     * </p>
+     */
+    private final QueryCacheKey myCacheKey;
+
     /**
      * <p>
      * Search path.
@@ -66,8 +73,26 @@ abstract class BaseSymbolQuery<E extends SymbolTableEntry> implements SymbolQuer
      *            Symbol table searcher.
      */
     protected BaseSymbolQuery(ScopeSearchPath path, TableSearcher<E> searcher) {
+        this(path, searcher, null);
+    }
+
+    /**
+     * <p>
+     * This is an helper constructor for storing the search path, the symbol table search strategy and the key used to
+     * memoize the results of this query.
+     * </p>
+     *
+     * @param path
+     *            Search path.
+     * @param searcher
+     *            Symbol table searcher.
+     * @param cacheKey
+     *            The key used to memoize this query's results or <code>null</code> if they can't be memoized.
+     */
+    protected BaseSymbolQuery(ScopeSearchPath path, TableSearcher<E> searcher, QueryCacheKey cacheKey) {
         mySearchPath = path;
         mySearcher = searcher;
+        myCacheKey = cacheKey;
     }
 
     // ===========================================================
@@ -94,7 +119,7 @@ abstract class BaseSymbolQuery<E extends SymbolTableEntry> implements SymbolQuer
      */
     @Override
     public final List<E> searchFromContext(Scope source, ScopeRepository repo) throws DuplicateSymbolException {
-        return mySearchPath.searchFromContext(mySearcher, source, repo);
+        return QueryCacheKey.search(myCacheKey, mySearchPath, mySearcher, source, repo);
     }
 
 }
@@ -62,8 +62,11 @@ public class MathSymbolQuery extends ResultProcessingQuery<SymbolTableEntry, Mat
      *            Location for the name.
      */
     public MathSymbolQuery(PosSymbol qualifier, String name, Location nameLoc) {
-        super(new SimpleSymbolQuery(new PossiblyQualifiedPath(qualifier, ImportStrategy.IMPORT_NAMED,
-                FacilityStrategy.FACILITY_INSTANTIATE, true), new NameSearcher(name, true)),
+        super(new SimpleSymbolQuery(
+                new PossiblyQualifiedPath(qualifier, ImportStrategy.IMPORT_NAMED, FacilityStrategy.FACILITY_INSTANTIATE,
+                        true),
+                new NameSearcher(name, true), new QueryCacheKey(MathSymbolQuery.class, qualifier, name,
+                        ImportStrategy.IMPORT_NAMED, FacilityStrategy.FACILITY_INSTANTIATE, true, true)),
                 new MapToMathSymbol(nameLoc));
     }
 
@@ -53,7 +53,8 @@ public class NameQuery extends BaseMultimatchSymbolQuery<SymbolTableEntry> {
     public NameQuery(PosSymbol qualifier, String name, ImportStrategy importStrategy, FacilityStrategy facilityStrategy,
             boolean localPriority) {
         super(new PossiblyQualifiedPath(qualifier, importStrategy, facilityStrategy, localPriority),
-                new NameSearcher(name, false));
+                new NameSearcher(name, false), new QueryCacheKey(NameQuery.class, qualifier, name, importStrategy,
+                        facilityStrategy, localPriority, false));
     }
 
     /**
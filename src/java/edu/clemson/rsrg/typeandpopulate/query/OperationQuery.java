@@ -71,7 +71,8 @@ public class OperationQuery extends BaseSymbolQuery<OperationEntry> {
     public OperationQuery(PosSymbol qualifier, PosSymbol name, List<PTType> argumentTypes,
             ImportStrategy importStrategy, FacilityStrategy facilityStrategy) {
         super(new PossiblyQualifiedPath(qualifier, importStrategy, facilityStrategy, false),
-                new OperationSearcher(name, argumentTypes));
+                new OperationSearcher(name, argumentTypes), new QueryCacheKey(OperationQuery.class, qualifier,
+                        name.getName(), argumentTypes, importStrategy, facilityStrategy, false, false));
     }
 
 }
@@ -0,0 +1,255 @@
+/*
+ * QueryCacheKey.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.query;
+
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
+import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
+import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
+import edu.clemson.rsrg.typeandpopulate.query.searchpath.ScopeSearchPath;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.Scope;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ScopeRepository;
+import edu.clemson.rsrg.typeandpopulate.symboltables.SyntacticScope;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <p>
+ * A <code>QueryCacheKey</code> identifies a name-based query (or an operation query, which also takes the types of
+ * the actual arguments into account) whose results only depend on the scope the search was spawned from. Two queries
+ * with equal keys are guaranteed to produce the same results from the same {@link SyntacticScope}, so the results can
+ * be memoized on that scope until the symbol table is modified.
+ * </p>
+ *
+ * @version 1.0
+ */
+final class QueryCacheKey {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The program types of the actual arguments or <code>null</code> if this isn't an operation query.
+     * </p>
+     */
+    private final List<PTType> myArgumentTypes;
+
+    /**
+     * <p>
+     * The facility strategy used by the query.
+     * </p>
+     */
+    private final FacilityStrategy myFacilityStrategy;
+
+    /**
+     * <p>
+     * The import strategy used by the query.
+     * </p>
+     */
+    private final ImportStrategy myImportStrategy;
+
+    /**
+     * <p>
+     * Boolean flag that indicates whether or not local items have priority.
+     * </p>
+     */
+    private final boolean myLocalPriorityFlag;
+
+    /**
+     * <p>
+     * The name being searched.
+     * </p>
+     */
+    private final String myName;
+
+    /**
+     * <p>
+     * The kind of query that created this key.
+     * </p>
+     */
+    private final Class<?> myQueryKind;
+
+    /**
+     * <p>
+     * The qualifier name or <code>null</code> if the query is unqualified.
+     * </p>
+     */
+    private final String myQualifier;
+
+    /**
+     * <p>
+     * Boolean flag that indicates whether or not the search stops after the first match.
+     * </p>
+     */
+    private final boolean myStopAfterFirstFlag;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a new key for a name-based query.
+     * </p>
+     *
+     * @param queryKind
+     *            The kind of query that created this key.
+     * @param qualifier
+     *            A qualifier symbol that indicates the instantiating facility or module or <code>null</code>.
+     * @param name
+     *            The name being searched.
+     * @param importStrategy
+     *            The import strategy to use.
+     * @param facilityStrategy
+     *            The facility strategy to use.
+     * @param localPriority
+     *            Boolean flag that indicates whether or not local items have priority.
+     * @param stopAfterFirst
+     *            Boolean flag that indicates whether or not the search stops after the first match.
+     */
+    QueryCacheKey(Class<?> queryKind, PosSymbol qualifier, String name, ImportStrategy importStrategy,
+            FacilityStrategy facilityStrategy, boolean localPriority, boolean stopAfterFirst) {
+        this(queryKind, qualifier, name, null, importStrategy, facilityStrategy, localPriority, stopAfterFirst);
+    }
+
+    /**
+     * <p>
+     * This creates a new key for a query that also depends on the program types of the actual arguments.
+     * </p>
+     * <p>
+     * Operations are matched by calling <code>acceptableFor</code> on the actual argument types, so two queries with
+     * equal argument types always resolve to the same operation.
+     * </p>
+     *
+     * @param queryKind
+     *            The kind of query that created this key.
+     * @param qualifier
+     *            A qualifier symbol that indicates the instantiating facility or module or <code>null</code>.
+     * @param name
+     *            The name being searched.
+     * @param argumentTypes
+     *            The program types of the actual arguments.
+     * @param importStrategy
+     *            The import strategy to use.
+     * @param facilityStrategy
+     *            The facility strategy to use.
+     * @param localPriority
+     *            Boolean flag that indicates whether or not local items have priority.
+     * @param stopAfterFirst
+     *            Boolean flag that indicates whether or not the search stops after the first match.
+     */
+    QueryCacheKey(Class<?> queryKind, PosSymbol qualifier, String name, List<PTType> argumentTypes,
+            ImportStrategy importStrategy, FacilityStrategy facilityStrategy, boolean localPriority,
+            boolean stopAfterFirst) {
+        myArgumentTypes = (argumentTypes == null) ? null : new ArrayList<>(argumentTypes);
+        myQueryKind = queryKind;
+        myQualifier = (qualifier == null) ? null : qualifier.getName();
+        myName = name;
+        myImportStrategy = importStrategy;
+        myFacilityStrategy = facilityStrategy;
+        myLocalPriorityFlag = localPriority;
+        myStopAfterFirstFlag = stopAfterFirst;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method overrides the default equals method implementation for the {@link QueryCacheKey} class.
+     * </p>
+     *
+     * @param o
+     *            Object to be compared.
+     *
+     * @return True if all the fields are equal, false otherwise.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof QueryCacheKey))
+            return false;
+
+        QueryCacheKey that = (QueryCacheKey) o;
+        return myLocalPriorityFlag == that.myLocalPriorityFlag && myStopAfterFirstFlag == that.myStopAfterFirstFlag
+                && myQueryKind.equals(that.myQueryKind) && Objects.equals(myQualifier, that.myQualifier)
+                && myName.equals(that.myName) && myImportStrategy == that.myImportStrategy
+                && myFacilityStrategy == that.myFacilityStrategy
+                && Objects.equals(myArgumentTypes, that.myArgumentTypes);
+    }
+
+    /**
+     * <p>
+     * This method overrides the default hashCode method implementation for the {@link QueryCacheKey} class.
+     * </p>
+     *
+     * @return The hash code value of the object.
+     */
+    @Override
+    public final int hashCode() {
+        return Objects.hash(myQueryKind, myQualifier, myName, myImportStrategy, myFacilityStrategy,
+                myLocalPriorityFlag, myStopAfterFirstFlag, myArgumentTypes);
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Searches using the given search path and searcher, consulting the query result cache of <code>source</code>
+     * first if it has one. A search that throws a {@link DuplicateSymbolException} is never cached.
+     * </p>
+     *
+     * @param key
+     *            The key for this query or <code>null</code> if the query cannot be cached.
+     * @param path
+     *            Search path.
+     * @param searcher
+     *            Symbol table searcher.
+     * @param source
+     *            The source scope from which the search was spawned.
+     * @param repo
+     *            A repository of any referenced modules.
+     * @param <E>
+     *            The type of symbol table entry being searched.
+     *
+     * @return A list of matches.
+     */
+    static <E extends SymbolTableEntry> List<E> search(QueryCacheKey key, ScopeSearchPath path,
+            TableSearcher<E> searcher, Scope source, ScopeRepository repo) throws DuplicateSymbolException {
+        if (key == null || !(source instanceof SyntacticScope)) {
+            return path.searchFromContext(searcher, source, repo);
+        }
+
+        // Scopes inside an operation that can't change the results share the ones cached further out
+        SyntacticScope cacheScope = ((SyntacticScope) source).getQueryResultCacheScope(key.myName, key.myQualifier);
+        List<E> results = cacheScope.getCachedQueryResults(key, key.myName, key.myQualifier);
+        if (results == null) {
+            results = path.searchFromContext(searcher, source, repo);
+            cacheScope.cacheQueryResults(key, key.myName, key.myQualifier, results);
+        }
+
+        // Callers are free to modify the list they get back
+        return new ArrayList<>(results);
+    }
+
+}
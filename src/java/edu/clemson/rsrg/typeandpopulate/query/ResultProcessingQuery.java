@@ -133,6 +133,16 @@ abstract class ResultProcessingQuery<T extends SymbolTableEntry, R extends Symbo
             super(path, searcher);
         }
 
+        /**
+         * <p>
+         * This query searches for all {@link SymbolTableEntry} that using a {@link TableSearcher} and memoizes the
+         * results using <code>cacheKey</code>.
+         * </p>
+         */
+        SimpleSymbolQuery(ScopeSearchPath path, TableSearcher<SymbolTableEntry> searcher, QueryCacheKey cacheKey) {
+            super(path, searcher, cacheKey);
+        }
+
     }
 
 }
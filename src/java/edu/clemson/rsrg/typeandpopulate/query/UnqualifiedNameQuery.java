@@ -52,7 +52,8 @@ public class UnqualifiedNameQuery extends BaseMultimatchSymbolQuery<SymbolTableE
     public UnqualifiedNameQuery(String searchString, ImportStrategy importStrategy, FacilityStrategy facilityStrategy,
             boolean stopAfterFirst, boolean localPriority) {
         super(new UnqualifiedPath(importStrategy, facilityStrategy, localPriority),
-                new NameSearcher(searchString, stopAfterFirst));
+                new NameSearcher(searchString, stopAfterFirst), new QueryCacheKey(UnqualifiedNameQuery.class, null,
+                        searchString, importStrategy, facilityStrategy, localPriority, stopAfterFirst));
     }
 
     /**
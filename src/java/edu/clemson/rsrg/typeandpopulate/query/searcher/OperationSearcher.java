@@ -24,7 +24,6 @@ import edu.clemson.rsrg.typeandpopulate.programtypes.PTRepresentation;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.symboltables.SymbolTable;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
@@ -57,10 +56,11 @@ public class OperationSearcher implements TableSearcher<OperationEntry> {
 
     /**
      * <p>
-     * The list of program types for this operation.
+     * The program types for this operation. Any named or representation type has already been replaced by the family
+     * type it is instantiating, since that is what we match against the formal parameters.
      * </p>
      */
-    private final List<PTType> myActualArgumentTypes;
+    private final PTType[] myActualArgumentTypes;
 
     // ===========================================================
     // Constructors
@@ -80,7 +80,12 @@ public class OperationSearcher implements TableSearcher<OperationEntry> {
     public OperationSearcher(PosSymbol name, List<PTType> argumentTypes) {
         myQueryName = name.getName();
         myQueryLocation = name.getLocation();
-        myActualArgumentTypes = new LinkedList<>(argumentTypes);
+        myActualArgumentTypes = new PTType[argumentTypes.size()];
+
+        int i = 0;
+        for (PTType argumentType : argumentTypes) {
+            myActualArgumentTypes[i++] = toMatchableType(argumentType);
+        }
     }
 
     // ===========================================================
@@ -155,36 +160,47 @@ public class OperationSearcher implements TableSearcher<OperationEntry> {
      * @return {@code true} if the argument types match, {@code false} otherwise.
      */
     private boolean argumentsMatch(ImmutableList<ProgramParameterEntry> formalParameters) {
-        boolean result = (formalParameters.size() == myActualArgumentTypes.size());
+        boolean result = (formalParameters.size() == myActualArgumentTypes.length);
 
         if (result) {
             Iterator<ProgramParameterEntry> formalParametersIter = formalParameters.iterator();
-            Iterator<PTType> actualArgumentTypeIter = myActualArgumentTypes.iterator();
-
-            PTType actualArgumentType, formalParameterType;
-            while (result && formalParametersIter.hasNext()) {
-                actualArgumentType = actualArgumentTypeIter.next();
-
-                // If it is a PTRepresentation type, we are looking for
-                // the family type it is instantiating inside the base type.
-                if (actualArgumentType instanceof PTRepresentation) {
-                    // Special handing for a PTNamed base type
-                    PTType baseType = ((PTRepresentation) actualArgumentType).getBaseType();
-                    if (baseType instanceof PTNamed) {
-                        actualArgumentType = ((PTNamed) baseType).getInstantiatedFamilyType();
-                    }
-                }
-                // If it is a PTNamed type, we are looking for
-                // the family type it is instantiating.
-                else if (actualArgumentType instanceof PTNamed) {
-                    actualArgumentType = ((PTNamed) actualArgumentType).getInstantiatedFamilyType();
-                }
+            for (int i = 0; result && i < myActualArgumentTypes.length; i++) {
+                PTType formalParameterType = formalParametersIter.next().getDeclaredType();
+                result = myActualArgumentTypes[i].acceptableFor(formalParameterType);
+            }
+        }
 
-                formalParameterType = formalParametersIter.next().getDeclaredType();
+        return result;
+    }
 
-                result = actualArgumentType.acceptableFor(formalParameterType);
+    /**
+     * <p>
+     * This helper method returns the program type we should match against the formal parameters for an actual argument
+     * of type {@code actualArgumentType}.
+     * </p>
+     *
+     * @param actualArgumentType
+     *            The program type of an actual argument.
+     *
+     * @return The program type to match.
+     */
+    private static PTType toMatchableType(PTType actualArgumentType) {
+        PTType result = actualArgumentType;
+
+        // If it is a PTRepresentation type, we are looking for
+        // the family type it is instantiating inside the base type.
+        if (actualArgumentType instanceof PTRepresentation) {
+            // Special handing for a PTNamed base type
+            PTType baseType = ((PTRepresentation) actualArgumentType).getBaseType();
+            if (baseType instanceof PTNamed) {
+                result = ((PTNamed) baseType).getInstantiatedFamilyType();
             }
         }
+        // If it is a PTNamed type, we are looking for
+        // the family type it is instantiating.
+        else if (actualArgumentType instanceof PTNamed) {
+            result = ((PTNamed) actualArgumentType).getInstantiatedFamilyType();
+        }
 
         return result;
     }
@@ -22,7 +22,6 @@ import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher.SearchContext;
 import edu.clemson.rsrg.typeandpopulate.symboltables.*;
 import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.*;
-import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleParameterization;
 import java.util.*;
 
@@ -133,7 +132,7 @@ public class UnqualifiedPath implements ScopeSearchPath {
         Set<Scope> searchedScopes = new HashSet<>();
         Map<String, PTType> genericInstantiations = new HashMap<>();
 
-        searchModule(searcher, source, repo, result, searchedScopes, genericInstantiations, null, myImportStrategy, 0);
+        searchModule(searcher, source, repo, result, searchedScopes, genericInstantiations, null);
 
         return result;
     }
@@ -231,10 +230,6 @@ public class UnqualifiedPath implements ScopeSearchPath {
      *            Map containing all the instantiations.
      * @param instantiatingFacility
      *            Facility that instantiated this class.
-     * @param importStrategy
-     *            An import strategy.
-     * @param depth
-     *            Integer flag that indicates how deep we search.
      * @param <E>
      *            Entry type.
      *
@@ -242,37 +237,41 @@ public class UnqualifiedPath implements ScopeSearchPath {
      */
     private <E extends SymbolTableEntry> boolean searchModule(TableSearcher<E> searcher, Scope source,
             ScopeRepository repo, List<E> results, Set<Scope> searchedScopes, Map<String, PTType> genericInstantiations,
-            FacilityEntry instantiatingFacility, ImportStrategy importStrategy, int depth)
-            throws DuplicateSymbolException {
-
-        // First we search locally
-        boolean finished = source.addMatches(searcher, results, searchedScopes, genericInstantiations,
-                instantiatingFacility, SearchContext.SOURCE_MODULE);
-
-        // Next, if requested, we search any local facilities.
-        if (!finished && myFacilityStrategy != FacilityStrategy.FACILITY_IGNORE) {
+            FacilityEntry instantiatingFacility) throws DuplicateSymbolException {
 
-            finished = searchFacilities(searcher, results, source, genericInstantiations, searchedScopes);
-        }
+        // First we search locally and, if requested, any local facilities.
+        boolean finished = searchScope(searcher, source, results, searchedScopes, genericInstantiations,
+                instantiatingFacility);
 
-        // Finally, if requested, we search imports
-        // YS: we need to make sure that we don't search any more if the cascading import strategy is import none.
+        // Finally, if requested, we search imports. The import closure lists the imported modules in the same order a
+        // depth-first walk would visit them. If local items have priority, the walk stops following imports as soon
+        // as we have results, but it still visits the remaining imports of every module it has already entered.
         if ((results.isEmpty() || !myLocalPriorityFlag) && source instanceof SyntacticScope
-                && myImportStrategy != ImportStrategy.IMPORT_NONE && importStrategy != ImportStrategy.IMPORT_NONE) {
+                && myImportStrategy.considerImports()) {
 
             SyntacticScope sourceAsSyntacticScope = (SyntacticScope) source;
 
             try {
                 ModuleScope module = repo.getModuleScope(sourceAsSyntacticScope.getRootModule());
-                List<ModuleIdentifier> imports = module.getImports();
+                ImportClosure imports = module.getImportClosure(myImportStrategy);
 
-                Iterator<ModuleIdentifier> importsIter = imports.iterator();
-                Scope importScope;
-                while (!finished && importsIter.hasNext()) {
-                    importScope = repo.getModuleScope(importsIter.next());
+                int i = 0;
+                boolean followImports = true;
+                while (!finished && followImports && i < imports.size()) {
+                    finished = searchScope(searcher, imports.getModule(i), results, searchedScopes,
+                            genericInstantiations, instantiatingFacility);
 
-                    finished = searchModule(searcher, importScope, repo, results, searchedScopes, genericInstantiations,
-                            instantiatingFacility, importStrategy.cascadingStrategy(), depth + 1);
+                    if (!results.isEmpty() && myLocalPriorityFlag) {
+                        followImports = false;
+
+                        Iterator<ModuleScope> laterImportsIter = imports.getLaterImports(i).iterator();
+                        while (!finished && laterImportsIter.hasNext()) {
+                            finished = searchScope(searcher, laterImportsIter.next(), results, searchedScopes,
+                                    genericInstantiations, instantiatingFacility);
+                        }
+                    }
+
+                    i++;
                 }
             } catch (NoSuchSymbolException nsse) {
                 // This shouldn't be possible--we'd've caught it by now
@@ -283,4 +282,44 @@ public class UnqualifiedPath implements ScopeSearchPath {
         return finished;
     }
 
+    /**
+     * <p>
+     * This method searches a single scope and, if requested, any facilities declared in it. Any entries that match are
+     * stored in the {@code results} list.
+     * </p>
+     * <p>
+     * If more than one match is found and <code>searcher</code> expects no more than one match, throws a
+     * {@link DuplicateSymbolException}.
+     * </p>
+     *
+     * @param searcher
+     *            A <code>TableSearcher</code> to apply to each scope along the search path.
+     * @param source
+     *            The scope to search.
+     * @param results
+     *            List of matches.
+     * @param searchedScopes
+     *            Set of scopes searched.
+     * @param genericInstantiations
+     *            Map containing all the instantiations.
+     * @param instantiatingFacility
+     *            Facility that instantiated this class.
+     * @param <E>
+     *            Entry type.
+     *
+     * @return {@code true} if we are done searching, {@code false} otherwise.
+     */
+    private <E extends SymbolTableEntry> boolean searchScope(TableSearcher<E> searcher, Scope source,
+            List<E> results, Set<Scope> searchedScopes, Map<String, PTType> genericInstantiations,
+            FacilityEntry instantiatingFacility) throws DuplicateSymbolException {
+        boolean finished = source.addMatches(searcher, results, searchedScopes, genericInstantiations,
+                instantiatingFacility, SearchContext.SOURCE_MODULE);
+
+        if (!finished && myFacilityStrategy != FacilityStrategy.FACILITY_IGNORE) {
+            finished = searchFacilities(searcher, results, source, genericInstantiations, searchedScopes);
+        }
+
+        return finished;
+    }
+
 }
@@ -41,7 +41,7 @@ class BaseSymbolTable implements SymbolTable {
      * The collection of entries grouped by type.
      * </p>
      */
-    private final Map<Class<?>, List<SymbolTableEntry>> myEntriesByType = new HashMap<>();
+    private final Map<Class<?>, EntryBucket> myEntriesByType = new HashMap<>();
 
     // ===========================================================
     // Constructors
@@ -115,10 +115,12 @@ class BaseSymbolTable implements SymbolTable {
      */
     @Override
     public final <T extends SymbolTableEntry> Iterator<T> iterateByType(Class<T> type) {
-        List<Class<T>> types = new LinkedList<>();
-        types.add(type);
+        EntryBucket bucket = myEntriesByType.get(type);
+        if (bucket == null) {
+            return Collections.emptyIterator();
+        }
 
-        return iterateByType(types);
+        return new EntryIterator<>(bucket.myEntries, bucket.mySize);
     }
 
     /**
@@ -134,20 +136,25 @@ class BaseSymbolTable implements SymbolTable {
      * @return An {@link Iterator}.
      */
     @Override
-    @SuppressWarnings("unchecked")
     public final <T extends SymbolTableEntry> Iterator<T> iterateByType(Collection<Class<T>> types) {
-        List<T> result = new LinkedList<>();
+        if (types.size() == 1) {
+            return iterateByType(types.iterator().next());
+        }
 
-        List<T> typeList;
+        SymbolTableEntry[][] entries = new SymbolTableEntry[types.size()][];
+        int[] sizes = new int[types.size()];
+        int numBuckets = 0;
         for (Class<T> type : types) {
-            typeList = (List<T>) myEntriesByType.get(type);
+            EntryBucket bucket = myEntriesByType.get(type);
 
-            if (typeList != null) {
-                result.addAll(typeList);
+            if (bucket != null) {
+                entries[numBuckets] = bucket.myEntries;
+                sizes[numBuckets] = bucket.mySize;
+                numBuckets++;
             }
         }
 
-        return Collections.unmodifiableList(result).iterator();
+        return new EntryIterator<>(entries, sizes, numBuckets);
     }
 
     /**
@@ -182,13 +189,13 @@ class BaseSymbolTable implements SymbolTable {
         while (!foundTopLevel) {
             foundTopLevel = entryClass.equals(SymbolTableEntry.class);
 
-            List<SymbolTableEntry> classList = myEntriesByType.get(entryClass);
-            if (classList == null) {
-                classList = new LinkedList<>();
-                myEntriesByType.put(entryClass, classList);
+            EntryBucket bucket = myEntriesByType.get(entryClass);
+            if (bucket == null) {
+                bucket = new EntryBucket();
+                myEntriesByType.put(entryClass, bucket);
             }
 
-            classList.add(entry);
+            bucket.add(entry);
 
             entryClass = entryClass.getSuperclass();
         }
@@ -234,4 +241,223 @@ class BaseSymbolTable implements SymbolTable {
         return result.toString();
     }
 
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * An append-only, array-backed list of the entries of a particular type.
+     * </p>
+     * <p>
+     * Entries are never overwritten, and growing the bucket copies the entries to a new array. This means the first
+     * {@code size} elements of any array we've handed out never change, so iterators only need to remember the array
+     * and size they started with. Iterating therefore never has to copy the bucket, and adding entries while an
+     * iteration is in progress is still safe.
+     * </p>
+     */
+    private static class EntryBucket {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The entries in this bucket. Only the first {@link #mySize} elements are in use.
+         * </p>
+         */
+        private SymbolTableEntry[] myEntries = new SymbolTableEntry[4];
+
+        /**
+         * <p>
+         * The number of entries in this bucket.
+         * </p>
+         */
+        private int mySize = 0;
+
+        // ===========================================================
+        // Public Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method appends an entry to this bucket.
+         * </p>
+         *
+         * @param entry
+         *            The entry to be added.
+         */
+        final void add(SymbolTableEntry entry) {
+            if (mySize == myEntries.length) {
+                myEntries = Arrays.copyOf(myEntries, 2 * mySize);
+            }
+
+            myEntries[mySize++] = entry;
+        }
+
+    }
+
+    /**
+     * <p>
+     * An unmodifiable iterator over the entries of one or more {@link EntryBucket}s as they were when the iterator was
+     * created.
+     * </p>
+     *
+     * @param <T>
+     *            A {@link SymbolTableEntry} type.
+     */
+    private static class EntryIterator<T extends SymbolTableEntry> implements Iterator<T> {
+
+        // ===========================================================
+        // Member Fields
+        // ===========================================================
+
+        /**
+         * <p>
+         * The entries we are currently iterating over.
+         * </p>
+         */
+        private SymbolTableEntry[] myCurrentEntries;
+
+        /**
+         * <p>
+         * The index of the next entry in {@link #myCurrentEntries}.
+         * </p>
+         */
+        private int myCurrentIndex;
+
+        /**
+         * <p>
+         * The number of entries in {@link #myCurrentEntries}.
+         * </p>
+         */
+        private int myCurrentSize;
+
+        /**
+         * <p>
+         * The index of the next bucket in {@link #myRemainingEntries}.
+         * </p>
+         */
+        private int myNextBucket;
+
+        /**
+         * <p>
+         * The number of buckets in {@link #myRemainingEntries}.
+         * </p>
+         */
+        private final int myNumBuckets;
+
+        /**
+         * <p>
+         * The entries for all the buckets we are iterating over or {@code null} if there is only one bucket.
+         * </p>
+         */
+        private final SymbolTableEntry[][] myRemainingEntries;
+
+        /**
+         * <p>
+         * The number of entries for each bucket in {@link #myRemainingEntries}.
+         * </p>
+         */
+        private final int[] myRemainingSizes;
+
+        // ===========================================================
+        // Constructors
+        // ===========================================================
+
+        /**
+         * <p>
+         * This creates an iterator over the first {@code size} elements of {@code entries}.
+         * </p>
+         *
+         * @param entries
+         *            The entries of a bucket.
+         * @param size
+         *            The number of entries in use.
+         */
+        EntryIterator(SymbolTableEntry[] entries, int size) {
+            myCurrentEntries = entries;
+            myCurrentSize = size;
+            myCurrentIndex = 0;
+            myRemainingEntries = null;
+            myRemainingSizes = null;
+            myNumBuckets = 0;
+            myNextBucket = 0;
+        }
+
+        /**
+         * <p>
+         * This creates an iterator over several buckets, one after the other.
+         * </p>
+         *
+         * @param entries
+         *            The entries of each bucket.
+         * @param sizes
+         *            The number of entries in use for each bucket.
+         * @param numBuckets
+         *            The number of buckets.
+         */
+        EntryIterator(SymbolTableEntry[][] entries, int[] sizes, int numBuckets) {
+            myCurrentEntries = null;
+            myCurrentSize = 0;
+            myCurrentIndex = 0;
+            myRemainingEntries = entries;
+            myRemainingSizes = sizes;
+            myNumBuckets = numBuckets;
+            myNextBucket = 0;
+        }
+
+        // ===========================================================
+        // Public Methods
+        // ===========================================================
+
+        /**
+         * <p>
+         * This method returns {@code true} if there are more entries to iterate over.
+         * </p>
+         *
+         * @return {@code true} if there is a next entry, {@code false} otherwise.
+         */
+        @Override
+        public final boolean hasNext() {
+            while (myCurrentIndex >= myCurrentSize && myNextBucket < myNumBuckets) {
+                myCurrentEntries = myRemainingEntries[myNextBucket];
+                myCurrentSize = myRemainingSizes[myNextBucket];
+                myCurrentIndex = 0;
+                myNextBucket++;
+            }
+
+            return myCurrentIndex < myCurrentSize;
+        }
+
+        /**
+         * <p>
+         * This method returns the next entry.
+         * </p>
+         *
+         * @return The next entry.
+         */
+        @Override
+        @SuppressWarnings("unchecked")
+        public final T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            return (T) myCurrentEntries[myCurrentIndex++];
+        }
+
+        /**
+         * <p>
+         * Entries can't be removed using this iterator.
+         * </p>
+         */
+        @Override
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
 }
@@ -14,9 +14,12 @@ package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -42,6 +45,14 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
      */
     private final List<ModuleIdentifier> myImportedModules;
 
+    /**
+     * <p>
+     * The import closures for each import strategy. These are computed once all the modules in the symbol table have
+     * been sealed.
+     * </p>
+     */
+    private final Map<ImportStrategy, ImportClosure> myImportClosures;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -68,6 +79,7 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
             ModuleIdentifier enclosingModule, BaseSymbolTable bindings, List<ModuleIdentifier> importedModules) {
         super(source, definingElement, parent, enclosingModule, bindings);
         myImportedModules = new LinkedList<>(importedModules);
+        myImportClosures = new EnumMap<>(ImportStrategy.class);
     }
 
     // ===========================================================
@@ -86,6 +98,23 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
         return (ModuleDec) myDefiningElement;
     }
 
+    /**
+     * <p>
+     * Returns the flattened list of modules that a search following the imports of the module who's scope is
+     * represented by this <code>ModuleScope</code> must visit when using the given import strategy. The module itself
+     * is not part of the closure.
+     * </p>
+     *
+     * @param strategy
+     *            The import strategy to use.
+     *
+     * @return The {@link ImportClosure} for <code>strategy</code>.
+     */
+    @Override
+    public final ImportClosure getImportClosure(ImportStrategy strategy) {
+        return myImportClosures.get(strategy);
+    }
+
     /**
      * <p>
      * Returns a <code>List</code> of modules that the module who's scope is represented by this
@@ -126,4 +155,20 @@ class FinalizedModuleScope extends FinalizedScope implements ModuleScope {
         return i.equals(getRootModule()) || myImportedModules.contains(i);
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Computes the import closures for every import strategy. This must be called after every module in the
+     * {@link MathSymbolTable} has been sealed.
+     * </p>
+     */
+    final void computeImportClosures() {
+        for (ImportStrategy strategy : ImportStrategy.values()) {
+            myImportClosures.put(strategy, ImportClosure.build(this, strategy, getSourceRepository()));
+        }
+    }
+
 }
@@ -0,0 +1,294 @@
+/*
+ * ImportClosure.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.symboltables;
+
+import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * <p>
+ * An <code>ImportClosure</code> is the flattened list of modules that must be searched, in order, when a search spawned
+ * from a {@link ModuleScope} follows its imports using a particular {@link ImportStrategy}.
+ * </p>
+ * <p>
+ * The modules are stored in the same order a depth-first walk of the imports would visit them, skipping any module
+ * that has already been visited. For each module we also remember the module whose imports first reached it, so that a
+ * search that stops following imports part way through the walk can still find the modules the walk would have visited
+ * next. Those are not always the next modules in the closure: a module imported directly by the root might have been
+ * reached earlier through the imports of one of its siblings.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class ImportClosure {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * For each module in the closure, the modules it imports that the walk follows.
+     * </p>
+     */
+    private final ModuleScope[][] myImports;
+
+    /**
+     * <p>
+     * The modules in the closure, in search order.
+     * </p>
+     */
+    private final ModuleScope[] myModules;
+
+    /**
+     * <p>
+     * For each module in the closure, the position of the module whose imports first reached it or <code>-1</code> if
+     * it is imported by the root module.
+     * </p>
+     */
+    private final int[] myParents;
+
+    /**
+     * <p>
+     * For each module in the closure, its position in the import list of its parent.
+     * </p>
+     */
+    private final int[] myPositionsInParent;
+
+    /**
+     * <p>
+     * The modules imported directly by the root module.
+     * </p>
+     */
+    private final ModuleScope[] myRootImports;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates an import closure from the flattened walk of the imports.
+     * </p>
+     *
+     * @param rootImports
+     *            The modules imported directly by the root module.
+     * @param modules
+     *            The modules in the closure, in search order.
+     * @param imports
+     *            For each module, the modules it imports that the walk follows.
+     * @param parents
+     *            For each module, the position of the module whose imports first reached it.
+     * @param positionsInParent
+     *            For each module, its position in the import list of its parent.
+     */
+    private ImportClosure(ModuleScope[] rootImports, ModuleScope[] modules, ModuleScope[][] imports, int[] parents,
+            int[] positionsInParent) {
+        myRootImports = rootImports;
+        myModules = modules;
+        myImports = imports;
+        myParents = parents;
+        myPositionsInParent = positionsInParent;
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Returns the modules a depth-first walk of the imports would still visit after the module at <code>index</code>
+     * if it stopped following imports once it reached that module. These are the imports that come after the module
+     * at <code>index</code>, followed by the imports that come after its parent and so on, up to the imports of the
+     * root module. Some of them might have already been visited.
+     * </p>
+     *
+     * @param index
+     *            A position in the closure.
+     *
+     * @return The remaining modules, in search order.
+     */
+    public final List<ModuleScope> getLaterImports(int index) {
+        List<ModuleScope> laterImports = new ArrayList<>();
+        int current = index;
+        while (current != -1) {
+            int parent = myParents[current];
+            ModuleScope[] siblings = (parent == -1) ? myRootImports : myImports[parent];
+            for (int i = myPositionsInParent[current] + 1; i < siblings.length; i++) {
+                laterImports.add(siblings[i]);
+            }
+
+            current = parent;
+        }
+
+        return laterImports;
+    }
+
+    /**
+     * <p>
+     * Returns the module at the specified position in the search order.
+     * </p>
+     *
+     * @param index
+     *            A position in the closure.
+     *
+     * @return The {@link ModuleScope} at <code>index</code>.
+     */
+    public final ModuleScope getModule(int index) {
+        return myModules[index];
+    }
+
+    /**
+     * <p>
+     * Returns the number of modules in the closure.
+     * </p>
+     *
+     * @return The size of the closure.
+     */
+    public final int size() {
+        return myModules.length;
+    }
+
+    /**
+     * <p>
+     * This method returns the object in string format.
+     * </p>
+     *
+     * @return Object as a string.
+     */
+    @Override
+    public final String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < myModules.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(myModules[i].getModuleIdentifier());
+        }
+        sb.append("]");
+
+        return sb.toString();
+    }
+
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Computes the import closure of <code>root</code> using the given strategy.
+     * </p>
+     *
+     * @param root
+     *            The module whose imports are being followed.
+     * @param strategy
+     *            The import strategy to use.
+     * @param repo
+     *            The repository containing the imported modules.
+     *
+     * @return The flattened import closure.
+     */
+    static ImportClosure build(ModuleScope root, ImportStrategy strategy, ScopeRepository repo) {
+        List<ModuleScope> modules = new ArrayList<>();
+        List<ModuleScope[]> imports = new ArrayList<>();
+        List<Integer> parents = new ArrayList<>();
+        List<Integer> positionsInParent = new ArrayList<>();
+        Set<ModuleIdentifier> visited = new HashSet<>();
+        visited.add(root.getModuleIdentifier());
+
+        ModuleScope[] rootImports = addImports(root, -1, strategy, repo, modules, imports, parents, positionsInParent,
+                visited);
+
+        int[] parentsArray = new int[modules.size()];
+        int[] positionsArray = new int[modules.size()];
+        for (int i = 0; i < modules.size(); i++) {
+            parentsArray[i] = parents.get(i);
+            positionsArray[i] = positionsInParent.get(i);
+        }
+
+        return new ImportClosure(rootImports, modules.toArray(new ModuleScope[0]),
+                imports.toArray(new ModuleScope[0][]), parentsArray, positionsArray);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds the imports of <code>module</code> (and, depending on <code>strategy</code>, their own
+     * imports) to the closure.
+     * </p>
+     *
+     * @param module
+     *            The module whose imports are being added.
+     * @param moduleIndex
+     *            The position of <code>module</code> in the closure or <code>-1</code> if it is the root module.
+     * @param strategy
+     *            The import strategy to use for <code>module</code>.
+     * @param repo
+     *            The repository containing the imported modules.
+     * @param modules
+     *            The modules added so far.
+     * @param imports
+     *            The followed imports for the modules added so far.
+     * @param parents
+     *            The parent positions for the modules added so far.
+     * @param positionsInParent
+     *            The positions in the import lists of their parents for the modules added so far.
+     * @param visited
+     *            The identifiers of the modules that have already been added.
+     *
+     * @return The imports of <code>module</code> the walk follows.
+     */
+    private static ModuleScope[] addImports(ModuleScope module, int moduleIndex, ImportStrategy strategy,
+            ScopeRepository repo, List<ModuleScope> modules, List<ModuleScope[]> imports, List<Integer> parents,
+            List<Integer> positionsInParent, Set<ModuleIdentifier> visited) {
+        if (!strategy.considerImports()) {
+            return new ModuleScope[0];
+        }
+
+        List<ModuleIdentifier> importIds = module.getImports();
+        ModuleScope[] importScopes = new ModuleScope[importIds.size()];
+        int position = 0;
+        for (ModuleIdentifier importId : importIds) {
+            try {
+                importScopes[position] = repo.getModuleScope(importId);
+            } catch (NoSuchSymbolException nsse) {
+                // This shouldn't be possible--we'd've caught it by now
+                throw new RuntimeException(nsse);
+            }
+
+            if (visited.add(importId)) {
+                int index = modules.size();
+                modules.add(importScopes[position]);
+                imports.add(null);
+                parents.add(moduleIndex);
+                positionsInParent.add(position);
+
+                imports.set(index, addImports(importScopes[position], index, strategy.cascadingStrategy(), repo,
+                        modules, imports, parents, positionsInParent, visited));
+            }
+
+            position++;
+        }
+
+        return importScopes;
+    }
+
+}
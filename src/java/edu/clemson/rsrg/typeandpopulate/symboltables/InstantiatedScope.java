@@ -153,6 +153,17 @@ public class InstantiatedScope extends AbstractScope {
                 myInstantiatingFacility, l);
     }
 
+    /**
+     * <p>
+     * Returns the scope that this scope is instantiating.
+     * </p>
+     *
+     * @return The base {@link Scope}.
+     */
+    public final Scope getBaseScope() {
+        return myBaseScope;
+    }
+
     /**
      * <p>
      * Returns a list of {@link ProgramParameterEntry}s contained directly in this scope. These correspond to the formal
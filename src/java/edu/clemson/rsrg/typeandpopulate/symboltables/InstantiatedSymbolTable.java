@@ -18,6 +18,8 @@ import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
 import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
 import edu.clemson.rsrg.typeandpopulate.utilities.LazyMappingIterator;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -62,6 +64,14 @@ class InstantiatedSymbolTable implements SymbolTable {
      */
     private final FacilityEntry myInstantiatingFacility;
 
+    /**
+     * <p>
+     * A map from each base entry we have instantiated so far to its instantiated entry. Entries are compared by
+     * identity, since an instantiated entry is <code>equal</code> to the entry it came from.
+     * </p>
+     */
+    private final Map<SymbolTableEntry, SymbolTableEntry> myInstantiatedEntries;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -83,6 +93,7 @@ class InstantiatedSymbolTable implements SymbolTable {
         myBaseTable = base;
         myGenericInstantiations = genericInstantiations;
         myInstantiatingFacility = instantiatingFacility;
+        myInstantiatedEntries = Collections.synchronizedMap(new IdentityHashMap<>());
     }
 
     // ===========================================================
@@ -195,13 +206,36 @@ class InstantiatedSymbolTable implements SymbolTable {
         myBaseTable.putAll(source);
     }
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method checks to see if this table instantiates its base table using the given generic instantiations and
+     * instantiating facility.
+     * </p>
+     *
+     * @param genericInstantiations
+     *            A map of program type instantiations.
+     * @param instantiatingFacility
+     *            Facility entry that is instantiating the symbol table.
+     *
+     * @return {@code true} if this table can be reused for these instantiations, {@code false} otherwise.
+     */
+    final boolean instantiates(Map<String, PTType> genericInstantiations, FacilityEntry instantiatingFacility) {
+        return myInstantiatingFacility == instantiatingFacility && (myGenericInstantiations == genericInstantiations
+                || myGenericInstantiations.equals(genericInstantiations));
+    }
+
     // ===========================================================
     // Helper Constructs
     // ===========================================================
 
     /**
      * <p>
-     * This is a instantiation mapping between generic and instantiated entries.
+     * This is a instantiation mapping between generic and instantiated entries. Each base entry is only instantiated
+     * once per table.
      * </p>
      *
      * @param <T>
@@ -226,7 +260,13 @@ class InstantiatedSymbolTable implements SymbolTable {
         @SuppressWarnings("unchecked")
         @Override
         public final T map(T input) {
-            return (T) input.instantiateGenerics(myGenericInstantiations, myInstantiatingFacility);
+            SymbolTableEntry result = myInstantiatedEntries.get(input);
+            if (result == null) {
+                result = input.instantiateGenerics(myGenericInstantiations, myInstantiatingFacility);
+                myInstantiatedEntries.put(input, result);
+            }
+
+            return (T) result;
         }
 
     }
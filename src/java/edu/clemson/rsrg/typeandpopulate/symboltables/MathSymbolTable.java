@@ -282,6 +282,10 @@ public class MathSymbolTable extends ScopeRepository {
                 throw new NoSuchModuleException(request.sourceModule, request.importedModule);
             }
         }
+
+        for (FinalizedModuleScope moduleScope : myModuleScopes.values()) {
+            moduleScope.computeImportClosures();
+        }
     }
 
     // ===========================================================
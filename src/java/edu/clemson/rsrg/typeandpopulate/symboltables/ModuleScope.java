@@ -13,6 +13,7 @@
 package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.List;
 
@@ -39,6 +40,20 @@ public interface ModuleScope extends Scope {
      */
     ModuleDec getDefiningElement();
 
+    /**
+     * <p>
+     * Returns the flattened list of modules that a search following the imports of the module who's scope is
+     * represented by this <code>ModuleScope</code> must visit when using the given import strategy. The module itself
+     * is not part of the closure.
+     * </p>
+     *
+     * @param strategy
+     *            The import strategy to use.
+     *
+     * @return The {@link ImportClosure} for <code>strategy</code>.
+     */
+    ImportClosure getImportClosure(ImportStrategy strategy);
+
     /**
      * <p>
      * Returns a <code>List</code> of modules that the module who's scope is represented by this
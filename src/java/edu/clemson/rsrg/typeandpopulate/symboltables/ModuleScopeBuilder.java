@@ -13,10 +13,13 @@
 package edu.clemson.rsrg.typeandpopulate.symboltables;
 
 import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.EnumMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * <p>
@@ -39,6 +42,21 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
      */
     private final List<ModuleIdentifier> myImportedModules = new LinkedList<>();
 
+    /**
+     * <p>
+     * The import closures computed so far for each import strategy.
+     * </p>
+     */
+    private final Map<ImportStrategy, ImportClosure> myImportClosures = new EnumMap<>(ImportStrategy.class);
+
+    /**
+     * <p>
+     * The import modification count of the source repository when {@link #myImportClosures} was last known to be
+     * valid.
+     * </p>
+     */
+    private long myImportClosuresModCount = -1;
+
     // ==========================================================
     // Constructors
     // ==========================================================
@@ -78,6 +96,7 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
     public final void addImport(ModuleIdentifier i) {
         if (!myImportedModules.contains(i) && !myRootModule.equals(i)) {
             myImportedModules.add(i);
+            getSourceRepository().noteImportModification();
         }
     }
 
@@ -93,6 +112,41 @@ public class ModuleScopeBuilder extends ScopeBuilder implements ModuleScope {
         return (ModuleDec) myDefiningElement;
     }
 
+    /**
+     * <p>
+     * Returns the flattened list of modules that a search following the imports of the module who's scope is
+     * represented by this <code>ModuleScope</code> must visit when using the given import strategy. The module itself
+     * is not part of the closure.
+     * </p>
+     * <p>
+     * Since this module (or any of the modules it imports) might still be under construction, the closures are
+     * recomputed on demand whenever a module import has been added to the source repository. Adding any other kind of
+     * symbol doesn't change the closures.
+     * </p>
+     *
+     * @param strategy
+     *            The import strategy to use.
+     *
+     * @return The {@link ImportClosure} for <code>strategy</code>.
+     */
+    @Override
+    public final synchronized ImportClosure getImportClosure(ImportStrategy strategy) {
+        ScopeRepository source = getSourceRepository();
+        long modCount = source.getImportModificationCount();
+        if (modCount != myImportClosuresModCount) {
+            myImportClosures.clear();
+            myImportClosuresModCount = modCount;
+        }
+
+        ImportClosure closure = myImportClosures.get(strategy);
+        if (closure == null) {
+            closure = ImportClosure.build(this, strategy, source);
+            myImportClosures.put(strategy, closure);
+        }
+
+        return closure;
+    }
+
     /**
      * <p>
      * Returns a <code>List</code> of modules that the module who's scope is represented by this
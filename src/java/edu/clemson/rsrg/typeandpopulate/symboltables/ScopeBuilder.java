@@ -136,7 +136,7 @@ public class ScopeBuilder extends SyntacticScope {
         MathSymbolEntry entry = new MathSymbolEntry(myTypeGraph, name, q, definingElement, type, typeValue,
                 schematicTypes, genericsInDefiningContext, myRootModule);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -261,7 +261,7 @@ public class ScopeBuilder extends SyntacticScope {
         FacilityEntry entry = new FacilityEntry(facility, isSharingConceptInstantiation, myRootModule,
                 getSourceRepository());
 
-        myBindings.put(facility.getName().getName(), entry);
+        putBinding(facility.getName().getName(), entry);
 
         return entry;
     }
@@ -300,7 +300,7 @@ public class ScopeBuilder extends SyntacticScope {
         FacilityTypeRepresentationEntry result = new FacilityTypeRepresentationEntry(name, definingElement,
                 myRootModule, new PTFacilityRepresentation(myTypeGraph, representationType, name), convention);
 
-        myBindings.put(name, result);
+        putBinding(name, result);
 
         return result;
     }
@@ -338,7 +338,7 @@ public class ScopeBuilder extends SyntacticScope {
         ProgramParameterEntry entry = new ProgramParameterEntry(myTypeGraph, name, definingElement, myRootModule, type,
                 mode);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -376,7 +376,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         OperationEntry entry = new OperationEntry(name, definingElement, myRootModule, returnType, params);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -411,7 +411,7 @@ public class ScopeBuilder extends SyntacticScope {
         OperationProfileEntry entry = new OperationProfileEntry(name, definingElement, myRootModule,
                 correspondingOperation);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -445,7 +445,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         ProcedureEntry entry = new ProcedureEntry(name, definingElement, myRootModule, correspondingOperation);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -489,7 +489,7 @@ public class ScopeBuilder extends SyntacticScope {
                 new PTFamily(model, name, exemplarSymbol.getName()), exemplarEntry, definingElement.getConstraint(),
                 definingElement.getDefinitionVarList());
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -524,7 +524,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         ProgramVariableEntry entry = new ProgramVariableEntry(name, definingElement, myRootModule, type);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -568,7 +568,7 @@ public class ScopeBuilder extends SyntacticScope {
         TypeRepresentationEntry result = new TypeRepresentationEntry(name, definingElement, myRootModule, definition,
                 representationType, convention, correspondence);
 
-        myBindings.put(name, result);
+        putBinding(name, result);
 
         return result;
     }
@@ -602,7 +602,7 @@ public class ScopeBuilder extends SyntacticScope {
 
         TheoremEntry entry = new TheoremEntry(myTypeGraph, name, definingElement, operators, myRootModule);
 
-        myBindings.put(name, entry);
+        putBinding(name, entry);
 
         return entry;
     }
@@ -658,12 +658,32 @@ public class ScopeBuilder extends SyntacticScope {
      */
     final void setParent(Scope parent) {
         myParent = parent;
+        noteModification();
     }
 
     // ===========================================================
     // Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * This method adds an entry to the bindings of this scope. A new facility can change the results of any query
+     * spawned from this scope or its lexical children, so we note it. The memoized results of the queries for any
+     * other name stay valid.
+     * </p>
+     *
+     * @param name
+     *            The unqualified name of the symbol.
+     * @param entry
+     *            The new symbol table entry.
+     */
+    private void putBinding(String name, SymbolTableEntry entry) {
+        myBindings.put(name, entry);
+        if (entry instanceof FacilityEntry) {
+            noteModification();
+        }
+    }
+
     /**
      * <p>
      * This method performs basic sanity checks before we attempt to add an entry into the symbol table.
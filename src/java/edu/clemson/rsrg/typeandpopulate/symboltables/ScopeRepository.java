@@ -16,6 +16,7 @@ import edu.clemson.rsrg.absyn.ResolveConceptualElement;
 import edu.clemson.rsrg.typeandpopulate.exception.NoSuchSymbolException;
 import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * <p>
@@ -36,6 +37,35 @@ import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
  */
 public abstract class ScopeRepository {
 
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of module imports added to this repository.
+     * </p>
+     */
+    private volatile long myImportModificationCount = 0;
+
+    /**
+     * <p>
+     * The number of query cache lookups that found memoized results.
+     * </p>
+     */
+    private final AtomicLong myQueryCacheHits = new AtomicLong();
+
+    /**
+     * <p>
+     * The number of query cache lookups that had to perform a search.
+     * </p>
+     */
+    private final AtomicLong myQueryCacheMisses = new AtomicLong();
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
     /**
      * <p>
      * Returns the {@link ModuleScope} associated with the given {@link ModuleIdentifier}.
@@ -51,6 +81,28 @@ public abstract class ScopeRepository {
      */
     public abstract ModuleScope getModuleScope(ModuleIdentifier module) throws NoSuchSymbolException;
 
+    /**
+     * <p>
+     * Returns the number of queries that were answered using memoized results.
+     * </p>
+     *
+     * @return The number of query cache hits.
+     */
+    public final long getQueryCacheHits() {
+        return myQueryCacheHits.get();
+    }
+
+    /**
+     * <p>
+     * Returns the number of memoizable queries that had to search the scopes in this repository.
+     * </p>
+     *
+     * @return The number of query cache misses.
+     */
+    public final long getQueryCacheMisses() {
+        return myQueryCacheMisses.get();
+    }
+
     /**
      * <p>
      * Returns the {@link Scope} introduced and bounded by the given defining element.
@@ -75,4 +127,46 @@ public abstract class ScopeRepository {
      */
     public abstract TypeGraph getTypeGraph();
 
+    // ===========================================================
+    // Package Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Returns the number of module imports added to this repository. Adding a binding doesn't change this count, so it
+     * can be used to detect stale import closures and, together with the scopes' own counts, stale query results.
+     * </p>
+     *
+     * @return The import modification count.
+     */
+    final long getImportModificationCount() {
+        return myImportModificationCount;
+    }
+
+    /**
+     * <p>
+     * Records that a module import has been added to this repository. Only the thread that builds the repository
+     * should call this method.
+     * </p>
+     */
+    final void noteImportModification() {
+        myImportModificationCount++;
+    }
+
+    /**
+     * <p>
+     * Records the outcome of a query cache lookup.
+     * </p>
+     *
+     * @param hit
+     *            <code>true</code> if memoized results were found, <code>false</code> otherwise.
+     */
+    final void recordQueryCacheLookup(boolean hit) {
+        if (hit) {
+            myQueryCacheHits.incrementAndGet();
+        } else {
+            myQueryCacheMisses.incrementAndGet();
+        }
+    }
+
 }
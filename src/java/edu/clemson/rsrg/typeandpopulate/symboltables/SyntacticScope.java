@@ -25,6 +25,7 @@ import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher;
 import edu.clemson.rsrg.typeandpopulate.query.searcher.TableSearcher.SearchContext;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -83,6 +84,28 @@ public abstract class SyntacticScope extends AbstractScope {
      */
     protected final BaseSymbolTable myBindings;
 
+    /**
+     * <p>
+     * The instantiated views of {@link #myBindings} we have created so far, one for each instantiating facility.
+     * </p>
+     */
+    private final Map<FacilityEntry, InstantiatedSymbolTable> myInstantiatedBindings;
+
+    /**
+     * <p>
+     * The number of facilities declared in this scope and parent changes made to it while it was under construction.
+     * Any other binding only changes the results of the queries for its own name.
+     * </p>
+     */
+    private volatile long myModificationCount;
+
+    /**
+     * <p>
+     * The memoized results of the queries that use this scope's cache.
+     * </p>
+     */
+    private final Map<Object, CachedQueryResults> myQueryResultCache;
+
     /**
      * <p>
      * The source scope repository.
@@ -117,6 +140,9 @@ public abstract class SyntacticScope extends AbstractScope {
         myParent = parent;
         myRootModule = enclosingModule;
         myBindings = bindings;
+        myInstantiatedBindings = new ConcurrentHashMap<>();
+        myModificationCount = 0;
+        myQueryResultCache = new ConcurrentHashMap<>();
     }
 
     // ===========================================================
@@ -182,7 +208,7 @@ public abstract class SyntacticScope extends AbstractScope {
             SymbolTable symbolTableView = myBindings;
 
             if (instantiatingFacility != null) {
-                symbolTableView = new InstantiatedSymbolTable(myBindings, genericInstantiations, instantiatingFacility);
+                symbolTableView = getInstantiatedBindings(genericInstantiations, instantiatingFacility);
             }
 
             finished = searcher.addMatches(symbolTableView, matches, l);
@@ -196,6 +222,86 @@ public abstract class SyntacticScope extends AbstractScope {
         return finished;
     }
 
+    /**
+     * <p>
+     * Stores the results of a name-based query so that the next query with an equal <code>key</code> can skip the
+     * search.
+     * </p>
+     *
+     * @param key
+     *            A key that uniquely identifies the query.
+     * @param name
+     *            The name being searched.
+     * @param qualifier
+     *            The qualifier name or <code>null</code> if the query is unqualified.
+     * @param results
+     *            The results of the query.
+     */
+    public final void cacheQueryResults(Object key, String name, String qualifier,
+            List<? extends SymbolTableEntry> results) {
+        myQueryResultCache.put(key, new CachedQueryResults(getQueryResultVersion(name, qualifier),
+                Collections.unmodifiableList(new ArrayList<>(results))));
+    }
+
+    /**
+     * <p>
+     * Returns the memoized results for the name-based query identified by <code>key</code>. The results are discarded
+     * if, since they were cached, <code>name</code> or <code>qualifier</code> was bound or a facility was declared in
+     * this scope or one of its lexical parents, or a module import was added to the source {@link ScopeRepository}.
+     * Nothing else that is added while the scopes are under construction can change the results.
+     * </p>
+     *
+     * @param key
+     *            A key that uniquely identifies the query.
+     * @param name
+     *            The name being searched.
+     * @param qualifier
+     *            The qualifier name or <code>null</code> if the query is unqualified.
+     * @param <E>
+     *            The type of symbol table entry returned by the query.
+     *
+     * @return An unmodifiable list of results or <code>null</code> if none have been cached.
+     */
+    @SuppressWarnings("unchecked")
+    public final <E extends SymbolTableEntry> List<E> getCachedQueryResults(Object key, String name,
+            String qualifier) {
+        List<E> results = null;
+        CachedQueryResults cached = myQueryResultCache.get(key);
+        if (cached != null && cached.myVersion == getQueryResultVersion(name, qualifier)) {
+            results = (List<E>) cached.myResults;
+        }
+        mySource.recordQueryCacheLookup(results != null);
+
+        return results;
+    }
+
+    /**
+     * <p>
+     * Returns the scope whose memoized results can answer a name-based query spawned from this scope. A scope that
+     * doesn't bind <code>name</code> or <code>qualifier</code> and doesn't declare any facilities finds the same
+     * entries as its lexical parent, so the query can use the results cached by the parent instead. We never go past
+     * the module scope, since the imports we search depend on it.
+     * </p>
+     *
+     * @param name
+     *            The name being searched.
+     * @param qualifier
+     *            The qualifier name or <code>null</code> if the query is unqualified.
+     *
+     * @return This scope or one of its lexical parents.
+     */
+    public final SyntacticScope getQueryResultCacheScope(String name, String qualifier) {
+        SyntacticScope scope = this;
+        while (!(scope instanceof ModuleScope) && scope.myParent instanceof SyntacticScope
+                && !scope.myBindings.containsKey(name)
+                && (qualifier == null || !scope.myBindings.containsKey(qualifier))
+                && !scope.myBindings.iterateByType(FacilityEntry.class).hasNext()) {
+            scope = (SyntacticScope) scope.myParent;
+        }
+
+        return scope;
+    }
+
     /**
      * <p>
      * Returns a list of {@link ProgramParameterEntry}s contained directly in this scope. These correspond to the formal
@@ -308,6 +414,30 @@ public abstract class SyntacticScope extends AbstractScope {
     // Package Private Methods
     // ===========================================================
 
+    /**
+     * <p>
+     * Returns an instantiated view of this scope's bindings. The view, and therefore every entry it has already
+     * instantiated, is reused by later searches through the same facility with the same generic instantiations.
+     * </p>
+     *
+     * @param genericInstantiations
+     *            A mapping from generic names to instantiated types.
+     * @param instantiatingFacility
+     *            The facility that provided the instantiation of the generics.
+     *
+     * @return An {@link InstantiatedSymbolTable}.
+     */
+    final InstantiatedSymbolTable getInstantiatedBindings(Map<String, PTType> genericInstantiations,
+            FacilityEntry instantiatingFacility) {
+        InstantiatedSymbolTable view = myInstantiatedBindings.get(instantiatingFacility);
+        if (view == null || !view.instantiates(genericInstantiations, instantiatingFacility)) {
+            view = new InstantiatedSymbolTable(myBindings, genericInstantiations, instantiatingFacility);
+            myInstantiatedBindings.put(instantiatingFacility, view);
+        }
+
+        return view;
+    }
+
     /**
      * <p>
      * Returns the parent scope that contains this scope.
@@ -330,4 +460,94 @@ public abstract class SyntacticScope extends AbstractScope {
         return mySource;
     }
 
+    /**
+     * <p>
+     * Records that a facility has been declared in this scope or that its parent has changed, so any memoized results
+     * of the queries spawned from this scope or its lexical children might be stale. Only the thread that builds the
+     * repository should call this method.
+     * </p>
+     */
+    final void noteModification() {
+        myModificationCount++;
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns a version for the results of a query spawned from this scope that searches for
+     * <code>name</code>. Each count we add up only grows, and a name can only be bound once in each scope, so the
+     * version changes whenever <code>name</code> or <code>qualifier</code> is bound or a facility is declared in this
+     * scope or one of its lexical parents, or a module import is added to the source repository.
+     * </p>
+     *
+     * @param name
+     *            The name being searched.
+     * @param qualifier
+     *            The qualifier name or <code>null</code> if the query is unqualified.
+     *
+     * @return The current version.
+     */
+    private long getQueryResultVersion(String name, String qualifier) {
+        long version = mySource.getImportModificationCount();
+        Scope scope = this;
+        while (scope instanceof SyntacticScope) {
+            SyntacticScope syntacticScope = (SyntacticScope) scope;
+            version += syntacticScope.myModificationCount;
+            if (syntacticScope.myBindings.containsKey(name)) {
+                version++;
+            }
+            if (qualifier != null && syntacticScope.myBindings.containsKey(qualifier)) {
+                version++;
+            }
+            scope = syntacticScope.myParent;
+        }
+
+        return version;
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * The memoized results of a query and the version of the scopes they were computed from.
+     * </p>
+     */
+    private static class CachedQueryResults {
+
+        /**
+         * <p>
+         * The unmodifiable results of the query.
+         * </p>
+         */
+        private final List<? extends SymbolTableEntry> myResults;
+
+        /**
+         * <p>
+         * The query result version when the results were cached.
+         * </p>
+         */
+        private final long myVersion;
+
+        /**
+         * <p>
+         * This creates a new cache entry.
+         * </p>
+         *
+         * @param version
+         *            The query result version when the results were cached.
+         * @param results
+         *            The unmodifiable results of the query.
+         */
+        CachedQueryResults(long version, List<? extends SymbolTableEntry> results) {
+            myResults = results;
+            myVersion = version;
+        }
+
+    }
+
 }
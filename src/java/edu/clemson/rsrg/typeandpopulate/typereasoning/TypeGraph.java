@@ -34,6 +34,7 @@ import edu.clemson.rsrg.typeandpopulate.typevisitor.UnboundTypeAccumulator;
 import edu.clemson.rsrg.typeandpopulate.typevisitor.VariableReplacingVisitor;
 import edu.clemson.rsrg.typeandpopulate.utilities.FunctionApplicationFactory;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <p>
@@ -52,11 +53,12 @@ public class TypeGraph {
     /**
      * <p>
      * A set of non-thread-safe resources to be used during general type reasoning. This really doesn't belong here, but
-     * anything that's reasoning about types should already have access to a type graph, and only one type graph is
-     * created per thread, so this is a convenient place to put it.
+     * anything that's reasoning about types should already have access to a type graph, so this is a convenient place
+     * to put it. The provers can reason about types from several threads at once, so each thread gets its own copy.
      * </p>
      */
-    public final PerThreadReasoningResources threadResources = new PerThreadReasoningResources();
+    public final ThreadLocal<PerThreadReasoningResources> threadResources = ThreadLocal
+            .withInitial(PerThreadReasoningResources::new);
 
     /**
      * <p>
@@ -77,21 +79,21 @@ public class TypeGraph {
      * This contains all mathematical nodes for this graph.
      * </p>
      */
-    private final HashMap<MTType, TypeNode> myTypeNodes;
+    private final Map<MTType, TypeNode> myTypeNodes;
 
     /**
      * <p>
      * This contains all established relationships for mathematical subtypes.
      * </p>
      */
-    private final Set<EstablishedRelationship> myEstablishedSubtypes = new HashSet<>();
+    private final Set<EstablishedRelationship> myEstablishedSubtypes = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
      * This contains all established relationships for mathematical elements.
      * </p>
      */
-    private final Set<EstablishedRelationship> myEstablishedElements = new HashSet<>();
+    private final Set<EstablishedRelationship> myEstablishedElements = ConcurrentHashMap.newKeySet();
 
     /**
      * <p>
@@ -311,7 +313,7 @@ public class TypeGraph {
      *            The current job's compilation environment that stores all necessary objects and flags.
      */
     public TypeGraph(CompileEnvironment compileEnvironment) {
-        myTypeNodes = new HashMap<>();
+        myTypeNodes = new ConcurrentHashMap<>();
         myCompileEnvironment = compileEnvironment;
         myStatusHandler = myCompileEnvironment.getStatusHandler();
     }
@@ -865,8 +867,12 @@ public class TypeGraph {
         TypeNode result = myTypeNodes.get(t);
 
         if (result == null) {
-            result = new TypeNode(this, t);
-            myTypeNodes.put(t, result);
+            // Another thread might have beaten us to it.
+            TypeNode newNode = new TypeNode(this, t);
+            result = myTypeNodes.putIfAbsent(t, newNode);
+            if (result == null) {
+                result = newNode;
+            }
         }
 
         return result;
@@ -69,6 +69,14 @@ public class ModuleParameterization {
      */
     private final FacilityEntry myInstantiatingFacility;
 
+    /**
+     * <p>
+     * The instantiated scope we built the last time {@link #getScope(boolean)} was asked for one, or {@code null} if we
+     * haven't built one yet.
+     * </p>
+     */
+    private volatile InstantiatedScope myInstantiatedScope;
+
     // ===========================================================
     // Constructors
     // ===========================================================
@@ -146,6 +154,11 @@ public class ModuleParameterization {
      * <p>
      * This method returns the scope for this module parameter object.
      * </p>
+     * <p>
+     * The instantiated scope only depends on the module being instantiated and the program types of our arguments,
+     * neither of which change once the instantiating facility has been added to the symbol table. It is therefore
+     * built once and shared by every search through this facility.
+     * </p>
      *
      * @param instantiated
      *            Boolean flag to indicate whether or not this object has been instantiated.
@@ -160,7 +173,10 @@ public class ModuleParameterization {
             ModuleScope originalScope = mySourceRepository.getModuleScope(myModule);
             result = originalScope;
 
-            if (instantiated) {
+            InstantiatedScope cachedScope = myInstantiatedScope;
+            if (instantiated && cachedScope != null && cachedScope.getBaseScope() == originalScope) {
+                result = cachedScope;
+            } else if (instantiated) {
                 Map<String, PTType> genericInstantiations;
 
                 // YS Edits
@@ -185,7 +201,9 @@ public class ModuleParameterization {
                     genericInstantiations = getGenericInstantiations(originalScope, myParameters);
                 }
 
-                result = new InstantiatedScope(originalScope, genericInstantiations, myInstantiatingFacility);
+                myInstantiatedScope = new InstantiatedScope(originalScope, genericInstantiations,
+                        myInstantiatingFacility);
+                result = myInstantiatedScope;
             }
         } catch (NoSuchSymbolException nsse) {
             // Shouldn't be possible--we'd have caught it by now
@@ -44,6 +44,7 @@ import edu.clemson.rsrg.absyn.statements.MemoryStmt.StatementType;
 import edu.clemson.rsrg.init.CompileEnvironment;
 import edu.clemson.rsrg.init.flag.Flag;
 import edu.clemson.rsrg.init.flag.FlagDependencies;
+import edu.clemson.rsrg.misc.STGroupCache;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.parsing.data.PosSymbol;
@@ -88,7 +89,6 @@ import edu.clemson.rsrg.vcgeneration.utilities.treewalkers.ConceptSharedStateExt
 import java.util.*;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STGroup;
-import org.stringtemplate.v4.STGroupFile;
 
 /**
  * <p>
@@ -186,11 +186,11 @@ public class VCGenerator extends TreeWalkerVisitor {
 
     /**
      * <p>
-     * All the completed {@link AssertiveCodeBlock AssertiveCodeBlocks} that only contain the final {@link Sequent
-     * Sequents}.
+     * The number of completed {@link AssertiveCodeBlock AssertiveCodeBlocks} that contained at least one final
+     * {@link Sequent}. This is used to assign a name to the {@code VCs} as each block is completed.
      * </p>
      */
-    private final List<AssertiveCodeBlock> myFinalAssertiveCodeBlocks;
+    private int myNumCompletedBlocksWithVCs;
 
     /**
      * <p>
@@ -220,10 +220,18 @@ public class VCGenerator extends TreeWalkerVisitor {
 
     /**
      * <p>
-     * String template for the VC generation details model.
+     * The rendered verbose mode output for the {@link AssertiveCodeBlock} most recently returned by
+     * {@link #completeNextAssertiveCodeBlock()}.
      * </p>
      */
-    private final ST myVCGenDetailsModel;
+    private String myCompletedBlockDetails;
+
+    /**
+     * <p>
+     * The rendered header describing the {@link ModuleDec} we are generating {@code VCs} for.
+     * </p>
+     */
+    private String myModuleDetailsHeader;
 
     // ===========================================================
     // Flag Strings
@@ -291,14 +299,15 @@ public class VCGenerator extends TreeWalkerVisitor {
         myAssertiveCodeBlockModels = new LinkedHashMap<>();
         myBuilder = builder;
         myCompileEnvironment = compileEnvironment;
+        myCompletedBlockDetails = "";
         myCorrespondingSharedStateDec = null;
-        myFinalAssertiveCodeBlocks = new LinkedList<>();
+        myNumCompletedBlocksWithVCs = 0;
         myIncompleteAssertiveCodeBlocks = new LinkedList<>();
+        myModuleDetailsHeader = null;
         myRealizInitFinalOuterDec = null;
-        mySTGroup = new STGroupFile("templates/VCGenVerboseOutput.stg");
+        mySTGroup = STGroupCache.getGroup("templates/VCGenVerboseOutput.stg");
         myTypeGraph = myBuilder.getTypeGraph();
         myVariableTypeEntries = new LinkedHashMap<>();
-        myVCGenDetailsModel = mySTGroup.getInstanceOf("outputVCGenDetails");
     }
 
     // ===========================================================
@@ -386,58 +395,6 @@ public class VCGenerator extends TreeWalkerVisitor {
         }
     }
 
-    /**
-     * <p>
-     * Code that gets executed after visiting a {@link ModuleDec}.
-     * </p>
-     *
-     * @param dec
-     *            A module declaration.
-     */
-    @Override
-    public final void postModuleDec(ModuleDec dec) {
-        // Loop through our incomplete assertive code blocks until it is empty
-        while (!myIncompleteAssertiveCodeBlocks.isEmpty()) {
-            // Use the first assertive code block in the incomplete blocks list
-            // as our current assertive code block.
-            myCurrentAssertiveCodeBlock = myIncompleteAssertiveCodeBlocks.removeFirst();
-
-            applyStatementRules(myCurrentAssertiveCodeBlock);
-
-            // Render the assertive block model
-            ST blockModel = myAssertiveCodeBlockModels.remove(myCurrentAssertiveCodeBlock);
-            myVCGenDetailsModel.add("assertiveCodeBlocks", blockModel.render());
-
-            // Add this to our final assertive code block list
-            myFinalAssertiveCodeBlocks.add(myCurrentAssertiveCodeBlock);
-
-            // Set the current assertive code block to null
-            myCurrentAssertiveCodeBlock = null;
-        }
-
-        // Assign a name to all of the VCs
-        int blockCount = 0;
-        for (AssertiveCodeBlock block : myFinalAssertiveCodeBlocks) {
-            // Obtain the final list of vcs
-            int vcCount = 1;
-            List<VerificationCondition> vcs = block.getVCs();
-            List<VerificationCondition> namedVCs = new ArrayList<>(vcs.size());
-            for (VerificationCondition vc : vcs) {
-                namedVCs.add(new VerificationCondition(vc.getLocation(), blockCount + "_" + vcCount, vc.getSequent(),
-                        vc.getHasImpactingReductionFlag(), vc.getLocationDetailModel()));
-                vcCount++;
-            }
-
-            // Store the named VCs and increase the block number
-            block.setVCs(namedVCs);
-
-            // YS: Only increment the block count if the current block has VCs to prove
-            if (!namedVCs.isEmpty()) {
-                blockCount++;
-            }
-        }
-    }
-
     // -----------------------------------------------------------
     // Concept Module
     // -----------------------------------------------------------
@@ -460,7 +417,7 @@ public class VCGenerator extends TreeWalkerVisitor {
 
         // Add to VC detail model
         ST header = mySTGroup.getInstanceOf("outputConceptHeader").add("conceptName", conceptName.getName());
-        myVCGenDetailsModel.add("fileHeader", header.render());
+        myModuleDetailsHeader = header.render();
     }
 
     // -----------------------------------------------------------
@@ -497,7 +454,7 @@ public class VCGenerator extends TreeWalkerVisitor {
         // Add to VC detail model
         ST header = mySTGroup.getInstanceOf("outputConceptRealizHeader").add("realizName", conceptRealizName.getName())
                 .add("conceptName", conceptName.getName());
-        myVCGenDetailsModel.add("fileHeader", header.render());
+        myModuleDetailsHeader = header.render();
     }
 
     // -----------------------------------------------------------
@@ -534,7 +491,7 @@ public class VCGenerator extends TreeWalkerVisitor {
         // Add to VC detail model
         ST header = mySTGroup.getInstanceOf("outputEnhancementHeader").add("enhancementName", enhancementName.getName())
                 .add("conceptName", conceptName.getName());
-        myVCGenDetailsModel.add("fileHeader", header.render());
+        myModuleDetailsHeader = header.render();
     }
 
     // -----------------------------------------------------------
@@ -577,7 +534,7 @@ public class VCGenerator extends TreeWalkerVisitor {
         ST header = mySTGroup.getInstanceOf("outputEnhancementRealizHeader")
                 .add("realizName", enhancementRealizName.getName()).add("enhancementName", enhancementName.getName())
                 .add("conceptName", conceptName.getName());
-        myVCGenDetailsModel.add("fileHeader", header.render());
+        myModuleDetailsHeader = header.render();
     }
 
     // -----------------------------------------------------------
@@ -602,7 +559,7 @@ public class VCGenerator extends TreeWalkerVisitor {
 
         // Add to VC detail model
         ST header = mySTGroup.getInstanceOf("outputFacilityHeader").add("facilityName", facilityName.getName());
-        myVCGenDetailsModel.add("fileHeader", header.render());
+        myModuleDetailsHeader = header.render();
     }
 
     // -----------------------------------------------------------
@@ -1378,25 +1335,93 @@ public class VCGenerator extends TreeWalkerVisitor {
 
     /**
      * <p>
-     * This method returns the final {@link AssertiveCodeBlock AssertiveCodeBlocks} containing the generated
-     * {@link Sequent Sequents}.
+     * This method applies all the proof rules to the next incomplete {@link AssertiveCodeBlock} and returns it with
+     * its final named {@link VerificationCondition VCs}. Completed blocks are not retained by this generator, so the
+     * caller is responsible for doing something useful with the results before asking for the next one.
      * </p>
      *
-     * @return A list containing {@link AssertiveCodeBlock AssertiveCodeBlocks}.
+     * <p>
+     * <em>Note:</em> This should only be called after walking the {@link ModuleDec} and when
+     * {@link #hasIncompleteAssertiveCodeBlocks()} returns {@code true}.
+     * </p>
+     *
+     * @return The next completed {@link AssertiveCodeBlock}.
      */
-    public final List<AssertiveCodeBlock> getFinalAssertiveCodeBlocks() {
-        return myFinalAssertiveCodeBlocks;
+    public final AssertiveCodeBlock completeNextAssertiveCodeBlock() {
+        // Use the first assertive code block in the incomplete blocks list
+        // as our current assertive code block.
+        myCurrentAssertiveCodeBlock = myIncompleteAssertiveCodeBlocks.removeFirst();
+
+        applyStatementRules(myCurrentAssertiveCodeBlock);
+
+        // Render the assertive block model. Only the details for this block are kept,
+        // so the caller needs to ask for them before completing the next block.
+        ST blockModel = myAssertiveCodeBlockModels.remove(myCurrentAssertiveCodeBlock);
+        myCompletedBlockDetails = blockModel.render();
+
+        // Assign a name to all of the VCs
+        int vcCount = 1;
+        List<VerificationCondition> vcs = myCurrentAssertiveCodeBlock.getVCs();
+        List<VerificationCondition> namedVCs = new ArrayList<>(vcs.size());
+        for (VerificationCondition vc : vcs) {
+            namedVCs.add(new VerificationCondition(vc.getLocation(), myNumCompletedBlocksWithVCs + "_" + vcCount,
+                    vc.getSequent(), vc.getHasImpactingReductionFlag(), vc.getLocationDetailModel()));
+            vcCount++;
+        }
+
+        // Store the named VCs
+        AssertiveCodeBlock completedBlock = myCurrentAssertiveCodeBlock;
+        completedBlock.setVCs(namedVCs);
+
+        // YS: Only increment the block count if the current block has VCs to prove
+        if (!namedVCs.isEmpty()) {
+            myNumCompletedBlocksWithVCs++;
+        }
+
+        // Set the current assertive code block to null
+        myCurrentAssertiveCodeBlock = null;
+
+        return completedBlock;
     }
 
     /**
      * <p>
-     * This method returns the verbose mode output with how we generated the {@code VCs} for this {@link ModuleDec}.
+     * This method returns the verbose mode output with how we generated the {@code VCs} for the
+     * {@link AssertiveCodeBlock} most recently returned by {@link #completeNextAssertiveCodeBlock()}.
      * </p>
      *
      * @return A string containing lots of details.
      */
-    public final String getVerboseModeOutput() {
-        return myVCGenDetailsModel.render();
+    public final String getCompletedBlockDetails() {
+        return myCompletedBlockDetails;
+    }
+
+    /**
+     * <p>
+     * This method returns the header for the verbose mode output with how we generated the {@code VCs} for this
+     * {@link ModuleDec}. The details for each {@link AssertiveCodeBlock} come after this header.
+     * </p>
+     *
+     * <p>
+     * <em>Note:</em> This should only be called after walking the {@link ModuleDec}.
+     * </p>
+     *
+     * @return A string containing the module's details.
+     */
+    public final String getVerboseModeHeader() {
+        return mySTGroup.getInstanceOf("outputVCGenDetailsHeader").add("fileHeader", myModuleDetailsHeader).render();
+    }
+
+    /**
+     * <p>
+     * This method checks to see if there are still {@link AssertiveCodeBlock AssertiveCodeBlocks} that need more proof
+     * rule applications.
+     * </p>
+     *
+     * @return {@code true} if there are incomplete blocks, {@code false} otherwise.
+     */
+    public final boolean hasIncompleteAssertiveCodeBlocks() {
+        return !myIncompleteAssertiveCodeBlocks.isEmpty();
     }
 
     // ===========================================================
@@ -16,6 +16,7 @@ import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.*;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.EqualsExp.Operator;
 import edu.clemson.rsrg.absyn.statements.AssumeStmt;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.treewalk.TreeWalker;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -389,7 +390,8 @@ public class AssumeStmtRule extends AbstractProofRuleApplication implements Proo
     private List<Sequent> reducedSequentForm(Sequent sequent, ST stepModel) {
         // Apply the various sequent reduction rules.
         SequentReduction reduction = new SequentReduction(sequent);
-        List<Sequent> resultSequents = reduction.applyReduction();
+        List<Sequent> resultSequents = myCurrentVerificationContext.time(CompilerMetrics.Phase.SEQUENT_REDUCTION,
+                reduction::applyReduction);
         Graph<Sequent, DefaultEdge> reductionTree = reduction.getReductionTree();
 
         // Store the map of impacting reductions
@@ -15,6 +15,7 @@ package edu.clemson.rsrg.vcgeneration.proofrules.statements;
 import edu.clemson.rsrg.absyn.expressions.Exp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
 import edu.clemson.rsrg.absyn.statements.ConfirmStmt;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
 import edu.clemson.rsrg.vcgeneration.proofrules.AbstractProofRuleApplication;
 import edu.clemson.rsrg.vcgeneration.proofrules.ProofRuleApplication;
@@ -157,7 +158,8 @@ public class ConfirmStmtRule extends AbstractProofRuleApplication implements Pro
         Sequent sequentToBeReduced = new Sequent(myConfirmStmt.getLocation(), new ArrayList<Exp>(),
                 Collections.singletonList(myConfirmStmt.getAssertion()));
         SequentReduction reduction = new SequentReduction(sequentToBeReduced);
-        List<Sequent> resultSequents = reduction.applyReduction();
+        List<Sequent> resultSequents = myCurrentVerificationContext.time(CompilerMetrics.Phase.SEQUENT_REDUCTION,
+                reduction::applyReduction);
         Graph<Sequent, DefaultEdge> reductionTree = reduction.getReductionTree();
 
         // Store the map of impacting reductions
@@ -28,6 +28,7 @@ import edu.clemson.rsrg.absyn.expressions.mathexpr.MathExp;
 import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
 import edu.clemson.rsrg.absyn.rawtypes.NameTy;
 import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.metrics.CompilerMetrics;
 import edu.clemson.rsrg.parsing.data.BasicCapabilities;
 import edu.clemson.rsrg.parsing.data.Location;
 import edu.clemson.rsrg.parsing.data.LocationDetailModel;
@@ -40,6 +41,7 @@ import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
 import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
 import edu.clemson.rsrg.vcgeneration.utilities.formaltoactual.InstantiatedFacilityDecl;
 import java.util.*;
+import java.util.function.Supplier;
 import static edu.clemson.rsrg.vcgeneration.VCGenerator.FLAG_ADD_CONSTRAINT;
 
 /**
@@ -809,6 +811,25 @@ public class VerificationContext implements BasicCapabilities, Cloneable {
         myLocalTypeRepresentationDecs.add((AbstractTypeRepresentationDec) dec.clone());
     }
 
+    /**
+     * <p>
+     * This method runs {@code task} and records it as a run of the specified compiler phase for the module that
+     * created this context.
+     * </p>
+     *
+     * @param phase
+     *            The compiler phase.
+     * @param task
+     *            The code for the phase.
+     * @param <T>
+     *            The type of result returned by {@code task}.
+     *
+     * @return The result returned by {@code task}.
+     */
+    public final <T> T time(CompilerMetrics.Phase phase, Supplier<T> task) {
+        return myCompileEnvironment.getMetrics().time(myName.getName(), phase, task);
+    }
+
     /**
      * <p>
      * This method returns the object in string format.
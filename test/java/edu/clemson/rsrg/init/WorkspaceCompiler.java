@@ -0,0 +1,119 @@
+/*
+ * WorkspaceCompiler.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init;
+
+import edu.clemson.rsrg.init.output.RecordingOutputListener;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import java.io.File;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * This class compiles files from the small {@code RESOLVE} workspace stored with the test resources. The workspace
+ * contains the standard facilities and just enough of their concepts and theories to generate {@code VCs} for the
+ * sample facilities and translate them.
+ * </p>
+ *
+ * @version 1.0
+ */
+public final class WorkspaceCompiler {
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This class only contains static methods.
+     * </p>
+     */
+    private WorkspaceCompiler() {
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * Compiles the specified workspace file without writing any output files and fails the current test if the
+     * compiler reports an error.
+     * </p>
+     *
+     * @param fileName
+     *            A file name relative to the workspace directory.
+     * @param flags
+     *            The compiler flags for this compilation.
+     *
+     * @return The listener that recorded the compilation results.
+     */
+    public static RecordingOutputListener compile(String fileName, String... flags) {
+        return compile(fileName, new StringWriter(), flags);
+    }
+
+    /**
+     * <p>
+     * Compiles the specified workspace file like {@link #compile(String, String...)}, but keeps the messages the
+     * compiler sends to its output stream.
+     * </p>
+     *
+     * @param fileName
+     *            A file name relative to the workspace directory.
+     * @param outWriter
+     *            The writer for the compiler's output messages.
+     * @param flags
+     *            The compiler flags for this compilation.
+     *
+     * @return The listener that recorded the compilation results.
+     */
+    public static RecordingOutputListener compile(String fileName, Writer outWriter, String... flags) {
+        List<String> args = new ArrayList<>(Arrays.asList(flags));
+        args.add("-workspaceDir");
+        args.add(getWorkspaceDir().getAbsolutePath());
+        args.add("-noFileOutput");
+        args.add(fileName);
+
+        StringWriter errorWriter = new StringWriter();
+        RecordingOutputListener listener = new RecordingOutputListener();
+        ResolveCompiler compiler = new ResolveCompiler(args.toArray(new String[0]));
+        compiler.invokeCompiler(new HashMap<>(), new HashMap<>(), new WriterStatusHandler(outWriter, errorWriter),
+                listener);
+
+        assertEquals("Errors while compiling " + fileName, "", errorWriter.toString());
+
+        return listener;
+    }
+
+    /**
+     * <p>
+     * Returns the test workspace directory.
+     * </p>
+     *
+     * @return The directory that contains the {@code RESOLVE} folder.
+     */
+    public static File getWorkspaceDir() {
+        try {
+            return new File(WorkspaceCompiler.class.getResource("/workspace").toURI());
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * FlagManagerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.flag;
+
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.WorkspaceCompiler;
+import edu.clemson.rsrg.init.output.RecordingOutputListener;
+import edu.clemson.rsrg.statushandling.exception.FlagDependencyException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure each {@link FlagManager} only sees the flags it was created with, so that compilations
+ * with different flags can run at the same time in one {@code JVM}.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class FlagManagerTest {
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The facility we compile.
+     * </p>
+     */
+    private static final String FACILITY_FILE = "RESOLVE/Main/Tests/Swap_And_Increment.fa";
+
+    /**
+     * <p>
+     * The number of compilations we run at the same time.
+     * </p>
+     */
+    private static final int NUM_COMPILATIONS = 8;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method sets up the flag dependencies before any of the test cases are run.
+     * </p>
+     */
+    @BeforeClass
+    public static void setUpFlagDependencies() {
+        new ResolveCompiler(new String[0]);
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that compilations with different flags running at the same time each produce only the output their
+     * own flags asked for.
+     * </p>
+     *
+     * @throws Exception
+     *             One of the compilations failed.
+     */
+    @Test(timeout = 300000)
+    public final void testConcurrentCompilationsKeepTheirOwnFlags() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(NUM_COMPILATIONS);
+        try {
+            List<Future<RecordingOutputListener>> translations = new ArrayList<>();
+            List<Future<RecordingOutputListener>> verifications = new ArrayList<>();
+            for (int i = 0; i < NUM_COMPILATIONS / 2; i++) {
+                translations.add(executor.submit(() -> WorkspaceCompiler.compile(FACILITY_FILE, "-javaTranslate")));
+                verifications.add(executor.submit(() -> WorkspaceCompiler.compile(FACILITY_FILE, "-VCs", "-metrics")));
+            }
+
+            for (Future<RecordingOutputListener> translation : translations) {
+                List<String> events = translation.get().getEvents();
+                assertEquals(List.of("javaTranslationResult Swap_And_Increment"), events);
+            }
+            for (Future<RecordingOutputListener> verification : verifications) {
+                List<String> events = verification.get().getEvents();
+                assertTrue(events.contains("vcGeneratorCompleted Swap_And_Increment"));
+                assertTrue(events.contains("compilerMetricsResult Swap_And_Increment"));
+                assertFalse(events.contains("javaTranslationResult Swap_And_Increment"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * <p>
+     * This tests that two flag managers created one after the other don't see each other's flags, arguments or
+     * remaining arguments.
+     * </p>
+     *
+     * @throws FlagDependencyException
+     *             The flags we used were not acceptable.
+     */
+    @Test
+    public final void testManagersKeepTheirOwnFlags() throws FlagDependencyException {
+        FlagManager first = new FlagManager(
+                new String[] { "-javaTranslate", "-batchTranslate", "-translateWorkers", "3", "First.fa" });
+        FlagManager second = new FlagManager(new String[] { "-VCs", "-debug", "Second.fa" });
+
+        assertTrue(first.isFlagSet("javaTranslate"));
+        assertTrue(first.isFlagSet(ResolveCompiler.FLAG_TRANSLATE_WORKERS));
+        assertEquals("3", first.getFlagArgument(ResolveCompiler.FLAG_TRANSLATE_WORKERS, "numworkers"));
+        assertFalse(first.isFlagSet("VCs"));
+        assertFalse(first.isFlagSet(ResolveCompiler.FLAG_DEBUG));
+        assertArrayEquals(new String[] { "First.fa" }, first.getRemainingArgs());
+
+        assertTrue(second.isFlagSet("VCs"));
+        assertTrue(second.isFlagSet(ResolveCompiler.FLAG_DEBUG));
+        assertFalse(second.isFlagSet("javaTranslate"));
+        assertFalse(second.isFlagSet(ResolveCompiler.FLAG_TRANSLATE_WORKERS));
+        assertArrayEquals(new String[] { "Second.fa" }, second.getRemainingArgs());
+    }
+
+}
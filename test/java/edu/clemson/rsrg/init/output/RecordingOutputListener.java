@@ -0,0 +1,392 @@
+/*
+ * RecordingOutputListener.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.output;
+
+import edu.clemson.rsrg.nProver.output.VCProverResult;
+import edu.clemson.rsrg.prover.output.Metrics;
+import edu.clemson.rsrg.prover.output.PerVCProverModel;
+import edu.clemson.rsrg.vcgeneration.utilities.AssertiveCodeBlock;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * An output listener used by the test cases. It records the order in which the compiler calls us, along with the
+ * results we want to check.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class RecordingOutputListener implements OutputListener {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The details sent to {@link #vcGeneratorDetails(String, String)}, in the order we received them.
+     * </p>
+     */
+    private final List<String> myDetails;
+
+    /**
+     * <p>
+     * A description of every call we received, in the order we received them.
+     * </p>
+     */
+    private final List<String> myEvents;
+
+    /**
+     * <p>
+     * A map from each output file name to its {@code Java} translation.
+     * </p>
+     */
+    private final Map<String, String> myJavaTranslations;
+
+    /**
+     * <p>
+     * The compiler metrics sent to {@link #compilerMetricsResult(String, String)}, in the order we received them.
+     * </p>
+     */
+    private final List<String> myMetricsResults;
+
+    /**
+     * <p>
+     * The details sent to {@link #nProverDetails(String, String)}, in the order we received them.
+     * </p>
+     */
+    private final List<String> myNProverDetails;
+
+    /**
+     * <p>
+     * The details sent to {@link #proverDetails(String, String)}, in the order we received them.
+     * </p>
+     */
+    private final List<String> myProverDetails;
+
+    /**
+     * <p>
+     * The results sent by the general purpose prover, in the order we received them.
+     * </p>
+     */
+    private final List<VCProverResult> myVCProverResults;
+
+    /**
+     * <p>
+     * The results sent by the congruence class prover, in the order we received them.
+     * </p>
+     */
+    private final List<PerVCProverModel> myVCResults;
+
+    // ===========================================================
+    // Constructors
+    // ===========================================================
+
+    /**
+     * <p>
+     * This creates a listener that hasn't recorded anything yet.
+     * </p>
+     */
+    public RecordingOutputListener() {
+        myDetails = Collections.synchronizedList(new ArrayList<>());
+        myEvents = Collections.synchronizedList(new ArrayList<>());
+        myJavaTranslations = Collections.synchronizedMap(new LinkedHashMap<>());
+        myMetricsResults = Collections.synchronizedList(new ArrayList<>());
+        myNProverDetails = Collections.synchronizedList(new ArrayList<>());
+        myProverDetails = Collections.synchronizedList(new ArrayList<>());
+        myVCProverResults = Collections.synchronizedList(new ArrayList<>());
+        myVCResults = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    // ===========================================================
+    // Public Methods
+    // ===========================================================
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void assertiveCodeBlockCompleted(String outputFileName, AssertiveCodeBlock block) {
+        myEvents.add("assertiveCodeBlockCompleted " + block.getName().getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void assertiveCodeBlockStarted(String outputFileName, AssertiveCodeBlock block) {
+        myEvents.add("assertiveCodeBlockStarted " + block.getName().getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void astGraphvizModelCompleted(String outputFileName) {
+        myEvents.add("astGraphvizModelCompleted");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void astGraphvizModelEntry(String outputFileName, String entry) {
+        myEvents.add("astGraphvizModelEntry");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void astGraphvizModelStarted(String outputFileName, String moduleName) {
+        myEvents.add("astGraphvizModelStarted " + moduleName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void compilerMetricsResult(String outputFileName, String metricsJSON) {
+        myEvents.add("compilerMetricsResult " + outputFileName);
+        myMetricsResults.add(metricsJSON);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void cTranslationResult(String inputFileName, String outputFileName, String cTranslation) {
+        myEvents.add("cTranslationResult " + outputFileName);
+    }
+
+    /**
+     * <p>
+     * Returns the details sent by the {@code VC} generator.
+     * </p>
+     *
+     * @return A copy of the details in the order we received them.
+     */
+    public final List<String> getDetails() {
+        synchronized (myDetails) {
+            return new ArrayList<>(myDetails);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns a description of every call we received.
+     * </p>
+     *
+     * @return A copy of the events in the order we received them.
+     */
+    public final List<String> getEvents() {
+        synchronized (myEvents) {
+            return new ArrayList<>(myEvents);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the {@code Java} translation for the specified output file.
+     * </p>
+     *
+     * @param outputFileName
+     *            A name of the output file.
+     *
+     * @return The translation or {@code null} if we didn't receive one.
+     */
+    public final String getJavaTranslation(String outputFileName) {
+        return myJavaTranslations.get(outputFileName);
+    }
+
+    /**
+     * <p>
+     * Returns the compiler metrics we received.
+     * </p>
+     *
+     * @return A copy of the metrics in {@code JSON} format, in the order we received them.
+     */
+    public final List<String> getMetricsResults() {
+        synchronized (myMetricsResults) {
+            return new ArrayList<>(myMetricsResults);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the details sent by the general purpose prover.
+     * </p>
+     *
+     * @return A copy of the details in the order we received them.
+     */
+    public final List<String> getNProverDetails() {
+        synchronized (myNProverDetails) {
+            return new ArrayList<>(myNProverDetails);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the details sent by the congruence class prover.
+     * </p>
+     *
+     * @return A copy of the details in the order we received them.
+     */
+    public final List<String> getProverDetails() {
+        synchronized (myProverDetails) {
+            return new ArrayList<>(myProverDetails);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the results sent by the general purpose prover.
+     * </p>
+     *
+     * @return A copy of the results in the order we received them.
+     */
+    public final List<VCProverResult> getVCProverResults() {
+        synchronized (myVCProverResults) {
+            return new ArrayList<>(myVCProverResults);
+        }
+    }
+
+    /**
+     * <p>
+     * Returns the results sent by the congruence class prover.
+     * </p>
+     *
+     * @return A copy of the results in the order we received them.
+     */
+    public final List<PerVCProverModel> getVCResults() {
+        synchronized (myVCResults) {
+            return new ArrayList<>(myVCResults);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void javaTranslationResult(String inputFileName, String outputFileName, String javaTranslation) {
+        myEvents.add("javaTranslationResult " + outputFileName);
+        myJavaTranslations.put(outputFileName, javaTranslation);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void nProverCompleted(String outputFileName, long totalTime) {
+        myEvents.add("nProverCompleted " + outputFileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void nProverDetails(String outputFileName, String details) {
+        myEvents.add("nProverDetails");
+        myNProverDetails.add(details);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void nProverStarted(String inputFileName, String outputFileName, long timeOut, int numTries) {
+        myEvents.add("nProverStarted " + outputFileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void proverCompleted(String outputFileName, long totalTime) {
+        myEvents.add("proverCompleted " + outputFileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void proverDetails(String outputFileName, String details) {
+        myEvents.add("proverDetails");
+        myProverDetails.add(details);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void proverStarted(String inputFileName, String outputFileName, long timeOut, int numTries) {
+        myEvents.add("proverStarted " + outputFileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void vcGenerated(String outputFileName, VerificationCondition vc) {
+        myEvents.add("vcGenerated " + vc.getName());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void vcGeneratorCompleted(String outputFileName) {
+        myEvents.add("vcGeneratorCompleted " + outputFileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void vcGeneratorDetails(String outputFileName, String details) {
+        myEvents.add("vcGeneratorDetails");
+        myDetails.add(details);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void vcGeneratorStarted(String inputFileName, String outputFileName) {
+        myEvents.add("vcGeneratorStarted " + outputFileName);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void vcProverResult(String outputFileName, VCProverResult result) {
+        myEvents.add("vcProverResult " + result.getVerificationCondition().getName());
+        myVCProverResults.add(result);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public final void vcResult(String outputFileName, boolean proved, PerVCProverModel finalModel, Metrics m) {
+        myEvents.add("vcResult " + finalModel.getVCName());
+        myVCResults.add(finalModel);
+    }
+
+}
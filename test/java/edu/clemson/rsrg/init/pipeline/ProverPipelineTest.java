@@ -0,0 +1,460 @@
+/*
+ * ProverPipelineTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.pipeline;
+
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.WorkspaceCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.init.output.RecordingOutputListener;
+import edu.clemson.rsrg.nProver.output.VCProverResult;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.prover.output.PerVCProverModel;
+import edu.clemson.rsrg.prover.utilities.ImmutableVC;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the prover pipelines output their results in the order the {@code VCs} were generated, no
+ * matter which worker thread finishes first.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ProverPipelineTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A compilation environment for the pipelines that don't compile any files.
+     * </p>
+     */
+    private final CompileEnvironment FAKE_COMPILE_ENVIRONMENT;
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create {@link VerificationCondition VerificationConditions}.
+     * </p>
+     */
+    private final Location FAKE_LOCATION;
+
+    {
+        try {
+            FAKE_LOCATION = new Location(
+                    new ResolveFile(new ResolveFileBasicInfo("ProverPipelineTest", ""), ModuleType.THEORY,
+                            new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                    0, 0);
+
+            new ResolveCompiler(new String[0]);
+            FAKE_COMPILE_ENVIRONMENT = new CompileEnvironment(new String[] { "-noFileOutput" }, "TestCompiler",
+                    new WriterStatusHandler(new StringWriter(), new StringWriter()));
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake compilation environment", e);
+        }
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that the elapsed time is the wall-clock time for proving the module and not the sum of the times each
+     * worker thread spent proving its {@code VCs}.
+     * </p>
+     */
+    @Test
+    public final void testElapsedTimeIsWallClockTime() {
+        final int numVCs = 4;
+        final long proofTime = 200;
+        CountDownLatch allStarted = new CountDownLatch(numVCs);
+        RecordingProverPipeline pipeline = new RecordingProverPipeline(FAKE_COMPILE_ENVIRONMENT, numVCs) {
+            @Override
+            protected String prove(VerificationCondition vc) throws InterruptedException {
+                // Make sure every VC is being proved at the same time
+                allStarted.countDown();
+                assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+                Thread.sleep(proofTime);
+
+                return vc.getName();
+            }
+        };
+
+        pipeline.startProving(null);
+        pipeline.proveVCs(createVCs(numVCs));
+        pipeline.process(null);
+
+        long elapsedTime = pipeline.getElapsedTime();
+        assertTrue("Elapsed time: " + elapsedTime, elapsedTime >= proofTime);
+        assertTrue("Elapsed time: " + elapsedTime, elapsedTime < numVCs * proofTime);
+    }
+
+    /**
+     * <p>
+     * This tests that the general purpose prover sends the file's details first and then the proof details for each
+     * {@code VC} right after its result, instead of holding on to them until the prover is done.
+     * </p>
+     */
+    @Test
+    public final void testNProverDetailsFollowResults() {
+        RecordingOutputListener listener = WorkspaceCompiler.compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs",
+                "-sprove", "-num_workers", "4");
+        List<String> events = listener.getEvents();
+        List<String> details = listener.getNProverDetails();
+
+        int index = events.indexOf("nProverStarted Swap_And_Count");
+        assertEquals("nProverDetails", events.get(index + 1));
+        assertTrue(details.get(0).contains("Proof Generation Details"));
+        assertTrue(details.get(0).contains("Swap_And_Count"));
+
+        List<VCProverResult> results = listener.getVCProverResults();
+        assertEquals(results.size() + 1, details.size());
+        for (int i = 0; i < results.size(); i++) {
+            String vcName = results.get(i).getVerificationCondition().getName();
+            index = events.indexOf("vcProverResult " + vcName);
+            assertEquals("nProverDetails", events.get(index + 1));
+            assertTrue(details.get(i + 1).trim().split("\n")[0].contains(" " + vcName + " "));
+        }
+        assertTrue(events.indexOf("nProverCompleted Swap_And_Count") > index + 1);
+    }
+
+    /**
+     * <p>
+     * This tests that the general purpose prover sends a result for every {@code VC} and in the order the {@code VCs}
+     * were generated, even with several worker threads.
+     * </p>
+     */
+    @Test
+    public final void testNProverResultsFollowGenerationOrder() {
+        RecordingOutputListener listener = WorkspaceCompiler.compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs",
+                "-sprove", "-num_workers", "4");
+
+        List<String> generatedVCs = new ArrayList<>();
+        List<String> provedVCs = new ArrayList<>();
+        for (String event : listener.getEvents()) {
+            if (event.startsWith("vcGenerated ")) {
+                generatedVCs.add(event.substring("vcGenerated ".length()));
+            } else if (event.startsWith("vcProverResult ")) {
+                provedVCs.add(event.substring("vcProverResult ".length()));
+            }
+        }
+
+        assertFalse(generatedVCs.isEmpty());
+        assertEquals(generatedVCs, provedVCs);
+    }
+
+    /**
+     * <p>
+     * This tests that the congruence class prover skips the same {@code VCs} after failing to prove the number of
+     * {@code VCs} specified by {@code -num_tries}, no matter how many worker threads are proving them.
+     * </p>
+     */
+    @Test
+    public final void testNumTriesSkipsSameVCs() {
+        List<PerVCProverModel> sequentialResults = WorkspaceCompiler
+                .compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs", "-ccprove", "-num_workers", "1",
+                        "-num_tries", "3")
+                .getVCResults();
+        List<PerVCProverModel> parallelResults = WorkspaceCompiler
+                .compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs", "-ccprove", "-num_workers", "4",
+                        "-num_tries", "3")
+                .getVCResults();
+
+        assertEquals(describeResults(sequentialResults), describeResults(parallelResults));
+
+        // Everything after the third unproved VC is skipped
+        int numUnproved = 0;
+        for (PerVCProverModel model : parallelResults) {
+            assertEquals(numUnproved >= 3, model.getWasSkippedFlag());
+            if (model.getStatus() != ImmutableVC.STATUS.PROVED
+                    && model.getStatus() != ImmutableVC.STATUS.FALSE_ASSUMPTION) {
+                numUnproved++;
+            }
+        }
+        assertTrue(numUnproved > 3);
+    }
+
+    /**
+     * <p>
+     * This tests that the congruence class prover sends the proof details for each {@code VC} right after its result,
+     * instead of holding on to them until the prover is done.
+     * </p>
+     */
+    @Test
+    public final void testProverDetailsFollowResults() {
+        RecordingOutputListener listener = WorkspaceCompiler.compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs",
+                "-ccprove", "-num_workers", "4");
+        List<String> events = listener.getEvents();
+        List<String> details = listener.getProverDetails();
+
+        List<PerVCProverModel> results = listener.getVCResults();
+        assertFalse(results.isEmpty());
+        assertEquals(results.size(), details.size());
+        int index = -1;
+        for (int i = 0; i < results.size(); i++) {
+            String vcName = results.get(i).getVCName();
+            index = events.indexOf("vcResult " + vcName);
+            assertEquals("proverDetails", events.get(index + 1));
+            assertTrue(details.get(i).startsWith("VC " + vcName + ": "));
+        }
+        assertTrue(events.indexOf("proverCompleted Swap_And_Count") > index + 1);
+    }
+
+    /**
+     * <p>
+     * This tests that the results are output in the order the {@code VCs} were handed to the pipeline when the first
+     * {@code VC} is the last one to be proved.
+     * </p>
+     */
+    @Test
+    public final void testResultsFollowGenerationOrder() {
+        final int numVCs = 6;
+        CountDownLatch othersProved = new CountDownLatch(numVCs - 1);
+        List<String> provedOrder = Collections.synchronizedList(new ArrayList<>());
+        RecordingProverPipeline pipeline = new RecordingProverPipeline(FAKE_COMPILE_ENVIRONMENT, numVCs) {
+            @Override
+            protected String prove(VerificationCondition vc) throws InterruptedException {
+                // Hold on to the first VC until everything else has been proved
+                if (vc.getName().equals("0_1")) {
+                    assertTrue(othersProved.await(10, TimeUnit.SECONDS));
+                }
+                provedOrder.add(vc.getName());
+                if (!vc.getName().equals("0_1")) {
+                    othersProved.countDown();
+                }
+
+                return vc.getName();
+            }
+        };
+
+        List<VerificationCondition> vcs = createVCs(numVCs);
+        List<String> vcNames = new ArrayList<>();
+        for (VerificationCondition vc : vcs) {
+            vcNames.add(vc.getName());
+        }
+
+        pipeline.startProving(null);
+        pipeline.proveVCs(vcs);
+        pipeline.process(null);
+
+        assertEquals("0_1", provedOrder.get(numVCs - 1));
+        assertEquals(vcNames, pipeline.getOutputResults());
+    }
+
+    /**
+     * <p>
+     * This tests that {@link AbstractProverPipeline#stopProving()} interrupts a worker thread that is still proving a
+     * {@code VC} and discards the results we haven't output.
+     * </p>
+     */
+    @Test
+    public final void testStopProvingInterruptsWorkers() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        RecordingProverPipeline pipeline = new RecordingProverPipeline(FAKE_COMPILE_ENVIRONMENT, 1) {
+            @Override
+            protected String prove(VerificationCondition vc) {
+                started.countDown();
+                try {
+                    Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+                } catch (InterruptedException ie) {
+                    interrupted.countDown();
+                }
+
+                return vc.getName();
+            }
+        };
+
+        pipeline.startProving(null);
+        pipeline.proveVCs(createVCs(1));
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        pipeline.stopProving();
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS));
+
+        // Nothing is left to output
+        pipeline.process(null);
+        assertTrue(pipeline.getOutputResults().isEmpty());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates {@code VCs} with empty sequents.
+     * </p>
+     *
+     * @param numVCs
+     *            The number of {@code VCs}.
+     *
+     * @return A list of {@code VCs} named {@code 0_1}, {@code 0_2}, ...
+     */
+    private List<VerificationCondition> createVCs(int numVCs) {
+        List<VerificationCondition> vcs = new ArrayList<>();
+        for (int i = 1; i <= numVCs; i++) {
+            Sequent sequent = new Sequent(FAKE_LOCATION, new ArrayList<Exp>(), new ArrayList<Exp>());
+            vcs.add(new VerificationCondition(FAKE_LOCATION, "0_" + i, sequent, false, null));
+        }
+
+        return vcs;
+    }
+
+    /**
+     * <p>
+     * An helper method that describes the result for each {@code VC}.
+     * </p>
+     *
+     * @param results
+     *            The prover models for the {@code VCs}.
+     *
+     * @return A list with a string for each {@code VC}.
+     */
+    private List<String> describeResults(List<PerVCProverModel> results) {
+        List<String> descriptions = new ArrayList<>();
+        for (PerVCProverModel model : results) {
+            descriptions.add(model.getVCName() + " " + model.getStatus() + " " + model.getWasSkippedFlag());
+        }
+
+        return descriptions;
+    }
+
+    // ===========================================================
+    // Private Classes
+    // ===========================================================
+
+    /**
+     * <p>
+     * A prover pipeline that "proves" a {@code VC} by returning its name and records the names it outputs.
+     * </p>
+     */
+    private static class RecordingProverPipeline extends AbstractProverPipeline<String> {
+
+        /**
+         * <p>
+         * The number of worker threads.
+         * </p>
+         */
+        private final int myNumWorkers;
+
+        /**
+         * <p>
+         * The results in the order they were output.
+         * </p>
+         */
+        private final List<String> myOutputResults;
+
+        /**
+         * <p>
+         * This creates a pipeline that doesn't need a symbol table.
+         * </p>
+         *
+         * @param ce
+         *            The current compilation environment.
+         * @param numWorkers
+         *            The number of worker threads.
+         */
+        RecordingProverPipeline(CompileEnvironment ce, int numWorkers) {
+            super(ce, null);
+            myNumWorkers = numWorkers;
+            myOutputResults = Collections.synchronizedList(new ArrayList<>());
+        }
+
+        /**
+         * <p>
+         * Returns the results in the order they were output.
+         * </p>
+         *
+         * @return A copy of the results.
+         */
+        final List<String> getOutputResults() {
+            synchronized (myOutputResults) {
+                return new ArrayList<>(myOutputResults);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final void process(ModuleIdentifier currentTarget) {
+            waitForResults();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public final void startProving(ModuleIdentifier currentTarget) {
+            startWorkers("testProver", "ProverPipelineTest", myNumWorkers);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected final Callable<String> createProofTask(VerificationCondition vc) {
+            return () -> prove(vc);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected final void outputResult(String result) {
+            myOutputResults.add(result);
+        }
+
+        /**
+         * <p>
+         * This method runs on one of the worker threads to "prove" a {@code VC}.
+         * </p>
+         *
+         * @param vc
+         *            A {@code VC}.
+         *
+         * @return The name of the {@code VC}.
+         *
+         * @throws InterruptedException
+         *             We were interrupted while proving the {@code VC}.
+         */
+        protected String prove(VerificationCondition vc) throws InterruptedException {
+            return vc.getName();
+        }
+
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * VCGenPipelineTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.init.pipeline;
+
+import edu.clemson.rsrg.init.WorkspaceCompiler;
+import edu.clemson.rsrg.init.output.RecordingOutputListener;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link VCGenPipeline} sends the {@code VCs} and the verbose details for each assertive
+ * code block to the listeners as soon as that block is completed.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class VCGenPipelineTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The events recorded while generating the {@code VCs} for our sample facility.
+     * </p>
+     */
+    private List<String> myEvents;
+
+    /**
+     * <p>
+     * The listener that recorded the compilation results.
+     * </p>
+     */
+    private RecordingOutputListener myListener;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * Generates the {@code VCs} for our sample facility.
+     * </p>
+     */
+    @Before
+    public final void setUp() {
+        myListener = WorkspaceCompiler.compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs");
+        myEvents = myListener.getEvents();
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that we receive the file's details first and then the details for each block in the order the blocks
+     * were completed.
+     * </p>
+     */
+    @Test
+    public final void testDetailsFollowBlockOrder() {
+        List<String> blockNames = getCompletedBlockNames();
+        List<String> details = myListener.getDetails();
+        assertEquals(blockNames.size() + 1, details.size());
+
+        assertTrue(details.get(0).contains("VC Generation Details"));
+        assertTrue(details.get(0).contains("Swap_And_Count"));
+        for (int i = 0; i < blockNames.size(); i++) {
+            String blockHeader = details.get(i + 1).trim().split("\n")[0];
+            assertTrue(blockHeader.contains(" " + blockNames.get(i) + " "));
+        }
+    }
+
+    /**
+     * <p>
+     * This tests that all the {@code VCs} for a block are sent between the start and the end of that block, followed
+     * by that block's details and before the next block starts.
+     * </p>
+     */
+    @Test
+    public final void testVCsStreamedPerBlock() {
+        assertEquals("vcGeneratorStarted Swap_And_Count", myEvents.get(0));
+        assertEquals("vcGeneratorDetails", myEvents.get(1));
+        assertEquals("vcGeneratorCompleted Swap_And_Count", myEvents.get(myEvents.size() - 1));
+
+        int blockNumber = 0;
+        int index = 2;
+        while (index < myEvents.size() - 1) {
+            assertTrue(myEvents.get(index).startsWith("assertiveCodeBlockStarted "));
+            String blockName = myEvents.get(index).substring("assertiveCodeBlockStarted ".length());
+            index++;
+
+            // VCs are numbered by block and then by their position in the block
+            int vcNumber = 1;
+            while (myEvents.get(index).startsWith("vcGenerated ")) {
+                assertEquals("vcGenerated " + blockNumber + "_" + vcNumber, myEvents.get(index));
+                vcNumber++;
+                index++;
+            }
+
+            assertEquals("assertiveCodeBlockCompleted " + blockName, myEvents.get(index));
+            assertEquals("vcGeneratorDetails", myEvents.get(index + 1));
+            blockNumber++;
+            index += 2;
+        }
+
+        assertEquals(4, blockNumber);
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that returns the names of the completed blocks in the order we received them.
+     * </p>
+     *
+     * @return A list of block names.
+     */
+    private List<String> getCompletedBlockNames() {
+        List<String> blockNames = new ArrayList<>();
+        for (String event : myEvents) {
+            if (event.startsWith("assertiveCodeBlockCompleted ")) {
+                blockNames.add(event.substring("assertiveCodeBlockCompleted ".length()));
+            }
+        }
+
+        return blockNames;
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * STGroupCacheTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.misc;
+
+import org.junit.Test;
+import org.stringtemplate.v4.STGroup;
+import org.stringtemplate.v4.StringRenderer;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link STGroupCache} shares a group between everyone asking for the same file with the
+ * same kind of renderer, and never hands out a group that is missing the renderer that was asked for.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class STGroupCacheTest {
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that asking for a file with a renderer after it was loaded without one returns a group that has the
+     * renderer, and that the plain group is left without it.
+     * </p>
+     */
+    @Test
+    public final void testRendererNotDropped() {
+        STGroup plainGroup = STGroupCache.getGroup("templates/nProverVerboseOutput.stg");
+        STGroup renderedGroup = STGroupCache.getGroup("templates/nProverVerboseOutput.stg", String.class,
+                new StringRenderer());
+
+        assertNotSame(plainGroup, renderedGroup);
+        assertNull(plainGroup.getAttributeRenderer(String.class));
+        assertTrue(renderedGroup.getAttributeRenderer(String.class) instanceof StringRenderer);
+    }
+
+    /**
+     * <p>
+     * This tests that the same group is returned for the same file and the same kind of renderer.
+     * </p>
+     */
+    @Test
+    public final void testSameRendererSharesGroup() {
+        assertSame(STGroupCache.getGroup("templates/ASTOutput.stg"), STGroupCache.getGroup("templates/ASTOutput.stg"));
+        assertSame(STGroupCache.getGroup("templates/proverOutput.stg", String.class, new StringRenderer()),
+                STGroupCache.getGroup("templates/proverOutput.stg", String.class, new StringRenderer()));
+    }
+
+}
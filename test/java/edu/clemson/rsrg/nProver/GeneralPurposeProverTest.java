@@ -0,0 +1,135 @@
+/*
+ * GeneralPurposeProverTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.InfixExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.IntegerExp;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.WorkspaceCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.nProver.output.VCProverResult;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScope;
+import edu.clemson.rsrg.vcgeneration.sequents.Sequent;
+import edu.clemson.rsrg.vcgeneration.utilities.VerificationCondition;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link GeneralPurposeProver} proves the same {@code VCs} it did before expressions
+ * were labeled through the {@code SymbolInterner} and that proving a {@code VC} leaves its expressions untouched.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class GeneralPurposeProverTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A compilation environment for the prover that doesn't compile any files.
+     * </p>
+     */
+    private final CompileEnvironment FAKE_COMPILE_ENVIRONMENT;
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create expressions.
+     * </p>
+     */
+    private final Location FAKE_LOCATION;
+
+    {
+        try {
+            FAKE_LOCATION = new Location(
+                    new ResolveFile(new ResolveFileBasicInfo("GeneralPurposeProverTest", ""), ModuleType.THEORY,
+                            new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                    0, 0);
+
+            new ResolveCompiler(new String[0]);
+            FAKE_COMPILE_ENVIRONMENT = new CompileEnvironment(new String[] { "-noFileOutput" }, "TestCompiler",
+                    new WriterStatusHandler(new StringWriter(), new StringWriter()));
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake compilation environment", e);
+        }
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that the prover gets the same result for each {@code VC} in our sample facility as the prover that
+     * labeled each expression using its string form.
+     * </p>
+     */
+    @Test
+    public final void testProofResultsUnchanged() {
+        List<String> results = new ArrayList<>();
+        for (VCProverResult result : WorkspaceCompiler
+                .compile("RESOLVE/Main/Tests/Swap_And_Count.fa", "-VCs", "-sprove").getVCProverResults()) {
+            results.add(result.getVerificationCondition().getName() + (result.isProved() ? " proved" : " not proved"));
+        }
+
+        assertEquals(List.of("0_1 proved", "0_2 proved", "1_1 proved", "1_2 not proved", "1_3 not proved",
+                "1_4 not proved", "2_1 proved", "2_2 not proved", "2_3 proved", "3_1 proved"), results);
+    }
+
+    /**
+     * <p>
+     * This tests that proving a {@code VC} with repeated literals doesn't modify the literals, since the same
+     * expressions could be in the hands of another prover at the same time.
+     * </p>
+     */
+    @Test
+    public final void testProvingLeavesLiteralsUnchanged() {
+        Exp left = new IntegerExp(FAKE_LOCATION, null, 1);
+        Exp right = new IntegerExp(FAKE_LOCATION, null, 1);
+        Exp consequent = new InfixExp(FAKE_LOCATION, left, null, new PosSymbol(FAKE_LOCATION, "="), right);
+        Sequent sequent = new Sequent(FAKE_LOCATION, new ArrayList<Exp>(), Collections.singletonList(consequent));
+
+        MathSymbolTableBuilder symbolTable = new MathSymbolTableBuilder(FAKE_COMPILE_ENVIRONMENT);
+        ModuleScope scope = symbolTable.startModuleScope(new PrecisModuleDec(FAKE_LOCATION,
+                new PosSymbol(FAKE_LOCATION, "Test_Precis"), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                new HashMap<>()));
+        GeneralPurposeProver prover = new GeneralPurposeProver(scope, FAKE_COMPILE_ENVIRONMENT);
+        VCProverResult result = prover.proveVC(new VerificationCondition(FAKE_LOCATION, "0_1", sequent, false, null));
+
+        assertTrue(result.isProved());
+        assertNull(left.getLocationDetailModel());
+        assertNull(right.getLocationDetailModel());
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * ClusterSignatureTableTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link ClusterSignatureTable} finds a cluster by its signature and keeps the
+ * signatures up to date as classes are merged.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ClusterSignatureTableTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * The signature table we are testing.
+     * </p>
+     */
+    private ClusterSignatureTable myTable;
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of cluster designators the table can hold.
+     * </p>
+     */
+    private static final int CLUSTER_CAPACITY = 512;
+
+    /**
+     * <p>
+     * The number of class designators the table can hold.
+     * </p>
+     */
+    private static final int CLASS_CAPACITY = 130;
+
+    // ===========================================================
+    // Set up Method
+    // ===========================================================
+
+    /**
+     * <p>
+     * This method creates an empty signature table before each test case is run.
+     * </p>
+     */
+    @Before
+    public final void setUp() {
+        myTable = new ClusterSignatureTable(CLUSTER_CAPACITY, CLASS_CAPACITY);
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that a cluster is only found using its own tree node label and arguments, in the same order.
+     * </p>
+     */
+    @Test
+    public final void testAddedSignatureFound() {
+        myTable.add(1, 5, new int[] { 1, 2 }, 2);
+        myTable.add(2, 3, new int[0], 0);
+
+        assertEquals(1, myTable.find(5, new int[] { 1, 2 }, 2));
+        assertEquals(2, myTable.find(3, new int[0], 0));
+        assertEquals(0, myTable.find(5, new int[] { 2, 1 }, 2));
+        assertEquals(0, myTable.find(6, new int[] { 1, 2 }, 2));
+        assertEquals(0, myTable.find(5, new int[] { 1, 2, 3 }, 3));
+
+        // Only the first arity entries are part of the signature
+        assertEquals(1, myTable.find(5, new int[] { 1, 2, 7 }, 2));
+    }
+
+    /**
+     * <p>
+     * This tests that when two clusters have the same signature, the one added first is the one we find.
+     * </p>
+     */
+    @Test
+    public final void testDuplicateSignatureKeepsFirstCluster() {
+        myTable.add(1, 5, new int[] { 1, 2 }, 2);
+        myTable.add(2, 5, new int[] { 1, 2 }, 2);
+
+        assertEquals(1, myTable.find(5, new int[] { 1, 2 }, 2));
+    }
+
+    /**
+     * <p>
+     * This tests that merging a class updates every cluster that uses it as an argument, including the clusters that
+     * use it more than once, and that only one cluster is kept when two of them end up with the same signature.
+     * </p>
+     */
+    @Test
+    public final void testMergeUpdatesClustersUsingMergedClass() {
+        myTable.add(1, 5, new int[] { 1, 2 }, 2);
+        myTable.add(2, 5, new int[] { 3, 2 }, 2);
+        myTable.add(3, 6, new int[] { 3, 3 }, 2);
+        myTable.add(4, 6, new int[] { 2 }, 1);
+
+        myTable.updateAfterMerging(3, 1);
+
+        assertEquals(1, myTable.find(5, new int[] { 1, 2 }, 2));
+        assertEquals(0, myTable.find(5, new int[] { 3, 2 }, 2));
+        assertEquals(3, myTable.find(6, new int[] { 1, 1 }, 2));
+        assertEquals(0, myTable.find(6, new int[] { 3, 3 }, 2));
+        assertEquals(4, myTable.find(6, new int[] { 2 }, 1));
+
+        // The merged clusters keep following the dominant class
+        myTable.updateAfterMerging(1, 2);
+        assertEquals(1, myTable.find(5, new int[] { 2, 2 }, 2));
+        assertEquals(3, myTable.find(6, new int[] { 2, 2 }, 2));
+        assertEquals(0, myTable.find(5, new int[] { 1, 2 }, 2));
+    }
+
+    /**
+     * <p>
+     * This tests a random sequence of additions and merges by checking that every cluster's current signature leads
+     * to a cluster with that same signature after each step.
+     * </p>
+     */
+    @Test
+    public final void testRandomMergesKeepSignaturesCurrent() {
+        Random random = new Random(42);
+        int numClasses = CLASS_CAPACITY - 1;
+        int[] dominantClass = new int[CLASS_CAPACITY];
+        for (int c = 1; c <= numClasses; c++) {
+            dominantClass[c] = c;
+        }
+
+        int[] labels = new int[CLUSTER_CAPACITY];
+        int[][] arguments = new int[CLUSTER_CAPACITY][];
+        int numClusters = 0;
+        for (int step = 0; step < 2000; step++) {
+            if (numClusters < CLUSTER_CAPACITY - 1 && random.nextInt(3) != 0) {
+                // Add a cluster over the dominant classes
+                numClusters++;
+                labels[numClusters] = 1 + random.nextInt(3);
+                arguments[numClusters] = new int[random.nextInt(3)];
+                for (int i = 0; i < arguments[numClusters].length; i++) {
+                    arguments[numClusters][i] = findDominant(dominantClass, 1 + random.nextInt(numClasses));
+                }
+                myTable.add(numClusters, labels[numClusters], arguments[numClusters],
+                        arguments[numClusters].length);
+            } else {
+                // Merge two dominant classes
+                int merged = findDominant(dominantClass, 1 + random.nextInt(numClasses));
+                int dominant = findDominant(dominantClass, 1 + random.nextInt(numClasses));
+                if (merged != dominant) {
+                    dominantClass[merged] = dominant;
+                    myTable.updateAfterMerging(merged, dominant);
+                }
+            }
+
+            // Every cluster's current signature must lead to a cluster with that signature
+            for (int cluster = 1; cluster <= numClusters; cluster++) {
+                int[] signature = getSignature(dominantClass, arguments[cluster]);
+                int found = myTable.find(labels[cluster], signature, signature.length);
+                assertNotEquals("Cluster " + cluster + " not found at step " + step, 0, found);
+                assertEquals(labels[cluster], labels[found]);
+                assertArrayEquals(signature, getSignature(dominantClass, arguments[found]));
+            }
+        }
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that follows the merges to find the dominant class.
+     * </p>
+     *
+     * @param dominantClass
+     *            The class each class was merged into, or the class itself if it is still dominant.
+     * @param ccDesignator
+     *            A class designator.
+     *
+     * @return The dominant class designator.
+     */
+    private static int findDominant(int[] dominantClass, int ccDesignator) {
+        int result = ccDesignator;
+        while (dominantClass[result] != result) {
+            result = dominantClass[result];
+        }
+
+        return result;
+    }
+
+    /**
+     * <p>
+     * An helper method that replaces each argument with its dominant class.
+     * </p>
+     *
+     * @param dominantClass
+     *            The class each class was merged into, or the class itself if it is still dominant.
+     * @param arguments
+     *            The class designators the cluster was added with.
+     *
+     * @return The current signature arguments.
+     */
+    private static int[] getSignature(int[] dominantClass, int[] arguments) {
+        int[] signature = Arrays.copyOf(arguments, arguments.length);
+        for (int i = 0; i < signature.length; i++) {
+            signature[i] = findDominant(dominantClass, signature[i]);
+        }
+
+        return signature;
+    }
+
+}
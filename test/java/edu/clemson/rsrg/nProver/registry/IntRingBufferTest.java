@@ -0,0 +1,138 @@
+/*
+ * IntRingBufferTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.registry;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link IntRingBuffer} returns its values in first-in-first-out order, including after
+ * the values have wrapped around the end of the buffer and after the buffer has grown.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class IntRingBufferTest {
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that clearing the buffer removes every value and that the buffer can be used again afterwards.
+     * </p>
+     */
+    @Test
+    public final void testClearEmptiesBuffer() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.remove();
+        buffer.clear();
+        assertEquals(0, buffer.size());
+
+        buffer.add(3);
+        assertEquals(1, buffer.size());
+        assertEquals(3, buffer.get(0));
+        assertEquals(3, buffer.remove());
+    }
+
+    /**
+     * <p>
+     * This tests that reading past the values in the buffer throws an exception.
+     * </p>
+     */
+    @Test
+    public final void testEmptyBufferAccess() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        try {
+            buffer.remove();
+            fail("Removed a value from an empty buffer");
+        } catch (NoSuchElementException e) {
+            // expected
+        }
+
+        buffer.add(1);
+        try {
+            buffer.get(1);
+            fail("Got a value past the end of the buffer");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            buffer.get(-1);
+            fail("Got a value before the start of the buffer");
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    /**
+     * <p>
+     * This tests that growing a buffer whose values wrap around the end keeps the values in order.
+     * </p>
+     */
+    @Test
+    public final void testGrowWhileWrapped() {
+        IntRingBuffer buffer = new IntRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            buffer.add(i);
+        }
+
+        // The head is now in the middle of the buffer and the last two values wrap around
+        assertEquals(0, buffer.remove());
+        assertEquals(1, buffer.remove());
+        buffer.add(4);
+        buffer.add(5);
+
+        // The buffer is full, so this grows it
+        buffer.add(6);
+        assertEquals(5, buffer.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 2, buffer.get(i));
+        }
+        for (int i = 2; i <= 6; i++) {
+            assertEquals(i, buffer.remove());
+        }
+        assertEquals(0, buffer.size());
+    }
+
+    /**
+     * <p>
+     * This tests a long sequence of additions and removals against an {@link ArrayDeque}.
+     * </p>
+     */
+    @Test
+    public final void testMatchesArrayDeque() {
+        IntRingBuffer buffer = new IntRingBuffer(2);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        for (int i = 0; i < 1000; i++) {
+            // Add more often than we remove, so the buffer keeps growing while wrapped
+            if (i % 3 == 2 && !expected.isEmpty()) {
+                assertEquals((int) expected.removeFirst(), buffer.remove());
+            } else {
+                buffer.add(i);
+                expected.addLast(i);
+            }
+
+            assertEquals(expected.size(), buffer.size());
+            assertEquals((int) expected.peekFirst(), buffer.get(0));
+            assertEquals((int) expected.peekLast(), buffer.get(buffer.size() - 1));
+        }
+    }
+
+}
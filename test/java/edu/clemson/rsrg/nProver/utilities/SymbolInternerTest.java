@@ -0,0 +1,195 @@
+/*
+ * SymbolInternerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.nProver.utilities;
+
+import edu.clemson.rsrg.absyn.expressions.Exp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.IntegerExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VCVarExp;
+import edu.clemson.rsrg.absyn.expressions.mathexpr.VarExp;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.mathtypes.MTType;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link SymbolInterner} gives leaf expressions the same symbol exactly when they have
+ * the same structure, including their quantification and mathematical type.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class SymbolInternerTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create expressions.
+     * </p>
+     */
+    private final Location FAKE_LOCATION;
+
+    /**
+     * <p>
+     * A fake {@link TypeGraph} object that allows us to assign types to expressions.
+     * </p>
+     */
+    private final TypeGraph FAKE_TYPEGRAPH;
+
+    /**
+     * <p>
+     * The interner we are testing.
+     * </p>
+     */
+    private final SymbolInterner myInterner;
+
+    {
+        try {
+            FAKE_LOCATION = new Location(
+                    new ResolveFile(new ResolveFileBasicInfo("SymbolInternerTest", ""), ModuleType.THEORY,
+                            new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                    0, 0);
+
+            new ResolveCompiler(new String[0]);
+            FAKE_TYPEGRAPH = new TypeGraph(new CompileEnvironment(new String[0], "TestCompiler",
+                    new WriterStatusHandler(new StringWriter(), new StringWriter())));
+            myInterner = new SymbolInterner();
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake location", e);
+        }
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that distinct, but structurally equal, leaf expressions share the same symbol and display name.
+     * </p>
+     */
+    @Test
+    public final void testEqualLeavesShareSymbol() {
+        int symbol = myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.NONE,
+                FAKE_TYPEGRAPH.BOOLEAN));
+        int size = myInterner.size();
+
+        assertEquals(symbol, myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.NONE,
+                FAKE_TYPEGRAPH.BOOLEAN)));
+        assertEquals(size, myInterner.size());
+        assertEquals("x", myInterner.getSymbolName(symbol));
+
+        Exp one = new IntegerExp(FAKE_LOCATION, null, 1);
+        assertEquals(myInterner.getLeafSymbol(one), myInterner.getLeafSymbol(one.clone()));
+    }
+
+    /**
+     * <p>
+     * This tests that leaf expressions that only differ by their mathematical type get different symbols.
+     * </p>
+     */
+    @Test
+    public final void testLeavesDifferingByMathType() {
+        int booleanSymbol = myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.NONE,
+                FAKE_TYPEGRAPH.BOOLEAN));
+        int entitySymbol = myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.NONE,
+                FAKE_TYPEGRAPH.ENTITY));
+        int untypedSymbol = myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.NONE, null));
+
+        assertNotEquals(booleanSymbol, entitySymbol);
+        assertNotEquals(booleanSymbol, untypedSymbol);
+        assertNotEquals(entitySymbol, untypedSymbol);
+    }
+
+    /**
+     * <p>
+     * This tests that leaf expressions that only differ by their quantification get different symbols.
+     * </p>
+     */
+    @Test
+    public final void testLeavesDifferingByQuantification() {
+        int freeSymbol = myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.NONE,
+                FAKE_TYPEGRAPH.BOOLEAN));
+        int universalSymbol = myInterner.getLeafSymbol(createVarExp("x", SymbolTableEntry.Quantification.UNIVERSAL,
+                FAKE_TYPEGRAPH.BOOLEAN));
+        int existentialSymbol = myInterner.getLeafSymbol(
+                createVarExp("x", SymbolTableEntry.Quantification.EXISTENTIAL, FAKE_TYPEGRAPH.BOOLEAN));
+
+        assertNotEquals(freeSymbol, universalSymbol);
+        assertNotEquals(freeSymbol, existentialSymbol);
+        assertNotEquals(universalSymbol, existentialSymbol);
+    }
+
+    /**
+     * <p>
+     * This tests that {@code VC} variables get a different symbol for each state number and that none of them share
+     * a symbol with the variable itself.
+     * </p>
+     */
+    @Test
+    public final void testVCVarsDifferingByStateNumber() {
+        VarExp x = createVarExp("x", SymbolTableEntry.Quantification.NONE, FAKE_TYPEGRAPH.BOOLEAN);
+        int xSymbol = myInterner.getLeafSymbol(x);
+        int xPrimeSymbol = myInterner.getLeafSymbol(new VCVarExp(FAKE_LOCATION, x.clone(), 1));
+        int xDoublePrimeSymbol = myInterner.getLeafSymbol(new VCVarExp(FAKE_LOCATION, x.clone(), 2));
+
+        assertNotEquals(xSymbol, xPrimeSymbol);
+        assertNotEquals(xSymbol, xDoublePrimeSymbol);
+        assertNotEquals(xPrimeSymbol, xDoublePrimeSymbol);
+        assertEquals(xPrimeSymbol, myInterner.getLeafSymbol(new VCVarExp(FAKE_LOCATION, x.clone(), 1)));
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that creates an unqualified variable expression.
+     * </p>
+     *
+     * @param name
+     *            The name of the variable.
+     * @param quantification
+     *            The quantification of the variable.
+     * @param mathType
+     *            The mathematical type of the variable.
+     *
+     * @return A {@link VarExp}.
+     */
+    private VarExp createVarExp(String name, SymbolTableEntry.Quantification quantification, MTType mathType) {
+        VarExp exp = new VarExp(FAKE_LOCATION, null, new PosSymbol(FAKE_LOCATION, name), quantification);
+        exp.setMathType(mathType);
+
+        return exp;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * AsynchronousStatusHandlerTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.statushandling;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link AsynchronousStatusHandler} writes every message it accepted before it stops,
+ * including the messages from threads that were still sending when we stopped logging.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class AsynchronousStatusHandlerTest {
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The number of threads sending messages.
+     * </p>
+     */
+    private static final int NUM_SENDERS = 4;
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that a message sent after we stopped logging is rejected.
+     * </p>
+     */
+    @Test
+    public final void testSendAfterStopFails() {
+        StringWriter outWriter = new StringWriter();
+        AsynchronousStatusHandler handler = new AsynchronousStatusHandler(outWriter, new StringWriter());
+        handler.info(null, "before");
+        handler.stopLogging();
+
+        assertTrue(handler.hasStopped());
+        try {
+            handler.info(null, "after");
+            fail("Sent a message after we stopped logging");
+        } catch (RuntimeException e) {
+            // expected
+        }
+        assertEquals("before\n", outWriter.toString());
+    }
+
+    /**
+     * <p>
+     * This tests that stopping while several threads are sending messages to a full queue writes every message that
+     * was accepted, in the order each thread sent them, and that none of the threads are left waiting.
+     * </p>
+     *
+     * @throws InterruptedException
+     *             We were interrupted while waiting for the sending threads.
+     */
+    @Test(timeout = 30000)
+    public final void testStopDrainsAcceptedMessages() throws InterruptedException {
+        SlowWriter outWriter = new SlowWriter();
+        AsynchronousStatusHandler handler = new AsynchronousStatusHandler(outWriter, new StringWriter(), 2);
+
+        // Each sender keeps sending until the handler stops accepting messages
+        int[] accepted = new int[NUM_SENDERS];
+        CountDownLatch started = new CountDownLatch(NUM_SENDERS);
+        List<Thread> senders = new ArrayList<>();
+        for (int i = 0; i < NUM_SENDERS; i++) {
+            int senderId = i;
+            Thread sender = new Thread(() -> {
+                started.countDown();
+                try {
+                    while (true) {
+                        handler.info(null, "sender" + senderId + " " + accepted[senderId]);
+                        accepted[senderId]++;
+                    }
+                } catch (RuntimeException e) {
+                    // We stopped logging
+                }
+            });
+            senders.add(sender);
+            sender.start();
+        }
+
+        started.await();
+        Thread.sleep(50);
+        handler.stopLogging();
+        for (Thread sender : senders) {
+            sender.join();
+        }
+
+        // Every accepted message is written in the order it was sent
+        int[] written = new int[NUM_SENDERS];
+        for (String line : outWriter.toString().split("\n")) {
+            String[] parts = line.split(" ");
+            int senderId = Integer.parseInt(parts[0].substring("sender".length()));
+            assertEquals(written[senderId], Integer.parseInt(parts[1]));
+            written[senderId]++;
+        }
+        assertArrayEquals(accepted, written);
+    }
+
+    // ===========================================================
+    // Helper Constructs
+    // ===========================================================
+
+    /**
+     * <p>
+     * A writer that takes a little while to write each message, so the senders fill up the queue.
+     * </p>
+     */
+    private static class SlowWriter extends StringWriter {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void write(String str) {
+            LockSupport.parkNanos(100_000);
+            super.write(str);
+        }
+
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * JavaTranslatorTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.translation.targets;
+
+import edu.clemson.rsrg.init.WorkspaceCompiler;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the {@link JavaTranslator} only stores local variables from the standard facilities in
+ * primitive {@code Java} variables when asked to, and that it translates the swaps, assignments and increments on
+ * those variables to the matching {@code Java} operators.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class JavaTranslatorTest {
+
+    // ===========================================================
+    // Objects
+    // ===========================================================
+
+    /**
+     * <p>
+     * The facility we translate.
+     * </p>
+     */
+    private static final String FACILITY_FILE = "RESOLVE/Main/Tests/Swap_And_Increment.fa";
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that without {@code -javaPrimitiveStdFacilities}, every local variable is an {@code RType} and every
+     * statement is a call to the facility.
+     * </p>
+     */
+    @Test
+    public final void testDefaultTranslation() {
+        List<String> lines = translate("-javaTranslate");
+
+        assertTrue(lines.contains("Integer_Template.Integer M = Std_Integer_Fac.createInteger();"));
+        assertTrue(lines.contains(
+                "Std_Integer_Fac.assign(M, Std_Integer_Fac.Replica(Std_Integer_Fac.createInteger(2)));"));
+        assertTrue(lines.contains("Std_Integer_Fac.assign(N, Std_Integer_Fac.Replica(M));"));
+        assertTrue(lines.contains("Std_Integer_Fac.Increment(M);"));
+        assertTrue(lines.contains("Std_Integer_Fac.swap(M, N);"));
+        assertTrue(lines.contains("Std_Integer_Fac.Decrement(N);"));
+        assertFalse(lines.stream().anyMatch(line -> line.startsWith("int ")));
+    }
+
+    /**
+     * <p>
+     * This tests that with {@code -javaPrimitiveStdFacilities}, the local variables that are only swapped, assigned
+     * and incremented become {@code int} variables, and that the ones passed to other operations stay {@code RTypes}.
+     * </p>
+     */
+    @Test
+    public final void testPrimitiveTranslation() {
+        List<String> lines = translate("-javaTranslate", "-javaPrimitiveStdFacilities");
+
+        // Swap, assign and increment on primitive variables
+        assertTrue(lines.contains("int M = ((Std_Integer_Realiz.Integer) Std_Integer_Fac.createInteger()).val;"));
+        assertTrue(lines.contains("int N = ((Std_Integer_Realiz.Integer) Std_Integer_Fac.createInteger()).val;"));
+        assertTrue(lines.contains("M = 2;"));
+        assertTrue(lines.contains("N = M;"));
+        assertTrue(lines.contains("M++;"));
+        assertTrue(lines.contains("{ int $tmp = M; M = N; N = $tmp; }"));
+        assertTrue(lines.contains("N--;"));
+
+        // Variables passed to other operations stay RTypes
+        assertTrue(lines.contains("Integer_Template.Integer X = Std_Integer_Fac.createInteger();"));
+        assertTrue(lines.contains("Add_One(X);"));
+        assertTrue(lines.contains("Copy(X, Y);"));
+        assertTrue(lines.contains("Swap_Ints(X, Y);"));
+        assertTrue(lines.contains("Std_Integer_Fac.Increment(Y);"));
+
+        // A primitive value we pass as an RType gets boxed
+        assertTrue(lines.contains("K = ((Std_Integer_Realiz.Integer)(Std_Integer_Fac.Replica(I))).val;"));
+        assertTrue(lines.contains("Std_Integer_Fac.assign(J, Std_Integer_Fac.createInteger(K));"));
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that translates our facility and returns the non-empty lines of the translation.
+     * </p>
+     *
+     * @param flags
+     *            The compiler flags.
+     *
+     * @return The trimmed lines of the {@code Java} translation.
+     */
+    private static List<String> translate(String... flags) {
+        String translation = WorkspaceCompiler.compile(FACILITY_FILE, flags).getJavaTranslation("Swap_And_Increment");
+        assertNotNull("No Java translation for " + FACILITY_FILE, translation);
+
+        List<String> lines = new ArrayList<>();
+        for (String line : translation.split("\\R")) {
+            if (!line.isBlank()) {
+                lines.add(line.trim());
+            }
+        }
+
+        return lines;
+    }
+
+}
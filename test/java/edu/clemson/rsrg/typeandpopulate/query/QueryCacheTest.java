@@ -0,0 +1,270 @@
+/*
+ * QueryCacheTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.query;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.WorkspaceCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
+import edu.clemson.rsrg.typeandpopulate.programtypes.PTFamily;
+import edu.clemson.rsrg.typeandpopulate.programtypes.PTGeneric;
+import edu.clemson.rsrg.typeandpopulate.programtypes.PTType;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTableBuilder;
+import edu.clemson.rsrg.typeandpopulate.symboltables.ModuleScopeBuilder;
+import edu.clemson.rsrg.typeandpopulate.typereasoning.TypeGraph;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure the results of name-based queries are memoized and that the memoized results are thrown
+ * away as soon as the symbol table changes in a way that could affect them.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class QueryCacheTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the module declarations.
+     * </p>
+     */
+    private final Location FAKE_LOCATION;
+
+    /**
+     * <p>
+     * The symbol table we are populating.
+     * </p>
+     */
+    private final MathSymbolTableBuilder mySymbolTable;
+
+    {
+        try {
+            FAKE_LOCATION = new Location(
+                    new ResolveFile(new ResolveFileBasicInfo("QueryCacheTest", ""), ModuleType.THEORY,
+                            new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                    0, 0);
+
+            new ResolveCompiler(new String[0]);
+            mySymbolTable = new MathSymbolTableBuilder(new CompileEnvironment(new String[0], "TestCompiler",
+                    new WriterStatusHandler(new StringWriter(), new StringWriter())));
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake symbol table", e);
+        }
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that a query that found nothing finds the symbol once the symbol has been added to the scope.
+     * </p>
+     */
+    @Test
+    public final void testAddedBindingInvalidatesCache() throws DuplicateSymbolException {
+        ModuleScopeBuilder scope = mySymbolTable.startModuleScope(createModuleDec("A"));
+
+        assertTrue(scope.query(new UnqualifiedNameQuery("x")).isEmpty());
+        assertTrue(scope.query(new UnqualifiedNameQuery("x")).isEmpty());
+
+        SymbolTableEntry x = addBinding(scope, "x");
+        assertEquals(List.of(x), scope.query(new UnqualifiedNameQuery("x")));
+    }
+
+    /**
+     * <p>
+     * This tests that a query that found nothing finds the symbol once the module that defines it has been imported.
+     * </p>
+     */
+    @Test
+    public final void testAddedImportInvalidatesCache() throws DuplicateSymbolException {
+        ModuleDec moduleB = createModuleDec("B");
+        SymbolTableEntry y = addBinding(mySymbolTable.startModuleScope(moduleB), "y");
+        mySymbolTable.endScope();
+
+        ModuleScopeBuilder scope = mySymbolTable.startModuleScope(createModuleDec("A"));
+        assertTrue(scope.query(new UnqualifiedNameQuery("y")).isEmpty());
+
+        scope.addImport(new ModuleIdentifier(moduleB));
+        assertEquals(List.of(y), scope.query(new UnqualifiedNameQuery("y")));
+    }
+
+    /**
+     * <p>
+     * This tests that operation queries with equal, but distinct, argument types share the same key and that the
+     * argument types are part of the key.
+     * </p>
+     */
+    @Test
+    public final void testOperationKeyHashesArgumentTypes() {
+        TypeGraph g = mySymbolTable.getTypeGraph();
+        QueryCacheKey key = createOperationKey(new PTFamily(g.BOOLEAN, "Boolean", "B"), new PTGeneric(g, "T"));
+        QueryCacheKey equalKey = createOperationKey(new PTFamily(g.BOOLEAN, "Boolean", "B"), new PTGeneric(g, "T"));
+        QueryCacheKey otherKey = createOperationKey(new PTFamily(g.BOOLEAN, "Boolean", "B"), new PTGeneric(g, "R"));
+
+        assertEquals(key, equalKey);
+        assertEquals(key.hashCode(), equalKey.hashCode());
+        assertNotEquals(key, otherKey);
+    }
+
+    /**
+     * <p>
+     * This tests that most of the queries made while populating a facility are answered from the cache, even though the
+     * scopes are still being populated.
+     * </p>
+     */
+    @Test
+    public final void testPopulationHitRate() {
+        StringWriter outWriter = new StringWriter();
+        WorkspaceCompiler.compile("RESOLVE/Main/Tests/Swap_And_Count.fa", outWriter, "-populatorDebug");
+
+        // The last report covers every module we populated
+        Matcher matcher = Pattern.compile("Hits: (\\d+)/(\\d+)").matcher(outWriter.toString());
+        long hits = -1;
+        long total = -1;
+        while (matcher.find()) {
+            hits = Long.parseLong(matcher.group(1));
+            total = Long.parseLong(matcher.group(2));
+        }
+
+        assertTrue("No queries were made", total > 0);
+        assertTrue("Hits: " + hits + "/" + total, hits * 2 > total);
+    }
+
+    /**
+     * <p>
+     * This tests that repeating a query is answered from the cache and that each caller gets a list of its own.
+     * </p>
+     */
+    @Test
+    public final void testRepeatedQueryIsCached() throws DuplicateSymbolException {
+        ModuleScopeBuilder scope = mySymbolTable.startModuleScope(createModuleDec("A"));
+        SymbolTableEntry x = addBinding(scope, "x");
+
+        long hits = mySymbolTable.getQueryCacheHits();
+        long misses = mySymbolTable.getQueryCacheMisses();
+        List<SymbolTableEntry> firstResults = scope.query(new UnqualifiedNameQuery("x"));
+        assertEquals(misses + 1, mySymbolTable.getQueryCacheMisses());
+
+        firstResults.clear();
+        List<SymbolTableEntry> secondResults = scope.query(new UnqualifiedNameQuery("x"));
+        assertEquals(hits + 1, mySymbolTable.getQueryCacheHits());
+        assertEquals(misses + 1, mySymbolTable.getQueryCacheMisses());
+        assertEquals(List.of(x), secondResults);
+
+        // A query with different options isn't answered by the cached results
+        scope.query(new UnqualifiedNameQuery("x", MathSymbolTable.ImportStrategy.IMPORT_NONE,
+                MathSymbolTable.FacilityStrategy.FACILITY_IGNORE, true, true));
+        assertEquals(misses + 2, mySymbolTable.getQueryCacheMisses());
+    }
+
+    /**
+     * <p>
+     * This tests that adding a symbol with a different name keeps the memoized results.
+     * </p>
+     */
+    @Test
+    public final void testUnrelatedBindingKeepsCache() throws DuplicateSymbolException {
+        ModuleScopeBuilder scope = mySymbolTable.startModuleScope(createModuleDec("A"));
+        SymbolTableEntry x = addBinding(scope, "x");
+        scope.query(new UnqualifiedNameQuery("x"));
+
+        addBinding(scope, "y");
+        long hits = mySymbolTable.getQueryCacheHits();
+        assertEquals(List.of(x), scope.query(new UnqualifiedNameQuery("x")));
+        assertEquals(hits + 1, mySymbolTable.getQueryCacheHits());
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds a mathematical symbol of type {@code B} to a scope.
+     * </p>
+     *
+     * @param scope
+     *            The scope we are populating.
+     * @param name
+     *            The name of the symbol.
+     *
+     * @return The new symbol table entry.
+     *
+     * @throws DuplicateSymbolException
+     *             The scope already has a symbol with this name.
+     */
+    private SymbolTableEntry addBinding(ModuleScopeBuilder scope, String name) throws DuplicateSymbolException {
+        return scope.addBinding(name, scope.getDefiningElement(), mySymbolTable.getTypeGraph().BOOLEAN);
+    }
+
+    /**
+     * <p>
+     * An helper method that creates the key for an operation query named {@code Op}.
+     * </p>
+     *
+     * @param argumentTypes
+     *            The types of the actual arguments.
+     *
+     * @return A {@link QueryCacheKey}.
+     */
+    private QueryCacheKey createOperationKey(PTType... argumentTypes) {
+        return new QueryCacheKey(OperationQuery.class, null, "Op", List.of(argumentTypes),
+                MathSymbolTable.ImportStrategy.IMPORT_NAMED, MathSymbolTable.FacilityStrategy.FACILITY_GENERIC, false,
+                false);
+    }
+
+    /**
+     * <p>
+     * An helper method that creates an empty module declaration.
+     * </p>
+     *
+     * @param name
+     *            The name of the module.
+     *
+     * @return A {@link ModuleDec}.
+     */
+    private ModuleDec createModuleDec(String name) {
+        return new PrecisModuleDec(FAKE_LOCATION, new PosSymbol(FAKE_LOCATION, name), new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new HashMap<>());
+    }
+
+}
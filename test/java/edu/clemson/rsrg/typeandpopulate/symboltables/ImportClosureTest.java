@@ -0,0 +1,240 @@
+/*
+ * ImportClosureTest.java
+ * ---------------------------------
+ * Copyright (c) 2024
+ * RESOLVE Software Research Group
+ * School of Computing
+ * Clemson University
+ * All rights reserved.
+ * ---------------------------------
+ * This file is subject to the terms and conditions defined in
+ * file 'LICENSE.txt', which is part of this source code package.
+ */
+package edu.clemson.rsrg.typeandpopulate.symboltables;
+
+import edu.clemson.rsrg.absyn.declarations.moduledecl.ModuleDec;
+import edu.clemson.rsrg.absyn.declarations.moduledecl.PrecisModuleDec;
+import edu.clemson.rsrg.init.CompileEnvironment;
+import edu.clemson.rsrg.init.ResolveCompiler;
+import edu.clemson.rsrg.init.file.ModuleType;
+import edu.clemson.rsrg.init.file.ResolveFile;
+import edu.clemson.rsrg.init.file.ResolveFileBasicInfo;
+import edu.clemson.rsrg.parsing.data.Location;
+import edu.clemson.rsrg.parsing.data.PosSymbol;
+import edu.clemson.rsrg.statushandling.WriterStatusHandler;
+import edu.clemson.rsrg.statushandling.exception.MiscErrorException;
+import edu.clemson.rsrg.typeandpopulate.entry.SymbolTableEntry;
+import edu.clemson.rsrg.typeandpopulate.exception.DuplicateSymbolException;
+import edu.clemson.rsrg.typeandpopulate.query.UnqualifiedNameQuery;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.FacilityStrategy;
+import edu.clemson.rsrg.typeandpopulate.symboltables.MathSymbolTable.ImportStrategy;
+import edu.clemson.rsrg.typeandpopulate.utilities.ModuleIdentifier;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.antlr.v4.runtime.UnbufferedCharStream;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * <p>
+ * Unit test for making sure an {@link ImportClosure} visits the imported modules in depth-first order and that a
+ * search that stops following imports still finds everything the old recursive walk of the imports used to find.
+ * </p>
+ *
+ * @version 1.0
+ */
+public class ImportClosureTest {
+
+    // ===========================================================
+    // Member Fields
+    // ===========================================================
+
+    /**
+     * <p>
+     * A fake {@link Location} object to be used to create the module declarations.
+     * </p>
+     */
+    private final Location FAKE_LOCATION;
+
+    /**
+     * <p>
+     * A map from module names to the entries named {@code x} that we added to them.
+     * </p>
+     */
+    private final Map<String, SymbolTableEntry> myEntries;
+
+    /**
+     * <p>
+     * The symbol table we are populating.
+     * </p>
+     */
+    private final MathSymbolTableBuilder mySymbolTable;
+
+    {
+        try {
+            FAKE_LOCATION = new Location(
+                    new ResolveFile(new ResolveFileBasicInfo("ImportClosureTest", ""), ModuleType.THEORY,
+                            new UnbufferedCharStream(new StringReader("")), null, new ArrayList<String>(), ""),
+                    0, 0);
+
+            new ResolveCompiler(new String[0]);
+            mySymbolTable = new MathSymbolTableBuilder(new CompileEnvironment(new String[0], "TestCompiler",
+                    new WriterStatusHandler(new StringWriter(), new StringWriter())));
+            myEntries = new HashMap<>();
+        } catch (IOException e) {
+            throw new MiscErrorException("Error creating a fake symbol table", e);
+        }
+    }
+
+    // ===========================================================
+    // Test Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * This tests that the closure lists the modules in the order a depth-first walk visits them, without repeating
+     * modules that can be reached more than once.
+     * </p>
+     */
+    @Test
+    public final void testClosureFollowsDepthFirstOrder() throws DuplicateSymbolException {
+        addModule("D", false);
+        addModule("E", false);
+        addModule("B", false, "D");
+        addModule("C", false, "D", "E");
+        ModuleScope scope = addModule("A", false, "B", "C");
+
+        assertEquals("[B, D, C, E]", scope.getImportClosure(ImportStrategy.IMPORT_RECURSIVE).toString());
+        assertEquals("[B, C]", scope.getImportClosure(ImportStrategy.IMPORT_NAMED).toString());
+        assertEquals("[]", scope.getImportClosure(ImportStrategy.IMPORT_NONE).toString());
+    }
+
+    /**
+     * <p>
+     * This tests that the closure is only rebuilt when an import is added and not when any other symbol is added.
+     * </p>
+     */
+    @Test
+    public final void testClosureRebuiltOnlyWhenImportAdded() throws DuplicateSymbolException {
+        addModule("B", false);
+        addModule("C", false);
+        ModuleScopeBuilder scope = mySymbolTable.startModuleScope(createModuleDec("A"));
+        scope.addImport(new ModuleIdentifier("B"));
+
+        ImportClosure closure = scope.getImportClosure(ImportStrategy.IMPORT_RECURSIVE);
+        scope.addBinding("y", scope.getDefiningElement(), mySymbolTable.getTypeGraph().BOOLEAN);
+        assertSame(closure, scope.getImportClosure(ImportStrategy.IMPORT_RECURSIVE));
+
+        scope.addImport(new ModuleIdentifier("C"));
+        assertEquals("[B, C]", scope.getImportClosure(ImportStrategy.IMPORT_RECURSIVE).toString());
+    }
+
+    /**
+     * <p>
+     * This tests that a module imported directly by the root is still searched when it was reached earlier through
+     * the imports of a sibling whose imports we are no longer following.
+     * </p>
+     */
+    @Test
+    public final void testDiamondImportSearchedAfterSubtreeSkipped() throws DuplicateSymbolException {
+        addModule("D", true);
+        addModule("B", true, "D");
+        ModuleScope scope = addModule("A", false, "B", "D");
+
+        assertEquals(List.of(myEntries.get("B"), myEntries.get("D")), searchForX(scope));
+    }
+
+    /**
+     * <p>
+     * This tests that once a module has results, the modules reached through its imports aren't searched, but the
+     * remaining imports of the modules we have already entered are.
+     * </p>
+     */
+    @Test
+    public final void testSubtreeSkippedOnceResultsFound() throws DuplicateSymbolException {
+        addModule("G", true);
+        addModule("F", true);
+        addModule("E", true, "G");
+        addModule("D", false);
+        addModule("C", true, "E");
+        addModule("B", false, "C", "D", "F");
+        ModuleScope scope = addModule("A", false, "B");
+
+        // C has results, so E and G are skipped, but D and F are not
+        assertEquals("[B, C, E, G, D, F]", scope.getImportClosure(ImportStrategy.IMPORT_RECURSIVE).toString());
+        assertEquals(List.of(myEntries.get("C"), myEntries.get("F")), searchForX(scope));
+    }
+
+    // ===========================================================
+    // Private Methods
+    // ===========================================================
+
+    /**
+     * <p>
+     * An helper method that adds a module to the symbol table.
+     * </p>
+     *
+     * @param name
+     *            The name of the module.
+     * @param defineX
+     *            Whether or not the module defines a symbol named {@code x}.
+     * @param imports
+     *            The names of the modules it imports, in order.
+     *
+     * @return The new module's scope.
+     *
+     * @throws DuplicateSymbolException
+     *             The module already has a symbol named {@code x}.
+     */
+    private ModuleScope addModule(String name, boolean defineX, String... imports) throws DuplicateSymbolException {
+        ModuleScopeBuilder scope = mySymbolTable.startModuleScope(createModuleDec(name));
+        for (String importName : imports) {
+            scope.addImport(new ModuleIdentifier(importName));
+        }
+
+        if (defineX) {
+            myEntries.put(name,
+                    scope.addBinding("x", scope.getDefiningElement(), mySymbolTable.getTypeGraph().BOOLEAN));
+        }
+        mySymbolTable.endScope();
+
+        return scope;
+    }
+
+    /**
+     * <p>
+     * An helper method that creates an empty module declaration.
+     * </p>
+     *
+     * @param name
+     *            The name of the module.
+     *
+     * @return A {@link ModuleDec}.
+     */
+    private ModuleDec createModuleDec(String name) {
+        return new PrecisModuleDec(FAKE_LOCATION, new PosSymbol(FAKE_LOCATION, name), new ArrayList<>(),
+                new ArrayList<>(), new ArrayList<>(), new HashMap<>());
+    }
+
+    /**
+     * <p>
+     * An helper method that searches for every symbol named {@code x} visible from a module, giving priority to local
+     * items.
+     * </p>
+     *
+     * @param scope
+     *            The module's scope.
+     *
+     * @return The matches in the order they were found.
+     */
+    private List<SymbolTableEntry> searchForX(ModuleScope scope) {
+        return scope.query(new UnqualifiedNameQuery("x", ImportStrategy.IMPORT_RECURSIVE,
+                FacilityStrategy.FACILITY_IGNORE, false, true));
+    }
+
+}